@@ -0,0 +1,55 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.JavaPerformanceProblemsApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts the application without a web server for benchmarks that need the real Spring context.
+ *
+ * Every override is a command-line argument: SpringApplicationBuilder.properties() only sets
+ * defaults, and application.properties (show-sql, SQL DEBUG/TRACE logging, the shared testdb URL)
+ * would win over them. Overrides passed in must not repeat a key set here, as Spring
+ * joins repeated arguments into one comma-separated value.
+ */
+public final class BenchmarkApplication {
+
+    private static final List<String> QUIET = List.of(
+            // Keep the Flyway schema with its indexes, sequences and seed rows, whatever a local config says
+            "--spring.jpa.hibernate.ddl-auto=none",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.example.demo=WARN",
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+            "--logging.level.org.flywaydb=WARN",
+            "--app.cache.warm-up.enabled=false",
+            "--app.cache.snapshot.enabled=false",
+            "--app.cache.product-catalog.enabled=false",
+            "--app.cache.refresh-ahead.orders.enabled=false");
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * @param database     name of the in-memory H2 database, one per benchmark class
+     * @param extraSources configuration classes added to the application (e.g. a latency proxy)
+     * @param overrides    further --key=value arguments
+     */
+    public static ConfigurableApplicationContext run(String database, List<Class<?>> extraSources, String... overrides) {
+        List<Class<?>> sources = new ArrayList<>();
+        sources.add(JavaPerformanceProblemsApplication.class);
+        sources.addAll(extraSources);
+
+        List<String> args = new ArrayList<>(QUIET);
+        args.add("--spring.datasource.url=jdbc:h2:mem:" + database);
+        args.addAll(List.of(overrides));
+        return new SpringApplicationBuilder(sources.toArray(Class<?>[]::new))
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+    }
+}
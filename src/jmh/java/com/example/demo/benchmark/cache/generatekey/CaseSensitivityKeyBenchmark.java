@@ -0,0 +1,79 @@
+package com.example.demo.benchmark.cache.generatekey;
+
+import com.example.demo.modules.cache.generatekey.casesensitivity.api.model.dto.request.CaseSensitivitySearchRequest;
+import com.example.demo.modules.cache.shared.infrastructure.key.KeyNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the CaseSensitivitySearchRequest key strategies on mixed-case, occasionally padded input.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CaseSensitivityKeyBenchmark {
+
+    private final CaseSensitivitySearchRequest[] requests = new CaseSensitivitySearchRequest[SampleData.SIZE];
+    // Same data already trimmed and lowercase: the normalizer should not copy any field
+    private final CaseSensitivitySearchRequest[] canonicalRequests = new CaseSensitivitySearchRequest[SampleData.SIZE];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SampleData data = new SampleData(42);
+        for (int i = 0; i < requests.length; i++) {
+            requests[i] = new CaseSensitivitySearchRequest(
+                data.mixedCase(data.userName()),
+                data.mixedCase(data.skewed(SampleData.CATEGORIES)),
+                data.chance(0.1) ? null : data.mixedCase(data.skewed(SampleData.REGIONS))
+            );
+            canonicalRequests[i] = new CaseSensitivitySearchRequest(
+                KeyNormalizer.normalize(requests[i].getUserName()),
+                KeyNormalizer.normalize(requests[i].getCategory()),
+                requests[i].getRegion() != null ? KeyNormalizer.normalize(requests[i].getRegion()) : null
+            );
+        }
+    }
+
+    private CaseSensitivitySearchRequest next() {
+        return requests[cursor++ & SampleData.MASK];
+    }
+
+    @Benchmark
+    public String problematic() {
+        return next().generateProblematicCacheKey();
+    }
+
+    @Benchmark
+    public String normalized() {
+        return next().generateNormalizedCacheKey();
+    }
+
+    @Benchmark
+    public String robust() {
+        return next().generateRobustCacheKey();
+    }
+
+    @Benchmark
+    public String robustCanonical() {
+        return canonicalRequests[cursor++ & SampleData.MASK].generateRobustCacheKey();
+    }
+
+    @Benchmark
+    public String hashBased() {
+        return next().generateHashBasedCacheKey();
+    }
+}
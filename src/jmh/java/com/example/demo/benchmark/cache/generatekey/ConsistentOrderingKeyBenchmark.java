@@ -0,0 +1,76 @@
+package com.example.demo.benchmark.cache.generatekey;
+
+import com.example.demo.modules.cache.generatekey.consistentordering.api.model.dto.request.ConsistentOrderingSearchRequest;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKey;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the ConsistentOrderingSearchRequest key strategies (HashSet, sorted list, TreeSet)
+ * against the typed CacheKey built by CacheKeyGenerator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConsistentOrderingKeyBenchmark {
+
+    private final ConsistentOrderingSearchRequest[] requests = new ConsistentOrderingSearchRequest[SampleData.SIZE];
+    private final CacheKeyGenerator cacheKeyGenerator = new CacheKeyGenerator();
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SampleData data = new SampleData(42);
+        for (int i = 0; i < requests.length; i++) {
+            BigDecimal minPrice = data.skewed(SampleData.PRICES);
+            BigDecimal maxPrice = minPrice.add(data.uniform(SampleData.PRICES));
+            requests[i] = new ConsistentOrderingSearchRequest(
+                data.chance(0.1) ? null : data.skewed(SampleData.CATEGORIES),
+                data.chance(0.2) ? null : data.skewed(SampleData.BRANDS),
+                data.chance(0.3) ? null : data.skewed(SampleData.REGIONS),
+                minPrice,
+                maxPrice,
+                data.chance(0.25) ? null : data.nextInt(1, 6)
+            );
+        }
+    }
+
+    private ConsistentOrderingSearchRequest next() {
+        return requests[cursor++ & SampleData.MASK];
+    }
+
+    @Benchmark
+    public String hashSet() {
+        return next().generateProblematicCacheKey();
+    }
+
+    @Benchmark
+    public String sorted() {
+        return next().generateSortedCacheKey();
+    }
+
+    @Benchmark
+    public String treeSet() {
+        return next().generateTreeSetCacheKey();
+    }
+
+    @Benchmark
+    public CacheKey typedKey() {
+        return cacheKeyGenerator.keyFor(next());
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.demo.benchmark.cache.generatekey;
+
+import com.example.demo.modules.cache.generatekey.stringconcatenation.api.model.dto.request.StringConcatSearchRequest;
+import com.example.demo.modules.cache.generatekey.stringconcatenation.infrastructure.service.StringConcatService;
+import com.example.demo.modules.cache.shared.infrastructure.collision.CacheArgumentsInterceptor;
+import com.example.demo.modules.cache.shared.infrastructure.collision.CollisionDetectingCache;
+import com.example.demo.modules.cache.shared.infrastructure.collision.RequestFingerprint;
+import com.example.demo.modules.cache.shared.infrastructure.stats.CacheStatistics;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-hit cost of the key collision detector: a plain Caffeine hit (sampleRate=0, no interceptor)
+ * against the same hit through CacheArgumentsInterceptor and CollisionDetectingCache
+ * at the default 1-in-16 sample rate and with every key sampled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class KeyCollisionDetectorBenchmark {
+
+    private static final Method CACHED_METHOD = cachedMethod();
+
+    @Param({"0", "0.0625", "1"})
+    private double sampleRate;
+
+    private final StringConcatSearchRequest[] requests = new StringConcatSearchRequest[SampleData.SIZE];
+    private final CacheArgumentsInterceptor interceptor = new CacheArgumentsInterceptor();
+    private Cache cache;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SampleData data = new SampleData(42);
+        for (int i = 0; i < requests.length; i++) {
+            requests[i] = new StringConcatSearchRequest(data.userName(), "product" + data.nextInt(1, 1000));
+        }
+        cache = new CaffeineCache("benchmark", Caffeine.newBuilder().maximumSize(10_000).build());
+        if (sampleRate > 0) {
+            cache = new CollisionDetectingCache(cache, RequestFingerprint.Mode.EXACT, sampleRate, 10_000,
+                    null, Duration.ofMinutes(1), new CacheStatistics("benchmark"));
+        }
+        // Fill every entry (and its fingerprint) so the measured calls are all hits
+        for (StringConcatSearchRequest request : requests) {
+            lookup(request);
+        }
+    }
+
+    @Benchmark
+    public Object hit() {
+        return lookup(requests[cursor++ & SampleData.MASK]);
+    }
+
+    private Object lookup(StringConcatSearchRequest request) {
+        CachedCall call = new CachedCall(new Object[]{request}, request, cache);
+        if (sampleRate == 0) {
+            return call.proceed();
+        }
+        try {
+            return interceptor.invoke(call);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Method cachedMethod() {
+        try {
+            return StringConcatService.class.getMethod("getUserProductsWithCollisionProblem", StringConcatSearchRequest.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // What the proxy hands the interceptor for StringConcatService.getUserProductsWithCollisionProblem(request)
+    private record CachedCall(Object[] arguments, StringConcatSearchRequest request, Cache cache) implements MethodInvocation {
+
+        @Override
+        public Method getMethod() {
+            return CACHED_METHOD;
+        }
+
+        @Override
+        public Object[] getArguments() {
+            return arguments;
+        }
+
+        @Override
+        public Object proceed() {
+            return cache.get(request.generateProblematicCacheKey(), List::of);
+        }
+
+        @Override
+        public Object getThis() {
+            return null;
+        }
+
+        @Override
+        public AccessibleObject getStaticPart() {
+            return CACHED_METHOD;
+        }
+    }
+}
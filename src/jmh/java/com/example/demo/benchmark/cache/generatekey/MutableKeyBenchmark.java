@@ -0,0 +1,57 @@
+package com.example.demo.benchmark.cache.generatekey;
+
+import com.example.demo.modules.cache.generatekey.mutablekey.api.model.dto.request.MutableKeySearchRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the MutableKeySearchRequest key strategies (List key vs joined String)
+ * for one to three categories and up to four tags.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MutableKeyBenchmark {
+
+    private final MutableKeySearchRequest[] requests = new MutableKeySearchRequest[SampleData.SIZE];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SampleData data = new SampleData(42);
+        for (int i = 0; i < requests.length; i++) {
+            requests[i] = new MutableKeySearchRequest(
+                data.distinctSubset(SampleData.CATEGORIES, 1, 3),
+                data.distinctSubset(SampleData.TAGS, 0, 4)
+            );
+        }
+    }
+
+    private MutableKeySearchRequest next() {
+        return requests[cursor++ & SampleData.MASK];
+    }
+
+    @Benchmark
+    public List<String> mutableList() {
+        return next().generateProblematicMutableCacheKey();
+    }
+
+    @Benchmark
+    public String safeString() {
+        return next().generateSafeStringCacheKey();
+    }
+}
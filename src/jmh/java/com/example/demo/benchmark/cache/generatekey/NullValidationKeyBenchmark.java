@@ -0,0 +1,76 @@
+package com.example.demo.benchmark.cache.generatekey;
+
+import com.example.demo.modules.cache.generatekey.nullvalidation.api.model.dto.request.NullValidationSearchRequest;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKey;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the NullValidationSearchRequest key strategies (ternary, Optional, utility)
+ * with guest users, missing categories and the odd blank value.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NullValidationKeyBenchmark {
+
+    private final NullValidationSearchRequest[] requests = new NullValidationSearchRequest[SampleData.SIZE];
+    private final CacheKeyGenerator cacheKeyGenerator = new CacheKeyGenerator();
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SampleData data = new SampleData(42);
+        for (int i = 0; i < requests.length; i++) {
+            String userId = data.chance(0.3) ? null : data.userName();
+            String categoryId = data.chance(0.4) ? null : data.skewed(SampleData.CATEGORIES);
+            if (data.chance(0.05)) {
+                categoryId = "  ";
+            }
+            requests[i] = new NullValidationSearchRequest(userId, "product" + data.nextInt(1, 200), categoryId);
+        }
+    }
+
+    private NullValidationSearchRequest next() {
+        return requests[cursor++ & SampleData.MASK];
+    }
+
+    @Benchmark
+    public String problematic() {
+        return next().generateProblematicNullCacheKey();
+    }
+
+    @Benchmark
+    public String ternary() {
+        return next().generateSafeNullValidatedCacheKey();
+    }
+
+    @Benchmark
+    public String optional() {
+        return next().generateOptionalBasedCacheKey();
+    }
+
+    @Benchmark
+    public String utility() {
+        return next().generateUtilityBasedCacheKey();
+    }
+
+    @Benchmark
+    public CacheKey typedKey() {
+        return cacheKeyGenerator.keyFor(next());
+    }
+}
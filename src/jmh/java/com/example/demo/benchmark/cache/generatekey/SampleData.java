@@ -0,0 +1,95 @@
+package com.example.demo.benchmark.cache.generatekey;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic, skewed field values for the key benchmarks.
+ * A fixed seed keeps runs comparable; a skewed pick mimics a few hot values
+ * (popular categories, frequent users) and a long tail of rare ones.
+ */
+final class SampleData {
+
+    // Power of two so benchmarks can cycle with a mask instead of a modulo
+    static final int SIZE = 1024;
+    static final int MASK = SIZE - 1;
+
+    static final String[] CATEGORIES = {
+        "Electronics", "Books", "Clothing", "Home", "Sports", "Toys", "Garden", "Automotive"
+    };
+    static final String[] BRANDS = {
+        "Apple", "Samsung", "Sony", "Lenovo", "Dell", "Asus", "Acer", "Logitech", "Canon", "Philips",
+        "Bosch", "Nike", "Adidas", "Puma", "Lego", "Hasbro", "Ikea", "Dyson", "Xiaomi", "Huawei"
+    };
+    static final String[] REGIONS = {"US", "EU", "TR", "APAC", "LATAM"};
+    static final String[] TAGS = {
+        "new", "sale", "popular", "limited", "eco", "premium", "bundle", "clearance", "gift", "exclusive"
+    };
+    static final BigDecimal[] PRICES = {
+        BigDecimal.ZERO, new BigDecimal("50.00"), new BigDecimal("100"), new BigDecimal("250.00"),
+        new BigDecimal("499.99"), new BigDecimal("1000.00"), new BigDecimal("5000")
+    };
+
+    private final SplittableRandom random;
+
+    SampleData(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Skewed pick: index = n * u^2, so low indexes (hot values) dominate
+     */
+    <T> T skewed(T[] values) {
+        double u = random.nextDouble();
+        return values[(int) (values.length * u * u)];
+    }
+
+    <T> T uniform(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    boolean chance(double probability) {
+        return random.nextDouble() < probability;
+    }
+
+    int nextInt(int origin, int bound) {
+        return random.nextInt(origin, bound);
+    }
+
+    String userName() {
+        return "user" + (int) (500 * Math.pow(random.nextDouble(), 3));
+    }
+
+    /**
+     * Same logical value in the casing and padding real clients send:
+     * mostly as-is, sometimes lower/upper case, occasionally padded
+     */
+    String mixedCase(String value) {
+        double u = random.nextDouble();
+        if (u < 0.6) {
+            return value;
+        }
+        if (u < 0.8) {
+            return value.toLowerCase(Locale.ROOT);
+        }
+        if (u < 0.95) {
+            return value.toUpperCase(Locale.ROOT);
+        }
+        return "  " + value + " ";
+    }
+
+    List<String> distinctSubset(String[] values, int min, int max) {
+        int count = nextInt(min, max + 1);
+        List<String> subset = new ArrayList<>(count);
+        while (subset.size() < count) {
+            String value = skewed(values);
+            if (!subset.contains(value)) {
+                subset.add(value);
+            }
+        }
+        return subset;
+    }
+}
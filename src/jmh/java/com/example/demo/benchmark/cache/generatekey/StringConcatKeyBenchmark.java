@@ -0,0 +1,66 @@
+package com.example.demo.benchmark.cache.generatekey;
+
+import com.example.demo.modules.cache.generatekey.stringconcatenation.api.model.dto.request.StringConcatSearchRequest;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKey;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the StringConcatSearchRequest key strategies (plain concat, delimiter, prefix)
+ * against the typed CacheKey built by CacheKeyGenerator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringConcatKeyBenchmark {
+
+    private final StringConcatSearchRequest[] requests = new StringConcatSearchRequest[SampleData.SIZE];
+    private final CacheKeyGenerator cacheKeyGenerator = new CacheKeyGenerator();
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SampleData data = new SampleData(42);
+        for (int i = 0; i < requests.length; i++) {
+            requests[i] = new StringConcatSearchRequest(data.userName(), "product" + data.nextInt(1, 1000));
+        }
+    }
+
+    private StringConcatSearchRequest next() {
+        return requests[cursor++ & SampleData.MASK];
+    }
+
+    @Benchmark
+    public String problematic() {
+        return next().generateProblematicCacheKey();
+    }
+
+    @Benchmark
+    public String safeDelimiter() {
+        return next().generateSafeCacheKey();
+    }
+
+    @Benchmark
+    public String hashPrefix() {
+        return next().generateHashBasedCacheKey();
+    }
+
+    @Benchmark
+    public CacheKey typedKey() {
+        return cacheKeyGenerator.keyFor(next());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demo.benchmark.nplusone;
+
+import com.example.demo.benchmark.BenchmarkApplication;
+import com.example.demo.modules.nplusone.infrastructure.service.NPlusOneOrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of ingesting ROWS orders (one NDJSON body, one chunk) through POST /api/nplusone/orders/bulk's service,
+ * with JDBC batching off (batchSize=1: one INSERT per row) and at the configured 50 rows per batch.
+ * Both use the pooled sequence, so ids cost one sequence call per 50 rows either way.
+ *
+ * roundTripMicros adds a simulated network round trip to every executed statement (see ParallelOrderLoadBenchmark);
+ * an executeBatch pays it once for the whole batch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkOrderIngestionBenchmark {
+
+    private static final int ROWS = 2000;
+    private static final int SEED_USERS = 10;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    @Param({"0", "1000"})
+    private int roundTripMicros;
+
+    private ConfigurableApplicationContext context;
+    private NPlusOneOrderService orderService;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.run("bulk-ingestion-benchmark", List.of(ParallelOrderLoadBenchmark.NetworkLatency.class),
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--benchmark.round-trip-micros=" + roundTripMicros);
+        orderService = context.getBean(NPlusOneOrderService.class);
+
+        StringBuilder rows = new StringBuilder(ROWS * 64);
+        for (int i = 0; i < ROWS; i++) {
+            rows.append("{\"userId\":").append(i % SEED_USERS + 1)
+                    .append(",\"orderNumber\":\"BENCH-").append(i)
+                    .append("\",\"amount\":").append(10.0 + i % 100).append("}\n");
+        }
+        body = rows.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object ingest() {
+        return orderService.ingestOrders(new ByteArrayInputStream(body));
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.demo.benchmark.nplusone;
+
+import com.example.demo.benchmark.BenchmarkApplication;
+import com.example.demo.modules.nplusone.infrastructure.service.BatchFetchStrategy;
+import com.example.demo.modules.nplusone.infrastructure.service.NPlusOneUserService;
+import com.example.demo.modules.sqlstatistics.infrastructure.jdbc.SqlExecutionStats;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Latency of loading USERS users with ORDERS_PER_USER orders each: one query per user in sequence
+ * (the N+1 endpoint), the same queries fanned out on the bounded parallel loader, and IN (...) batches
+ * of 100 user ids.
+ *
+ * In-memory H2 has no network, so every statement is pure CPU and a fan-out can only add overhead.
+ * roundTripMicros adds a simulated network round trip to every executed statement - the waiting that
+ * parallel loading overlaps. The sequential and batch cases do not depend on maxConcurrency.
+ *
+ * Next to the latency, every case reports the time spent waiting for a pooled connection
+ * (getConnection(), counted by SqlCountingDataSource): poolWaitMicros summed over the iteration,
+ * divided by calls gives the wait per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelOrderLoadBenchmark {
+
+    private static final int USERS = 200;
+    private static final int ORDERS_PER_USER = 5;
+
+    @Param({"1", "8"})
+    private int maxConcurrency;
+
+    @Param({"0", "1000"})
+    private int roundTripMicros;
+
+    private ConfigurableApplicationContext context;
+    private NPlusOneUserService userService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.run("parallel-load-benchmark", List.of(NetworkLatency.class),
+                "--app.nplusone.parallel-load.max-concurrency=" + maxConcurrency,
+                "--benchmark.round-trip-micros=" + roundTripMicros);
+        seed(context.getBean(JdbcTemplate.class));
+        userService = context.getBean(NPlusOneUserService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object sequential(PoolWait poolWait) {
+        SqlExecutionStats.Mark sql = SqlExecutionStats.mark();
+        Object users = userService.getUsersWithOrdersNPlusOne();
+        poolWait.record(sql);
+        return users;
+    }
+
+    @Benchmark
+    public Object parallel(PoolWait poolWait) {
+        // The workers' waits are added to this thread's stats when the load completes
+        SqlExecutionStats.Mark sql = SqlExecutionStats.mark();
+        Object users = userService.getUsersWithOrdersParallel();
+        poolWait.record(sql);
+        return users;
+    }
+
+    @Benchmark
+    public Object batchInQuery(PoolWait poolWait) {
+        SqlExecutionStats.Mark sql = SqlExecutionStats.mark();
+        Object users = userService.getUsersWithOrdersBatchFetch(BatchFetchStrategy.IN_QUERY);
+        poolWait.record(sql);
+        return users;
+    }
+
+    // Reported next to the score; JMH resets the fields before every iteration
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class PoolWait {
+
+        public long poolWaitMicros;
+        public long calls;
+
+        void record(SqlExecutionStats.Mark sql) {
+            poolWaitMicros += (long) (sql.connectionWaitMillis() * 1000);
+            calls++;
+        }
+    }
+
+    // Not a @Configuration: component scanning would pick it up in every other benchmark's context
+    static class NetworkLatency {
+
+        @Bean
+        static BeanPostProcessor networkLatencyDataSource(@Value("${benchmark.round-trip-micros}") long roundTripMicros) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && roundTripMicros > 0
+                            ? new LatencyDataSource(dataSource, TimeUnit.MICROSECONDS.toNanos(roundTripMicros))
+                            : bean;
+                }
+            };
+        }
+    }
+
+    // Parks the calling thread for one round trip before every execute* call of a prepared statement
+    static class LatencyDataSource extends DelegatingDataSource {
+
+        private final long roundTripNanos;
+
+        LatencyDataSource(DataSource target, long roundTripNanos) {
+            super(target);
+            this.roundTripNanos = roundTripNanos;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        return "prepareStatement".equals(method.getName()) ? delayed((PreparedStatement) result) : result;
+                    });
+        }
+
+        private PreparedStatement delayed(PreparedStatement statement) {
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        if (method.getName().startsWith("execute")) {
+                            LockSupport.parkNanos(roundTripNanos);
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static void seed(JdbcTemplate jdbc) {
+        List<Object[]> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(new Object[]{"bench_user_" + i, "bench_user_" + i + "@example.com"});
+        }
+        jdbc.batchUpdate("INSERT INTO nplusone_users (username, email) VALUES (?, ?)", users);
+
+        List<Object[]> orders = new ArrayList<>(USERS * ORDERS_PER_USER);
+        for (Long userId : jdbc.queryForList("SELECT id FROM nplusone_users WHERE username LIKE 'bench_user_%'", Long.class)) {
+            for (int i = 0; i < ORDERS_PER_USER; i++) {
+                orders.add(new Object[]{"BENCH-" + userId + "-" + i, 10.0 * (i + 1), userId});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO nplusone_orders (order_number, amount, nplusone_user_id) VALUES (?, ?, ?)", orders);
+    }
+}
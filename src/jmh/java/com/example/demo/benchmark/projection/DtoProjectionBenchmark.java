@@ -0,0 +1,148 @@
+package com.example.demo.benchmark.projection;
+
+import com.example.demo.benchmark.BenchmarkApplication;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.mapper.ProductMapper;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.domain.entity.ProductCategory;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.repository.ProductRepository;
+import com.example.demo.modules.nplusone.api.mapper.NPlusOneUserMapper;
+import com.example.demo.modules.nplusone.domain.entity.NPlusOneOrder;
+import com.example.demo.modules.nplusone.infrastructure.repository.NPlusOneOrderRepository;
+import com.example.demo.modules.nplusone.infrastructure.repository.NPlusOneUserRepository;
+import com.example.demo.modules.nplusone.infrastructure.service.NPlusOneUserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Limit;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity + mapper reads against DTO constructor-expression reads over the same rows, on an in-memory H2
+ * seeded with PRODUCTS products in one category and USERS users with ORDERS_PER_USER orders each.
+ *
+ * readOnly=true is what the repositories' own transactions do (Hibernate skips the dirty-checking snapshot);
+ * readOnly=false is the same read inside an ordinary read-write service transaction.
+ *
+ * orderTotals*: count and sum of every user's orders, summed in Java over JOIN FETCH entities against
+ * GROUP BY in the database (one row per user).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoProjectionBenchmark {
+
+    private static final int PRODUCTS = 1000;
+    private static final int USERS = 1000;
+    private static final int ORDERS_PER_USER = 5;
+
+    @Param({"true", "false"})
+    private boolean readOnly;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transaction;
+    private ProductRepository productRepository;
+    private ProductMapper productMapper;
+    private NPlusOneUserRepository userRepository;
+    private NPlusOneUserMapper userMapper;
+    private NPlusOneUserService userService;
+    private NPlusOneOrderRepository orderRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.run("projection-benchmark", List.of());
+        seed(context.getBean(JdbcTemplate.class));
+
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transaction.setReadOnly(readOnly);
+        productRepository = context.getBean(ProductRepository.class);
+        productMapper = context.getBean(ProductMapper.class);
+        userRepository = context.getBean(NPlusOneUserRepository.class);
+        userMapper = context.getBean(NPlusOneUserMapper.class);
+        userService = context.getBean(NPlusOneUserService.class);
+        orderRepository = context.getBean(NPlusOneOrderRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object productsEntityMapper() {
+        return transaction.execute(status ->
+                productMapper.toDTOList(productRepository.findByCategory(ProductCategory.LAPTOP)));
+    }
+
+    @Benchmark
+    public Object productsProjection() {
+        return transaction.execute(status -> productRepository.findDTOsByCategory(ProductCategory.LAPTOP));
+    }
+
+    @Benchmark
+    public Object usersFetchJoinMapper() {
+        return transaction.execute(status -> userRepository.findAllWithOrdersOptimized().stream()
+                .map(userMapper::toDTO)
+                .toList());
+    }
+
+    @Benchmark
+    public Object usersProjection() {
+        return transaction.execute(status -> userService.getUsersWithOrdersProjection());
+    }
+
+    @Benchmark
+    public Object orderTotalsInJava() {
+        return transaction.execute(status -> userRepository.findAllWithOrdersOptimized().stream()
+                .map(user -> new double[]{user.getOrders().size(),
+                        user.getOrders().stream().mapToDouble(NPlusOneOrder::getAmount).sum()})
+                .toList());
+    }
+
+    @Benchmark
+    public Object orderTotalsGroupBy() {
+        return transaction.execute(status ->
+                orderRepository.summarizeByUserAfter(0L, null, null, 1, Limit.of(USERS + 100)));
+    }
+
+    private static void seed(JdbcTemplate jdbc) {
+        List<Object[]> products = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            products.add(new Object[]{"BENCH" + i, "Benchmark laptop " + i, ProductCategory.LAPTOP.name(), 999.99 + i, i % 50});
+        }
+        jdbc.batchUpdate("INSERT INTO products (code, name, category, price, stock_quantity, active) " +
+                "VALUES (?, ?, ?, ?, ?, TRUE)", products);
+
+        List<Object[]> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(new Object[]{"bench_user_" + i, "bench_user_" + i + "@example.com"});
+        }
+        jdbc.batchUpdate("INSERT INTO nplusone_users (username, email) VALUES (?, ?)", users);
+
+        List<Object[]> orders = new ArrayList<>(USERS * ORDERS_PER_USER);
+        for (Long userId : jdbc.queryForList("SELECT id FROM nplusone_users WHERE username LIKE 'bench_user_%'", Long.class)) {
+            for (int i = 0; i < ORDERS_PER_USER; i++) {
+                orders.add(new Object[]{"BENCH-" + userId + "-" + i, 10.0 * (i + 1), userId});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO nplusone_orders (order_number, amount, nplusone_user_id) VALUES (?, ?, ?)", orders);
+    }
+}
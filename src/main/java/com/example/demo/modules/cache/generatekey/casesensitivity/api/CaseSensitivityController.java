@@ -80,6 +80,16 @@ public class CaseSensitivityController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Hit/miss statistics for the four case sensitivity caches
+     * Compare caseSensitiveProblem against normalizedKeys after sending the same user in different case
+     */
+    @GetMapping("/cache/statistics")
+    public ResponseEntity<Map<String, Object>> getCacheStatistics() {
+        log.info("Getting case sensitivity cache statistics");
+        return ResponseEntity.ok(caseSensitivityUserService.getCacheStatistics());
+    }
+    
     /**
      * Clear all caches
      */
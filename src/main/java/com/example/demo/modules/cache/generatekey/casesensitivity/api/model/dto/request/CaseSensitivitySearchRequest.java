@@ -1,5 +1,6 @@
 package com.example.demo.modules.cache.generatekey.casesensitivity.api.model.dto.request;
 
+import com.example.demo.modules.cache.shared.infrastructure.key.KeyNormalizer;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -22,10 +23,10 @@ public class CaseSensitivitySearchRequest {
     
     // SOLUTION: Normalize to lowercase before concatenation
     public String generateNormalizedCacheKey() {
-        // CORRECT: Normalize all values to lowercase
-        String normalizedUserName = userName != null ? userName.toLowerCase() : "";
-        String normalizedCategory = category != null ? category.toLowerCase() : "";
-        String normalizedRegion = region != null ? region.toLowerCase() : "";
+        // CORRECT: Normalize all values to lowercase (Locale.ROOT, no copy if already lowercase)
+        String normalizedUserName = KeyNormalizer.toLowerCase(userName);
+        String normalizedCategory = KeyNormalizer.toLowerCase(category);
+        String normalizedRegion = KeyNormalizer.toLowerCase(region);
         
         return normalizedUserName + "_" + normalizedCategory + "_" + normalizedRegion;
     }
@@ -33,20 +34,14 @@ public class CaseSensitivitySearchRequest {
     // ADVANCED SOLUTION: Handle null values and trim whitespace
     public String generateRobustCacheKey() {
         // ADVANCED: Robust key with null checks and whitespace trimming
-        String normalizedUserName = normalizeField(userName);
-        String normalizedCategory = normalizeField(category);
-        String normalizedRegion = normalizeField(region);
+        String normalizedUserName = KeyNormalizer.normalize(userName);
+        // Few distinct categories and regions: share one instance per value
+        String normalizedCategory = KeyNormalizer.normalizeAndIntern(category);
+        String normalizedRegion = KeyNormalizer.normalizeAndIntern(region);
         
         return normalizedUserName + "_" + normalizedCategory + "_" + normalizedRegion;
     }
     
-    private String normalizeField(String field) {
-        if (field == null) {
-            return "";
-        }
-        return field.trim().toLowerCase();
-    }
-    
     // HASH-BASED SOLUTION: More consistent for complex scenarios
     public String generateHashBasedCacheKey() {
         String normalizedData = generateRobustCacheKey();
@@ -5,9 +5,6 @@ import com.example.demo.modules.cache.generatekey.casesensitivity.api.model.dto.
 import com.example.demo.modules.cache.generatekey.casesensitivity.api.model.dto.request.CaseSensitivitySearchRequest;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Component
 public class CaseSensitivityUserMapper {
     
@@ -28,16 +25,6 @@ public class CaseSensitivityUserMapper {
         );
     }
     
-    public List<CaseSensitivityUserDTO> toDTOList(List<CaseSensitivityUser> entities) {
-        if (entities == null) {
-            return List.of();
-        }
-        
-        return entities.stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
-    }
-    
     public CaseSensitivityUser toEntity(CaseSensitivitySearchRequest request, String description) {
         if (request == null) {
             return null;
@@ -1,5 +1,6 @@
 package com.example.demo.modules.cache.generatekey.casesensitivity.domain.entity;
 
+import com.example.demo.modules.cache.shared.infrastructure.invalidation.EntityCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -7,6 +8,7 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(EntityCacheInvalidationListener.class)
 @Table(name = "case_sensitivity_user")
 @Data
 @NoArgsConstructor
@@ -0,0 +1,52 @@
+package com.example.demo.modules.cache.generatekey.casesensitivity.infrastructure.dataset;
+
+import com.example.demo.modules.dataset.infrastructure.generator.BatchInserter;
+import com.example.demo.modules.dataset.infrastructure.generator.DatasetContext;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticNames;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticRandom;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticTableGenerator;
+import com.example.demo.modules.dataset.infrastructure.generator.ZipfDistribution;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 50,000 rows per scale unit. User names, categories and regions are written in the casing clients
+ * send - "Sarah", "sarah", "SARAH", now and then "sArAh" - so one logical user spreads over several
+ * case-sensitive cache keys. Names and categories are Zipf-distributed.
+ */
+@Component
+public class CaseSensitivityDatasetGenerator implements SyntheticTableGenerator {
+
+    private static final int BASE_ROWS = 50_000;
+    private static final int BASE_USER_NAMES = 2_000;
+    private static final String[] CATEGORIES = {"Electronics", "Books", "Gaming", "Sports", "Clothing", "Home", "Music"};
+    private static final String[] REGIONS = {"US", "UK", "DE", "CA", "TR", "FR", "JP"};
+
+    @Override
+    public List<String> tables() {
+        return List.of("case_sensitivity_user");
+    }
+
+    @Override
+    public void generate(DatasetContext context) {
+        SyntheticRandom random = context.random("case_sensitivity_user");
+        ZipfDistribution userNames = random.zipf(context.rows(BASE_USER_NAMES));
+        ZipfDistribution categories = random.zipf(CATEGORIES.length);
+        ZipfDistribution regions = random.zipf(REGIONS.length);
+        int rows = context.rows(BASE_ROWS);
+        try (BatchInserter inserter = context.inserter("case_sensitivity_user",
+                "user_name", "category", "description", "region", "active")) {
+            for (int i = 0; i < rows; i++) {
+                int user = random.rank(userNames);
+                // Beyond the first names a number keeps users apart: "Sarah", ..., "Sarah31"
+                String name = SyntheticNames.firstName(user)
+                        + (user < SyntheticNames.FIRST_NAMES.length ? "" : Integer.toString(user / SyntheticNames.FIRST_NAMES.length));
+                String userName = random.mixedCase(name);
+                String category = random.mixedCase(random.pick(CATEGORIES, categories));
+                String region = random.mixedCase(random.pick(REGIONS, regions));
+                inserter.add(userName, category, "Synthetic user " + userName + " in " + region, region, !random.chance(0.05));
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.modules.cache.generatekey.casesensitivity.infrastructure.repository;
 
+import com.example.demo.modules.cache.generatekey.casesensitivity.api.model.dto.response.CaseSensitivityUserDTO;
 import com.example.demo.modules.cache.generatekey.casesensitivity.domain.entity.CaseSensitivityUser;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -14,12 +15,15 @@ public interface CaseSensitivityUserRepository extends JpaRepository<CaseSensiti
     // Case-sensitive search (demonstrates the problem)
     List<CaseSensitivityUser> findByUserNameAndCategoryAndRegion(String userName, String category, String region);
     
-    // Case-insensitive search (solution)
-    @Query("SELECT u FROM CaseSensitivityUser u WHERE " +
+    // Case-insensitive search projected straight into DTOs (no managed entities on the read path)
+    @Query("SELECT new com.example.demo.modules.cache.generatekey.casesensitivity.api.model.dto.response.CaseSensitivityUserDTO(" +
+           "u.id, u.userName, u.category, u.description, " +
+           "u.region, u.active, u.createdAt, u.updatedAt) " +
+           "FROM CaseSensitivityUser u WHERE " +
            "LOWER(u.userName) = LOWER(:userName) AND " +
            "LOWER(u.category) = LOWER(:category) AND " +
            "LOWER(u.region) = LOWER(:region)")
-    List<CaseSensitivityUser> findByUserNameAndCategoryAndRegionIgnoreCase(
+    List<CaseSensitivityUserDTO> findDTOsByUserNameAndCategoryAndRegionIgnoreCase(
         @Param("userName") String userName, 
         @Param("category") String category, 
         @Param("region") String region
@@ -6,6 +6,8 @@ import com.example.demo.modules.cache.generatekey.casesensitivity.api.model.mapp
 import com.example.demo.modules.cache.generatekey.casesensitivity.domain.entity.CaseSensitivityUser;
 import com.example.demo.modules.cache.generatekey.casesensitivity.infrastructure.repository.CaseSensitivityUserRepository;
 import com.example.demo.modules.cache.generatekey.casesensitivity.infrastructure.service.CaseSensitivityUserService;
+import com.example.demo.modules.cache.shared.infrastructure.service.CacheStatisticsService;
+import com.example.demo.modules.cache.shared.infrastructure.invalidation.CacheDependency;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,7 +16,6 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Service
@@ -24,107 +25,41 @@ public class CaseSensitivityUserServiceImpl implements CaseSensitivityUserServic
     private final CaseSensitivityUserRepository repository;
     private final CaseSensitivityUserMapper mapper;
     
-    // Manual cache for demonstration purposes
-    private final Map<String, List<CaseSensitivityUserDTO>> manualCache = new ConcurrentHashMap<>();
-    private final Map<String, Integer> cacheHitStats = new ConcurrentHashMap<>();
-    private final Map<String, Integer> cacheMissStats = new ConcurrentHashMap<>();
+    private static final List<String> CACHE_NAMES =
+            List.of("caseSensitiveProblem", "normalizedKeys", "robustKeys", "hashBasedKeys");
+    
+    private final CacheStatisticsService cacheStatisticsService;
     
     @Override
-    @Cacheable(value = "caseSensitiveProblem", key = "#request.generateProblematicCacheKey()")
+    @Cacheable(value = "caseSensitiveProblem", key = "#request.generateProblematicCacheKey()", sync = true)
+    @CacheDependency(entity = CaseSensitivityUser.class, attributes = {"userName", "category", "region"}, ignoreCase = true)
     public List<CaseSensitivityUserDTO> searchWithCaseSensitiveProblem(CaseSensitivitySearchRequest request) {
-        String cacheKey = request.generateProblematicCacheKey();
-        log.warn("PROBLEM: Case-sensitive cache key used: {}", cacheKey);
-        
-        // Check manual cache to demonstrate the problem
-        if (manualCache.containsKey(cacheKey)) {
-            log.info("Cache HIT for key: {}", cacheKey);
-            incrementCacheHit("caseSensitiveProblem");
-            return manualCache.get(cacheKey);
-        }
-        
-        log.warn("Cache MISS for key: {} - This happens when case differs!", cacheKey);
-        incrementCacheMiss("caseSensitiveProblem");
-        
-        // Simulate database query
-        List<CaseSensitivityUser> users = performSearch(request);
-        List<CaseSensitivityUserDTO> result = mapper.toDTOList(users);
-        
-        // Store in manual cache with problematic key
-        manualCache.put(cacheKey, result);
-        
-        return result;
+        log.warn("Cache MISS for key: {} - This happens when case differs!", request.generateProblematicCacheKey());
+        return performSearch(request);
     }
     
     @Override
-    @Cacheable(value = "normalizedKeys", key = "#request.generateNormalizedCacheKey()")
+    @Cacheable(value = "normalizedKeys", key = "#request.generateNormalizedCacheKey()", sync = true)
+    @CacheDependency(entity = CaseSensitivityUser.class, attributes = {"userName", "category", "region"}, ignoreCase = true)
     public List<CaseSensitivityUserDTO> searchWithNormalizedKeys(CaseSensitivitySearchRequest request) {
-        String cacheKey = request.generateNormalizedCacheKey();
-        log.info("SOLUTION: Normalized cache key used: {}", cacheKey);
-        
-        // Check manual cache
-        if (manualCache.containsKey(cacheKey)) {
-            log.info("Cache HIT for normalized key: {}", cacheKey);
-            incrementCacheHit("normalizedKeys");
-            return manualCache.get(cacheKey);
-        }
-        
-        log.info("Cache MISS for normalized key: {} - First time access", cacheKey);
-        incrementCacheMiss("normalizedKeys");
-        
-        // Perform search
-        List<CaseSensitivityUser> users = performSearch(request);
-        List<CaseSensitivityUserDTO> result = mapper.toDTOList(users);
-        
-        // Store with normalized key
-        manualCache.put(cacheKey, result);
-        
-        return result;
+        log.info("Cache MISS for normalized key: {} - First time access", request.generateNormalizedCacheKey());
+        return performSearch(request);
     }
     
     @Override
-    @Cacheable(value = "robustKeys", key = "#request.generateRobustCacheKey()")
+    @Cacheable(value = "robustKeys", key = "#request.generateRobustCacheKey()", sync = true)
+    @CacheDependency(entity = CaseSensitivityUser.class, attributes = {"userName", "category", "region"}, ignoreCase = true)
     public List<CaseSensitivityUserDTO> searchWithRobustKeys(CaseSensitivitySearchRequest request) {
-        String cacheKey = request.generateRobustCacheKey();
-        log.info("ADVANCED: Robust cache key used: {}", cacheKey);
-        
-        if (manualCache.containsKey(cacheKey)) {
-            log.info("Cache HIT for robust key: {}", cacheKey);
-            incrementCacheHit("robustKeys");
-            return manualCache.get(cacheKey);
-        }
-        
-        log.info("Cache MISS for robust key: {} - First time access", cacheKey);
-        incrementCacheMiss("robustKeys");
-        
-        List<CaseSensitivityUser> users = performSearch(request);
-        List<CaseSensitivityUserDTO> result = mapper.toDTOList(users);
-        
-        manualCache.put(cacheKey, result);
-        
-        return result;
+        log.info("Cache MISS for robust key: {} - First time access", request.generateRobustCacheKey());
+        return performSearch(request);
     }
     
     @Override
-    @Cacheable(value = "hashBasedKeys", key = "#request.generateHashBasedCacheKey()")
+    @Cacheable(value = "hashBasedKeys", key = "#request.generateHashBasedCacheKey()", sync = true)
+    @CacheDependency(entity = CaseSensitivityUser.class, attributes = {"userName", "category", "region"}, ignoreCase = true)
     public List<CaseSensitivityUserDTO> searchWithHashBasedKeys(CaseSensitivitySearchRequest request) {
-        String cacheKey = request.generateHashBasedCacheKey();
-        log.info("HASH-BASED: Hash cache key used: {}", cacheKey);
-        
-        if (manualCache.containsKey(cacheKey)) {
-            log.info("Cache HIT for hash key: {}", cacheKey);
-            incrementCacheHit("hashBasedKeys");
-            return manualCache.get(cacheKey);
-        }
-        
-        log.info("Cache MISS for hash key: {} - First time access", cacheKey);
-        incrementCacheMiss("hashBasedKeys");
-        
-        List<CaseSensitivityUser> users = performSearch(request);
-        List<CaseSensitivityUserDTO> result = mapper.toDTOList(users);
-        
-        manualCache.put(cacheKey, result);
-        
-        return result;
+        log.info("Cache MISS for hash key: {} - First time access", request.generateHashBasedCacheKey());
+        return performSearch(request);
     }
     
     @Override
@@ -159,34 +94,19 @@ public class CaseSensitivityUserServiceImpl implements CaseSensitivityUserServic
     @Override
     @CacheEvict(value = {"caseSensitiveProblem", "normalizedKeys", "robustKeys", "hashBasedKeys"}, allEntries = true)
     public void clearAllCaches() {
-        manualCache.clear();
-        cacheHitStats.clear();
-        cacheMissStats.clear();
         log.info("All caches cleared for case sensitivity testing");
     }
     
     @Override
     public Map<String, Object> getCacheStatistics() {
-        Map<String, Object> stats = new HashMap<>();
-        
-        stats.put("manualCacheSize", manualCache.size());
-        stats.put("cacheHits", new HashMap<>(cacheHitStats));
-        stats.put("cacheMisses", new HashMap<>(cacheMissStats));
-        
-        // Calculate hit ratios
-        Map<String, Double> hitRatios = new HashMap<>();
-        for (String key : cacheHitStats.keySet()) {
-            int hits = cacheHitStats.getOrDefault(key, 0);
-            int misses = cacheMissStats.getOrDefault(key, 0);
-            double ratio = (hits + misses > 0) ? (double) hits / (hits + misses) : 0.0;
-            hitRatios.put(key, ratio);
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (String cacheName : CACHE_NAMES) {
+            cacheStatisticsService.getStatistics(cacheName).ifPresent(cacheStats -> stats.put(cacheName, cacheStats));
         }
-        stats.put("hitRatios", hitRatios);
-        
         return stats;
     }
     
-    private List<CaseSensitivityUser> performSearch(CaseSensitivitySearchRequest request) {
+    private List<CaseSensitivityUserDTO> performSearch(CaseSensitivitySearchRequest request) {
         // Simulate some processing delay
         try {
             Thread.sleep(100);
@@ -195,24 +115,16 @@ public class CaseSensitivityUserServiceImpl implements CaseSensitivityUserServic
         }
         
         // Try to find existing users, otherwise create sample data
-        List<CaseSensitivityUser> users = repository.findByUserNameAndCategoryAndRegionIgnoreCase(
+        List<CaseSensitivityUserDTO> users = repository.findDTOsByUserNameAndCategoryAndRegionIgnoreCase(
             request.getUserName(), request.getCategory(), request.getRegion());
         
         if (users.isEmpty()) {
             // Create and save sample user
             CaseSensitivityUser sampleUser = mapper.createSampleEntity(request);
             sampleUser = repository.save(sampleUser);
-            users = List.of(sampleUser);
+            users = List.of(mapper.toDTO(sampleUser));
         }
         
         return users;
     }
-    
-    private void incrementCacheHit(String cacheType) {
-        cacheHitStats.merge(cacheType, 1, Integer::sum);
-    }
-    
-    private void incrementCacheMiss(String cacheType) {
-        cacheMissStats.merge(cacheType, 1, Integer::sum);
-    }
 }
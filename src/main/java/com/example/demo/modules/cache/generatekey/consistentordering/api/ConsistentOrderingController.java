@@ -3,6 +3,7 @@ package com.example.demo.modules.cache.generatekey.consistentordering.api;
 import com.example.demo.modules.cache.generatekey.consistentordering.api.model.dto.response.SearchParameterDTO;
 import com.example.demo.modules.cache.generatekey.consistentordering.api.model.dto.request.ConsistentOrderingSearchRequest;
 import com.example.demo.modules.cache.generatekey.consistentordering.infrastructure.service.ConsistentOrderingService;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +18,7 @@ import java.util.List;
 public class ConsistentOrderingController {
     
     private final ConsistentOrderingService consistentOrderingService;
+    private final CacheKeyGenerator cacheKeyGenerator;
     
     @GetMapping("/info")
     public ResponseEntity<String> getCacheConsistentOrderingInfo() {
@@ -93,9 +95,9 @@ public class ConsistentOrderingController {
             "Sorted cache key: '%s'\n" +
             "Search results found: %d\n" +
             "Response time: %d ms\n" +
-            "SUCCESS: Using Collections.sort() ensures consistent ordering!\n" +
-            "Example: Always sorted: brand_category_region (CONSISTENT)",
-            request.getSearchParams(), request.generateSortedCacheKey(), 
+            "SUCCESS: Typed key components ensure consistent ordering!\n" +
+            "Example: Components ordered by field name (CONSISTENT)",
+            request.getSearchParams(), cacheKeyGenerator.keyFor(request), 
             searchResults.size(), (endTime - startTime)
         );
         
@@ -1,5 +1,6 @@
 package com.example.demo.modules.cache.generatekey.consistentordering.api.model.dto.request;
 
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyPart;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -12,11 +13,17 @@ import java.util.*;
 @AllArgsConstructor
 public class ConsistentOrderingSearchRequest {
     
+    @CacheKeyPart
     private String category;
+    @CacheKeyPart
     private String brand;
+    @CacheKeyPart
     private String region;
+    @CacheKeyPart
     private BigDecimal minPrice;
+    @CacheKeyPart
     private BigDecimal maxPrice;
+    @CacheKeyPart
     private Integer minRating;
     
     public Set<String> getSearchParams() {
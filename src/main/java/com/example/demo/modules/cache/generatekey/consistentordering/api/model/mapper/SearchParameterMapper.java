@@ -4,9 +4,6 @@ import com.example.demo.modules.cache.generatekey.consistentordering.domain.enti
 import com.example.demo.modules.cache.generatekey.consistentordering.api.model.dto.response.SearchParameterDTO;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Component
 public class SearchParameterMapper {
     
@@ -29,16 +26,6 @@ public class SearchParameterMapper {
         );
     }
     
-    public List<SearchParameterDTO> toDTOList(List<SearchParameter> entities) {
-        if (entities == null) {
-            return null;
-        }
-        
-        return entities.stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
-    }
-    
     public SearchParameter toEntity(SearchParameterDTO dto) {
         if (dto == null) {
             return null;
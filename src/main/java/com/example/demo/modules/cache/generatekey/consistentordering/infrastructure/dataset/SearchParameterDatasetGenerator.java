@@ -0,0 +1,68 @@
+package com.example.demo.modules.cache.generatekey.consistentordering.infrastructure.dataset;
+
+import com.example.demo.modules.dataset.infrastructure.generator.BatchInserter;
+import com.example.demo.modules.dataset.infrastructure.generator.DatasetContext;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticRandom;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticTableGenerator;
+import com.example.demo.modules.dataset.infrastructure.generator.ZipfDistribution;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * 100,000 search rows per scale unit: category, brand within the category and region Zipf-distributed,
+ * ratings skewed towards 4 and 5 as in real reviews.
+ */
+@Component
+public class SearchParameterDatasetGenerator implements SyntheticTableGenerator {
+
+    private static final int BASE_ROWS = 100_000;
+    private static final String[] CATEGORIES = {"electronics", "clothing", "books", "home", "sports", "toys", "garden"};
+    private static final String[][] BRANDS = {
+        {"samsung", "apple", "sony", "lenovo", "dell", "bose"},
+        {"nike", "zara", "adidas", "tommy hilfiger", "levis"},
+        {"penguin", "harpercollins", "oxford", "springer"},
+        {"ikea", "wayfair", "west elm", "habitat", "john lewis"},
+        {"nike", "adidas", "wilson", "head", "spalding"},
+        {"lego", "mattel", "hasbro"},
+        {"fiskars", "black decker", "bosch"}
+    };
+    private static final String[] REGIONS = {"europe", "america", "asia"};
+
+    @Override
+    public List<String> tables() {
+        return List.of("search_parameter_cache");
+    }
+
+    @Override
+    public void generate(DatasetContext context) {
+        SyntheticRandom random = context.random("search_parameter_cache");
+        ZipfDistribution categories = random.zipf(CATEGORIES.length);
+        ZipfDistribution[] brands = new ZipfDistribution[BRANDS.length];
+        for (int i = 0; i < BRANDS.length; i++) {
+            brands[i] = random.zipf(BRANDS[i].length);
+        }
+        ZipfDistribution regions = random.zipf(REGIONS.length);
+        int rows = context.rows(BASE_ROWS);
+        try (BatchInserter inserter = context.inserter("search_parameter_cache",
+                "category", "brand", "product_name", "min_price", "max_price", "region", "rating", "active")) {
+            for (int i = 0; i < rows; i++) {
+                int category = random.rank(categories);
+                String brand = random.pick(BRANDS[category], brands[category]);
+                BigDecimal minPrice = random.money(4.99, 1_999.99);
+                // Price range 5-50% above the minimum
+                BigDecimal maxPrice = minPrice.multiply(BigDecimal.valueOf(100 + random.nextInt(5, 51)))
+                        .movePointLeft(2).setScale(2, RoundingMode.HALF_UP);
+                inserter.add(CATEGORIES[category], brand, brand + " " + CATEGORIES[category] + " item " + i,
+                        minPrice, maxPrice, random.pick(REGIONS, regions), rating(random), !random.chance(0.05));
+            }
+        }
+    }
+
+    private static int rating(SyntheticRandom random) {
+        double u = random.nextDouble();
+        return u < 0.45 ? 5 : u < 0.75 ? 4 : u < 0.88 ? 3 : u < 0.95 ? 2 : 1;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.demo.modules.cache.generatekey.consistentordering.infrastructure.repository;
 
+import com.example.demo.modules.cache.generatekey.consistentordering.api.model.dto.response.SearchParameterDTO;
 import com.example.demo.modules.cache.generatekey.consistentordering.domain.entity.SearchParameter;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,13 +14,17 @@ import java.util.List;
 @Repository
 public interface SearchParameterRepository extends JpaRepository<SearchParameter, Long> {
     
-    @Query("SELECT s FROM SearchParameter s WHERE " +
+    // Search by criteria projected straight into DTOs: no managed entities or dirty-checking snapshots on the read path
+    @Query("SELECT new com.example.demo.modules.cache.generatekey.consistentordering.api.model.dto.response.SearchParameterDTO(" +
+           "s.id, s.category, s.brand, s.productName, " +
+           "s.minPrice, s.maxPrice, s.region, s.rating, s.createdAt, s.active) " +
+           "FROM SearchParameter s WHERE " +
            "(:category IS NULL OR s.category = :category) AND " +
            "(:brand IS NULL OR s.brand = :brand) AND " +
            "(:region IS NULL OR s.region = :region) AND " +
            "s.minPrice <= :maxPrice AND s.maxPrice >= :minPrice AND " +
            "s.rating >= :minRating AND s.active = true")
-    List<SearchParameter> findBySearchCriteria(
+    List<SearchParameterDTO> findDTOsBySearchCriteria(
         @Param("category") String category,
         @Param("brand") String brand,
         @Param("region") String region,
@@ -32,4 +38,20 @@ public interface SearchParameterRepository extends JpaRepository<SearchParameter
     
     @Query("SELECT s FROM SearchParameter s WHERE s.active = true ORDER BY s.rating DESC, s.createdAt DESC")
     List<SearchParameter> findAllActiveOrderedByRatingAndCreatedAt();
+    
+    // Most frequent category/brand/region combinations with the price and rating range covering all their rows
+    @Query("SELECT s.category AS category, s.brand AS brand, s.region AS region, " +
+           "MIN(s.minPrice) AS minPrice, MAX(s.maxPrice) AS maxPrice, MIN(s.rating) AS minRating " +
+           "FROM SearchParameter s WHERE s.active = true " +
+           "GROUP BY s.category, s.brand, s.region ORDER BY COUNT(s) DESC")
+    List<SearchCombination> findTopSearchCombinations(Pageable pageable);
+    
+    interface SearchCombination {
+        String getCategory();
+        String getBrand();
+        String getRegion();
+        BigDecimal getMinPrice();
+        BigDecimal getMaxPrice();
+        Integer getMinRating();
+    }
 }
@@ -15,7 +15,7 @@ public interface ConsistentOrderingService {
     
     /**
      * Demonstrates the solution using sorted cache key generation
-     * Uses sorted List<String> for cache key consistency
+     * Uses typed CacheKey components ordered by field name for consistency
      */
     List<SearchParameterDTO> getSearchResultsWithConsistentOrdering(ConsistentOrderingSearchRequest request);
     
@@ -2,10 +2,9 @@ package com.example.demo.modules.cache.generatekey.consistentordering.infrastruc
 
 import com.example.demo.modules.cache.generatekey.consistentordering.api.model.dto.response.SearchParameterDTO;
 import com.example.demo.modules.cache.generatekey.consistentordering.api.model.dto.request.ConsistentOrderingSearchRequest;
-import com.example.demo.modules.cache.generatekey.consistentordering.api.model.mapper.SearchParameterMapper;
-import com.example.demo.modules.cache.generatekey.consistentordering.domain.entity.SearchParameter;
 import com.example.demo.modules.cache.generatekey.consistentordering.infrastructure.repository.SearchParameterRepository;
 import com.example.demo.modules.cache.generatekey.consistentordering.infrastructure.service.ConsistentOrderingService;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -20,10 +19,10 @@ import java.util.List;
 public class ConsistentOrderingServiceImpl implements ConsistentOrderingService {
     
     private final SearchParameterRepository repository;
-    private final SearchParameterMapper mapper;
+    private final CacheKeyGenerator cacheKeyGenerator;
     
     @Override
-    @Cacheable(value = "consistentOrderingProblemCache", key = "#request.generateProblematicCacheKey()")
+    @Cacheable(value = "consistentOrderingProblemCache", key = "#request.generateProblematicCacheKey()", sync = true)
     public List<SearchParameterDTO> getSearchResultsWithOrderingProblem(ConsistentOrderingSearchRequest request) {
         log.info("CONSISTENT ORDERING PROBLEM");
         log.info("Request Details:");
@@ -35,38 +34,38 @@ public class ConsistentOrderingServiceImpl implements ConsistentOrderingService
         log.info("   • Set[brand, category, region] might become: brandcategoryregion");
         log.info("   • Same parameters, different cache keys!");
         
-        List<SearchParameter> entities = repository.findBySearchCriteria(
+        List<SearchParameterDTO> results = repository.findDTOsBySearchCriteria(
             request.getCategory(), request.getBrand(), request.getRegion(),
             request.getMinPrice(), request.getMaxPrice(), request.getMinRating()
         );
-        log.info("Database query completed - Found {} records", entities.size());
+        log.info("Database query completed - Found {} records", results.size());
         
-        return mapper.toDTOList(entities);
+        return results;
     }
     
     @Override
-    @Cacheable(value = "consistentOrderingSafeCache", key = "#request.generateSortedCacheKey()")
+    @Cacheable(value = "consistentOrderingSafeCache", keyGenerator = "cacheKeyGenerator", sync = true)
     public List<SearchParameterDTO> getSearchResultsWithConsistentOrdering(ConsistentOrderingSearchRequest request) {
         log.info("CONSISTENT ORDERING SAFE SOLUTION");
         log.info("Request Details:");
         log.info("   • Parameters: {}", request.getSearchParams());
-        log.info("   • Cache Key: '{}'", request.generateSortedCacheKey());
-        log.info("SUCCESS: Using sorted parameters ensures consistent cache keys!");
+        log.info("   • Cache Key: '{}'", cacheKeyGenerator.keyFor(request));
+        log.info("SUCCESS: Named key components ensure consistent cache keys!");
         log.info("Example:");
-        log.info("   • Sorted: [brand, category, region] always becomes: brand_category_region");
+        log.info("   • Components are ordered by field name: brand, category, maxPrice, minPrice, minRating, region");
         log.info("   • Same input always generates same cache key!");
         
-        List<SearchParameter> entities = repository.findBySearchCriteria(
+        List<SearchParameterDTO> results = repository.findDTOsBySearchCriteria(
             request.getCategory(), request.getBrand(), request.getRegion(),
             request.getMinPrice(), request.getMaxPrice(), request.getMinRating()
         );
-        log.info("Database query completed - Found {} records", entities.size());
+        log.info("Database query completed - Found {} records", results.size());
         
-        return mapper.toDTOList(entities);
+        return results;
     }
     
     @Override
-    @Cacheable(value = "consistentOrderingTreeSetCache", key = "#request.generateTreeSetCacheKey()")
+    @Cacheable(value = "consistentOrderingTreeSetCache", key = "#request.generateTreeSetCacheKey()", sync = true)
     public List<SearchParameterDTO> getSearchResultsWithTreeSetOrdering(ConsistentOrderingSearchRequest request) {
         log.info("CONSISTENT ORDERING TREESET SOLUTION");
         log.info("Request Details:");
@@ -77,13 +76,13 @@ public class ConsistentOrderingServiceImpl implements ConsistentOrderingService
         log.info("   • TreeSet automatically sorts: [brand, category, region]");
         log.info("   • Natural ordering ensures consistency!");
         
-        List<SearchParameter> entities = repository.findBySearchCriteria(
+        List<SearchParameterDTO> results = repository.findDTOsBySearchCriteria(
             request.getCategory(), request.getBrand(), request.getRegion(),
             request.getMinPrice(), request.getMaxPrice(), request.getMinRating()
         );
-        log.info("Database query completed - Found {} records", entities.size());
+        log.info("Database query completed - Found {} records", results.size());
         
-        return mapper.toDTOList(entities);
+        return results;
     }
     
     @Override
@@ -0,0 +1,50 @@
+package com.example.demo.modules.cache.generatekey.consistentordering.infrastructure.warmup;
+
+import com.example.demo.modules.cache.generatekey.consistentordering.api.model.dto.request.ConsistentOrderingSearchRequest;
+import com.example.demo.modules.cache.generatekey.consistentordering.infrastructure.repository.SearchParameterRepository;
+import com.example.demo.modules.cache.generatekey.consistentordering.infrastructure.service.ConsistentOrderingService;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKey;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyGenerator;
+import com.example.demo.modules.cache.shared.infrastructure.warmup.CacheWarmUpSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Warms consistentOrderingSafeCache with the most common category/brand/region combinations
+ * in search_parameter_cache, each searched over its full price and rating range.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchParameterCacheWarmUpSource implements CacheWarmUpSource {
+
+    private static final int TOP_COMBINATIONS = 20;
+
+    private final SearchParameterRepository repository;
+    private final ConsistentOrderingService consistentOrderingService;
+    private final CacheKeyGenerator cacheKeyGenerator;
+
+    @Override
+    public List<Runnable> seedLoads() {
+        return repository.findTopSearchCombinations(PageRequest.of(0, TOP_COMBINATIONS)).stream()
+                .map(combination -> new ConsistentOrderingSearchRequest(
+                        combination.getCategory(), combination.getBrand(), combination.getRegion(),
+                        combination.getMinPrice(), combination.getMaxPrice(), combination.getMinRating()))
+                .<Runnable>map(request -> () -> consistentOrderingService.getSearchResultsWithConsistentOrdering(request))
+                .toList();
+    }
+
+    @Override
+    public Set<String> cacheNames() {
+        return Set.of("consistentOrderingSafeCache");
+    }
+
+    @Override
+    public void load(String cacheName, CacheKey key) {
+        consistentOrderingService.getSearchResultsWithConsistentOrdering(
+                cacheKeyGenerator.requestFor(ConsistentOrderingSearchRequest.class, key));
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.demo.modules.cache.generatekey.hashcodemismatch.api;
 
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.dto.response.ProductCatalogDTO;
 import com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.dto.response.ProductDTO;
 import com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.dto.request.ProductSearchRequest;
 import com.example.demo.modules.cache.generatekey.hashcodemismatch.domain.entity.ProductCategory;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.service.ProductCatalogService;
 import com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.service.ProductService;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +21,8 @@ import java.util.List;
 public class HashCodeMismatchController {
     
     private final ProductService productService;
+    private final ProductCatalogService productCatalogService;
+    private final CacheKeyGenerator cacheKeyGenerator;
     
     @GetMapping("/info")
     public ResponseEntity<String> getCacheHashCodeMismatchInfo() {
@@ -30,16 +35,23 @@ public class HashCodeMismatchController {
             
             ## Demonstration
             1. PROBLEM: @Cacheable(key = "#request.hashCode()") - Request object hashCode changes
-            2. SOLUTION: @Cacheable(key = "#category") - String key consistent
+            2. SOLUTION: @Cacheable(keyGenerator = "cacheKeyGenerator") - Typed key from request fields
+            3. CATALOG: ten categories need no cache key at all - one array indexed by category ordinal,
+               loaded with one query and swapped copy-on-write by a background refresh
             
             ## Test Endpoints
             - POST /api/cache/generatekey/hashcodemismatch/products/problem
             - POST /api/cache/generatekey/hashcodemismatch/products/solution
+            - GET /api/cache/generatekey/hashcodemismatch/products/catalog/{category}
+            - GET /api/cache/generatekey/hashcodemismatch/products/catalog
+            - POST /api/cache/generatekey/hashcodemismatch/products/catalog/refresh
             - DELETE /api/cache/generatekey/hashcodemismatch/products/cache
             
             ## Expected Results
             - Problem: Every call hits database (no cache)
             - Solution: First call hits database, subsequent calls use cache
+            - Catalog: no database call per request; every category is read from the last bulk load
+              (up to one refresh interval behind a product write, which the solution's cache evicts at commit)
             
             ## Testing
             1. Test data is auto-created via Flyway migration
@@ -86,13 +98,40 @@ public class HashCodeMismatchController {
             "Products found: %d\n" +
             "Response time: %d ms\n" +
             "Note: Check logs for cache hits",
-            request.getCategory(), request.hashCode(), request.generateCacheKey(), products.size(), (endTime - startTime)
+            request.getCategory(), request.hashCode(), cacheKeyGenerator.keyFor(request), products.size(), (endTime - startTime)
         );
         
         return ResponseEntity.ok(result);
     }
     
-
+    @GetMapping("/products/catalog/{category}")
+    public ResponseEntity<String> getFromCatalog(@PathVariable ProductCategory category) {
+        long startTime = System.nanoTime();
+        
+        List<ProductDTO> products = productCatalogService.getProducts(category);
+        
+        long endTime = System.nanoTime();
+        String result = String.format(
+            "CATALOG LOOKUP\n" +
+            "Category: %s\n" +
+            "Products found: %d\n" +
+            "Lookup time: %d us\n" +
+            "Note: Served from the catalog loaded at %s, no cache key involved",
+            category, products.size(), (endTime - startTime) / 1_000, productCatalogService.getInfo().getLoadedAt()
+        );
+        
+        return ResponseEntity.ok(result);
+    }
+    
+    @GetMapping("/products/catalog")
+    public ResponseEntity<ProductCatalogDTO> getCatalogInfo() {
+        return ResponseEntity.ok(productCatalogService.getInfo());
+    }
+    
+    @PostMapping("/products/catalog/refresh")
+    public ResponseEntity<ProductCatalogDTO> refreshCatalog() {
+        return ResponseEntity.ok(productCatalogService.refresh());
+    }
     
     @DeleteMapping("/products/cache")
     public ResponseEntity<String> clearAllCaches() {
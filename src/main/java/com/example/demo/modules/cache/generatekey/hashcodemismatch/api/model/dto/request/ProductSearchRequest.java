@@ -1,6 +1,7 @@
 package com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.dto.request;
 
 import com.example.demo.modules.cache.generatekey.hashcodemismatch.domain.entity.ProductCategory;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyPart;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -10,6 +11,7 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 public class ProductSearchRequest {
     
+    @CacheKeyPart
     private ProductCategory category;
     
     // Generate consistent cache key based on actual content
@@ -0,0 +1,22 @@
+package com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.dto.response;
+
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.domain.entity.ProductCategory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductCatalogDTO {
+
+    private boolean loaded;
+    private Instant loadedAt;
+    private Long loadMillis;
+    private long refreshes;
+    private int productCount;
+    private Map<ProductCategory, Integer> productsPerCategory;
+}
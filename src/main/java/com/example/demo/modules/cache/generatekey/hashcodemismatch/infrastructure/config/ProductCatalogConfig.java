@@ -0,0 +1,9 @@
+package com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ProductCatalogProperties.class)
+public class ProductCatalogConfig {
+}
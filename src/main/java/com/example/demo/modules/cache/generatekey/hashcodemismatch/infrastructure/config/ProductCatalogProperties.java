@@ -0,0 +1,20 @@
+package com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Product catalog settings, bound from app.cache.product-catalog.*
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache.product-catalog")
+public class ProductCatalogProperties {
+
+    // Reload the whole catalog in the background; when off it is only loaded on first read or on demand
+    private boolean enabled = true;
+
+    // Time between two background reloads; readers keep the previous catalog while one runs
+    private Duration refreshInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,53 @@
+package com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.dataset;
+
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.domain.entity.ProductCategory;
+import com.example.demo.modules.dataset.infrastructure.generator.BatchInserter;
+import com.example.demo.modules.dataset.infrastructure.generator.DatasetContext;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticRandom;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticTableGenerator;
+import com.example.demo.modules.dataset.infrastructure.generator.ZipfDistribution;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 10,000 products per scale unit, Zipf-distributed over ProductCategory in declaration order:
+ * LAPTOP is the largest category (the one per-category cache entries get big for), PRINTER the smallest.
+ */
+@Component
+public class ProductDatasetGenerator implements SyntheticTableGenerator {
+
+    private static final int BASE_PRODUCTS = 10_000;
+    private static final String[] BRANDS = {
+        "Apple", "Samsung", "Dell", "Lenovo", "HP", "Asus", "Sony", "Logitech", "Canon", "Acer", "Microsoft", "Bose"
+    };
+
+    @Override
+    public List<String> tables() {
+        return List.of("products");
+    }
+
+    @Override
+    public void generate(DatasetContext context) {
+        SyntheticRandom random = context.random("products");
+        ProductCategory[] categories = ProductCategory.values();
+        ZipfDistribution categoryDistribution = random.zipf(categories.length);
+        ZipfDistribution brandDistribution = random.zipf(BRANDS.length);
+        int products = context.rows(BASE_PRODUCTS);
+        try (BatchInserter inserter = context.inserter("products",
+                "code", "name", "category", "price", "stock_quantity", "active")) {
+            for (int i = 0; i < products; i++) {
+                ProductCategory category = random.pick(categories, categoryDistribution);
+                String brand = random.pick(BRANDS, brandDistribution);
+                inserter.add(
+                        // Unique column: the GEN prefix keeps clear of the Flyway seed codes
+                        String.format("GEN%08d", i),
+                        brand + " " + category.getDisplayName() + " " + random.nextInt(100, 1000),
+                        category.name(),
+                        random.money(19.99, 3_999.99),
+                        random.heavyTailed(1, 1.5, 500) - 1,
+                        !random.chance(0.05));
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.invalidation;
+
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.domain.entity.Product;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.service.ProductCatalogService;
+import com.example.demo.modules.cache.shared.infrastructure.invalidation.EntityWriteSubscriber;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Reloads the product catalog after a Product write commits, so it no longer waits for the next refresh interval
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCatalogWriteSubscriber implements EntityWriteSubscriber {
+
+    private final ProductCatalogService productCatalogService;
+
+    @Override
+    public Set<Class<?>> entityTypes() {
+        return Set.of(Product.class);
+    }
+
+    @Override
+    public void afterWrite(Object entity) {
+        productCatalogService.scheduleRefresh();
+    }
+}
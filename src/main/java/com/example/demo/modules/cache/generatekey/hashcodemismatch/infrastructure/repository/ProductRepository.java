@@ -1,8 +1,11 @@
 package com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.repository;
 
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.dto.response.ProductDTO;
 import com.example.demo.modules.cache.generatekey.hashcodemismatch.domain.entity.Product;
 import com.example.demo.modules.cache.generatekey.hashcodemismatch.domain.entity.ProductCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +14,16 @@ import java.util.List;
 public interface ProductRepository extends JpaRepository<Product, Long> {
     
     List<Product> findByCategory(ProductCategory category);
+    
+    // Read path: DTOs straight from the result set, no managed entities or dirty-checking snapshots
+    @Query("SELECT new com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.dto.response.ProductDTO(" +
+           "p.id, p.code, p.name, p.category, p.price, p.stockQuantity, p.active) " +
+           "FROM Product p WHERE p.category = :category")
+    List<ProductDTO> findDTOsByCategory(@Param("category") ProductCategory category);
+    
+    // Every category in one round trip, for the product catalog
+    @Query("SELECT new com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.dto.response.ProductDTO(" +
+           "p.id, p.code, p.name, p.category, p.price, p.stockQuantity, p.active) " +
+           "FROM Product p ORDER BY p.category, p.id")
+    List<ProductDTO> findAllDTOsOrderedByCategory();
 }
@@ -0,0 +1,27 @@
+package com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.service;
+
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.dto.response.ProductCatalogDTO;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.dto.response.ProductDTO;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.domain.entity.ProductCategory;
+
+import java.util.List;
+
+public interface ProductCatalogService {
+
+    /**
+     * Products of one category from the current catalog - one array lookup, no lock, no key object
+     */
+    List<ProductDTO> getProducts(ProductCategory category);
+
+    /**
+     * Reloads every category with one query and swaps the new catalog in
+     */
+    ProductCatalogDTO refresh();
+
+    /**
+     * Queues a reload on the refresh thread and returns; writes arriving while one is queued share it
+     */
+    void scheduleRefresh();
+
+    ProductCatalogDTO getInfo();
+}
@@ -15,7 +15,7 @@ public interface ProductService {
     
     /**
      * Demonstrates the solution using proper cache key generation
-     * Uses request.generateCacheKey() for consistent caching
+     * Uses CacheKeyGenerator on the request's @CacheKeyPart fields for consistent caching
      */
     List<ProductDTO> getProductsByCategoryWithSolution(ProductSearchRequest request);
     
@@ -0,0 +1,152 @@
+package com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.service.impl;
+
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.dto.response.ProductCatalogDTO;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.dto.response.ProductDTO;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.domain.entity.ProductCategory;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.config.ProductCatalogProperties;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.repository.ProductRepository;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.service.ProductCatalogService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Whole product catalog held as one immutable array of per-category lists, indexed by
+ * ProductCategory.ordinal().
+ *
+ * ProductCategory has ten values, so a general-purpose cache keyed by request objects
+ * (hashing, equals, a map probe and a findByCategory query per category) is far more machinery
+ * than the key space needs. A reload reads every category with one query, builds a new array
+ * and publishes it with a single volatile write (copy-on-write): readers never lock and always
+ * see one complete catalog, never a mix of old and new categories.
+ *
+ * A committed Product write queues one reload on the refresh thread (see ProductCatalogWriteSubscriber),
+ * so the catalog trails a write by one reload instead of a refresh interval. Callers that must see a
+ * write in the same request use the products cache, which entity writes evict at commit.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductCatalogServiceImpl implements ProductCatalogService {
+
+    private static final ProductCategory[] CATEGORIES = ProductCategory.values();
+
+    private final ProductRepository productRepository;
+    private final ProductCatalogProperties properties;
+
+    private final LongAdder refreshes = new LongAdder();
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+    private volatile Catalog catalog;
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void start() {
+        // Also runs reloads queued by writes, so it exists even without the periodic refresh
+        scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("product-catalog-refresh-"));
+        if (!properties.isEnabled()) {
+            log.info("Background refresh of the product catalog is disabled");
+            return;
+        }
+        long intervalMillis = properties.getRefreshInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::refreshQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public List<ProductDTO> getProducts(ProductCategory category) {
+        Catalog current = catalog;
+        if (current == null) {
+            current = loadFirst();
+        }
+        return current.byCategory().get(category.ordinal());
+    }
+
+    @Override
+    public synchronized ProductCatalogDTO refresh() {
+        long startTime = System.currentTimeMillis();
+        List<ProductDTO> products = productRepository.findAllDTOsOrderedByCategory();
+
+        List<List<ProductDTO>> grouped = new ArrayList<>(CATEGORIES.length);
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            grouped.add(new ArrayList<>());
+        }
+        for (ProductDTO product : products) {
+            grouped.get(product.getCategory().ordinal()).add(product);
+        }
+        List<List<ProductDTO>> byCategory = new ArrayList<>(CATEGORIES.length);
+        for (List<ProductDTO> category : grouped) {
+            byCategory.add(List.copyOf(category));
+        }
+
+        long loadMillis = System.currentTimeMillis() - startTime;
+        catalog = new Catalog(List.copyOf(byCategory), products.size(), Instant.now(), loadMillis);
+        refreshes.increment();
+        log.info("Product catalog loaded - {} products in {} categories with one query in {}ms",
+                products.size(), CATEGORIES.length, loadMillis);
+        return getInfo();
+    }
+
+    @Override
+    public void scheduleRefresh() {
+        // Cleared before the reload starts, so a write committed during it queues the next one
+        if (refreshQueued.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                refreshQueued.set(false);
+                refreshQuietly();
+            });
+        }
+    }
+
+    @Override
+    public ProductCatalogDTO getInfo() {
+        Catalog current = catalog;
+        if (current == null) {
+            return new ProductCatalogDTO(false, null, null, refreshes.sum(), 0, Map.of());
+        }
+        Map<ProductCategory, Integer> productsPerCategory = new EnumMap<>(ProductCategory.class);
+        for (ProductCategory category : CATEGORIES) {
+            productsPerCategory.put(category, current.byCategory().get(category.ordinal()).size());
+        }
+        return new ProductCatalogDTO(true, current.loadedAt(), current.loadMillis(), refreshes.sum(),
+                current.productCount(), productsPerCategory);
+    }
+
+    // Only the first reads before any load wait here; they share one load instead of each querying
+    private synchronized Catalog loadFirst() {
+        if (catalog == null) {
+            refresh();
+        }
+        return catalog;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Product catalog refresh failed, keeping the catalog loaded at {} - {}",
+                    catalog != null ? catalog.loadedAt() : null, e.getMessage());
+        }
+    }
+
+    // Random-access list indexed by ordinal; List.copyOf keeps it immutable like the lists inside
+    private record Catalog(List<List<ProductDTO>> byCategory, int productCount, Instant loadedAt, long loadMillis) {
+    }
+}
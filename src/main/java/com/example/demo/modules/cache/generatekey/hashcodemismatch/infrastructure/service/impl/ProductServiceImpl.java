@@ -2,10 +2,12 @@ package com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructu
 
 import com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.dto.response.ProductDTO;
 import com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.dto.request.ProductSearchRequest;
-import com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.mapper.ProductMapper;
 import com.example.demo.modules.cache.generatekey.hashcodemismatch.domain.entity.Product;
 import com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.repository.ProductRepository;
 import com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.service.ProductService;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKey;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyGenerator;
+import com.example.demo.modules.cache.shared.infrastructure.invalidation.CacheDependency;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -20,10 +22,11 @@ import java.util.List;
 public class ProductServiceImpl implements ProductService {
     
     private final ProductRepository productRepository;
-    private final ProductMapper productMapper;
+    private final CacheKeyGenerator cacheKeyGenerator;
     
     @Override
-    @Cacheable(value = "products", key = "#request.hashCode()")  // PROBLEM: Request object hashCode as cache key
+    @Cacheable(value = "products", key = "#request.hashCode()", sync = true)  // PROBLEM: Request object hashCode as cache key
+    @CacheDependency(entity = Product.class, attributes = "category")
     public List<ProductDTO> getProductsByCategoryWithProblem(ProductSearchRequest request) {
         long startTime = System.currentTimeMillis();
         log.info("=== CACHE KEY HASHCODE PROBLEM DEMONSTRATION ===");
@@ -38,39 +41,34 @@ public class ProductServiceImpl implements ProductService {
                 request.getCategory(), request.hashCode(), sameDataRequest.hashCode());
         
         // Execute database query
-        List<Product> products = productRepository.findByCategory(request.getCategory());
+        List<ProductDTO> products = productRepository.findDTOsByCategory(request.getCategory());
         long endTime = System.currentTimeMillis();
         
         log.info("Database query executed - Retrieved {} products for category: {} in {}ms", 
                 products.size(), request.getCategory(), (endTime - startTime));
         
-        return productMapper.toDTOList(products);
+        return products;
     }
     
     @Override
-    @Cacheable(value = "products", key = "#request.generateCacheKey()")  // SOLUTION: Custom cache key generation
+    @Cacheable(value = "products", keyGenerator = "cacheKeyGenerator", sync = true)  // SOLUTION: Typed key from @CacheKeyPart fields
+    @CacheDependency(entity = Product.class, attributes = "category")
     public List<ProductDTO> getProductsByCategoryWithSolution(ProductSearchRequest request) {
         long startTime = System.currentTimeMillis();
         log.info("=== CACHE KEY SOLUTION DEMONSTRATION ===");
         
-        // Generate and log cache key
-        String cacheKey = request.generateCacheKey();
+        // SOLUTION: the key is built from the category value, so any request with the same data produces it
+        CacheKey cacheKey = cacheKeyGenerator.keyFor(request);
         log.info("Generated cache key: '{}' for category: {}", cacheKey, request.getCategory());
         
-        // Demonstrate the solution: same data, same cache key
-        ProductSearchRequest sameDataRequest = new ProductSearchRequest(request.getCategory());
-        String sameDataCacheKey = sameDataRequest.generateCacheKey();
-        log.info("SOLUTION: Same data ({}) produces same cache key: '{}' (match: {})", 
-                request.getCategory(), sameDataCacheKey, cacheKey.equals(sameDataCacheKey));
-        
         // Execute database query
-        List<Product> products = productRepository.findByCategory(request.getCategory());
+        List<ProductDTO> products = productRepository.findDTOsByCategory(request.getCategory());
         long endTime = System.currentTimeMillis();
         
         log.info("Database query executed - Retrieved {} products for category: {} in {}ms", 
                 products.size(), request.getCategory(), (endTime - startTime));
         
-        return productMapper.toDTOList(products);
+        return products;
     }
         
     @Override
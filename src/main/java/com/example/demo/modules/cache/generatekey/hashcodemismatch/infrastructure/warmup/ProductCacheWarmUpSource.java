@@ -0,0 +1,48 @@
+package com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.warmup;
+
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.dto.request.ProductSearchRequest;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.domain.entity.ProductCategory;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.service.ProductCatalogService;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.service.ProductService;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKey;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyGenerator;
+import com.example.demo.modules.cache.shared.infrastructure.warmup.CacheWarmUpSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Warms the products cache with one entry per ProductCategory - the whole key space of the typed-key endpoint -
+ * and loads the product catalog, so neither is filled by the first requests after startup
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCacheWarmUpSource implements CacheWarmUpSource {
+
+    private final ProductService productService;
+    private final ProductCatalogService productCatalogService;
+    private final CacheKeyGenerator cacheKeyGenerator;
+
+    @Override
+    public List<Runnable> seedLoads() {
+        List<Runnable> loads = new ArrayList<>();
+        loads.add(productCatalogService::refresh);
+        for (ProductCategory category : ProductCategory.values()) {
+            loads.add(() -> productService.getProductsByCategoryWithSolution(new ProductSearchRequest(category)));
+        }
+        return loads;
+    }
+
+    @Override
+    public Set<String> cacheNames() {
+        return Set.of("products");
+    }
+
+    @Override
+    public void load(String cacheName, CacheKey key) {
+        productService.getProductsByCategoryWithSolution(cacheKeyGenerator.requestFor(ProductSearchRequest.class, key));
+    }
+}
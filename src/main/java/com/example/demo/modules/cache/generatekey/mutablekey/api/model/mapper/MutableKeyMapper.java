@@ -4,9 +4,6 @@ import com.example.demo.modules.cache.generatekey.mutablekey.api.model.dto.respo
 import com.example.demo.modules.cache.generatekey.mutablekey.domain.entity.MutableKeyCache;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Component
 public class MutableKeyMapper {
     
@@ -29,19 +26,6 @@ public class MutableKeyMapper {
         );
     }
     
-    /**
-     * Converts list of entities to list of DTOs
-     */
-    public List<MutableKeyDTO> toDTOList(List<MutableKeyCache> entities) {
-        if (entities == null) {
-            return null;
-        }
-        
-        return entities.stream()
-                      .map(this::toDTO)
-                      .collect(Collectors.toList());
-    }
-    
     /**
      * Converts DTO to entity
      */
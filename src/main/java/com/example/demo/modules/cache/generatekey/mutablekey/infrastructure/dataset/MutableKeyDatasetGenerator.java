@@ -0,0 +1,47 @@
+package com.example.demo.modules.cache.generatekey.mutablekey.infrastructure.dataset;
+
+import com.example.demo.modules.dataset.infrastructure.generator.BatchInserter;
+import com.example.demo.modules.dataset.infrastructure.generator.DatasetContext;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticRandom;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticTableGenerator;
+import com.example.demo.modules.dataset.infrastructure.generator.ZipfDistribution;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 10,000 category/tag rows per scale unit; both Zipf-distributed, so a few (category, tag) sets match
+ * thousands of rows and most match a handful.
+ */
+@Component
+public class MutableKeyDatasetGenerator implements SyntheticTableGenerator {
+
+    private static final int BASE_ROWS = 10_000;
+    private static final String[] CATEGORIES = {"electronics", "clothing", "books", "home", "sports", "toys", "garden"};
+    private static final String[] TAGS = {
+        "laptop", "smartphone", "tablet", "headphones", "smartwatch", "shirt", "jeans", "jacket", "novel",
+        "cookbook", "lamp", "sofa", "football", "racket", "puzzle", "lego", "shovel", "grill"
+    };
+    private static final String[] ADJECTIVES = {"Premium", "Budget", "Bestselling", "Limited", "Eco-friendly", "Classic"};
+
+    @Override
+    public List<String> tables() {
+        return List.of("mutable_key_cache");
+    }
+
+    @Override
+    public void generate(DatasetContext context) {
+        SyntheticRandom random = context.random("mutable_key_cache");
+        ZipfDistribution categories = random.zipf(CATEGORIES.length);
+        ZipfDistribution tags = random.zipf(TAGS.length);
+        int rows = context.rows(BASE_ROWS);
+        try (BatchInserter inserter = context.inserter("mutable_key_cache", "category", "tag", "description", "active")) {
+            for (int i = 0; i < rows; i++) {
+                String category = random.pick(CATEGORIES, categories);
+                String tag = random.pick(TAGS, tags);
+                inserter.add(category, tag, random.uniform(ADJECTIVES) + " " + tag + " in " + category + " #" + i,
+                        !random.chance(0.05));
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.modules.cache.generatekey.mutablekey.infrastructure.repository;
 
+import com.example.demo.modules.cache.generatekey.mutablekey.api.model.dto.response.MutableKeyDTO;
 import com.example.demo.modules.cache.generatekey.mutablekey.domain.entity.MutableKeyCache;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -12,14 +13,18 @@ import java.util.List;
 public interface MutableKeyRepository extends JpaRepository<MutableKeyCache, Long> {
     
     /**
-     * Find cache entries by category and tag combinations
+     * Find cache entries by category and tag combinations, projected straight into DTOs
+     * (no managed entities or dirty-checking snapshots on the read path)
      * Used to demonstrate the mutable key problem
      */
-    @Query("SELECT m FROM MutableKeyCache m WHERE " +
+    @Query("SELECT new com.example.demo.modules.cache.generatekey.mutablekey.api.model.dto.response.MutableKeyDTO(" +
+           "m.id, m.category, m.tag, m.description, " +
+           "m.active, m.createdAt, m.updatedAt) " +
+           "FROM MutableKeyCache m WHERE " +
            "(:categories IS NULL OR m.category IN :categories) AND " +
            "(:tags IS NULL OR m.tag IN :tags) AND " +
            "m.active = true")
-    List<MutableKeyCache> findByCategoriesAndTags(
+    List<MutableKeyDTO> findDTOsByCategoriesAndTags(
         @Param("categories") List<String> categories, 
         @Param("tags") List<String> tags
     );
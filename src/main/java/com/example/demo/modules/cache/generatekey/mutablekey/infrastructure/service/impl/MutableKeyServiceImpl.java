@@ -2,8 +2,6 @@ package com.example.demo.modules.cache.generatekey.mutablekey.infrastructure.ser
 
 import com.example.demo.modules.cache.generatekey.mutablekey.api.model.dto.response.MutableKeyDTO;
 import com.example.demo.modules.cache.generatekey.mutablekey.api.model.dto.request.MutableKeySearchRequest;
-import com.example.demo.modules.cache.generatekey.mutablekey.api.model.mapper.MutableKeyMapper;
-import com.example.demo.modules.cache.generatekey.mutablekey.domain.entity.MutableKeyCache;
 import com.example.demo.modules.cache.generatekey.mutablekey.infrastructure.repository.MutableKeyRepository;
 import com.example.demo.modules.cache.generatekey.mutablekey.infrastructure.service.MutableKeyService;
 import lombok.RequiredArgsConstructor;
@@ -20,10 +18,9 @@ import java.util.List;
 public class MutableKeyServiceImpl implements MutableKeyService {
     
     private final MutableKeyRepository repository;
-    private final MutableKeyMapper mapper;
     
     @Override
-    @Cacheable(value = "mutableKeyProblematicCache", key = "#request.generateProblematicMutableCacheKey()")
+    @Cacheable(value = "mutableKeyProblematicCache", key = "#request.generateProblematicMutableCacheKey()", sync = true)
     public List<MutableKeyDTO> searchWithMutableKeyProblem(MutableKeySearchRequest request) {
         log.info("MUTABLE CACHE KEY PROBLEM DEMONSTRATION");
         log.info("Request Categories: {}", request.getCategories());
@@ -36,16 +33,16 @@ public class MutableKeyServiceImpl implements MutableKeyService {
         log.warn("   • keyList.add(\"item2\"); // Now cache key changed!");
         log.warn("   • cache.get(keyList); // CACHE MISS!");
         
-        List<MutableKeyCache> entities = repository.findByCategoriesAndTags(
+        List<MutableKeyDTO> results = repository.findDTOsByCategoriesAndTags(
             request.getCategories(), request.getTags()
         );
-        log.info("Database query completed - Found {} records", entities.size());
+        log.info("Database query completed - Found {} records", results.size());
         
-        return mapper.toDTOList(entities);
+        return results;
     }
     
     @Override
-    @Cacheable(value = "mutableKeySafeStringCache", key = "#request.generateSafeStringCacheKey()")
+    @Cacheable(value = "mutableKeySafeStringCache", key = "#request.generateSafeStringCacheKey()", sync = true)
     public List<MutableKeyDTO> searchWithSafeStringKey(MutableKeySearchRequest request) {
         log.info("MUTABLE KEY SAFE STRING SOLUTION");
         log.info("Request Categories: {}", request.getCategories());
@@ -57,12 +54,12 @@ public class MutableKeyServiceImpl implements MutableKeyService {
         log.info("   • cache.put(key, value); // Immutable key!");
         log.info("   • Even if original List changes, cache key remains stable");
         
-        List<MutableKeyCache> entities = repository.findByCategoriesAndTags(
+        List<MutableKeyDTO> results = repository.findDTOsByCategoriesAndTags(
             request.getCategories(), request.getTags()
         );
-        log.info("Database query completed - Found {} records", entities.size());
+        log.info("Database query completed - Found {} records", results.size());
         
-        return mapper.toDTOList(entities);
+        return results;
     }
     
 
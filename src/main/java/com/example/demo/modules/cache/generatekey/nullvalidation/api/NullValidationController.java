@@ -3,6 +3,7 @@ package com.example.demo.modules.cache.generatekey.nullvalidation.api;
 import com.example.demo.modules.cache.generatekey.nullvalidation.api.model.dto.response.NullValidationDTO;
 import com.example.demo.modules.cache.generatekey.nullvalidation.api.model.dto.request.NullValidationSearchRequest;
 import com.example.demo.modules.cache.generatekey.nullvalidation.infrastructure.service.NullValidationService;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +18,7 @@ import java.util.List;
 public class NullValidationController {
     
     private final NullValidationService nullValidationService;
+    private final CacheKeyGenerator cacheKeyGenerator;
     
     @GetMapping("/info")
     public ResponseEntity<String> getCacheNullValidationInfo() {
@@ -133,14 +135,14 @@ public class NullValidationController {
             "User ID: %s\n" +
             "Product ID: %s\n" +
             "Category ID: %s\n" +
-            "Optional cache key: '%s'\n" +
+            "Typed cache key: '%s'\n" +
             "Results found: %d\n" +
             "Response time: %d ms\n" +
-            "SUCCESS: Using Optional for type-safe null handling!\n" +
-            "Benefit: Type-safe null handling with default values\n" +
-            "Approach: Optional.ofNullable(userId).orElse(\"guest\");",
+            "SUCCESS: Using typed key components for null handling!\n" +
+            "Benefit: Null stays null, so it cannot collide with a real \"guest\" user\n" +
+            "Approach: @Cacheable(keyGenerator = \"cacheKeyGenerator\");",
             request.getUserId(), request.getProductId(), request.getCategoryId(),
-            request.generateOptionalBasedCacheKey(), results.size(), (endTime - startTime)
+            cacheKeyGenerator.keyFor(request), results.size(), (endTime - startTime)
         );
         
         return ResponseEntity.ok(result);
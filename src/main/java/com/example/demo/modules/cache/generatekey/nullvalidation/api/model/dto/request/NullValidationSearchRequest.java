@@ -1,5 +1,6 @@
 package com.example.demo.modules.cache.generatekey.nullvalidation.api.model.dto.request;
 
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyPart;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -10,8 +11,11 @@ import java.util.Optional;
 @AllArgsConstructor
 public class NullValidationSearchRequest {
     
+    @CacheKeyPart
     private String userId;     // Can be null to demonstrate the problem
+    @CacheKeyPart
     private String productId;  // Should not be null
+    @CacheKeyPart
     private String categoryId; // Can be null
     
     // PROBLEM: Not validating null values before cache key generation
@@ -4,9 +4,6 @@ import com.example.demo.modules.cache.generatekey.nullvalidation.api.model.dto.r
 import com.example.demo.modules.cache.generatekey.nullvalidation.domain.entity.NullValidationCache;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Component
 public class NullValidationMapper {
     
@@ -30,19 +27,6 @@ public class NullValidationMapper {
         );
     }
     
-    /**
-     * Converts list of entities to list of DTOs
-     */
-    public List<NullValidationDTO> toDTOList(List<NullValidationCache> entities) {
-        if (entities == null) {
-            return null;
-        }
-        
-        return entities.stream()
-                      .map(this::toDTO)
-                      .collect(Collectors.toList());
-    }
-    
     /**
      * Converts DTO to entity
      */
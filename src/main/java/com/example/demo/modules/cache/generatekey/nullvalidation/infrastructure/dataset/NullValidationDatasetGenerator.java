@@ -0,0 +1,52 @@
+package com.example.demo.modules.cache.generatekey.nullvalidation.infrastructure.dataset;
+
+import com.example.demo.modules.dataset.infrastructure.generator.BatchInserter;
+import com.example.demo.modules.dataset.infrastructure.generator.DatasetContext;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticRandom;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticTableGenerator;
+import com.example.demo.modules.dataset.infrastructure.generator.ZipfDistribution;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 100,000 rows per scale unit with the nulls the module is about: a quarter are guest rows without
+ * user_id, one in seven has no category_id. Registered users and products are Zipf-distributed.
+ */
+@Component
+public class NullValidationDatasetGenerator implements SyntheticTableGenerator {
+
+    private static final int BASE_ROWS = 100_000;
+    private static final int BASE_USERS = 10_000;
+    private static final int PRODUCTS_PER_TYPE = 500;
+    private static final double GUEST = 0.25;
+    private static final double NO_CATEGORY = 0.15;
+    private static final String[] PRODUCT_TYPES = {"laptop", "phone", "mouse", "keyboard", "monitor", "book", "shirt", "lamp"};
+    private static final String[] CATEGORIES = {"electronics", "books", "clothing", "home"};
+
+    @Override
+    public List<String> tables() {
+        return List.of("null_validation_cache");
+    }
+
+    @Override
+    public void generate(DatasetContext context) {
+        SyntheticRandom random = context.random("null_validation_cache");
+        ZipfDistribution users = random.zipf(context.rows(BASE_USERS));
+        ZipfDistribution productTypes = random.zipf(PRODUCT_TYPES.length);
+        ZipfDistribution products = random.zipf(PRODUCTS_PER_TYPE);
+        ZipfDistribution categories = random.zipf(CATEGORIES.length);
+        int rows = context.rows(BASE_ROWS);
+        try (BatchInserter inserter = context.inserter("null_validation_cache",
+                "user_id", "product_id", "category_id", "description", "active")) {
+            for (int i = 0; i < rows; i++) {
+                String userId = random.chance(GUEST) ? null : "user" + (random.rank(users) + 1);
+                String productId = String.format("%s-%03d", random.pick(PRODUCT_TYPES, productTypes), random.rank(products) + 1);
+                String categoryId = random.chance(NO_CATEGORY) ? null : random.pick(CATEGORIES, categories);
+                inserter.add(userId, productId, categoryId,
+                        productId + " for " + (userId != null ? userId : "guest") + " in " + (categoryId != null ? categoryId : "no category"),
+                        !random.chance(0.05));
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.modules.cache.generatekey.nullvalidation.infrastructure.repository;
 
+import com.example.demo.modules.cache.generatekey.nullvalidation.api.model.dto.response.NullValidationDTO;
 import com.example.demo.modules.cache.generatekey.nullvalidation.domain.entity.NullValidationCache;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -12,16 +13,20 @@ import java.util.List;
 public interface NullValidationRepository extends JpaRepository<NullValidationCache, Long> {
     
     /**
-     * Find cache entries by userId, productId and categoryId combinations
+     * Find cache entries by userId, productId and categoryId combinations, projected straight into DTOs
+     * (no managed entities or dirty-checking snapshots on the read path)
      * Used to demonstrate the null validation problem
      * Handles null values in the query
      */
-    @Query("SELECT n FROM NullValidationCache n WHERE " +
+    @Query("SELECT new com.example.demo.modules.cache.generatekey.nullvalidation.api.model.dto.response.NullValidationDTO(" +
+           "n.id, n.userId, n.productId, n.categoryId, " +
+           "n.description, n.active, n.createdAt, n.updatedAt) " +
+           "FROM NullValidationCache n WHERE " +
            "(:userId IS NULL OR n.userId = :userId) AND " +
            "(:productId IS NULL OR n.productId = :productId) AND " +
            "(:categoryId IS NULL OR n.categoryId = :categoryId) AND " +
            "n.active = true")
-    List<NullValidationCache> findByUserProductAndCategory(
+    List<NullValidationDTO> findDTOsByUserProductAndCategory(
         @Param("userId") String userId,
         @Param("productId") String productId,
         @Param("categoryId") String categoryId
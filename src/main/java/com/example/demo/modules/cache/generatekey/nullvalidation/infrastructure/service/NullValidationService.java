@@ -20,8 +20,8 @@ public interface NullValidationService {
     List<NullValidationDTO> searchWithSafeNullValidation(NullValidationSearchRequest request);
     
     /**
-     * Demonstrates alternative solution using Optional for null safety
-     * Uses Optional.ofNullable().orElse() pattern
+     * Demonstrates alternative solution using typed cache keys for null safety
+     * Uses CacheKeyGenerator, which keeps null components as null
      */
     List<NullValidationDTO> searchWithOptionalBasedValidation(NullValidationSearchRequest request);
     
@@ -2,10 +2,9 @@ package com.example.demo.modules.cache.generatekey.nullvalidation.infrastructure
 
 import com.example.demo.modules.cache.generatekey.nullvalidation.api.model.dto.response.NullValidationDTO;
 import com.example.demo.modules.cache.generatekey.nullvalidation.api.model.dto.request.NullValidationSearchRequest;
-import com.example.demo.modules.cache.generatekey.nullvalidation.api.model.mapper.NullValidationMapper;
-import com.example.demo.modules.cache.generatekey.nullvalidation.domain.entity.NullValidationCache;
 import com.example.demo.modules.cache.generatekey.nullvalidation.infrastructure.repository.NullValidationRepository;
 import com.example.demo.modules.cache.generatekey.nullvalidation.infrastructure.service.NullValidationService;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -20,10 +19,10 @@ import java.util.List;
 public class NullValidationServiceImpl implements NullValidationService {
     
     private final NullValidationRepository repository;
-    private final NullValidationMapper mapper;
+    private final CacheKeyGenerator cacheKeyGenerator;
     
     @Override
-    @Cacheable(value = "nullValidationProblematicCache", key = "#request.generateProblematicNullCacheKey()")
+    @Cacheable(value = "nullValidationProblematicCache", key = "#request.generateProblematicNullCacheKey()", sync = true)
     public List<NullValidationDTO> searchWithNullValidationProblem(NullValidationSearchRequest request) {
         log.info("NULL VALIDATION CACHE KEY PROBLEM DEMONSTRATION");
         log.info("Request UserId: {}", request.getUserId());
@@ -37,16 +36,16 @@ public class NullValidationServiceImpl implements NullValidationService {
         log.warn("   • Result: 'null_123' - contains unwanted 'null' string!");
         log.warn("   • Can cause NullPointerException in some operations!");
         
-        List<NullValidationCache> entities = repository.findByUserProductAndCategory(
+        List<NullValidationDTO> results = repository.findDTOsByUserProductAndCategory(
             request.getUserId(), request.getProductId(), request.getCategoryId()
         );
-        log.info("Database query completed - Found {} records", entities.size());
+        log.info("Database query completed - Found {} records", results.size());
         
-        return mapper.toDTOList(entities);
+        return results;
     }
     
     @Override
-    @Cacheable(value = "nullValidationSafeCache", key = "#request.generateSafeNullValidatedCacheKey()")
+    @Cacheable(value = "nullValidationSafeCache", key = "#request.generateSafeNullValidatedCacheKey()", sync = true)
     public List<NullValidationDTO> searchWithSafeNullValidation(NullValidationSearchRequest request) {
         log.info("NULL VALIDATION SAFE SOLUTION - TERNARY OPERATOR");
         log.info("Request UserId: {}", request.getUserId());
@@ -59,34 +58,34 @@ public class NullValidationServiceImpl implements NullValidationService {
         log.info("   • String key = safeUserId + \"_\" + productId + \"_\" + categoryId;");
         log.info("   • Result: Clean keys without 'null' strings!");
         
-        List<NullValidationCache> entities = repository.findByUserProductAndCategory(
+        List<NullValidationDTO> results = repository.findDTOsByUserProductAndCategory(
             request.getUserId(), request.getProductId(), request.getCategoryId()
         );
-        log.info("Database query completed - Found {} records", entities.size());
+        log.info("Database query completed - Found {} records", results.size());
         
-        return mapper.toDTOList(entities);
+        return results;
     }
     
     @Override
-    @Cacheable(value = "nullValidationOptionalCache", key = "#request.generateOptionalBasedCacheKey()")
+    @Cacheable(value = "nullValidationOptionalCache", keyGenerator = "cacheKeyGenerator", sync = true)
     public List<NullValidationDTO> searchWithOptionalBasedValidation(NullValidationSearchRequest request) {
         log.info("NULL VALIDATION OPTIONAL SOLUTION");
         log.info("Request UserId: {}", request.getUserId());
         log.info("Request ProductId: {}", request.getProductId());
         log.info("Request CategoryId: {}", request.getCategoryId());
-        log.info("Optional Cache Key: '{}'", request.generateOptionalBasedCacheKey());
-        log.info("SUCCESS: Using Optional for null safety!");
-        log.info("Optional approach:");
-        log.info("   • String safeUserId = Optional.ofNullable(userId).orElse(\"guest\");");
-        log.info("   • String key = safeUserId + \"_\" + productId + \"_\" + categoryId;");
-        log.info("   • Result: Type-safe null handling with default values!");
+        log.info("Typed Cache Key: '{}'", cacheKeyGenerator.keyFor(request));
+        log.info("SUCCESS: Using typed key components for null safety!");
+        log.info("Typed key approach:");
+        log.info("   • @Cacheable(keyGenerator = \"cacheKeyGenerator\") reads @CacheKeyPart fields");
+        log.info("   • A null component stays null - it never becomes the string 'null' or 'guest'");
+        log.info("   • Result: No string building and no default-value collisions!");
         
-        List<NullValidationCache> entities = repository.findByUserProductAndCategory(
+        List<NullValidationDTO> results = repository.findDTOsByUserProductAndCategory(
             request.getUserId(), request.getProductId(), request.getCategoryId()
         );
-        log.info("Database query completed - Found {} records", entities.size());
+        log.info("Database query completed - Found {} records", results.size());
         
-        return mapper.toDTOList(entities);
+        return results;
     }
     
 
@@ -3,6 +3,7 @@ package com.example.demo.modules.cache.generatekey.stringconcatenation.api;
 import com.example.demo.modules.cache.generatekey.stringconcatenation.api.model.dto.response.StringConcatDTO;
 import com.example.demo.modules.cache.generatekey.stringconcatenation.api.model.dto.request.StringConcatSearchRequest;
 import com.example.demo.modules.cache.generatekey.stringconcatenation.infrastructure.service.StringConcatService;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +18,7 @@ import java.util.List;
 public class StringConcatenationController {
     
     private final StringConcatService stringConcatService;
+    private final CacheKeyGenerator cacheKeyGenerator;
     
     @GetMapping("/info")
     public ResponseEntity<String> getCacheStringConcatenationInfo() {
@@ -29,7 +31,7 @@ public class StringConcatenationController {
             
             ## Demonstration
             1. PROBLEM: userId + productId = collision risk
-            2. SOLUTION 1: userId + ":" + productId = safe delimiter
+            2. SOLUTION 1: CacheKey(userId, productId) = typed components, no string building
             3. SOLUTION 2: "userproduct:" + userId + ":" + productId = hash prefix
             
             ## Test Endpoints
@@ -41,7 +43,7 @@ public class StringConcatenationController {
             ## Expected Results
             - Problem: "user123" + "product45" = "user123product45"
                       "user12" + "3product45" = "user123product45" (COLLISION!)
-            - Solution 1: "user123:product45" != "user12:3product45" (SAFE)
+            - Solution 1: CacheKey[product45, user123] != CacheKey[3product45, user12] (SAFE)
             - Solution 2: "userproduct:user123:product45" (UNIQUE)
             
             ## Testing
@@ -92,10 +94,10 @@ public class StringConcatenationController {
             "Safe cache key: '%s'\n" +
             "User products found: %d\n" +
             "Response time: %d ms\n" +
-            "SUCCESS: Using delimiter ':' prevents collisions!\n" +
-            "Example: user123:product45 != user12:3product45",
+            "SUCCESS: Typed key components prevent collisions!\n" +
+            "Example: CacheKey[product45, user123] != CacheKey[3product45, user12]",
             request.getUserId(), request.getProductId(), 
-            request.generateSafeCacheKey(), userProducts.size(), (endTime - startTime)
+            cacheKeyGenerator.keyFor(request), userProducts.size(), (endTime - startTime)
         );
         
         return ResponseEntity.ok(result);
@@ -1,5 +1,6 @@
 package com.example.demo.modules.cache.generatekey.stringconcatenation.api.model.dto.request;
 
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyPart;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -9,7 +10,9 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 public class StringConcatSearchRequest {
     
+    @CacheKeyPart
     private String userId;
+    @CacheKeyPart
     private String productId;
     
     // PROBLEM: String concatenation collision risk
@@ -4,9 +4,6 @@ import com.example.demo.modules.cache.generatekey.stringconcatenation.domain.ent
 import com.example.demo.modules.cache.generatekey.stringconcatenation.api.model.dto.response.StringConcatDTO;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Component
 public class StringConcatMapper {
     
@@ -27,16 +24,6 @@ public class StringConcatMapper {
         );
     }
     
-    public List<StringConcatDTO> toDTOList(List<StringConcatUser> entities) {
-        if (entities == null) {
-            return null;
-        }
-        
-        return entities.stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
-    }
-    
     public StringConcatUser toEntity(StringConcatDTO dto) {
         if (dto == null) {
             return null;
@@ -1,5 +1,6 @@
 package com.example.demo.modules.cache.generatekey.stringconcatenation.domain.entity;
 
+import com.example.demo.modules.cache.shared.infrastructure.invalidation.EntityCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -8,6 +9,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(EntityCacheInvalidationListener.class)
 @Table(name = "string_concat_cache")
 @Data
 @NoArgsConstructor
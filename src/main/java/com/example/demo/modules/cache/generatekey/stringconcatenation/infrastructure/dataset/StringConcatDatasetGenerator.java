@@ -0,0 +1,56 @@
+package com.example.demo.modules.cache.generatekey.stringconcatenation.infrastructure.dataset;
+
+import com.example.demo.modules.dataset.infrastructure.generator.BatchInserter;
+import com.example.demo.modules.dataset.infrastructure.generator.DatasetContext;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticRandom;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticTableGenerator;
+import com.example.demo.modules.dataset.infrastructure.generator.ZipfDistribution;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 100,000 user/product rows per scale unit. Ids are "user" + n and "product" + n over populations that
+ * grow with the scale, so "user1" + "23" / "user12" + "3" concatenation collisions become common,
+ * and hot users and products (Zipf) are hit far more often than the tail.
+ */
+@Component
+public class StringConcatDatasetGenerator implements SyntheticTableGenerator {
+
+    private static final int BASE_ROWS = 100_000;
+    private static final int BASE_USERS = 10_000;
+    private static final int BASE_PRODUCTS = 5_000;
+    private static final String[] CATEGORIES = {
+        "LAPTOP", "SMARTPHONE", "HEADPHONES", "TABLET", "GENERIC", "KEYBOARD", "MONITOR", "MOUSE",
+        "CAMERA", "PRINTER", "WEARABLE", "WEBCAM"
+    };
+
+    @Override
+    public List<String> tables() {
+        return List.of("string_concat_cache");
+    }
+
+    @Override
+    public void generate(DatasetContext context) {
+        SyntheticRandom random = context.random("string_concat_cache");
+        ZipfDistribution users = random.zipf(context.rows(BASE_USERS));
+        ZipfDistribution products = random.zipf(context.rows(BASE_PRODUCTS));
+        ZipfDistribution categories = random.zipf(CATEGORIES.length);
+        int rows = context.rows(BASE_ROWS);
+        try (BatchInserter inserter = context.inserter("string_concat_cache",
+                "user_id", "product_id", "product_name", "quantity", "price", "category", "active")) {
+            for (int i = 0; i < rows; i++) {
+                int product = random.rank(products) + 1;
+                String category = random.pick(CATEGORIES, categories);
+                inserter.add(
+                        "user" + (random.rank(users) + 1),
+                        "product" + product,
+                        category.charAt(0) + category.substring(1).toLowerCase() + " " + product,
+                        random.heavyTailed(1, 2.5, 10),
+                        random.money(4.99, 2_999.99),
+                        category,
+                        !random.chance(0.03));
+            }
+        }
+    }
+}
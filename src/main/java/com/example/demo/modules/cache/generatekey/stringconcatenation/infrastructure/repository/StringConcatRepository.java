@@ -1,5 +1,6 @@
 package com.example.demo.modules.cache.generatekey.stringconcatenation.infrastructure.repository;
 
+import com.example.demo.modules.cache.generatekey.stringconcatenation.api.model.dto.response.StringConcatDTO;
 import com.example.demo.modules.cache.generatekey.stringconcatenation.domain.entity.StringConcatUser;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,8 +12,12 @@ import java.util.List;
 @Repository
 public interface StringConcatRepository extends JpaRepository<StringConcatUser, Long> {
     
-    @Query("SELECT s FROM StringConcatUser s WHERE s.userId = :userId AND s.productId = :productId AND s.active = true")
-    List<StringConcatUser> findByUserIdAndProductId(@Param("userId") String userId, @Param("productId") String productId);
+    // Read path: DTOs straight from the result set, no managed entities or dirty-checking snapshots
+    @Query("SELECT new com.example.demo.modules.cache.generatekey.stringconcatenation.api.model.dto.response.StringConcatDTO(" +
+           "s.id, s.userId, s.productId, s.productName, " +
+           "s.price, s.quantity, s.createdAt, s.active) " +
+           "FROM StringConcatUser s WHERE s.userId = :userId AND s.productId = :productId AND s.active = true")
+    List<StringConcatDTO> findDTOsByUserIdAndProductId(@Param("userId") String userId, @Param("productId") String productId);
     
     @Query("SELECT s FROM StringConcatUser s WHERE s.userId LIKE %:userId% AND s.active = true")
     List<StringConcatUser> findByUserIdContaining(@Param("userId") String userId);
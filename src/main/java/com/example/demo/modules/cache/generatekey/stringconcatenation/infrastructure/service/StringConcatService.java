@@ -15,7 +15,7 @@ public interface StringConcatService {
     
     /**
      * Demonstrates the solution using safe cache key generation
-     * Uses delimiter-based cache key (userId:productId)
+     * Uses typed CacheKey components (userId, productId) - no delimiter needed
      */
     List<StringConcatDTO> getUserProductsWithSafeCacheKey(StringConcatSearchRequest request);
     
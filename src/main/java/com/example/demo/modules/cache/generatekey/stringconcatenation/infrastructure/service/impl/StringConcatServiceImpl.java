@@ -2,10 +2,11 @@ package com.example.demo.modules.cache.generatekey.stringconcatenation.infrastru
 
 import com.example.demo.modules.cache.generatekey.stringconcatenation.api.model.dto.response.StringConcatDTO;
 import com.example.demo.modules.cache.generatekey.stringconcatenation.api.model.dto.request.StringConcatSearchRequest;
-import com.example.demo.modules.cache.generatekey.stringconcatenation.api.model.mapper.StringConcatMapper;
 import com.example.demo.modules.cache.generatekey.stringconcatenation.domain.entity.StringConcatUser;
 import com.example.demo.modules.cache.generatekey.stringconcatenation.infrastructure.repository.StringConcatRepository;
 import com.example.demo.modules.cache.generatekey.stringconcatenation.infrastructure.service.StringConcatService;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyGenerator;
+import com.example.demo.modules.cache.shared.infrastructure.invalidation.CacheDependency;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -20,10 +21,11 @@ import java.util.List;
 public class StringConcatServiceImpl implements StringConcatService {
     
     private final StringConcatRepository repository;
-    private final StringConcatMapper mapper;
+    private final CacheKeyGenerator cacheKeyGenerator;
     
     @Override
-    @Cacheable(value = "stringConcatCollisionCache", key = "#request.generateProblematicCacheKey()")
+    @Cacheable(value = "stringConcatCollisionCache", key = "#request.generateProblematicCacheKey()", sync = true)
+    @CacheDependency(entity = StringConcatUser.class, attributes = {"userId", "productId"})
     public List<StringConcatDTO> getUserProductsWithCollisionProblem(StringConcatSearchRequest request) {
         log.info("STRING CONCATENATION COLLISION PROBLEM");
         log.info("Request Details:");
@@ -35,32 +37,34 @@ public class StringConcatServiceImpl implements StringConcatService {
         log.info("   • user123+product45 = user123product45");
         log.info("   • user12+3product45 = user123product45 (SAME KEY!)");
         
-        List<StringConcatUser> entities = repository.findByUserIdAndProductId(request.getUserId(), request.getProductId());
-        log.info("Database query completed - Found {} records", entities.size());
+        List<StringConcatDTO> results = repository.findDTOsByUserIdAndProductId(request.getUserId(), request.getProductId());
+        log.info("Database query completed - Found {} records", results.size());
         
-        return mapper.toDTOList(entities);
+        return results;
     }
     
     @Override
-    @Cacheable(value = "stringConcatSafeCache", key = "#request.generateSafeCacheKey()")
+    @Cacheable(value = "stringConcatSafeCache", keyGenerator = "cacheKeyGenerator", sync = true)
+    @CacheDependency(entity = StringConcatUser.class, attributes = {"userId", "productId"})
     public List<StringConcatDTO> getUserProductsWithSafeCacheKey(StringConcatSearchRequest request) {
         log.info("STRING CONCATENATION SAFE SOLUTION");
         log.info("Request Details:");
         log.info("   • User ID: {}", request.getUserId());
         log.info("   • Product ID: {}", request.getProductId());
-        log.info("   • Cache Key: '{}'", request.generateSafeCacheKey());
-        log.info("SUCCESS: Using delimiter ':' prevents collisions!");
+        log.info("   • Cache Key: '{}'", cacheKeyGenerator.keyFor(request));
+        log.info("SUCCESS: Typed key components prevent collisions!");
         log.info("Example:");
-        log.info("   • user123:product45 ≠ user12:3product45");
+        log.info("   • CacheKey[product45, user123] ≠ CacheKey[3product45, user12]");
         
-        List<StringConcatUser> entities = repository.findByUserIdAndProductId(request.getUserId(), request.getProductId());
-        log.info("Database query completed - Found {} records", entities.size());
+        List<StringConcatDTO> results = repository.findDTOsByUserIdAndProductId(request.getUserId(), request.getProductId());
+        log.info("Database query completed - Found {} records", results.size());
         
-        return mapper.toDTOList(entities);
+        return results;
     }
     
     @Override
-    @Cacheable(value = "stringConcatHashCache", key = "#request.generateHashBasedCacheKey()")
+    @Cacheable(value = "stringConcatHashCache", key = "#request.generateHashBasedCacheKey()", sync = true)
+    @CacheDependency(entity = StringConcatUser.class, attributes = {"userId", "productId"})
     public List<StringConcatDTO> getUserProductsWithHashBasedCacheKey(StringConcatSearchRequest request) {
         log.info("STRING CONCATENATION HASH-BASED SOLUTION");
         log.info("Request Details:");
@@ -71,10 +75,10 @@ public class StringConcatServiceImpl implements StringConcatService {
         log.info("Example:");
         log.info("   • userproduct:user123:product45");
         
-        List<StringConcatUser> entities = repository.findByUserIdAndProductId(request.getUserId(), request.getProductId());
-        log.info("Database query completed - Found {} records", entities.size());
+        List<StringConcatDTO> results = repository.findDTOsByUserIdAndProductId(request.getUserId(), request.getProductId());
+        log.info("Database query completed - Found {} records", results.size());
         
-        return mapper.toDTOList(entities);
+        return results;
     }
     
     @Override
@@ -2,12 +2,17 @@ package com.example.demo.modules.cache.generatekey.timestampmismatch.api;
 
 import com.example.demo.modules.cache.generatekey.timestampmismatch.api.model.dto.response.OrderDTO;
 import com.example.demo.modules.cache.generatekey.timestampmismatch.api.model.dto.request.OrderSearchRequest;
+import com.example.demo.modules.cache.generatekey.timestampmismatch.infrastructure.service.OrderRefreshAheadService;
 import com.example.demo.modules.cache.generatekey.timestampmismatch.infrastructure.service.OrderService;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyGenerator;
+import com.example.demo.modules.ingestion.infrastructure.service.BulkIngestionResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -17,6 +22,8 @@ import java.util.List;
 public class TimestampMismatchController {
     
     private final OrderService orderService;
+    private final OrderRefreshAheadService orderRefreshAheadService;
+    private final CacheKeyGenerator cacheKeyGenerator;
     
     @GetMapping("/info")
     public ResponseEntity<String> getCacheTimestampMismatchInfo() {
@@ -29,20 +36,22 @@ public class TimestampMismatchController {
             
             ## Demonstration
             1. PROBLEM: @Cacheable(key = "#request.generateCacheKeyWithTimestamp()") - Timestamp changes every call
-            2. SOLUTION 1: @Cacheable(key = "#request.generateCacheKeyWithoutTimestamp()") - No timestamp
-            3. SOLUTION 2: @Cacheable(key = "#request.generateTimeBucketedCacheKey()") - Day bucketed
+            2. SOLUTION 1: @Cacheable(keyGenerator = "cacheKeyGenerator") - No timestamp, typed key
+            3. SOLUTION 2: @Cacheable(keyGenerator = "timeBucketedOrderKeyGenerator") - Day bucketed, refreshed ahead
             
             ## Test Endpoints
             - POST /api/cache/generatekey/timestampmismatch/orders/timestamp-problem
             - POST /api/cache/generatekey/timestampmismatch/orders/no-timestamp
             - POST /api/cache/generatekey/timestampmismatch/orders/time-bucketed
-
+            - POST /api/cache/generatekey/timestampmismatch/orders/refresh-ahead
             - DELETE /api/cache/generatekey/timestampmismatch/orders/cache
+            - POST /api/cache/generatekey/timestampmismatch/orders/bulk (JSON array or NDJSON of orders)
             
             ## Expected Results
             - Problem: Every call hits database (no cache due to timestamp)
             - Solution 1: First call hits database, subsequent calls use cache
             - Solution 2: Cache works within same day (start of day 00:00:00)
+            - Refresh-ahead: tomorrow's bucket is loaded before midnight, so the cache stays warm across the rollover
             
             ## Testing
             1. Test data is auto-created via Flyway migration
@@ -92,7 +101,7 @@ public class TimestampMismatchController {
             "Response time: %d ms\n" +
             "Note: Check logs for cache hits with consistent keys",
             request.getCustomerName(), request.getStatus(), 
-            request.generateCacheKeyWithoutTimestamp(), orders.size(), (endTime - startTime)
+            cacheKeyGenerator.keyFor(request), orders.size(), (endTime - startTime)
         );
         
         return ResponseEntity.ok(result);
@@ -120,7 +129,38 @@ public class TimestampMismatchController {
         return ResponseEntity.ok(result);
     }
     
-
+    /**
+     * Load tomorrow's time bucket now for every customer/status pair requested today
+     * Normally runs automatically app.cache.refresh-ahead.orders.lead-time before midnight
+     */
+    @PostMapping("/orders/refresh-ahead")
+    public ResponseEntity<String> refreshNextBucket() {
+        int scheduled = orderRefreshAheadService.refreshNextBucket();
+        return ResponseEntity.ok(String.format(
+            "REFRESH-AHEAD TRIGGERED\n" +
+            "Keys scheduled for tomorrow's bucket: %d\n" +
+            "Note: Loads are spread over the configured jitter window",
+            scheduled
+        ));
+    }
+    
+    /**
+     * Bulk insert of orders in batched, chunked transactions; affected cached searches are evicted per chunk
+     */
+    @PostMapping(value = "/orders/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<String> ingestOrders(InputStream body) {
+        BulkIngestionResult ingestion = orderService.ingestOrders(body);
+        return ResponseEntity.ok(String.format(
+            "BULK INGESTION COMPLETED\n" +
+            "Table: %s\n" +
+            "Rows inserted: %d in %d chunks\n" +
+            "Response time: %d ms\n" +
+            "Throughput: %d rows/s\n" +
+            "SQL statements: %d (sequence calls + JDBC batches)",
+            ingestion.target(), ingestion.rows(), ingestion.chunks(), ingestion.durationMillis(),
+            ingestion.rowsPerSecond(), ingestion.statements()
+        ));
+    }
     
     @DeleteMapping("/orders/cache")
     public ResponseEntity<String> clearAllCaches() {
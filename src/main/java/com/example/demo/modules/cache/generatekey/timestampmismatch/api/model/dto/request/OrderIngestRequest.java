@@ -0,0 +1,26 @@
+package com.example.demo.modules.cache.generatekey.timestampmismatch.api.model.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One row of POST /api/cache/generatekey/timestampmismatch/orders/bulk; orderNumber must be unique
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderIngestRequest {
+    
+    private String orderNumber;
+    private String customerName;
+    private String productName;
+    private BigDecimal amount;
+    private Integer quantity;
+    private String status;
+    // Defaults to now, like orders created through the entity constructor
+    private LocalDateTime orderDate;
+}
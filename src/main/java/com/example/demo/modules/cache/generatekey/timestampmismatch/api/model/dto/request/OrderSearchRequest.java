@@ -1,18 +1,23 @@
 package com.example.demo.modules.cache.generatekey.timestampmismatch.api.model.dto.request;
 
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyPart;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class OrderSearchRequest {
     
+    @CacheKeyPart
     private String customerName;
     private String productName;
+    @CacheKeyPart
     private String status;
     private BigDecimal minAmount;
     private BigDecimal maxAmount;
@@ -45,10 +50,13 @@ public class OrderSearchRequest {
     
     // SOLUTION: Time-bucketed cache key (cache by day - start of day)
     public String generateTimeBucketedCacheKey() {
-        // Get current date and round to start of day (00:00:00)
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime startOfDay = now.toLocalDate().atStartOfDay();
-        long dayTimestamp = startOfDay.toEpochSecond(java.time.ZoneOffset.UTC);
+        return generateTimeBucketedCacheKey(LocalDate.now());
+    }
+    
+    // Key for an explicit day bucket - refresh-ahead uses it to build tomorrow's keys before midnight
+    public String generateTimeBucketedCacheKey(LocalDate day) {
+        // Round to start of day (00:00:00)
+        long dayTimestamp = day.atStartOfDay().toEpochSecond(ZoneOffset.UTC);
         
         return "customer:" + (customerName != null ? customerName : "null") +
                "|status:" + (status != null ? status : "null") +
@@ -1,12 +1,10 @@
 package com.example.demo.modules.cache.generatekey.timestampmismatch.api.model.mapper;
 
+import com.example.demo.modules.cache.generatekey.timestampmismatch.api.model.dto.request.OrderIngestRequest;
 import com.example.demo.modules.cache.generatekey.timestampmismatch.api.model.dto.response.OrderDTO;
 import com.example.demo.modules.cache.generatekey.timestampmismatch.domain.entity.Order;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Component
 public class OrderMapper {
     
@@ -28,16 +26,6 @@ public class OrderMapper {
         );
     }
     
-    public List<OrderDTO> toDTOList(List<Order> orders) {
-        if (orders == null) {
-            return null;
-        }
-        
-        return orders.stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
-    }
-    
     public Order toEntity(OrderDTO orderDTO) {
         if (orderDTO == null) {
             return null;
@@ -53,4 +41,23 @@ public class OrderMapper {
                 orderDTO.getStatus()
         );
     }
+    
+    public Order toEntity(OrderIngestRequest request) {
+        if (request == null) {
+            return null;
+        }
+        
+        Order order = new Order(
+                request.getOrderNumber(),
+                request.getCustomerName(),
+                request.getProductName(),
+                request.getAmount(),
+                request.getQuantity(),
+                request.getStatus()
+        );
+        if (request.getOrderDate() != null) {
+            order.setOrderDate(request.getOrderDate());
+        }
+        return order;
+    }
 }
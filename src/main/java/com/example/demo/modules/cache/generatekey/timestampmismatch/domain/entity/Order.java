@@ -1,5 +1,6 @@
 package com.example.demo.modules.cache.generatekey.timestampmismatch.domain.entity;
 
+import com.example.demo.modules.cache.shared.infrastructure.invalidation.EntityCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -8,14 +9,17 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(EntityCacheInvalidationListener.class)
 @Table(name = "timestamp_cache_orders")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Order {
     
+    // Sequence, not IDENTITY: ids are known before the INSERT, so bulk inserts go out as JDBC batches
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "timestamp_cache_orders_seq")
+    @SequenceGenerator(name = "timestamp_cache_orders_seq", sequenceName = "timestamp_cache_orders_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, unique = true)
@@ -0,0 +1,9 @@
+package com.example.demo.modules.cache.generatekey.timestampmismatch.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(OrderRefreshAheadProperties.class)
+public class OrderRefreshAheadConfig {
+}
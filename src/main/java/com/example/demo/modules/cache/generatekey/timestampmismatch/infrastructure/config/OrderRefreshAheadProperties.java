@@ -0,0 +1,33 @@
+package com.example.demo.modules.cache.generatekey.timestampmismatch.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * Refresh-ahead settings for the time-bucketed orders cache, bound from app.cache.refresh-ahead.orders.*
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache.refresh-ahead.orders")
+public class OrderRefreshAheadProperties {
+
+    // Load the next day's bucket before midnight instead of missing on every key at 00:00
+    private boolean enabled = true;
+
+    // Zone whose midnight rolls the day bucket over; the refresh is scheduled on this zone's clock
+    private ZoneId zone = ZoneId.systemDefault();
+
+    // How long before midnight the next bucket starts loading
+    private Duration leadTime = Duration.ofMinutes(5);
+
+    // Each key is delayed by a random amount up to this, spreading the queries over the lead window
+    private Duration jitter = Duration.ofMinutes(2);
+
+    // Maximum number of refresh queries running at the same time
+    private int parallelism = 4;
+
+    // Upper bound on customer/status pairs remembered for the next refresh
+    private int maxTrackedKeys = 10_000;
+}
@@ -0,0 +1,62 @@
+package com.example.demo.modules.cache.generatekey.timestampmismatch.infrastructure.dataset;
+
+import com.example.demo.modules.dataset.infrastructure.generator.BatchInserter;
+import com.example.demo.modules.dataset.infrastructure.generator.DatasetContext;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticNames;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticRandom;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticTableGenerator;
+import com.example.demo.modules.dataset.infrastructure.generator.ZipfDistribution;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 100,000 orders per scale unit from 20,000 customers. Customers are picked Zipf-distributed, so order
+ * counts per customer are heavy-tailed: a few customers own thousands of orders, most own one or two -
+ * exactly the (customer, status) keys whose cached lists get large.
+ */
+@Component
+public class TimestampOrderDatasetGenerator implements SyntheticTableGenerator {
+
+    private static final int BASE_ORDERS = 100_000;
+    private static final int BASE_CUSTOMERS = 20_000;
+    private static final LocalDateTime FIRST_ORDER = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final int ORDER_DAYS = 365;
+    private static final String[] PRODUCTS = {
+        "iPhone 15 Pro", "AirPods Pro", "MacBook Pro 16\"", "Galaxy S24", "Dell XPS 15\"", "iPad Air",
+        "Sony WH-1000XM5", "Logitech MX Master 3", "Kindle Paperwhite", "Apple Watch Series 9"
+    };
+
+    @Override
+    public List<String> tables() {
+        return List.of("timestamp_cache_orders");
+    }
+
+    @Override
+    public void generate(DatasetContext context) {
+        SyntheticRandom random = context.random("timestamp_cache_orders");
+        ZipfDistribution customers = random.zipf(context.rows(BASE_CUSTOMERS));
+        ZipfDistribution productDistribution = random.zipf(PRODUCTS.length);
+        int orders = context.rows(BASE_ORDERS);
+        try (BatchInserter inserter = context.inserter("timestamp_cache_orders",
+                "order_number", "customer_name", "product_name", "amount", "quantity", "order_date", "status", "active")) {
+            for (int i = 0; i < orders; i++) {
+                inserter.add(
+                        String.format("GEN-ORD-%09d", i),
+                        SyntheticNames.fullName(random.rank(customers)),
+                        random.pick(PRODUCTS, productDistribution),
+                        random.money(9.99, 2_999.99),
+                        random.heavyTailed(1, 2.5, 20),
+                        random.dateTimeWithin(FIRST_ORDER, ORDER_DAYS),
+                        status(random),
+                        !random.chance(0.02));
+            }
+        }
+    }
+
+    private static String status(SyntheticRandom random) {
+        double u = random.nextDouble();
+        return u < 0.70 ? "COMPLETED" : u < 0.85 ? "PENDING" : u < 0.95 ? "SHIPPED" : "CANCELLED";
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.modules.cache.generatekey.timestampmismatch.infrastructure.key;
+
+import com.example.demo.modules.cache.generatekey.timestampmismatch.api.model.dto.request.OrderSearchRequest;
+import com.example.demo.modules.cache.generatekey.timestampmismatch.infrastructure.config.OrderRefreshAheadProperties;
+import com.example.demo.modules.cache.generatekey.timestampmismatch.infrastructure.service.OrderRefreshAheadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+
+/**
+ * Builds the day-bucketed order key and records the request for refresh-ahead.
+ * Key generation runs on hits as well as misses, so every pair used today is warmed for tomorrow.
+ * The day is taken in the refresh-ahead zone, so buckets roll over exactly when the refresh expects.
+ *
+ * Usage: @Cacheable(value = "orders", keyGenerator = "timeBucketedOrderKeyGenerator")
+ */
+@Component("timeBucketedOrderKeyGenerator")
+@RequiredArgsConstructor
+public class TimeBucketedOrderKeyGenerator implements KeyGenerator {
+    
+    private final OrderRefreshAheadService orderRefreshAheadService;
+    private final OrderRefreshAheadProperties orderRefreshAheadProperties;
+    
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        OrderSearchRequest request = (OrderSearchRequest) params[0];
+        orderRefreshAheadService.track(request);
+        return request.generateTimeBucketedCacheKey(LocalDate.now(orderRefreshAheadProperties.getZone()));
+    }
+}
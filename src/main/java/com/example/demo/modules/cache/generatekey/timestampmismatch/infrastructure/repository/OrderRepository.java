@@ -1,7 +1,10 @@
 package com.example.demo.modules.cache.generatekey.timestampmismatch.infrastructure.repository;
 
+import com.example.demo.modules.cache.generatekey.timestampmismatch.api.model.dto.response.OrderDTO;
 import com.example.demo.modules.cache.generatekey.timestampmismatch.domain.entity.Order;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,5 +12,11 @@ import java.util.List;
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
     
-    List<Order> findByCustomerNameAndStatus(String customerName, String status);
+    // Read path: DTOs straight from the result set, no managed entities or dirty-checking snapshots
+    @Query("SELECT new com.example.demo.modules.cache.generatekey.timestampmismatch.api.model.dto.response.OrderDTO(" +
+           "o.id, o.orderNumber, o.customerName, o.productName, " +
+           "o.amount, o.quantity, o.orderDate, o.status, o.active) " +
+           "FROM Order o WHERE o.customerName = :customerName AND o.status = :status")
+    List<OrderDTO> findDTOsByCustomerNameAndStatus(@Param("customerName") String customerName,
+                                                   @Param("status") String status);
 }
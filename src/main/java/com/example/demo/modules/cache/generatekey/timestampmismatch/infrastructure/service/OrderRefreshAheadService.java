@@ -0,0 +1,18 @@
+package com.example.demo.modules.cache.generatekey.timestampmismatch.infrastructure.service;
+
+import com.example.demo.modules.cache.generatekey.timestampmismatch.api.model.dto.request.OrderSearchRequest;
+
+public interface OrderRefreshAheadService {
+    
+    /**
+     * Remember a customer/status pair requested in the current day bucket
+     * Only tracked pairs are loaded into the next bucket
+     */
+    void track(OrderSearchRequest request);
+    
+    /**
+     * Load tomorrow's bucket for every tracked pair now (normally runs automatically before midnight)
+     * Returns the number of keys scheduled for loading
+     */
+    int refreshNextBucket();
+}
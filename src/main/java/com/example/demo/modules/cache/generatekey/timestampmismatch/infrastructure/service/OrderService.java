@@ -2,7 +2,10 @@ package com.example.demo.modules.cache.generatekey.timestampmismatch.infrastruct
 
 import com.example.demo.modules.cache.generatekey.timestampmismatch.api.model.dto.response.OrderDTO;
 import com.example.demo.modules.cache.generatekey.timestampmismatch.api.model.dto.request.OrderSearchRequest;
+import com.example.demo.modules.ingestion.infrastructure.service.BulkIngestionResult;
 
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 
 public interface OrderService {
@@ -22,10 +25,21 @@ public interface OrderService {
     /**
      * Demonstrates the time-bucketed cache key solution (start of day)
      * Uses day-based time buckets starting from 00:00:00 for time-sensitive caching
+     * The next day's bucket is loaded shortly before midnight (see OrderRefreshAheadService)
      */
     List<OrderDTO> getOrdersByCustomerWithTimeBucketing(OrderSearchRequest request);
     
-
+    /**
+     * Loads the given day's time bucket into the orders cache (used by refresh-ahead)
+     * Goes through the cache proxy so the entry is registered for entity-driven invalidation
+     */
+    List<OrderDTO> preloadTimeBucket(OrderSearchRequest request, LocalDate day);
+    
+    /**
+     * Inserts OrderIngestRequest rows (JSON array or NDJSON) in batched, chunked transactions
+     * Cached searches the new orders match are evicted as each chunk commits
+     */
+    BulkIngestionResult ingestOrders(InputStream body);
     
     /**
      * Clears all caches for demonstration
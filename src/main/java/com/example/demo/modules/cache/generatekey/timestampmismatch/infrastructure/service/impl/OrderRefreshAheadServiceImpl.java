@@ -0,0 +1,140 @@
+package com.example.demo.modules.cache.generatekey.timestampmismatch.infrastructure.service.impl;
+
+import com.example.demo.modules.cache.generatekey.timestampmismatch.api.model.dto.request.OrderSearchRequest;
+import com.example.demo.modules.cache.generatekey.timestampmismatch.infrastructure.config.OrderRefreshAheadProperties;
+import com.example.demo.modules.cache.generatekey.timestampmismatch.infrastructure.service.OrderRefreshAheadService;
+import com.example.demo.modules.cache.generatekey.timestampmismatch.infrastructure.service.OrderService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh-ahead for the time-bucketed orders cache.
+ *
+ * Time-bucketed keys roll to a new day at 00:00, so without this every cached
+ * customer/status pair misses at once right after midnight. Shortly before the boundary
+ * (lead-time) the next day's key is loaded for every pair requested today.
+ * Loads run on a pool of `parallelism` threads, each delayed by a random jitter, so the
+ * database sees a spread of queries instead of a burst.
+ * Midnight is taken in the configured zone on the zone's own clock, so a 23- or 25-hour day
+ * (DST change) does not move the trigger by an hour.
+ * Loads go through the proxied {@link OrderService#preloadTimeBucket}, so preloaded entries are
+ * registered for entity-driven invalidation like entries loaded by a request.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderRefreshAheadServiceImpl implements OrderRefreshAheadService {
+    
+    private static final String CACHE_NAME = "orders";
+    
+    private final OrderService orderService;
+    private final OrderRefreshAheadProperties properties;
+    
+    private final Set<TrackedKey> trackedKeys = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService scheduler;
+    
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            log.info("Refresh-ahead for '{}' cache is disabled", CACHE_NAME);
+            return;
+        }
+        scheduler = Executors.newScheduledThreadPool(properties.getParallelism(),
+                new CustomizableThreadFactory("orders-refresh-ahead-"));
+        scheduleNextRefresh();
+    }
+    
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+    
+    @Override
+    public void track(OrderSearchRequest request) {
+        if (scheduler == null || trackedKeys.size() >= properties.getMaxTrackedKeys()) {
+            return;
+        }
+        trackedKeys.add(new TrackedKey(request.getCustomerName(), request.getStatus()));
+    }
+    
+    @Override
+    public int refreshNextBucket() {
+        if (scheduler == null) {
+            return 0;
+        }
+        LocalDate nextDay = LocalDate.now(properties.getZone()).plusDays(1);
+        // Pairs requested after this snapshot are kept for the following night
+        List<TrackedKey> keys = List.copyOf(trackedKeys);
+        keys.forEach(trackedKeys::remove);
+        
+        // Jitter must end before midnight, otherwise late keys would miss anyway
+        long jitterMillis = Math.min(properties.getJitter().toMillis(), properties.getLeadTime().toMillis());
+        for (TrackedKey key : keys) {
+            long delay = jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis) : 0;
+            scheduler.schedule(() -> load(key, nextDay), delay, TimeUnit.MILLISECONDS);
+        }
+        
+        log.info("Refresh-ahead scheduled {} keys for bucket {} (parallelism={}, jitter up to {} ms)",
+                keys.size(), nextDay, properties.getParallelism(), jitterMillis);
+        return keys.size();
+    }
+    
+    private void scheduleNextRefresh() {
+        ZonedDateTime now = ZonedDateTime.now(properties.getZone());
+        ZonedDateTime trigger = nextTrigger(now, properties.getLeadTime());
+        
+        log.info("Next refresh-ahead for '{}' cache at {}", CACHE_NAME, trigger);
+        scheduler.schedule(() -> {
+            try {
+                refreshNextBucket();
+            } finally {
+                scheduleNextRefresh();
+            }
+        }, Duration.between(now, trigger).toMillis(), TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * First instant after now that is leadTime before a midnight of now's zone
+     */
+    static ZonedDateTime nextTrigger(ZonedDateTime now, Duration leadTime) {
+        // atStartOfDay(zone) also covers zones whose DST change skips 00:00
+        LocalDate day = now.toLocalDate();
+        ZonedDateTime trigger = day.plusDays(1).atStartOfDay(now.getZone()).minus(leadTime);
+        while (!trigger.isAfter(now)) {
+            day = day.plusDays(1);
+            trigger = day.plusDays(1).atStartOfDay(now.getZone()).minus(leadTime);
+        }
+        return trigger;
+    }
+    
+    private void load(TrackedKey key, LocalDate day) {
+        OrderSearchRequest request = new OrderSearchRequest(key.customerName(), key.status());
+        String cacheKey = request.generateTimeBucketedCacheKey(day);
+        try {
+            orderService.preloadTimeBucket(request, day);
+            log.debug("Refresh-ahead loaded key: {}", cacheKey);
+        } catch (RuntimeException e) {
+            log.warn("Refresh-ahead failed for key: {} - {}", cacheKey, e.getMessage());
+        }
+    }
+    
+    private record TrackedKey(String customerName, String status) {
+    }
+}
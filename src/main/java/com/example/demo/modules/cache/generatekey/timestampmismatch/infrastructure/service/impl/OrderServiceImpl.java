@@ -1,17 +1,25 @@
 package com.example.demo.modules.cache.generatekey.timestampmismatch.infrastructure.service.impl;
 
 import com.example.demo.modules.cache.generatekey.timestampmismatch.api.model.dto.response.OrderDTO;
+import com.example.demo.modules.cache.generatekey.timestampmismatch.api.model.dto.request.OrderIngestRequest;
 import com.example.demo.modules.cache.generatekey.timestampmismatch.api.model.dto.request.OrderSearchRequest;
 import com.example.demo.modules.cache.generatekey.timestampmismatch.api.model.mapper.OrderMapper;
 import com.example.demo.modules.cache.generatekey.timestampmismatch.domain.entity.Order;
 import com.example.demo.modules.cache.generatekey.timestampmismatch.infrastructure.repository.OrderRepository;
 import com.example.demo.modules.cache.generatekey.timestampmismatch.infrastructure.service.OrderService;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKey;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyGenerator;
+import com.example.demo.modules.cache.shared.infrastructure.invalidation.CacheDependency;
+import com.example.demo.modules.ingestion.infrastructure.service.BulkIngestionResult;
+import com.example.demo.modules.ingestion.infrastructure.service.BulkIngestionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 
 @Service("timestampCacheOrderServiceImpl")
@@ -20,10 +28,12 @@ import java.util.List;
 public class OrderServiceImpl implements OrderService {
     
     private final OrderRepository orderRepository;
+    private final CacheKeyGenerator cacheKeyGenerator;
     private final OrderMapper orderMapper;
+    private final BulkIngestionService bulkIngestionService;
     
     @Override
-    @Cacheable(value = "orders", key = "#request.generateCacheKeyWithTimestamp()")  // PROBLEM: Timestamp in cache key
+    @Cacheable(value = "orders", key = "#request.generateCacheKeyWithTimestamp()", sync = true)  // PROBLEM: Timestamp in cache key
     public List<OrderDTO> getOrdersByCustomerWithTimestampProblem(OrderSearchRequest request) {
         long startTime = System.currentTimeMillis();
         log.info("=== TIMESTAMP CACHE KEY PROBLEM DEMONSTRATION ===");
@@ -41,42 +51,39 @@ public class OrderServiceImpl implements OrderService {
         log.info("Cache miss every time due to timestamp changes!");
         
         // Execute database query
-        List<Order> orders = orderRepository.findByCustomerNameAndStatus(request.getCustomerName(), request.getStatus());
+        List<OrderDTO> orders = orderRepository.findDTOsByCustomerNameAndStatus(request.getCustomerName(), request.getStatus());
         long endTime = System.currentTimeMillis();
         
         log.info("Database query executed - Retrieved {} orders for customer: {} in {}ms", 
                 orders.size(), request.getCustomerName(), (endTime - startTime));
         
-        return orderMapper.toDTOList(orders);
+        return orders;
     }
     
     @Override
-    @Cacheable(value = "orders", key = "#request.generateCacheKeyWithoutTimestamp()")  // SOLUTION: No timestamp
+    @Cacheable(value = "orders", keyGenerator = "cacheKeyGenerator", sync = true)  // SOLUTION: No timestamp, typed key
+    @CacheDependency(entity = Order.class, attributes = {"customerName", "status"})
     public List<OrderDTO> getOrdersByCustomerWithoutTimestamp(OrderSearchRequest request) {
         long startTime = System.currentTimeMillis();
         log.info("=== TIMESTAMP-FREE CACHE KEY SOLUTION ===");
         
-        // Generate and log cache key
-        String cacheKey = request.generateCacheKeyWithoutTimestamp();
+        // SOLUTION: the key holds no timestamp, so the same data always produces this key
+        CacheKey cacheKey = cacheKeyGenerator.keyFor(request);
         log.info("Generated cache key (no timestamp): '{}' for customer: {}", cacheKey, request.getCustomerName());
         
-        // Demonstrate the solution: same data, same cache key
-        String sameDataCacheKey = request.generateCacheKeyWithoutTimestamp();
-        log.info("SOLUTION: Same data produces same cache key: '{}' (match: {})", 
-                sameDataCacheKey, cacheKey.equals(sameDataCacheKey));
-        
         // Execute database query
-        List<Order> orders = orderRepository.findByCustomerNameAndStatus(request.getCustomerName(), request.getStatus());
+        List<OrderDTO> orders = orderRepository.findDTOsByCustomerNameAndStatus(request.getCustomerName(), request.getStatus());
         long endTime = System.currentTimeMillis();
         
         log.info("Database query executed - Retrieved {} orders for customer: {} in {}ms", 
                 orders.size(), request.getCustomerName(), (endTime - startTime));
         
-        return orderMapper.toDTOList(orders);
+        return orders;
     }
     
     @Override
-    @Cacheable(value = "orders", key = "#request.generateTimeBucketedCacheKey()")  // SOLUTION: Time-bucketed
+    @Cacheable(value = "orders", keyGenerator = "timeBucketedOrderKeyGenerator", sync = true)  // SOLUTION: Time-bucketed, refreshed ahead of midnight
+    @CacheDependency(entity = Order.class, attributes = {"customerName", "status"})
     public List<OrderDTO> getOrdersByCustomerWithTimeBucketing(OrderSearchRequest request) {
         long startTime = System.currentTimeMillis();
         log.info("=== TIME-BUCKETED CACHE KEY SOLUTION ===");
@@ -91,17 +98,27 @@ public class OrderServiceImpl implements OrderService {
                 sameDayCacheKey, cacheKey.equals(sameDayCacheKey));
         
         // Execute database query
-        List<Order> orders = orderRepository.findByCustomerNameAndStatus(request.getCustomerName(), request.getStatus());
+        List<OrderDTO> orders = orderRepository.findDTOsByCustomerNameAndStatus(request.getCustomerName(), request.getStatus());
         long endTime = System.currentTimeMillis();
         
         log.info("Database query executed - Retrieved {} orders for customer: {} in {}ms", 
                 orders.size(), request.getCustomerName(), (endTime - startTime));
         
-        return orderMapper.toDTOList(orders);
+        return orders;
     }
     
-
+    @Override
+    @Cacheable(value = "orders", key = "#request.generateTimeBucketedCacheKey(#day)", sync = true)
+    @CacheDependency(entity = Order.class, attributes = {"customerName", "status"})
+    public List<OrderDTO> preloadTimeBucket(OrderSearchRequest request, LocalDate day) {
+        return orderRepository.findDTOsByCustomerNameAndStatus(request.getCustomerName(), request.getStatus());
+    }
         
+    @Override
+    public BulkIngestionResult ingestOrders(InputStream body) {
+        return bulkIngestionService.ingest("timestamp_cache_orders", body, OrderIngestRequest.class, orderMapper::toEntity);
+    }
+    
     @Override
     @CacheEvict(value = "orders", allEntries = true)
     public void clearAllCaches() {
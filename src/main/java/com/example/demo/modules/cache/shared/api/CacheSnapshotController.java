@@ -0,0 +1,40 @@
+package com.example.demo.modules.cache.shared.api;
+
+import com.example.demo.modules.cache.shared.infrastructure.service.CacheSnapshotService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/cache/snapshots")
+@RequiredArgsConstructor
+public class CacheSnapshotController {
+
+    private final CacheSnapshotService cacheSnapshotService;
+
+    /**
+     * Which caches are snapshotted and how many entries each restored after the last restart
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getSnapshotInfo() {
+        log.info("Getting cache snapshot info");
+        return ResponseEntity.ok(cacheSnapshotService.getSnapshotInfo());
+    }
+
+    /**
+     * Write all snapshots now (they are also written every interval and at shutdown)
+     */
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> writeSnapshots() {
+        log.info("Writing cache snapshots");
+        return ResponseEntity.ok(cacheSnapshotService.writeSnapshots());
+    }
+}
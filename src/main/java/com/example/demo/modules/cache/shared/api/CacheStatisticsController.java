@@ -0,0 +1,44 @@
+package com.example.demo.modules.cache.shared.api;
+
+import com.example.demo.modules.cache.shared.api.model.dto.response.CacheStatisticsDTO;
+import com.example.demo.modules.cache.shared.infrastructure.service.CacheStatisticsService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/cache/statistics")
+@RequiredArgsConstructor
+public class CacheStatisticsController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    /**
+     * Hits, misses, hit ratio, load time, evictions and size for every cache
+     * The same numbers are published to Micrometer as cache.gets / cache.loads / cache.evictions / cache.size
+     */
+    @GetMapping
+    public ResponseEntity<List<CacheStatisticsDTO>> getAllStatistics() {
+        log.info("Getting statistics for all caches");
+        return ResponseEntity.ok(cacheStatisticsService.getAllStatistics());
+    }
+
+    /**
+     * Statistics for a single cache, e.g. /api/cache/statistics/normalizedKeys
+     */
+    @GetMapping("/{cacheName}")
+    public ResponseEntity<CacheStatisticsDTO> getStatistics(@PathVariable String cacheName) {
+        log.info("Getting statistics for cache: {}", cacheName);
+        return cacheStatisticsService.getStatistics(cacheName)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
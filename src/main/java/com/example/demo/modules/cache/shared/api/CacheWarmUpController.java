@@ -0,0 +1,30 @@
+package com.example.demo.modules.cache.shared.api;
+
+import com.example.demo.modules.cache.shared.api.model.dto.response.CacheWarmUpDTO;
+import com.example.demo.modules.cache.shared.infrastructure.service.CacheWarmUpService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/cache/warm-up")
+@RequiredArgsConstructor
+public class CacheWarmUpController {
+
+    private final CacheWarmUpService cacheWarmUpService;
+
+    /**
+     * Duration, entries loaded and completed/failed/timed-out load counts of the startup warm-up
+     * Also published as cache.warmup.duration and cache.warmup.entries
+     */
+    @GetMapping
+    public ResponseEntity<CacheWarmUpDTO> getLastWarmUp() {
+        log.info("Getting last cache warm-up result");
+        return ResponseEntity.ok(cacheWarmUpService.getLastWarmUp());
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.modules.cache.shared.api;
+
+import com.example.demo.modules.cache.shared.infrastructure.service.NearCacheService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/cache/near-cache")
+@RequiredArgsConstructor
+public class NearCacheController {
+
+    private final NearCacheService nearCacheService;
+
+    /**
+     * Near-cache setup of this instance and how many invalidations it sent and received
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getNearCacheInfo() {
+        log.info("Getting near-cache info");
+        return ResponseEntity.ok(nearCacheService.getNearCacheInfo());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.demo.modules.cache.shared.api.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatisticsDTO {
+
+    private String cacheName;
+    private Long hits;
+    private Long misses;
+    private Double hitRatio;
+    private Long loads;
+    private Long loadFailures;
+    private Double averageLoadMillis;
+    private Long evictions;
+    private Long coalescedLoads;
+    private Long negativeHits;
+    private Long keyCollisions;
+    private Long size;
+    private Long negativeSize;
+}
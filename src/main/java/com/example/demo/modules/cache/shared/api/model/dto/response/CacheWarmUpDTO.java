@@ -0,0 +1,23 @@
+package com.example.demo.modules.cache.shared.api.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheWarmUpDTO {
+
+    private String status;
+    private Instant startedAt;
+    private Long durationMillis;
+    private Integer seedLoads;
+    private Integer hotKeyLoads;
+    private Integer completed;
+    private Integer failed;
+    private Integer timedOut;
+    private Long entriesLoaded;
+}
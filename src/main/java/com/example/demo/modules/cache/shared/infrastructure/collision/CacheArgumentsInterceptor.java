@@ -0,0 +1,37 @@
+package com.example.demo.modules.cache.shared.infrastructure.collision;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Runs outside the caching interceptor on @Cacheable methods and exposes the call's arguments
+ * to {@link CollisionDetectingCache}. Only a reference is stored; the arguments are fingerprinted
+ * later, and only for sampled keys.
+ *
+ * Each thread keeps one mutable frame instead of calling ThreadLocal.set/remove per call,
+ * so every cached call pays a single ThreadLocal lookup.
+ */
+public class CacheArgumentsInterceptor implements MethodInterceptor {
+
+    private static final ThreadLocal<Frame> CURRENT = ThreadLocal.withInitial(Frame::new);
+
+    static Object[] current() {
+        return CURRENT.get().arguments;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Frame frame = CURRENT.get();
+        Object[] previous = frame.arguments;
+        frame.arguments = invocation.getArguments();
+        try {
+            return invocation.proceed();
+        } finally {
+            frame.arguments = previous;
+        }
+    }
+
+    private static final class Frame {
+        private Object[] arguments;
+    }
+}
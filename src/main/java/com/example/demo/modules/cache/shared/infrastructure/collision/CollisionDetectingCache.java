@@ -0,0 +1,166 @@
+package com.example.demo.modules.cache.shared.infrastructure.collision;
+
+import com.example.demo.modules.cache.shared.infrastructure.stats.CacheStatistics;
+import com.example.demo.modules.cache.shared.infrastructure.support.DelegatingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Detects two different requests sharing one cache key, e.g. "user1" + "23" and "user12" + "3"
+ * under plain concatenation, or two strings with the same 32-bit hashCode.
+ *
+ * For a sample of keys the 64-bit {@link RequestFingerprint} of the request that stored the entry
+ * is kept in a side store. A hit on a sampled key whose caller has a different fingerprint is a
+ * collision: it is counted in {@link CacheStatistics} and logged at most once per log interval.
+ * Sampling is decided by the key's hash, not per call, so a sampled key is checked on every hit
+ * and unsampled keys cost one multiply and compare.
+ */
+@Slf4j
+public class CollisionDetectingCache extends DelegatingCache {
+
+    private static final int SAMPLE_SCALE = 1 << 16;
+
+    private final RequestFingerprint.Mode mode;
+    private final int sampleThreshold;
+    private final CacheStatistics statistics;
+    private final long logIntervalNanos;
+    private final AtomicLong nextLogNanos = new AtomicLong(System.nanoTime());
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Long> fingerprints;
+
+    /**
+     * @param sampleRate  fraction of keys (0..1] whose fingerprints are kept and checked
+     * @param maximumSize bound of the fingerprint store, normally the cache's own maximum size
+     * @param expiry      fingerprints are dropped together with the entries they describe
+     */
+    public CollisionDetectingCache(Cache delegate, RequestFingerprint.Mode mode, double sampleRate,
+                                   long maximumSize, Duration expiry, Duration logInterval,
+                                   CacheStatistics statistics) {
+        super(delegate);
+        if (sampleRate <= 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Collision sample rate must be in (0, 1]: " + sampleRate);
+        }
+        this.mode = mode;
+        this.sampleThreshold = (int) Math.ceil(sampleRate * SAMPLE_SCALE);
+        this.statistics = statistics;
+        this.logIntervalNanos = logInterval.toNanos();
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(maximumSize);
+        if (expiry != null) {
+            builder.expireAfterWrite(expiry);
+        }
+        this.fingerprints = builder.build();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = delegate.get(key);
+        if (value != null) {
+            Object[] arguments = sampledArguments(key);
+            if (arguments != null) {
+                check(key, arguments);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object[] arguments = sampledArguments(key);
+        if (arguments == null) {
+            return delegate.get(key, valueLoader);
+        }
+        long fingerprint = RequestFingerprint.of(arguments, mode);
+        boolean[] loaded = new boolean[1];
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            T result = valueLoader.call();
+            fingerprints.put(key, fingerprint);
+            return result;
+        });
+        if (!loaded[0]) {
+            check(key, fingerprint, arguments);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        Object[] arguments = sampledArguments(key);
+        if (arguments != null) {
+            fingerprints.put(key, RequestFingerprint.of(arguments, mode));
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        fingerprints.invalidate(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        fingerprints.invalidate(key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        fingerprints.invalidateAll();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        fingerprints.invalidateAll();
+        return delegate.invalidate();
+    }
+
+    // Arguments of the @Cacheable call in progress, or null when the key is not sampled
+    private Object[] sampledArguments(Object key) {
+        if (key == null || ((key.hashCode() * 0x9E3779B9) >>> 16) >= sampleThreshold) {
+            return null;
+        }
+        return CacheArgumentsInterceptor.current();
+    }
+
+    private void check(Object key, Object[] arguments) {
+        check(key, RequestFingerprint.of(arguments, mode), arguments);
+    }
+
+    private void check(Object key, long fingerprint, Object[] arguments) {
+        // An entry stored before sampling saw it (or whose fingerprint was evicted) adopts this one
+        Long stored = fingerprints.getIfPresent(key);
+        if (stored == null) {
+            fingerprints.asMap().putIfAbsent(key, fingerprint);
+            return;
+        }
+        if (stored == fingerprint) {
+            return;
+        }
+        statistics.recordKeyCollision();
+        long now = System.nanoTime();
+        long next = nextLogNanos.get();
+        if (now - next >= 0 && nextLogNanos.compareAndSet(next, now + logIntervalNanos)) {
+            log.warn("Cache '{}' key collision: key '{}' holds the result of a different request than {}",
+                    getName(), key, Arrays.deepToString(arguments));
+        }
+    }
+}
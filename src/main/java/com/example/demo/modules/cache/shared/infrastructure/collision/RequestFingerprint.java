@@ -0,0 +1,120 @@
+package com.example.demo.modules.cache.shared.infrastructure.collision;
+
+import com.example.demo.modules.cache.shared.infrastructure.key.KeyNormalizer;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 64-bit fingerprint of the arguments a cached method was called with.
+ *
+ * Strings are hashed character by character (FNV-1a, 64 bit) instead of through their 32-bit
+ * hashCode, so two requests only share a fingerprint if their field values really are equal -
+ * exactly the property a String.hashCode() based cache key does not have.
+ * Request objects are hashed field by field, nested objects through their own fields.
+ */
+public final class RequestFingerprint {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final int MAX_DEPTH = 3;
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields.toArray(new Field[0]);
+        }
+    };
+
+    private RequestFingerprint() {
+    }
+
+    public enum Mode {
+        // Every difference in the request counts
+        EXACT,
+        // Strings are trimmed and lowercased first, for caches whose keys are case-insensitive on purpose
+        IGNORE_CASE
+    }
+
+    public static long of(Object[] arguments, Mode mode) {
+        long hash = FNV_OFFSET;
+        for (Object argument : arguments) {
+            hash = mix(hash, valueHash(argument, mode, 0));
+        }
+        return hash;
+    }
+
+    private static long valueHash(Object value, Mode mode, int depth) {
+        if (value == null) {
+            return 0x9E3779B97F4A7C15L;
+        }
+        if (value instanceof CharSequence text) {
+            String string = text.toString();
+            return stringHash(mode == Mode.IGNORE_CASE ? KeyNormalizer.normalize(string) : string);
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.signum() == 0 ? 0 : stringHash(decimal.stripTrailingZeros().toString());
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Enum<?>
+                || value instanceof Temporal || value instanceof Character) {
+            return stringHash(value.getClass().getName()) ^ value.hashCode() * FNV_PRIME;
+        }
+        if (value instanceof Collection<?> collection) {
+            long hash = FNV_OFFSET;
+            for (Object element : collection) {
+                hash = mix(hash, valueHash(element, mode, depth + 1));
+            }
+            return hash;
+        }
+        if (value instanceof Map<?, ?> map) {
+            // Order-independent, like Map.equals
+            long hash = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                hash += mix(valueHash(entry.getKey(), mode, depth + 1), valueHash(entry.getValue(), mode, depth + 1));
+            }
+            return hash;
+        }
+        if (depth >= MAX_DEPTH || value.getClass().getName().startsWith("java.")) {
+            return value.hashCode();
+        }
+        long hash = FNV_OFFSET;
+        for (Field field : FIELDS.get(value.getClass())) {
+            try {
+                hash = mix(hash, valueHash(field.get(value), mode, depth + 1));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot read " + field, e);
+            }
+        }
+        return hash;
+    }
+
+    private static long stringHash(String value) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        hash ^= value;
+        hash *= FNV_PRIME;
+        return hash ^ (hash >>> 29);
+    }
+}
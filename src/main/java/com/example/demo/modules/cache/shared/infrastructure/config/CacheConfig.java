@@ -0,0 +1,144 @@
+package com.example.demo.modules.cache.shared.infrastructure.config;
+
+import com.example.demo.modules.cache.shared.infrastructure.collision.CacheArgumentsInterceptor;
+import com.example.demo.modules.cache.shared.infrastructure.invalidation.CacheDependency;
+import com.example.demo.modules.cache.shared.infrastructure.invalidation.CacheDependencyIndex;
+import com.example.demo.modules.cache.shared.infrastructure.invalidation.CacheDependencyInterceptor;
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKeyGenerator;
+import com.example.demo.modules.cache.shared.infrastructure.nearcache.CacheInvalidationBus;
+import com.example.demo.modules.cache.shared.infrastructure.nearcache.InvalidationTransport;
+import com.example.demo.modules.cache.shared.infrastructure.nearcache.LoopbackInvalidationTransport;
+import com.example.demo.modules.cache.shared.infrastructure.nearcache.LoopbackSharedCacheTier;
+import com.example.demo.modules.cache.shared.infrastructure.nearcache.SharedCacheTier;
+import com.example.demo.modules.cache.shared.infrastructure.snapshot.CacheSnapshotRegistry;
+import com.example.demo.modules.cache.shared.infrastructure.stats.CacheStatisticsRegistry;
+import com.example.demo.modules.cache.shared.infrastructure.support.SpecCaffeineCacheManager;
+import com.example.demo.modules.cache.shared.infrastructure.warmup.HotKeyRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.util.StringUtils;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Turns on Spring caching and backs every @Cacheable/@CacheEvict with a bounded Caffeine cache.
+ * Without this, the annotations in the cache modules are inert and every call hits the database.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties({CacheSpecProperties.class, CacheWarmUpProperties.class})
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(CacheSpecProperties cacheSpecProperties,
+                                     CacheStatisticsRegistry cacheStatisticsRegistry,
+                                     SharedCacheTier sharedCacheTier,
+                                     CacheInvalidationBus cacheInvalidationBus,
+                                     CacheDependencyIndex cacheDependencyIndex,
+                                     HotKeyRecorder hotKeyRecorder,
+                                     CacheSnapshotRegistry cacheSnapshotRegistry) {
+        return new SpecCaffeineCacheManager(cacheSpecProperties, cacheStatisticsRegistry,
+                sharedCacheTier, cacheInvalidationBus, cacheDependencyIndex, hotKeyRecorder, cacheSnapshotRegistry);
+    }
+
+    /**
+     * Snapshots are stamped with the current Flyway migration version and ignored after a migration
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public CacheSnapshotRegistry cacheSnapshotRegistry(CacheSpecProperties cacheSpecProperties,
+                                                       ObjectProvider<Flyway> flyway) {
+        return new CacheSnapshotRegistry(cacheSpecProperties.getSnapshot(), () -> Optional.ofNullable(flyway.getIfAvailable())
+                .map(f -> f.info().current())
+                .map(migration -> migration.getVersion().getVersion())
+                .orElse("none"));
+    }
+
+    @Bean
+    public HotKeyRecorder hotKeyRecorder(CacheWarmUpProperties cacheWarmUpProperties) {
+        return new HotKeyRecorder(cacheWarmUpProperties.getMaxTrackedKeys());
+    }
+
+    @Bean
+    public CacheDependencyIndex cacheDependencyIndex() {
+        return new CacheDependencyIndex();
+    }
+
+    /**
+     * Applies to @CacheDependency methods; ordered just outside the caching interceptor
+     * so the dependency is visible while the cache stores the result
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor cacheDependencyAdvisor() {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(CacheDependency.class),
+                new CacheDependencyInterceptor());
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return advisor;
+    }
+
+    /**
+     * Hands @Cacheable arguments to the collision detector; not registered at all unless detection is on
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnProperty(prefix = "app.cache.collision-detection", name = "enabled", havingValue = "true")
+    public static Advisor cacheArgumentsAdvisor() {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Cacheable.class),
+                new CacheArgumentsInterceptor());
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return advisor;
+    }
+
+    /**
+     * Loopback transport and L2 work inside one JVM; declare your own beans to go through a broker
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public InvalidationTransport invalidationTransport(CacheSpecProperties cacheSpecProperties) {
+        return new LoopbackInvalidationTransport(cacheSpecProperties.getNearCache().getChannel());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SharedCacheTier sharedCacheTier(CacheSpecProperties cacheSpecProperties) {
+        return new LoopbackSharedCacheTier(cacheSpecProperties.getNearCache().getChannel(), cacheSpecProperties);
+    }
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(CacheSpecProperties cacheSpecProperties,
+                                                     InvalidationTransport invalidationTransport) {
+        String instanceId = cacheSpecProperties.getNearCache().getInstanceId();
+        if (!StringUtils.hasText(instanceId)) {
+            instanceId = UUID.randomUUID().toString();
+        }
+        return new CacheInvalidationBus(instanceId, invalidationTransport);
+    }
+
+    @Bean
+    public CacheStatisticsRegistry cacheStatisticsRegistry(MeterRegistry meterRegistry) {
+        return new CacheStatisticsRegistry(meterRegistry);
+    }
+
+    @Bean
+    public CacheKeyGenerator cacheKeyGenerator() {
+        return new CacheKeyGenerator();
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.demo.modules.cache.shared.infrastructure.config;
+
+import com.example.demo.modules.cache.shared.infrastructure.collision.RequestFingerprint;
+import com.example.demo.modules.cache.shared.infrastructure.offheap.OffHeapCache;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-cache sizing and expiry settings bound from app.cache.* in application.properties.
+ * Caches without their own entry under app.cache.specs fall back to app.cache.defaults.
+ *
+ * Validates itself when bound, so an off-heap capacity the arena cannot address fails
+ * startup instead of the first request that creates the cache.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheSpecProperties implements Validator {
+
+    private Spec defaults = new Spec();
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+    private NearCacheSettings nearCache = new NearCacheSettings();
+    private SnapshotSettings snapshot = new SnapshotSettings();
+    private CollisionDetectionSettings collisionDetection = new CollisionDetectionSettings();
+
+    /**
+     * Resolve the effective spec for a cache name, filling unset values from the defaults
+     */
+    public Spec resolve(String cacheName) {
+        Spec specific = specs.get(cacheName);
+        if (specific == null) {
+            return defaults;
+        }
+
+        Spec resolved = new Spec();
+        resolved.setMaximumSize(specific.getMaximumSize() != null ? specific.getMaximumSize() : defaults.getMaximumSize());
+        resolved.setExpireAfterWrite(specific.getExpireAfterWrite() != null ? specific.getExpireAfterWrite() : defaults.getExpireAfterWrite());
+        resolved.setRefreshAfterWrite(specific.getRefreshAfterWrite() != null ? specific.getRefreshAfterWrite() : defaults.getRefreshAfterWrite());
+        resolved.setLoadTimeout(specific.getLoadTimeout() != null ? specific.getLoadTimeout() : defaults.getLoadTimeout());
+        resolved.setOffHeapCapacity(specific.getOffHeapCapacity() != null ? specific.getOffHeapCapacity() : defaults.getOffHeapCapacity());
+        resolved.setNearCache(specific.getNearCache() != null ? specific.getNearCache() : defaults.getNearCache());
+        resolved.setNegativeTtl(specific.getNegativeTtl() != null ? specific.getNegativeTtl() : defaults.getNegativeTtl());
+        resolved.setNegativeMaximumSize(specific.getNegativeMaximumSize() != null ? specific.getNegativeMaximumSize() : defaults.getNegativeMaximumSize());
+        resolved.setSnapshot(specific.getSnapshot() != null ? specific.getSnapshot() : defaults.getSnapshot());
+        resolved.setCollisionFingerprint(specific.getCollisionFingerprint() != null ? specific.getCollisionFingerprint() : defaults.getCollisionFingerprint());
+        return resolved;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return CacheSpecProperties.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        CacheSpecProperties properties = (CacheSpecProperties) target;
+        checkOffHeapCapacity("defaults", properties.getDefaults(), errors);
+        properties.getSpecs().forEach((name, spec) -> checkOffHeapCapacity("specs." + name, spec, errors));
+    }
+
+    private static void checkOffHeapCapacity(String path, Spec spec, Errors errors) {
+        if (spec == null || spec.getOffHeapCapacity() == null) {
+            return;
+        }
+        String error = OffHeapCache.capacityError(spec.getOffHeapCapacity().toBytes());
+        if (error != null) {
+            errors.reject("offHeapCapacity", "app.cache." + path + ".off-heap-capacity: " + error);
+        }
+    }
+
+    @Data
+    public static class Spec {
+
+        // Upper bound on entries; Caffeine evicts by W-TinyLFU once reached
+        private Long maximumSize;
+
+        // Time-to-live measured from the moment the entry was written
+        private Duration expireAfterWrite;
+
+        // Entries older than this are reloaded in the background on next access
+        private Duration refreshAfterWrite;
+
+        // How long concurrent callers wait on another caller's in-flight load of the same key
+        private Duration loadTimeout;
+
+        // When set, values are stored encoded in a direct buffer of this size instead of on the heap
+        // (maximum-size and refresh-after-write do not apply; the byte capacity is the bound).
+        // At least one 256-byte block and just under 2GB, checked at startup
+        private DataSize offHeapCapacity;
+
+        // Local cache becomes L1 in front of the shared L2; writes and evictions invalidate other instances
+        private Boolean nearCache;
+
+        // When set, empty results are kept apart from real ones for this (shorter) time-to-live
+        private Duration negativeTtl;
+
+        // Entry budget of the negative store; falls back to maximum-size when unset
+        private Long negativeMaximumSize;
+
+        // Entries are written to a memory-mapped snapshot file and restored after a restart
+        private Boolean snapshot;
+
+        // Sampled hits are checked against a fingerprint of the request that stored the entry
+        // (exact, or ignore-case for caches that fold case on purpose)
+        private RequestFingerprint.Mode collisionFingerprint;
+    }
+
+    @Data
+    public static class NearCacheSettings {
+
+        // Identifies this instance on the invalidation bus; a random id is used when empty
+        private String instanceId;
+
+        // Instances on the same channel share the L2 tier and see each other's invalidations
+        private String channel = "default";
+    }
+
+    @Data
+    public static class SnapshotSettings {
+
+        // Master switch for writing and restoring snapshots of caches with snapshot=true
+        private boolean enabled = false;
+
+        // One <cacheName>.snapshot file per cache
+        private Path directory = Path.of("cache-snapshots");
+
+        // Snapshots are also written at shutdown; this bounds what a crash loses
+        private Duration interval = Duration.ofMinutes(1);
+    }
+
+    @Data
+    public static class CollisionDetectionSettings {
+
+        // Master switch for caches with a collision-fingerprint; when off nothing is intercepted
+        private boolean enabled = false;
+
+        // Fraction of keys whose fingerprints are kept and checked on every hit
+        private double sampleRate = 0.0625;
+
+        // At most one collision warning per interval per cache; every collision is still counted
+        private Duration logInterval = Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.modules.cache.shared.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Startup warm-up settings bound from app.cache.warm-up.*
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache.warm-up")
+public class CacheWarmUpProperties {
+
+    // Fill the caches before the application reports itself ready
+    private boolean enabled = true;
+
+    // Maximum number of warm-up loads running at the same time
+    private int parallelism = 4;
+
+    // Loads still running after this are cancelled and readiness is reported anyway
+    private Duration timeBudget = Duration.ofSeconds(30);
+
+    // Hottest keys of the previous run; written at shutdown, read by the next warm-up.
+    // Unset (the default) keeps hot keys in memory only, so no file appears in the working directory
+    private Path hotKeysFile;
+
+    // How many hot keys are saved and replayed
+    private int maxHotKeys = 200;
+
+    // Upper bound on distinct keys counted per cache while the application runs
+    private int maxTrackedKeys = 10_000;
+}
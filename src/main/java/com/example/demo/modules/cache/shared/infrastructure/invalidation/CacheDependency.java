@@ -0,0 +1,35 @@
+package com.example.demo.modules.cache.shared.infrastructure.invalidation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares which entity rows a cached result depends on, so writes can evict just those entries.
+ *
+ * The attributes name properties that exist both on the method's request argument and on the entity,
+ * matching the query's equality predicate. When an entity with the same attribute values is inserted,
+ * updated or deleted, every key cached for that combination is evicted; entities that appear in a
+ * cached result (by id) are tracked too, so updates that move a row out of a result also evict it.
+ *
+ * Each stored value is indexed until its entry leaves the cache, so leave it off methods whose keys
+ * never repeat (e.g. a timestamp in the key): every call would index an entry nobody reads again.
+ *
+ * Usage:
+ * @Cacheable(value = "orders", keyGenerator = "cacheKeyGenerator", sync = true)
+ * @CacheDependency(entity = Order.class, attributes = {"customerName", "status"})
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CacheDependency {
+
+    Class<?> entity();
+
+    String[] attributes();
+
+    // Compare String values case-insensitively (for queries using LOWER(...) or IgnoreCase)
+    boolean ignoreCase() default false;
+}
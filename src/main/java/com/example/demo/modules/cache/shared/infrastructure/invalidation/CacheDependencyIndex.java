@@ -0,0 +1,268 @@
+package com.example.demo.modules.cache.shared.infrastructure.invalidation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.hibernate.Hibernate;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reverse indexes from entity data to the cache entries built from it:
+ * - attribute values (e.g. customerName=John, status=COMPLETED) -> keys whose query used them
+ * - entity id -> keys whose cached result contains that row
+ *
+ * Each cached entry has one registration listing the index keys it is filed under. A registration
+ * lives as long as its entry: it is replaced when the entry is reloaded or refreshed, dropped when the
+ * entry is evicted (explicitly, by an entity write, or for size via {@link #remove}), and otherwise
+ * expires with the entry's TTL. The index therefore holds live entries only and needs no size bound
+ * of its own, so a live entry never loses its invalidation to index eviction.
+ *
+ * A load can read the rows before a write commits and register after that write's eviction has
+ * already run. Each write therefore numbers itself and leaves a short-lived tombstone on the index
+ * keys it affects before evicting; a registration that finds a tombstone newer than its load's
+ * start is withdrawn, and the caller must not store the value. Heap stores serialize the eviction
+ * with the store's own write of the entry, so the eviction either finds the registration or the
+ * registration finds the tombstone.
+ */
+public class CacheDependencyIndex {
+
+    private static final List<String> ID = List.of("id");
+    // Registrations are made inside the loader, just before the store writes the entry and starts its TTL
+    private static final Duration EXPIRY_GRACE = Duration.ofMinutes(1);
+    private static final Duration NO_EXPIRY = Duration.ofNanos(Long.MAX_VALUE);
+    // How long tombstones are kept; a load running longer than this is treated as stale
+    private static final Duration STALE_LOAD_HORIZON = Duration.ofMinutes(1);
+
+    private final Map<Class<?>, Set<DependencyShape>> shapesByEntity = new ConcurrentHashMap<>();
+    private final Map<IndexKey, Set<Registration>> registrationsByIndexKey = new ConcurrentHashMap<>();
+    private final Cache<CachedEntry, Registration> registrations = Caffeine.newBuilder()
+            .expireAfter(Expiry.writing((CachedEntry entry, Registration registration) -> registration.timeToLive()))
+            .evictionListener((CachedEntry entry, Registration registration, RemovalCause cause) -> {
+                if (registration != null) {
+                    unlink(registration);
+                }
+            })
+            .build();
+    private final AtomicLong writeSequence = new AtomicLong();
+    private final Cache<IndexKey, Long> tombstones = Caffeine.newBuilder()
+            .expireAfterWrite(STALE_LOAD_HORIZON)
+            .build();
+
+    /**
+     * Mark the start of a load, before it reads anything; passed back to {@link #register}.
+     * The shape is known from here on, so writes tombstone it even before its first registration.
+     */
+    LoadStart beginLoad(CacheDependencyInterceptor.PendingDependency pending) {
+        DependencyShape shape = pending.shape();
+        shapesByEntity.computeIfAbsent(shape.entityType(), type -> ConcurrentHashMap.newKeySet()).add(shape);
+        return new LoadStart(writeSequence.get(), System.nanoTime());
+    }
+
+    /**
+     * Record that cacheName/key holds a result for the pending dependency's request
+     *
+     * @param timeToLive how long the cache keeps the entry; null if it never expires
+     * @param start      from {@link #beginLoad()} when the value was just loaded; null for values put directly
+     * @return false if a write to the loaded rows committed during the load; nothing is registered
+     * then and the value must not be cached
+     */
+    boolean register(String cacheName, Object key, CacheDependencyInterceptor.PendingDependency pending, Object value,
+                     Duration timeToLive, LoadStart start) {
+        DependencyShape shape = pending.shape();
+        shapesByEntity.computeIfAbsent(shape.entityType(), type -> ConcurrentHashMap.newKeySet()).add(shape);
+
+        List<IndexKey> indexKeys = new ArrayList<>();
+        indexKeys.add(new IndexKey(shape.entityType(), shape.attributes(), shape.valuesOf(pending.request())));
+        if (value instanceof Collection<?> rows) {
+            for (Object row : rows) {
+                Object id = idOf(row);
+                if (id != null) {
+                    indexKeys.add(new IndexKey(shape.entityType(), ID, List.of(id)));
+                }
+            }
+        }
+
+        CachedEntry entry = new CachedEntry(cacheName, key);
+        Registration registration = new Registration(entry, indexKeys,
+                timeToLive != null ? timeToLive.plus(EXPIRY_GRACE) : NO_EXPIRY);
+        // Linked before it is published, so the entry is never missing from the index in between
+        link(registration);
+        Registration previous = registrations.asMap().put(entry, registration);
+        if (previous != null) {
+            unlink(previous);
+        }
+
+        // Checked after linking: a write that tombstones later scans the index and finds this registration
+        if (start != null && overlapsWrite(indexKeys, start)) {
+            if (registrations.asMap().remove(entry, registration)) {
+                unlink(registration);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Forget cacheName/key; called when the entry leaves its cache
+     */
+    public void remove(String cacheName, Object key) {
+        Registration registration = registrations.asMap().remove(new CachedEntry(cacheName, key));
+        if (registration != null) {
+            unlink(registration);
+        }
+    }
+
+    /**
+     * Forget every entry of the cache; called when the cache is cleared
+     */
+    void removeAll(String cacheName) {
+        registrations.asMap().forEach((entry, registration) -> {
+            if (entry.cacheName().equals(cacheName) && registrations.asMap().remove(entry, registration)) {
+                unlink(registration);
+            }
+        });
+    }
+
+    /**
+     * Remove and return every cache entry that a write of this entity can change
+     */
+    Set<CachedEntry> removeAffected(Object entity) {
+        Class<?> entityType = Hibernate.getClass(entity);
+        Set<DependencyShape> shapes = shapesByEntity.get(entityType);
+        if (shapes == null) {
+            return Set.of();
+        }
+
+        List<IndexKey> indexKeys = new ArrayList<>();
+        Object id = idOf(entity);
+        if (id != null) {
+            indexKeys.add(new IndexKey(entityType, ID, List.of(id)));
+        }
+        for (DependencyShape shape : shapes) {
+            indexKeys.add(new IndexKey(entityType, shape.attributes(), shape.valuesOf(entity)));
+        }
+
+        // Tombstones go first, so loads registering after the scan below see them
+        long sequence = writeSequence.incrementAndGet();
+        for (IndexKey indexKey : indexKeys) {
+            tombstones.put(indexKey, sequence);
+        }
+        Set<Registration> affected = new HashSet<>();
+        for (IndexKey indexKey : indexKeys) {
+            removeInto(indexKey, affected);
+        }
+
+        // The entries are about to be evicted, so drop the rest of their index keys as well
+        Set<CachedEntry> entries = new HashSet<>();
+        for (Registration registration : affected) {
+            registrations.asMap().remove(registration.entry(), registration);
+            unlink(registration);
+            entries.add(registration.entry());
+        }
+        return entries;
+    }
+
+    public long getIndexedKeyCount() {
+        return registrationsByIndexKey.size();
+    }
+
+    private boolean overlapsWrite(List<IndexKey> indexKeys, LoadStart start) {
+        if (System.nanoTime() - start.nanos() > STALE_LOAD_HORIZON.toNanos()) {
+            return true;
+        }
+        for (IndexKey indexKey : indexKeys) {
+            Long written = tombstones.getIfPresent(indexKey);
+            if (written != null && written > start.sequence()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void link(Registration registration) {
+        for (IndexKey indexKey : registration.indexKeys()) {
+            registrationsByIndexKey.compute(indexKey, (k, linked) -> {
+                Set<Registration> set = linked != null ? linked : ConcurrentHashMap.newKeySet();
+                set.add(registration);
+                return set;
+            });
+        }
+    }
+
+    private void unlink(Registration registration) {
+        for (IndexKey indexKey : registration.indexKeys()) {
+            registrationsByIndexKey.computeIfPresent(indexKey, (k, linked) -> {
+                linked.remove(registration);
+                return linked.isEmpty() ? null : linked;
+            });
+        }
+    }
+
+    private void removeInto(IndexKey indexKey, Set<Registration> affected) {
+        Set<Registration> linked = registrationsByIndexKey.remove(indexKey);
+        if (linked != null) {
+            affected.addAll(linked);
+        }
+    }
+
+    private static Object idOf(Object source) {
+        if (source == null) {
+            return null;
+        }
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(source);
+        return wrapper.isReadableProperty("id") ? wrapper.getPropertyValue("id") : null;
+    }
+
+    private record IndexKey(Class<?> entityType, List<String> attributes, List<Object> values) {
+    }
+
+    record CachedEntry(String cacheName, Object key) {
+    }
+
+    /**
+     * Last write number seen and clock reading when a load began
+     */
+    record LoadStart(long sequence, long nanos) {
+    }
+
+    /**
+     * One registration per stored value; compared by identity, so unlinking a replaced
+     * registration never touches the one that replaced it
+     */
+    private static final class Registration {
+
+        private final CachedEntry entry;
+        private final List<IndexKey> indexKeys;
+        private final Duration timeToLive;
+
+        Registration(CachedEntry entry, List<IndexKey> indexKeys, Duration timeToLive) {
+            this.entry = entry;
+            this.indexKeys = indexKeys;
+            this.timeToLive = timeToLive;
+        }
+
+        CachedEntry entry() {
+            return entry;
+        }
+
+        List<IndexKey> indexKeys() {
+            return indexKeys;
+        }
+
+        Duration timeToLive() {
+            return timeToLive;
+        }
+    }
+}
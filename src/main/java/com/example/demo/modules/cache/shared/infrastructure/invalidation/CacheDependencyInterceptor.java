@@ -0,0 +1,63 @@
+package com.example.demo.modules.cache.shared.infrastructure.invalidation;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs outside the caching interceptor on @CacheDependency methods and exposes the dependency
+ * and request argument to {@link DependencyTrackingCache} for the duration of the call.
+ * Nothing is evaluated here - attribute values are only read when a value is actually cached.
+ */
+public class CacheDependencyInterceptor implements MethodInterceptor {
+
+    private static final ThreadLocal<PendingDependency> CURRENT = new ThreadLocal<>();
+
+    private final Map<Method, Optional<DependencyShape>> shapes = new ConcurrentHashMap<>();
+
+    static PendingDependency current() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object[] arguments = invocation.getArguments();
+        DependencyShape shape = shapeOf(invocation).orElse(null);
+        if (shape == null || arguments.length == 0 || arguments[0] == null) {
+            return invocation.proceed();
+        }
+
+        PendingDependency previous = CURRENT.get();
+        CURRENT.set(new PendingDependency(shape, arguments[0]));
+        try {
+            return invocation.proceed();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    private Optional<DependencyShape> shapeOf(MethodInvocation invocation) {
+        return shapes.computeIfAbsent(invocation.getMethod(), method -> {
+            Class<?> targetClass = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : null;
+            Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+            CacheDependency dependency = AnnotatedElementUtils.findMergedAnnotation(specificMethod, CacheDependency.class);
+            return Optional.ofNullable(dependency).map(DependencyShape::of);
+        });
+    }
+
+    /**
+     * Dependency of the call in progress plus the request it was made with
+     */
+    record PendingDependency(DependencyShape shape, Object request) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.modules.cache.shared.infrastructure.invalidation;
+
+import com.example.demo.modules.cache.shared.infrastructure.key.KeyNormalizer;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entity type plus the attributes a cached query filters on; reads the same attributes
+ * from a request or from an entity so both sides produce comparable value tuples.
+ */
+record DependencyShape(Class<?> entityType, List<String> attributes, boolean ignoreCase) {
+
+    static DependencyShape of(CacheDependency dependency) {
+        return new DependencyShape(dependency.entity(), List.of(dependency.attributes()), dependency.ignoreCase());
+    }
+
+    List<Object> valuesOf(Object source) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(source);
+        List<Object> values = new ArrayList<>(attributes.size());
+        for (String attribute : attributes) {
+            Object value = wrapper.getPropertyValue(attribute);
+            if (ignoreCase && value instanceof String s) {
+                value = KeyNormalizer.toLowerCase(s);
+            }
+            values.add(value);
+        }
+        return values;
+    }
+}
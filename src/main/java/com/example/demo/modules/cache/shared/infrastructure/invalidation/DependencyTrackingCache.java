@@ -0,0 +1,113 @@
+package com.example.demo.modules.cache.shared.infrastructure.invalidation;
+
+import com.example.demo.modules.cache.shared.infrastructure.support.DelegatingCache;
+import com.example.demo.modules.cache.shared.infrastructure.support.NegativeResultCache;
+import com.example.demo.modules.cache.shared.infrastructure.support.RefreshingCaffeineCache;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Feeds the {@link CacheDependencyIndex} whenever a value for a @CacheDependency method is stored.
+ * Calls made outside such a method pass straight through.
+ *
+ * Registrations are given the lifetime of the tier that keeps the value (the negative TTL for
+ * empty results when a negative tier sits below), and evictions drop them before the entry goes.
+ *
+ * A load that an entity write overlapped (see {@link CacheDependencyIndex}) is returned to its
+ * caller but thrown past the store as an {@link RefreshingCaffeineCache.UncachedResultException},
+ * so the pre-write rows are not cached; a background refresh drops the entry on the same signal.
+ */
+public class DependencyTrackingCache extends DelegatingCache {
+
+    private final CacheDependencyIndex index;
+    private final Duration timeToLive;
+    private final Duration negativeTimeToLive;
+
+    /**
+     * @param timeToLive         the cache's expire-after-write; null if entries never expire
+     * @param negativeTimeToLive TTL of the negative tier below this cache; null if there is none
+     */
+    public DependencyTrackingCache(Cache delegate, CacheDependencyIndex index, Duration timeToLive,
+                                   Duration negativeTimeToLive) {
+        super(delegate);
+        this.index = index;
+        this.timeToLive = timeToLive;
+        this.negativeTimeToLive = negativeTimeToLive;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // Captured here so background refreshes replaying the loader register the same dependency
+        CacheDependencyInterceptor.PendingDependency pending = CacheDependencyInterceptor.current();
+        if (pending == null) {
+            return delegate.get(key, valueLoader);
+        }
+        try {
+            return delegate.get(key, () -> {
+                CacheDependencyIndex.LoadStart start = index.beginLoad(pending);
+                T value = valueLoader.call();
+                if (!index.register(getName(), key, pending, value, timeToLiveOf(value), start)) {
+                    throw new StaleLoadSignal(value);
+                }
+                return value;
+            });
+        } catch (StaleLoadSignal signal) {
+            return (T) signal.value;
+        } catch (ValueRetrievalException e) {
+            if (e.getCause() instanceof StaleLoadSignal signal) {
+                return (T) signal.value;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        CacheDependencyInterceptor.PendingDependency pending = CacheDependencyInterceptor.current();
+        if (pending != null) {
+            index.register(getName(), key, pending, value, timeToLiveOf(value), null);
+        }
+    }
+
+    // Index first: a load racing the eviction then re-registers after it instead of being dropped
+    @Override
+    public void evict(Object key) {
+        index.remove(getName(), key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        index.remove(getName(), key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        index.removeAll(getName());
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        index.removeAll(getName());
+        return delegate.invalidate();
+    }
+
+    private Duration timeToLiveOf(Object value) {
+        return negativeTimeToLive != null && NegativeResultCache.isEmptyResult(value) ? negativeTimeToLive : timeToLive;
+    }
+
+    private static final class StaleLoadSignal extends RefreshingCaffeineCache.UncachedResultException {
+
+        private final transient Object value;
+
+        StaleLoadSignal(Object value) {
+            this.value = value;
+        }
+    }
+}
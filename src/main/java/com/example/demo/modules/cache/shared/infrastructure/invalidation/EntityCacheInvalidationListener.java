@@ -0,0 +1,74 @@
+package com.example.demo.modules.cache.shared.infrastructure.invalidation;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+
+/**
+ * JPA entity listener: evicts exactly the cache entries a persisted, updated or removed entity affects.
+ * Eviction waits for the commit, so a miss inside the write's transaction window cannot
+ * re-cache the pre-write rows after it. A miss that read those rows just before the commit
+ * and stores after the eviction is caught by {@link CacheDependencyIndex}'s tombstones:
+ * its value reaches the caller but is not cached.
+ * {@link EntityWriteSubscriber} beans for the entity's type are notified at the same point.
+ *
+ * Usage: @EntityListeners(EntityCacheInvalidationListener.class) on the entity
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityCacheInvalidationListener {
+
+    private final CacheDependencyIndex cacheDependencyIndex;
+    private final CacheManager cacheManager;
+    // Resolved per write: subscribers may depend on repositories, which need this listener's EntityManagerFactory
+    private final ObjectProvider<EntityWriteSubscriber> entityWriteSubscribers;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onEntityWrite(Object entity) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAffected(entity);
+                }
+            });
+        } else {
+            evictAffected(entity);
+        }
+    }
+
+    private void evictAffected(Object entity) {
+        Class<?> entityType = Hibernate.getClass(entity);
+        entityWriteSubscribers.forEach(subscriber -> {
+            if (subscriber.entityTypes().contains(entityType)) {
+                subscriber.afterWrite(entity);
+            }
+        });
+
+        Set<CacheDependencyIndex.CachedEntry> affected = cacheDependencyIndex.removeAffected(entity);
+        if (affected.isEmpty()) {
+            return;
+        }
+        for (CacheDependencyIndex.CachedEntry entry : affected) {
+            Cache cache = cacheManager.getCache(entry.cacheName());
+            if (cache != null) {
+                cache.evict(entry.key());
+            }
+        }
+        log.info("Write to {} evicted {} cache entries: {}", entity.getClass().getSimpleName(), affected.size(), affected);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.modules.cache.shared.infrastructure.invalidation;
+
+import java.util.Set;
+
+/**
+ * Contributed by a module whose cached state lives outside the CacheManager (e.g. a catalog
+ * held in a field) and must follow entity writes. {@link EntityCacheInvalidationListener}
+ * calls it with each written entity once the write has committed.
+ */
+public interface EntityWriteSubscriber {
+
+    /**
+     * Entity types whose writes this subscriber follows
+     */
+    Set<Class<?>> entityTypes();
+
+    /**
+     * Called after the write committed, or right away when there is no transaction
+     */
+    void afterWrite(Object entity);
+}
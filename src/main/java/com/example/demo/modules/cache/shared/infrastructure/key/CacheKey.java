@@ -0,0 +1,86 @@
+package com.example.demo.modules.cache.shared.infrastructure.key;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Immutable composite cache key made of typed components.
+ *
+ * Components are compared field by field, so ("user12", "3product45") and
+ * ("user123", "product45") are different keys by construction - no delimiter
+ * or string building involved. The hash is computed once at creation.
+ */
+public final class CacheKey {
+
+    private final Object[] components;
+    private final int hash;
+
+    // Takes ownership of the array; callers in this package pass a fresh one
+    CacheKey(Object[] components) {
+        for (int i = 0; i < components.length; i++) {
+            components[i] = freeze(components[i]);
+        }
+        this.components = components;
+        this.hash = Arrays.hashCode(components);
+    }
+
+    public static CacheKey of(Object... components) {
+        return new CacheKey(components.clone());
+    }
+
+    public int size() {
+        return components.length;
+    }
+
+    public Object get(int index) {
+        return components[index];
+    }
+
+    /**
+     * Mutable collections are copied so later changes cannot move the entry,
+     * and BigDecimal is stripped so 100 and 100.00 map to the same key.
+     */
+    private static Object freeze(Object component) {
+        // Class checks first: alternating List/Set interface checks on the same
+        // String class thrash the JVM's secondary-supers cache (JDK-8180450)
+        if (component == null || component instanceof String || component instanceof Enum<?>) {
+            return component;
+        }
+        if (component instanceof BigDecimal decimal) {
+            return decimal.signum() == 0 ? BigDecimal.ZERO : decimal.stripTrailingZeros();
+        }
+        if (!(component instanceof Collection<?> collection)) {
+            return component;
+        }
+        if (collection instanceof Set<?> set) {
+            return Collections.unmodifiableSet(new HashSet<>(set));
+        }
+        return Collections.unmodifiableList(new ArrayList<>(collection));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CacheKey other)) {
+            return false;
+        }
+        return hash == other.hash && Arrays.equals(components, other.components);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheKey" + Arrays.toString(components);
+    }
+}
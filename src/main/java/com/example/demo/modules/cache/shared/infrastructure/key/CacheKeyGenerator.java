@@ -0,0 +1,101 @@
+package com.example.demo.modules.cache.shared.infrastructure.key;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Builds a {@link CacheKey} from the @CacheKeyPart fields of each method argument.
+ * Arguments without annotated fields become a single component as-is.
+ *
+ * Usage: @Cacheable(value = "orders", keyGenerator = "cacheKeyGenerator")
+ */
+public class CacheKeyGenerator implements KeyGenerator {
+
+    // Field metadata is resolved once per request class, not per call
+    private static final ClassValue<Field[]> KEY_PARTS = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (field.isAnnotationPresent(CacheKeyPart.class)) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            fields.sort(Comparator.comparing(Field::getName));
+            return fields.toArray(new Field[0]);
+        }
+    };
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        return keyFor(params);
+    }
+
+    public CacheKey keyFor(Object... params) {
+        int size = 0;
+        for (Object param : params) {
+            size += componentCount(param);
+        }
+
+        Object[] components = new Object[size];
+        int index = 0;
+        for (Object param : params) {
+            Field[] parts = param != null ? KEY_PARTS.get(param.getClass()) : null;
+            if (parts == null || parts.length == 0) {
+                components[index++] = param;
+                continue;
+            }
+            for (Field part : parts) {
+                components[index++] = read(part, param);
+            }
+        }
+        return new CacheKey(components);
+    }
+
+    /**
+     * Inverse of {@link #keyFor(Object...)} for a single request argument: rebuilds a request
+     * of the given type from a key, converting components to the field types
+     * (e.g. a recorded "LAPTOP" back to ProductCategory.LAPTOP).
+     */
+    public <T> T requestFor(Class<T> type, CacheKey key) {
+        Field[] parts = KEY_PARTS.get(type);
+        if (parts.length == 0 || parts.length != key.size()) {
+            throw new IllegalArgumentException("Key " + key + " does not match the @CacheKeyPart fields of " + type.getName());
+        }
+        ConversionService conversionService = DefaultConversionService.getSharedInstance();
+        try {
+            T request = type.getDeclaredConstructor().newInstance();
+            for (int i = 0; i < parts.length; i++) {
+                parts[i].set(request, conversionService.convert(key.get(i), parts[i].getType()));
+            }
+            return request;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create " + type.getName() + " from cache key " + key, e);
+        }
+    }
+
+    private static int componentCount(Object param) {
+        if (param == null) {
+            return 1;
+        }
+        return Math.max(1, KEY_PARTS.get(param.getClass()).length);
+    }
+
+    private static Object read(Field field, Object owner) {
+        try {
+            return field.get(owner);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot read cache key part " + field.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.modules.cache.shared.infrastructure.key;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a request field as a component of the cache key built by {@link CacheKeyGenerator}.
+ * Components are ordered by field name, so reordering fields never changes the key.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheKeyPart {
+}
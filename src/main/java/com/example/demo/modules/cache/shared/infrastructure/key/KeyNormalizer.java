@@ -0,0 +1,104 @@
+package com.example.demo.modules.cache.shared.infrastructure.key;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Locale-independent case and whitespace normalization for cache key components.
+ *
+ * ASCII input is handled in one pass: already-canonical values are returned as the same
+ * instance, everything else costs exactly one new String. Non-ASCII input falls back to
+ * {@code toLowerCase(Locale.ROOT)}, so "TITLE" never becomes "tıtle" under a Turkish locale.
+ *
+ * Low-cardinality components (category, region) can also be interned: repeated keys then
+ * share one String instance and String.equals() short-circuits on the reference check.
+ */
+public final class KeyNormalizer {
+
+    static final int MAX_INTERNED = 1024;
+
+    // Admit-until-full: the pool is meant for small enums-as-strings, not for user input
+    private static final Map<String, String> INTERNED = new ConcurrentHashMap<>();
+
+    private KeyNormalizer() {
+    }
+
+    /**
+     * Lowercase only, no trimming. Returns the input itself when it has no uppercase letters.
+     */
+    public static String toLowerCase(String value) {
+        if (value == null) {
+            return "";
+        }
+        return lower(value, 0, value.length());
+    }
+
+    /**
+     * Trim (same definition as String.trim()) and lowercase. Returns the input itself when
+     * it is already trimmed and lowercase.
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return lower(value, start, end);
+    }
+
+    /**
+     * {@link #normalize(String)} followed by {@link #intern(String)}.
+     */
+    public static String normalizeAndIntern(String value) {
+        return intern(normalize(value));
+    }
+
+    /**
+     * Returns the pooled instance equal to {@code value}. Once the pool holds
+     * {@value #MAX_INTERNED} entries new values are returned as-is instead of being added.
+     */
+    public static String intern(String value) {
+        String pooled = INTERNED.get(value);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (INTERNED.size() >= MAX_INTERNED) {
+            return value;
+        }
+        pooled = INTERNED.putIfAbsent(value, value);
+        return pooled != null ? pooled : value;
+    }
+
+    private static String lower(String value, int start, int end) {
+        int firstUpper = -1;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                return value.substring(start, end).toLowerCase(Locale.ROOT);
+            }
+            if (firstUpper < 0 && c >= 'A' && c <= 'Z') {
+                firstUpper = i;
+            }
+        }
+        if (firstUpper < 0) {
+            return start == 0 && end == value.length() ? value : value.substring(start, end);
+        }
+
+        char[] chars = new char[end - start];
+        value.getChars(start, end, chars, 0);
+        for (int i = firstUpper - start; i < chars.length; i++) {
+            char c = chars[i];
+            if (c >= 'A' && c <= 'Z') {
+                chars[i] = (char) (c + ('a' - 'A'));
+            }
+        }
+        return new String(chars);
+    }
+}
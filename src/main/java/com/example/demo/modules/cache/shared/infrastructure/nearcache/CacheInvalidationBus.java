@@ -0,0 +1,85 @@
+package com.example.demo.modules.cache.shared.infrastructure.nearcache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Connects this instance's near-caches to the {@link InvalidationTransport}.
+ * Outgoing: every put/evict/clear on a near-cache is announced with this instance's id.
+ * Incoming: messages from other instances drop the matching L1 entries; our own echoes are ignored.
+ */
+@Slf4j
+public class CacheInvalidationBus implements AutoCloseable {
+
+    private final String instanceId;
+    private final InvalidationTransport transport;
+    private final Map<String, NearCache> nearCaches = new ConcurrentHashMap<>();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final Consumer<InvalidationMessage> listener = this::onMessage;
+
+    public CacheInvalidationBus(String instanceId, InvalidationTransport transport) {
+        this.instanceId = instanceId;
+        this.transport = transport;
+        transport.subscribe(listener);
+        log.info("Cache invalidation bus started - instanceId={}, transport={}", instanceId, transport);
+    }
+
+    void register(NearCache nearCache) {
+        nearCaches.put(nearCache.getName(), nearCache);
+    }
+
+    void publishEvict(String cacheName, Object key) {
+        published.increment();
+        transport.publish(InvalidationMessage.evict(instanceId, cacheName, key));
+    }
+
+    void publishClear(String cacheName) {
+        published.increment();
+        transport.publish(InvalidationMessage.clear(instanceId, cacheName));
+    }
+
+    private void onMessage(InvalidationMessage message) {
+        if (instanceId.equals(message.sourceInstanceId())) {
+            return;
+        }
+        received.increment();
+        NearCache nearCache = nearCaches.get(message.cacheName());
+        if (nearCache == null) {
+            // Cache not created on this instance yet, so there is nothing local to drop
+            return;
+        }
+        log.debug("Invalidation from instance {}: cache={}, key={}",
+                message.sourceInstanceId(), message.cacheName(), message.isClear() ? "*" : message.key());
+        nearCache.invalidateLocal(message.key());
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public InvalidationTransport getTransport() {
+        return transport;
+    }
+
+    public Map<String, NearCache> getNearCaches() {
+        return Map.copyOf(nearCaches);
+    }
+
+    public long getPublished() {
+        return published.sum();
+    }
+
+    public long getReceived() {
+        return received.sum();
+    }
+
+    @Override
+    public void close() {
+        transport.unsubscribe(listener);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.demo.modules.cache.shared.infrastructure.nearcache;
+
+/**
+ * "Drop your local copy" notice sent to the other instances.
+ * A null key means the whole cache was cleared.
+ */
+public record InvalidationMessage(String sourceInstanceId, String cacheName, Object key) {
+
+    public static InvalidationMessage evict(String sourceInstanceId, String cacheName, Object key) {
+        return new InvalidationMessage(sourceInstanceId, cacheName, key);
+    }
+
+    public static InvalidationMessage clear(String sourceInstanceId, String cacheName) {
+        return new InvalidationMessage(sourceInstanceId, cacheName, null);
+    }
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.demo.modules.cache.shared.infrastructure.nearcache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries invalidation messages between instances.
+ *
+ * The default {@link LoopbackInvalidationTransport} delivers within one JVM; a broker-backed
+ * implementation (Redis pub/sub, Kafka, JGroups...) only needs to provide these three methods
+ * and be declared as a bean.
+ */
+public interface InvalidationTransport {
+
+    void publish(InvalidationMessage message);
+
+    void subscribe(Consumer<InvalidationMessage> listener);
+
+    void unsubscribe(Consumer<InvalidationMessage> listener);
+}
@@ -0,0 +1,56 @@
+package com.example.demo.modules.cache.shared.infrastructure.nearcache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-JVM transport: every application context in the process that uses the same channel
+ * name receives every message, synchronously on the publishing thread.
+ * Lets several instances run side by side on one machine without a broker.
+ */
+@Slf4j
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+    private static final Map<String, List<Consumer<InvalidationMessage>>> CHANNELS = new ConcurrentHashMap<>();
+
+    private final String channel;
+
+    public LoopbackInvalidationTransport(String channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public void publish(InvalidationMessage message) {
+        for (Consumer<InvalidationMessage> listener : subscribers()) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException e) {
+                log.warn("Invalidation listener failed on channel '{}' for {}: {}", channel, message, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<InvalidationMessage> listener) {
+        subscribers().add(listener);
+    }
+
+    @Override
+    public void unsubscribe(Consumer<InvalidationMessage> listener) {
+        subscribers().remove(listener);
+    }
+
+    private List<Consumer<InvalidationMessage>> subscribers() {
+        return CHANNELS.computeIfAbsent(channel, name -> new CopyOnWriteArrayList<>());
+    }
+
+    @Override
+    public String toString() {
+        return "loopback:" + channel;
+    }
+}
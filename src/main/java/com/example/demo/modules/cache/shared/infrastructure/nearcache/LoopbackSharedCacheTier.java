@@ -0,0 +1,72 @@
+package com.example.demo.modules.cache.shared.infrastructure.nearcache;
+
+import com.example.demo.modules.cache.shared.infrastructure.config.CacheSpecProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-JVM stand-in for a shared L2 (Redis, Hazelcast...): one Caffeine cache per channel and cache name,
+ * visible to every application context in the process that uses the same channel.
+ * Sized from the same per-cache spec as the local tier.
+ */
+public class LoopbackSharedCacheTier implements SharedCacheTier {
+
+    private static final Map<String, Cache<Object, Object>> CACHES = new ConcurrentHashMap<>();
+
+    private final String channel;
+    private final CacheSpecProperties cacheSpecProperties;
+
+    public LoopbackSharedCacheTier(String channel, CacheSpecProperties cacheSpecProperties) {
+        this.channel = channel;
+        this.cacheSpecProperties = cacheSpecProperties;
+    }
+
+    @Override
+    public ValueWrapper get(String cacheName, Object key) {
+        Object value = cache(cacheName).getIfPresent(key);
+        if (value == null) {
+            return null;
+        }
+        return new SimpleValueWrapper(value == NullValue.INSTANCE ? null : value);
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value) {
+        cache(cacheName).put(key, value != null ? value : NullValue.INSTANCE);
+    }
+
+    @Override
+    public void evict(String cacheName, Object key) {
+        cache(cacheName).invalidate(key);
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        cache(cacheName).invalidateAll();
+    }
+
+    private Cache<Object, Object> cache(String cacheName) {
+        return CACHES.computeIfAbsent(channel + "/" + cacheName, name -> {
+            CacheSpecProperties.Spec spec = cacheSpecProperties.resolve(cacheName);
+            Caffeine<Object, Object> builder = Caffeine.newBuilder();
+            if (spec.getMaximumSize() != null) {
+                builder.maximumSize(spec.getMaximumSize());
+            }
+            if (spec.getExpireAfterWrite() != null) {
+                builder.expireAfterWrite(spec.getExpireAfterWrite());
+            }
+            return builder.build();
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "loopback:" + channel;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.demo.modules.cache.shared.infrastructure.nearcache;
+
+import com.example.demo.modules.cache.shared.infrastructure.support.DelegatingCache;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Two-tier cache: the wrapped local cache is L1, {@link SharedCacheTier} is L2.
+ *
+ * Reads: L1, then L2 (copied into L1), then the loader (written to both).
+ * Writes and evictions go to both tiers and are announced on the {@link CacheInvalidationBus},
+ * so a @CacheEvict on one instance drops the L1 entries of every instance.
+ *
+ * A refreshing local store replays the loader it was first given. Only that first call may
+ * answer from L2; a replay is a refresh, so it runs the real loader, writes the new value
+ * to L2 and tells other instances to drop their now stale L1 copies.
+ */
+public class NearCache extends DelegatingCache {
+
+    private final SharedCacheTier sharedTier;
+    private final CacheInvalidationBus invalidationBus;
+
+    public NearCache(Cache local, SharedCacheTier sharedTier, CacheInvalidationBus invalidationBus) {
+        super(local);
+        this.sharedTier = sharedTier;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.register(this);
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper local = delegate.get(key);
+        if (local != null) {
+            return local;
+        }
+        ValueWrapper shared = sharedTier.get(getName(), key);
+        if (shared != null) {
+            delegate.put(key, shared.get());
+        }
+        return shared;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        AtomicBoolean coldMiss = new AtomicBoolean(true);
+        return delegate.get(key, () -> {
+            boolean refresh = !coldMiss.getAndSet(false);
+            if (!refresh) {
+                ValueWrapper shared = sharedTier.get(getName(), key);
+                if (shared != null) {
+                    return (T) shared.get();
+                }
+            }
+            T value = valueLoader.call();
+            sharedTier.put(getName(), key, value);
+            if (refresh) {
+                invalidationBus.publishEvict(getName(), key);
+            }
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        sharedTier.put(getName(), key, value);
+        invalidationBus.publishEvict(getName(), key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = get(key);
+        if (existing == null) {
+            put(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        sharedTier.evict(getName(), key);
+        invalidationBus.publishEvict(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = delegate.evictIfPresent(key);
+        sharedTier.evict(getName(), key);
+        invalidationBus.publishEvict(getName(), key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        sharedTier.clear(getName());
+        invalidationBus.publishClear(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = delegate.invalidate();
+        sharedTier.clear(getName());
+        invalidationBus.publishClear(getName());
+        return notEmpty;
+    }
+
+    /**
+     * Drop L1 only - called for invalidations published by other instances
+     */
+    void invalidateLocal(Object key) {
+        if (key == null) {
+            delegate.clear();
+        } else {
+            delegate.evict(key);
+        }
+    }
+}
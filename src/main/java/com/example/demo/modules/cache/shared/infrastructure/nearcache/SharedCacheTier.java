@@ -0,0 +1,18 @@
+package com.example.demo.modules.cache.shared.infrastructure.nearcache;
+
+import org.springframework.cache.Cache.ValueWrapper;
+
+/**
+ * L2 cache shared by all instances. Values loaded by one instance are found here
+ * by the others, so each node does not pay for its own cold misses.
+ */
+public interface SharedCacheTier {
+
+    ValueWrapper get(String cacheName, Object key);
+
+    void put(String cacheName, Object key, Object value);
+
+    void evict(String cacheName, Object key);
+
+    void clear(String cacheName);
+}
@@ -0,0 +1,380 @@
+package com.example.demo.modules.cache.shared.infrastructure.offheap;
+
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKey;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Compact binary encoding for cached result lists (List of DTOs).
+ *
+ * Each value is a one-byte tag followed by its payload: varints for numbers,
+ * UTF-8 for strings, unscaled bytes + scale for BigDecimal, epoch second + nanos for
+ * LocalDateTime. DTOs are written as a class id followed by their fields in declaration
+ * order - no field names, no class names. Class ids are assigned per codec instance; bytes that
+ * outlive the process (cache snapshots) must be stored with {@link #registeredClasses()} and
+ * read by a codec set up with {@link #registerClasses(List)}.
+ *
+ * DTOs need a no-arg constructor (all module DTOs have @NoArgsConstructor).
+ */
+public final class CompactBinaryCodec {
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte TRUE = 4;
+    private static final byte FALSE = 5;
+    private static final byte DOUBLE = 6;
+    private static final byte BIG_DECIMAL = 7;
+    private static final byte LOCAL_DATE_TIME = 8;
+    private static final byte LOCAL_DATE = 9;
+    private static final byte ENUM = 10;
+    private static final byte LIST = 11;
+    private static final byte OBJECT = 12;
+    private static final byte CACHE_KEY = 13;
+
+    private static final ClassValue<BeanLayout> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected BeanLayout computeValue(Class<?> type) {
+            return BeanLayout.of(type);
+        }
+    };
+
+    private final Map<Class<?>, Integer> classIds = new ConcurrentHashMap<>();
+    private final List<Class<?>> classesById = new CopyOnWriteArrayList<>();
+
+    public byte[] encode(Object value) {
+        Output out = new Output();
+        write(out, value);
+        return out.toByteArray();
+    }
+
+    public Object decode(byte[] bytes) {
+        return read(new Input(bytes));
+    }
+
+    /**
+     * Classes referenced by the bytes encoded so far, indexed by class id
+     */
+    public List<Class<?>> registeredClasses() {
+        return List.copyOf(classesById);
+    }
+
+    /**
+     * Assigns class ids in the given order; must be called before anything is encoded or decoded
+     */
+    public synchronized void registerClasses(List<Class<?>> classes) {
+        if (!classesById.isEmpty()) {
+            throw new IllegalStateException("Class ids are already assigned");
+        }
+        classes.forEach(this::assignClassId);
+    }
+
+    /**
+     * Changes whenever the encoded layout of a class changes: field names and types in
+     * encoding order for DTOs, constant names for enums
+     */
+    public static int layoutFingerprint(Class<?> type) {
+        if (type.isEnum()) {
+            // Enums are written by ordinal, so the order of the names matters
+            return Arrays.hashCode(Arrays.stream(type.getEnumConstants())
+                    .map(constant -> ((Enum<?>) constant).name())
+                    .toArray());
+        }
+        int hash = 1;
+        for (Field field : LAYOUTS.get(type).fields) {
+            hash = 31 * hash + (field.getName() + ':' + field.getType().getName()).hashCode();
+        }
+        return hash;
+    }
+
+    private void write(Output out, Object value) {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String s) {
+            out.writeByte(STRING);
+            out.writeString(s);
+        } else if (value instanceof Integer i) {
+            out.writeByte(INTEGER);
+            out.writeVarLong(zigZag(i));
+        } else if (value instanceof Long l) {
+            out.writeByte(LONG);
+            out.writeVarLong(zigZag(l));
+        } else if (value instanceof Boolean b) {
+            out.writeByte(b ? TRUE : FALSE);
+        } else if (value instanceof Double d) {
+            out.writeByte(DOUBLE);
+            out.writeLong(Double.doubleToRawLongBits(d));
+        } else if (value instanceof BigDecimal decimal) {
+            out.writeByte(BIG_DECIMAL);
+            out.writeVarLong(zigZag(decimal.scale()));
+            byte[] unscaled = decimal.unscaledValue().toByteArray();
+            out.writeVarLong(unscaled.length);
+            out.writeBytes(unscaled);
+        } else if (value instanceof LocalDateTime dateTime) {
+            out.writeByte(LOCAL_DATE_TIME);
+            out.writeVarLong(zigZag(dateTime.toEpochSecond(ZoneOffset.UTC)));
+            out.writeVarLong(dateTime.getNano());
+        } else if (value instanceof LocalDate date) {
+            out.writeByte(LOCAL_DATE);
+            out.writeVarLong(zigZag(date.toEpochDay()));
+        } else if (value instanceof Enum<?> constant) {
+            out.writeByte(ENUM);
+            out.writeVarLong(classId(constant.getDeclaringClass()));
+            out.writeVarLong(constant.ordinal());
+        } else if (value instanceof List<?> list) {
+            out.writeByte(LIST);
+            out.writeVarLong(list.size());
+            for (Object element : list) {
+                write(out, element);
+            }
+        } else if (value instanceof CacheKey key) {
+            out.writeByte(CACHE_KEY);
+            out.writeVarLong(key.size());
+            for (int i = 0; i < key.size(); i++) {
+                write(out, key.get(i));
+            }
+        } else {
+            writeObject(out, value);
+        }
+    }
+
+    private void writeObject(Output out, Object value) {
+        BeanLayout layout = LAYOUTS.get(value.getClass());
+        out.writeByte(OBJECT);
+        out.writeVarLong(classId(value.getClass()));
+        try {
+            for (Field field : layout.fields) {
+                write(out, field.get(value));
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot read fields of " + value.getClass().getName(), e);
+        }
+    }
+
+    private Object read(Input in) {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case NULL -> null;
+            case STRING -> in.readString();
+            case INTEGER -> (int) unZigZag(in.readVarLong());
+            case LONG -> unZigZag(in.readVarLong());
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            case DOUBLE -> Double.longBitsToDouble(in.readLong());
+            case BIG_DECIMAL -> {
+                int scale = (int) unZigZag(in.readVarLong());
+                byte[] unscaled = in.readBytes((int) in.readVarLong());
+                yield new BigDecimal(new BigInteger(unscaled), scale);
+            }
+            case LOCAL_DATE_TIME -> LocalDateTime.ofEpochSecond(unZigZag(in.readVarLong()), (int) in.readVarLong(), ZoneOffset.UTC);
+            case LOCAL_DATE -> LocalDate.ofEpochDay(unZigZag(in.readVarLong()));
+            case ENUM -> classById(in.readVarLong()).getEnumConstants()[(int) in.readVarLong()];
+            case LIST -> {
+                int size = (int) in.readVarLong();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(read(in));
+                }
+                yield list;
+            }
+            case OBJECT -> readObject(in);
+            case CACHE_KEY -> {
+                Object[] components = new Object[(int) in.readVarLong()];
+                for (int i = 0; i < components.length; i++) {
+                    components[i] = read(in);
+                }
+                yield CacheKey.of(components);
+            }
+            default -> throw new IllegalStateException("Unknown tag " + tag + " at offset " + (in.position - 1));
+        };
+    }
+
+    private Object readObject(Input in) {
+        BeanLayout layout = LAYOUTS.get(classById(in.readVarLong()));
+        try {
+            Object value = layout.constructor.newInstance();
+            for (Field field : layout.fields) {
+                field.set(value, read(in));
+            }
+            return value;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create " + layout.constructor.getDeclaringClass().getName(), e);
+        }
+    }
+
+    private int classId(Class<?> type) {
+        Integer id = classIds.get(type);
+        return id != null ? id : assignClassId(type);
+    }
+
+    private synchronized int assignClassId(Class<?> type) {
+        return classIds.computeIfAbsent(type, t -> {
+            classesById.add(t);
+            return classesById.size() - 1;
+        });
+    }
+
+    private Class<?> classById(long id) {
+        return classesById.get((int) id);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Instance fields of a DTO (superclass first, declaration order) and its no-arg constructor
+     */
+    private static final class BeanLayout {
+
+        private final Field[] fields;
+        private final Constructor<?> constructor;
+
+        private BeanLayout(Field[] fields, Constructor<?> constructor) {
+            this.fields = fields;
+            this.constructor = constructor;
+        }
+
+        static BeanLayout of(Class<?> type) {
+            if (type.isArray() || type.getName().startsWith("java.")) {
+                throw new IllegalArgumentException("Unsupported type for off-heap encoding: " + type.getName());
+            }
+            List<Field> fields = new ArrayList<>();
+            collectFields(type, fields);
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return new BeanLayout(fields.toArray(new Field[0]), constructor);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException(type.getName() + " needs a no-arg constructor for off-heap encoding", e);
+            }
+        }
+
+        private static void collectFields(Class<?> type, List<Field> fields) {
+            if (type == null || type == Object.class) {
+                return;
+            }
+            collectFields(type.getSuperclass(), fields);
+            Arrays.stream(type.getDeclaredFields())
+                    .filter(field -> !Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()))
+                    .forEach(field -> {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    });
+        }
+    }
+
+    private static final class Output {
+
+        private byte[] buffer = new byte[256];
+        private int position;
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeLong(long value) {
+            ensureCapacity(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeBytes(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeString(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(utf8.length);
+            writeBytes(utf8);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+    }
+
+    private static final class Input {
+
+        private final byte[] buffer;
+        private int position;
+
+        Input(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        byte readByte() {
+            return buffer[position++];
+        }
+
+        long readVarLong() {
+            long result = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = buffer[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return result;
+                }
+            }
+        }
+
+        long readLong() {
+            long result = 0;
+            for (int i = 0; i < 8; i++) {
+                result = (result << 8) | (buffer[position++] & 0xFF);
+            }
+            return result;
+        }
+
+        byte[] readBytes(int length) {
+            byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        String readString() {
+            int length = (int) readVarLong();
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
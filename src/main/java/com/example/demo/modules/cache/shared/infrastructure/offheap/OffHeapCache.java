@@ -0,0 +1,294 @@
+package com.example.demo.modules.cache.shared.infrastructure.offheap;
+
+import com.example.demo.modules.cache.shared.infrastructure.stats.CacheStatistics;
+import com.example.demo.modules.cache.shared.infrastructure.support.WriteExpiry;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spring Cache whose values live off-heap in an {@link OffHeapStore}, encoded by {@link CompactBinaryCodec}.
+ *
+ * Only keys and small slot handles stay on the heap; the result lists themselves
+ * (BigDecimal, LocalDateTime, Strings...) are bytes in a direct buffer and are decoded
+ * on every hit, so long-lived entries no longer fill the old generation.
+ * Caffeine still decides what to evict, weighing each entry by the bytes it occupies,
+ * and hands evicted slots back to the store.
+ *
+ * Caffeine's weight bound is the arena size, so the arena fills up before Caffeine would ever
+ * evict on its own. A write that finds no free blocks therefore removes entries in Caffeine's
+ * eviction order (coldest first) until the new value fits.
+ *
+ * Concurrent misses on one key share a single load, with or without a {@link
+ * com.example.demo.modules.cache.shared.infrastructure.support.SingleFlightCache} in front;
+ * that wrapper only adds the bounded wait. The arena is one buffer addressed by int offsets,
+ * so capacities are limited to {@link #MAX_CAPACITY_BYTES} and checked when app.cache.* is bound.
+ * An evict or clear that arrives while a load is in flight also discards that load's value,
+ * as Caffeine does for heap caches, so an entity-driven eviction cannot be overtaken by the store.
+ */
+@Slf4j
+public class OffHeapCache implements Cache {
+
+    // Coldest entries fetched per eviction round, and rounds before a write gives up
+    private static final int EVICTION_BATCH = 16;
+    private static final int MAX_EVICTION_ROUNDS = 8;
+
+    public static final long MIN_CAPACITY_BYTES = OffHeapStore.BLOCK_SIZE;
+    public static final long MAX_CAPACITY_BYTES = OffHeapStore.MAX_CAPACITY_BYTES;
+
+    private final String name;
+    private final OffHeapStore store;
+    private final CompactBinaryCodec codec;
+    private final CacheStatistics statistics;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, OffHeapStore.Slot> slots;
+    private final Map<Object, Load> loading = new ConcurrentHashMap<>();
+
+    public OffHeapCache(String name, long capacityBytes, Duration expireAfterWrite,
+                        CompactBinaryCodec codec, CacheStatistics statistics) {
+        this.name = name;
+        this.store = new OffHeapStore(capacityBytes);
+        this.codec = codec;
+        this.statistics = statistics;
+
+        Caffeine<Object, OffHeapStore.Slot> builder = Caffeine.newBuilder()
+                .maximumWeight(store.capacityBytes())
+                .weigher((Object key, OffHeapStore.Slot slot) -> slot.weight())
+                // Release blocks on the calling thread so the next allocation sees them
+                .executor(Runnable::run)
+                .removalListener((key, slot, cause) -> {
+                    if (slot != null) {
+                        store.release(slot);
+                    }
+                    if (cause.wasEvicted()) {
+                        statistics.recordEviction();
+                    }
+                });
+        if (expireAfterWrite != null) {
+            builder.expireAfter(new WriteExpiry(expireAfterWrite));
+        }
+        this.slots = builder.build();
+    }
+
+    /**
+     * Null when the capacity fits the arena, otherwise the reason it does not
+     */
+    public static String capacityError(long capacityBytes) {
+        if (capacityBytes >= MIN_CAPACITY_BYTES && capacityBytes <= MAX_CAPACITY_BYTES) {
+            return null;
+        }
+        return "Off-heap capacity must be between " + MIN_CAPACITY_BYTES + " and " + MAX_CAPACITY_BYTES
+                + " bytes (just under 2GB, the arena uses int offsets), was " + capacityBytes;
+    }
+
+    public long getUsedBytes() {
+        return store.usedBytes();
+    }
+
+    public long getCapacityBytes() {
+        return store.capacityBytes();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public com.github.benmanes.caffeine.cache.Cache<Object, OffHeapStore.Slot> getNativeCache() {
+        return slots;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        OffHeapStore.Slot slot = slots.getIfPresent(key);
+        if (slot == null) {
+            return null;
+        }
+        byte[] data = store.read(slot);
+        return data != null ? new SimpleValueWrapper(codec.decode(data)) : null;
+    }
+
+    /**
+     * Reads a value without recording an access, so background readers do not skew eviction
+     */
+    public ValueWrapper peek(Object key) {
+        OffHeapStore.Slot slot = slots.policy().getIfPresentQuietly(key);
+        if (slot == null) {
+            return null;
+        }
+        byte[] data = store.read(slot);
+        return data != null ? new SimpleValueWrapper(codec.decode(data)) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        Load load = new Load();
+        Load inFlight = loading.putIfAbsent(key, load);
+        if (inFlight != null) {
+            return (T) join(inFlight);
+        }
+        try {
+            // A load that finished between the miss and putIfAbsent has already stored its value
+            wrapper = get(key);
+            Object value = wrapper != null ? wrapper.get() : load(key, valueLoader, load);
+            load.complete(value);
+            return (T) value;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    private Object load(Object key, Callable<?> valueLoader, Load load) {
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (!load.evicted) {
+            put(key, value);
+            // evict() flags before it removes, so one of the two removes whatever put stored
+            if (load.evicted) {
+                slots.invalidate(key);
+            }
+        }
+        return value;
+    }
+
+    private static Object join(CompletableFuture<Object> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            // Waiters see the leader's own exception, as if they had run the loader
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        byte[] data;
+        try {
+            data = codec.encode(value);
+        } catch (IllegalArgumentException e) {
+            log.warn("Cache '{}' cannot store key {} off-heap: {}", name, key, e.getMessage());
+            return;
+        }
+
+        if ((long) OffHeapStore.blocksFor(data.length) * OffHeapStore.BLOCK_SIZE > store.capacityBytes()) {
+            log.debug("Cache '{}' value of {} bytes is larger than the off-heap arena, key {} not cached", name, data.length, key);
+            return;
+        }
+        OffHeapStore.Slot slot = store.allocate(data);
+        if (slot == null) {
+            // Evictions for earlier writes may still be pending; run them and try once more
+            slots.cleanUp();
+            slot = store.allocate(data);
+        }
+        if (slot == null) {
+            slot = allocateAfterEvictingColdest(data);
+        }
+        if (slot == null) {
+            log.debug("Cache '{}' has no off-heap room for {} bytes, key {} not cached", name, data.length, key);
+            return;
+        }
+        slots.put(key, slot);
+    }
+
+    private OffHeapStore.Slot allocateAfterEvictingColdest(byte[] data) {
+        var eviction = slots.policy().eviction().orElseThrow();
+        for (int round = 0; round < MAX_EVICTION_ROUNDS; round++) {
+            Map<Object, OffHeapStore.Slot> coldest = eviction.coldest(EVICTION_BATCH);
+            if (coldest.isEmpty()) {
+                return null;
+            }
+            for (Map.Entry<Object, OffHeapStore.Slot> entry : coldest.entrySet()) {
+                // Conditional remove: a concurrent put may have replaced the cold entry with a fresh one.
+                // The removal listener releases the blocks on this thread before the retry.
+                if (slots.asMap().remove(entry.getKey(), entry.getValue())) {
+                    statistics.recordEviction();
+                }
+                OffHeapStore.Slot slot = store.allocate(data);
+                if (slot != null) {
+                    return slot;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        discardLoad(key);
+        slots.invalidate(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        discardLoad(key);
+        return slots.asMap().remove(key) != null;
+    }
+
+    @Override
+    public void clear() {
+        loading.values().forEach(load -> load.evicted = true);
+        slots.invalidateAll();
+    }
+
+    @Override
+    public boolean invalidate() {
+        loading.values().forEach(load -> load.evicted = true);
+        boolean notEmpty = !slots.asMap().isEmpty();
+        slots.invalidateAll();
+        return notEmpty;
+    }
+
+    private void discardLoad(Object key) {
+        Load load = loading.get(key);
+        if (load != null) {
+            load.evicted = true;
+        }
+    }
+
+    /**
+     * In-flight load of one key; waiters join it, evictions flag it so its value is not stored
+     */
+    private static final class Load extends CompletableFuture<Object> {
+
+        private volatile boolean evicted;
+    }
+}
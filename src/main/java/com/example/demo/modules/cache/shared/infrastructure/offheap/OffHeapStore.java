@@ -0,0 +1,143 @@
+package com.example.demo.modules.cache.shared.infrastructure.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Fixed-size arena in one direct ByteBuffer, split into equal blocks.
+ *
+ * An entry takes as many (not necessarily adjacent) blocks as its bytes need.
+ * Allocation and release change the free list under a write lock; reads copy
+ * the blocks out under an optimistic stamp and only fall back to a read lock
+ * if a release raced with them, so hits do not contend with each other.
+ */
+final class OffHeapStore {
+
+    static final int BLOCK_SIZE = 256;
+
+    // Blocks are addressed by int offsets into one ByteBuffer, so the arena stays below 2GB
+    static final long MAX_CAPACITY_BYTES = (long) (Integer.MAX_VALUE / BLOCK_SIZE) * BLOCK_SIZE;
+
+    private final ByteBuffer arena;
+    private final int[] freeBlocks;
+    private int freeCount;
+    private final StampedLock lock = new StampedLock();
+
+    OffHeapStore(long capacityBytes) {
+        long blockCount = capacityBytes / BLOCK_SIZE;
+        if (blockCount <= 0 || blockCount * BLOCK_SIZE > MAX_CAPACITY_BYTES) {
+            throw new IllegalArgumentException(OffHeapCache.capacityError(capacityBytes));
+        }
+        this.arena = ByteBuffer.allocateDirect((int) (blockCount * BLOCK_SIZE));
+        this.freeBlocks = new int[(int) blockCount];
+        for (int i = 0; i < freeBlocks.length; i++) {
+            freeBlocks[i] = freeBlocks.length - 1 - i;
+        }
+        this.freeCount = freeBlocks.length;
+    }
+
+    static int blocksFor(int length) {
+        return Math.max(1, (length + BLOCK_SIZE - 1) / BLOCK_SIZE);
+    }
+
+    /**
+     * Copy the bytes into free blocks; returns null when the arena has no room
+     */
+    Slot allocate(byte[] data) {
+        int[] blocks = new int[blocksFor(data.length)];
+        long stamp = lock.writeLock();
+        try {
+            if (freeCount < blocks.length) {
+                return null;
+            }
+            for (int i = 0; i < blocks.length; i++) {
+                blocks[i] = freeBlocks[--freeCount];
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        // The blocks are owned by this slot alone until it is released, so no lock is needed to fill them
+        for (int i = 0, offset = 0; offset < data.length; i++, offset += BLOCK_SIZE) {
+            arena.put(blocks[i] * BLOCK_SIZE, data, offset, Math.min(BLOCK_SIZE, data.length - offset));
+        }
+        return new Slot(blocks, data.length);
+    }
+
+    /**
+     * Copy the slot's bytes back to the heap; returns null if the slot was released meanwhile
+     */
+    byte[] read(Slot slot) {
+        long stamp = lock.tryOptimisticRead();
+        byte[] data = copy(slot);
+        if (lock.validate(stamp)) {
+            return data;
+        }
+
+        stamp = lock.readLock();
+        try {
+            return copy(slot);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    void release(Slot slot) {
+        long stamp = lock.writeLock();
+        try {
+            if (slot.released) {
+                return;
+            }
+            slot.released = true;
+            for (int block : slot.blocks) {
+                freeBlocks[freeCount++] = block;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    long capacityBytes() {
+        return (long) freeBlocks.length * BLOCK_SIZE;
+    }
+
+    long usedBytes() {
+        long stamp = lock.readLock();
+        try {
+            return (long) (freeBlocks.length - freeCount) * BLOCK_SIZE;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private byte[] copy(Slot slot) {
+        if (slot.released) {
+            return null;
+        }
+        byte[] data = new byte[slot.length];
+        for (int i = 0, offset = 0; offset < data.length; i++, offset += BLOCK_SIZE) {
+            arena.get(slot.blocks[i] * BLOCK_SIZE, data, offset, Math.min(BLOCK_SIZE, data.length - offset));
+        }
+        return data;
+    }
+
+    /**
+     * On-heap handle of one entry: block indexes and byte length
+     */
+    static final class Slot {
+
+        private final int[] blocks;
+        private final int length;
+        // Set under the store's write lock, read without it by optimistic reads
+        private volatile boolean released;
+
+        private Slot(int[] blocks, int length) {
+            this.blocks = blocks;
+            this.length = length;
+        }
+
+        int weight() {
+            return blocks.length * BLOCK_SIZE;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.modules.cache.shared.infrastructure.service;
+
+import java.util.Map;
+
+public interface CacheSnapshotService {
+
+    /**
+     * Snapshot directory, schema version and per-cache restored / still restorable entry counts
+     */
+    Map<String, Object> getSnapshotInfo();
+
+    /**
+     * Writes the snapshot of every snapshot-enabled cache now instead of waiting for the interval
+     */
+    Map<String, Object> writeSnapshots();
+}
@@ -0,0 +1,19 @@
+package com.example.demo.modules.cache.shared.infrastructure.service;
+
+import com.example.demo.modules.cache.shared.api.model.dto.response.CacheStatisticsDTO;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CacheStatisticsService {
+
+    /**
+     * Snapshot of every cache created so far, sorted by cache name
+     */
+    List<CacheStatisticsDTO> getAllStatistics();
+
+    /**
+     * Snapshot of one cache; empty if the cache has not been used yet
+     */
+    Optional<CacheStatisticsDTO> getStatistics(String cacheName);
+}
@@ -0,0 +1,21 @@
+package com.example.demo.modules.cache.shared.infrastructure.service;
+
+import com.example.demo.modules.cache.shared.api.model.dto.response.CacheWarmUpDTO;
+
+public interface CacheWarmUpService {
+
+    /**
+     * Runs every seed load and every recorded hot key within the time budget; blocks until done
+     */
+    CacheWarmUpDTO warmUp();
+
+    /**
+     * Result of the last warm-up, or status NOT_RUN
+     */
+    CacheWarmUpDTO getLastWarmUp();
+
+    /**
+     * Saves the hottest keys of this run for the next startup
+     */
+    void saveHotKeys();
+}
@@ -0,0 +1,11 @@
+package com.example.demo.modules.cache.shared.infrastructure.service;
+
+import java.util.Map;
+
+public interface NearCacheService {
+
+    /**
+     * Instance id, transport, near-caches and invalidation message counts of this instance
+     */
+    Map<String, Object> getNearCacheInfo();
+}
@@ -0,0 +1,27 @@
+package com.example.demo.modules.cache.shared.infrastructure.service.impl;
+
+import com.example.demo.modules.cache.shared.infrastructure.service.CacheSnapshotService;
+import com.example.demo.modules.cache.shared.infrastructure.snapshot.CacheSnapshotRegistry;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class CacheSnapshotServiceImpl implements CacheSnapshotService {
+
+    private final CacheSnapshotRegistry cacheSnapshotRegistry;
+
+    @Override
+    public Map<String, Object> getSnapshotInfo() {
+        return cacheSnapshotRegistry.getInfo();
+    }
+
+    @Override
+    public Map<String, Object> writeSnapshots() {
+        cacheSnapshotRegistry.writeAll();
+        return cacheSnapshotRegistry.getInfo();
+    }
+}
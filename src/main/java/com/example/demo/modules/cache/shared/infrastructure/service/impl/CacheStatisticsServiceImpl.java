@@ -0,0 +1,51 @@
+package com.example.demo.modules.cache.shared.infrastructure.service.impl;
+
+import com.example.demo.modules.cache.shared.api.model.dto.response.CacheStatisticsDTO;
+import com.example.demo.modules.cache.shared.infrastructure.service.CacheStatisticsService;
+import com.example.demo.modules.cache.shared.infrastructure.stats.CacheStatistics;
+import com.example.demo.modules.cache.shared.infrastructure.stats.CacheStatisticsRegistry;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsServiceImpl implements CacheStatisticsService {
+
+    private final CacheStatisticsRegistry cacheStatisticsRegistry;
+
+    @Override
+    public List<CacheStatisticsDTO> getAllStatistics() {
+        return cacheStatisticsRegistry.getAll().stream()
+                .sorted(Comparator.comparing(CacheStatistics::getCacheName))
+                .map(this::toDTO)
+                .toList();
+    }
+
+    @Override
+    public Optional<CacheStatisticsDTO> getStatistics(String cacheName) {
+        return Optional.ofNullable(cacheStatisticsRegistry.get(cacheName)).map(this::toDTO);
+    }
+
+    private CacheStatisticsDTO toDTO(CacheStatistics statistics) {
+        return new CacheStatisticsDTO(
+                statistics.getCacheName(),
+                statistics.getHits(),
+                statistics.getMisses(),
+                statistics.getHitRatio(),
+                statistics.getLoads(),
+                statistics.getLoadFailures(),
+                statistics.getAverageLoadMillis(),
+                statistics.getEvictions(),
+                statistics.getCoalescedLoads(),
+                statistics.getNegativeHits(),
+                statistics.getKeyCollisions(),
+                statistics.getSize(),
+                statistics.getNegativeSize()
+        );
+    }
+}
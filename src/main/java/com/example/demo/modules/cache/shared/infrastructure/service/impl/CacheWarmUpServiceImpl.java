@@ -0,0 +1,180 @@
+package com.example.demo.modules.cache.shared.infrastructure.service.impl;
+
+import com.example.demo.modules.cache.shared.api.model.dto.response.CacheWarmUpDTO;
+import com.example.demo.modules.cache.shared.infrastructure.config.CacheWarmUpProperties;
+import com.example.demo.modules.cache.shared.infrastructure.service.CacheWarmUpService;
+import com.example.demo.modules.cache.shared.infrastructure.stats.CacheStatistics;
+import com.example.demo.modules.cache.shared.infrastructure.stats.CacheStatisticsRegistry;
+import com.example.demo.modules.cache.shared.infrastructure.warmup.CacheWarmUpSource;
+import com.example.demo.modules.cache.shared.infrastructure.warmup.HotKeyRecorder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Fills the caches before the application reports itself ready.
+ *
+ * Seed loads come from every {@link CacheWarmUpSource}; hot keys are the ones the previous run
+ * saved at shutdown, each replayed by the source that owns its cache. All loads share one pool
+ * of `parallelism` threads and one time budget - whatever is still running when the budget
+ * is used up is cancelled, so a slow database delays readiness by at most time-budget.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheWarmUpServiceImpl implements CacheWarmUpService {
+
+    private static final CacheWarmUpDTO NOT_RUN = new CacheWarmUpDTO("NOT_RUN", null, 0L, 0, 0, 0, 0, 0, 0L);
+
+    private final List<CacheWarmUpSource> sources;
+    private final HotKeyRecorder hotKeyRecorder;
+    private final CacheStatisticsRegistry cacheStatisticsRegistry;
+    private final CacheWarmUpProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReference<CacheWarmUpDTO> lastWarmUp = new AtomicReference<>(NOT_RUN);
+
+    @PostConstruct
+    void registerMeters() {
+        TimeGauge.builder("cache.warmup.duration", lastWarmUp, TimeUnit.MILLISECONDS,
+                        ref -> ref.get().getDurationMillis())
+                .description("Wall time of the last startup cache warm-up")
+                .register(meterRegistry);
+        Gauge.builder("cache.warmup.entries", lastWarmUp, ref -> ref.get().getEntriesLoaded())
+                .description("Cache entries loaded by the last startup cache warm-up")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CacheWarmUpDTO warmUp() {
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        long loadsBefore = totalCacheLoads();
+
+        List<Callable<Void>> loads = new ArrayList<>();
+        for (CacheWarmUpSource source : sources) {
+            source.seedLoads().forEach(load -> loads.add(asCallable(load)));
+        }
+        int seedLoads = loads.size();
+        loads.addAll(hotKeyLoads());
+        int hotKeyLoads = loads.size() - seedLoads;
+
+        log.info("Cache warm-up started - {} seed loads, {} hot keys, parallelism={}, timeBudget={}",
+                seedLoads, hotKeyLoads, properties.getParallelism(), properties.getTimeBudget());
+
+        int completed = 0;
+        int failed = 0;
+        int timedOut = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getParallelism(),
+                new CustomizableThreadFactory("cache-warm-up-"));
+        try {
+            List<Future<Void>> results = executor.invokeAll(loads,
+                    properties.getTimeBudget().toMillis(), TimeUnit.MILLISECONDS);
+            for (Future<Void> result : results) {
+                try {
+                    result.get();
+                    completed++;
+                } catch (CancellationException e) {
+                    timedOut++;
+                } catch (ExecutionException e) {
+                    failed++;
+                    log.warn("Cache warm-up load failed: {}", e.getCause().toString());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            timedOut = loads.size() - completed - failed;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        // Cache misses that ran the loader; a hot key already covered by a seed load is a hit, not a new entry
+        long entriesLoaded = totalCacheLoads() - loadsBefore;
+        CacheWarmUpDTO result = new CacheWarmUpDTO(timedOut > 0 ? "PARTIAL" : "COMPLETED", startedAt,
+                durationMillis, seedLoads, hotKeyLoads, completed, failed, timedOut, entriesLoaded);
+        lastWarmUp.set(result);
+        log.info("Cache warm-up {} in {}ms - entriesLoaded={}, completed={}, failed={}, timedOut={}",
+                result.getStatus(), durationMillis, entriesLoaded, completed, failed, timedOut);
+        return result;
+    }
+
+    @Override
+    public CacheWarmUpDTO getLastWarmUp() {
+        return lastWarmUp.get();
+    }
+
+    @Override
+    public void saveHotKeys() {
+        if (properties.getHotKeysFile() == null) {
+            return;
+        }
+        try {
+            hotKeyRecorder.save(properties.getHotKeysFile(), properties.getMaxHotKeys());
+        } catch (IOException e) {
+            log.warn("Could not save hot cache keys to {}: {}", properties.getHotKeysFile(), e.toString());
+        }
+    }
+
+    private long totalCacheLoads() {
+        long loads = 0;
+        for (CacheStatistics statistics : cacheStatisticsRegistry.getAll()) {
+            loads += statistics.getLoads();
+        }
+        return loads;
+    }
+
+    private List<Callable<Void>> hotKeyLoads() {
+        if (properties.getHotKeysFile() == null) {
+            return List.of();
+        }
+        List<HotKeyRecorder.HotKey> hotKeys;
+        try {
+            hotKeys = hotKeyRecorder.load(properties.getHotKeysFile());
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable hot key file {}: {}", properties.getHotKeysFile(), e.toString());
+            return List.of();
+        }
+
+        Map<String, CacheWarmUpSource> owners = new HashMap<>();
+        for (CacheWarmUpSource source : sources) {
+            source.cacheNames().forEach(cacheName -> owners.put(cacheName, source));
+        }
+
+        List<Callable<Void>> loads = new ArrayList<>();
+        for (HotKeyRecorder.HotKey hotKey : hotKeys.subList(0, Math.min(hotKeys.size(), properties.getMaxHotKeys()))) {
+            CacheWarmUpSource owner = owners.get(hotKey.cache());
+            if (owner != null) {
+                loads.add(asCallable(() -> owner.load(hotKey.cache(), hotKey.toCacheKey())));
+            }
+        }
+        return loads;
+    }
+
+    private static Callable<Void> asCallable(Runnable load) {
+        return () -> {
+            load.run();
+            return null;
+        };
+    }
+}
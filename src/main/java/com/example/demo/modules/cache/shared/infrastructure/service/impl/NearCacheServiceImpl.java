@@ -0,0 +1,32 @@
+package com.example.demo.modules.cache.shared.infrastructure.service.impl;
+
+import com.example.demo.modules.cache.shared.infrastructure.nearcache.CacheInvalidationBus;
+import com.example.demo.modules.cache.shared.infrastructure.nearcache.SharedCacheTier;
+import com.example.demo.modules.cache.shared.infrastructure.service.NearCacheService;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+@Service
+@RequiredArgsConstructor
+public class NearCacheServiceImpl implements NearCacheService {
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final SharedCacheTier sharedCacheTier;
+
+    @Override
+    public Map<String, Object> getNearCacheInfo() {
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("instanceId", cacheInvalidationBus.getInstanceId());
+        info.put("transport", cacheInvalidationBus.getTransport().toString());
+        info.put("sharedTier", sharedCacheTier.toString());
+        info.put("nearCaches", new TreeSet<>(cacheInvalidationBus.getNearCaches().keySet()));
+        info.put("invalidationsPublished", cacheInvalidationBus.getPublished());
+        info.put("invalidationsReceived", cacheInvalidationBus.getReceived());
+        return info;
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.demo.modules.cache.shared.infrastructure.snapshot;
+
+import com.example.demo.modules.cache.shared.infrastructure.offheap.CompactBinaryCodec;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Snapshot of one cache in a memory-mapped file.
+ *
+ * Layout: header (magic, format version, Flyway schema version, write time), class table
+ * (name + layout fingerprint per codec class id), then key/write time/value records encoded by
+ * {@link CompactBinaryCodec}. Opening a snapshot decodes only the keys; each value stays
+ * in the mapped file until {@link #take(Object)} asks for it, so startup cost does not
+ * grow with the size of the cached result lists.
+ *
+ * Entries older than maxAge are skipped when opening and again when taken. A taken entry comes
+ * with what is left of maxAge, so the cache keeps it only until it would have expired anyway.
+ */
+@Slf4j
+public final class CacheSnapshot {
+
+    private static final int MAGIC = 0x43534E50; // "CSNP"
+    private static final int FORMAT_VERSION = 2;
+
+    private final MappedByteBuffer buffer;
+    private final CompactBinaryCodec codec;
+    private final Map<Object, Stored> values;
+    private final Instant writtenAt;
+    private final Duration maxAge;
+
+    private CacheSnapshot(MappedByteBuffer buffer, CompactBinaryCodec codec, Map<Object, Stored> values,
+                          Instant writtenAt, Duration maxAge) {
+        this.buffer = buffer;
+        this.codec = codec;
+        this.values = values;
+        this.writtenAt = writtenAt;
+        this.maxAge = maxAge;
+    }
+
+    public Instant getWrittenAt() {
+        return writtenAt;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Decodes and removes the value stored for this key; empty if the snapshot has no such key
+     * or the entry has outlived maxAge since the snapshot was opened
+     */
+    public Optional<Restored> take(Object key) {
+        Stored stored = values.remove(key);
+        if (stored == null || isExpired(stored.writtenAtMillis(), maxAge)) {
+            return Optional.empty();
+        }
+        byte[] bytes = new byte[stored.length()];
+        buffer.slice(stored.offset(), bytes.length).get(bytes);
+        Object value = codec.decode(bytes);
+        if (value == null) {
+            return Optional.empty();
+        }
+        Duration remaining = maxAge != null
+                ? maxAge.minusMillis(System.currentTimeMillis() - stored.writtenAtMillis())
+                : null;
+        return Optional.of(new Restored(value, remaining));
+    }
+
+    public void remove(Object key) {
+        values.remove(key);
+    }
+
+    /**
+     * Writes the entries to a temp file through a mapping, then moves it over the target
+     * so readers never see a half-written snapshot. Entries that cannot be encoded are skipped.
+     *
+     * @return number of entries written
+     */
+    public static int write(Path file, String schemaVersion, Map<Object, Entry> entries) throws IOException {
+        CompactBinaryCodec snapshotCodec = new CompactBinaryCodec();
+        List<Record> records = new ArrayList<>(entries.size());
+        for (Map.Entry<Object, Entry> entry : entries.entrySet()) {
+            try {
+                byte[] key = snapshotCodec.encode(entry.getKey());
+                byte[] value = snapshotCodec.encode(entry.getValue().value());
+                records.add(new Record(key, entry.getValue().writtenAtMillis(), value));
+            } catch (IllegalArgumentException e) {
+                log.debug("Skipping snapshot entry {}: {}", entry.getKey(), e.getMessage());
+            }
+        }
+
+        ByteBuffer header = header(schemaVersion, snapshotCodec.registeredClasses(), records.size());
+        long size = header.remaining();
+        for (Record record : records) {
+            size += Integer.BYTES + record.key().length + Long.BYTES + Integer.BYTES + record.value().length;
+        }
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            out.put(header);
+            for (Record record : records) {
+                out.putInt(record.key().length).put(record.key())
+                        .putLong(record.writtenAtMillis())
+                        .putInt(record.value().length).put(record.value());
+            }
+            out.force();
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return records.size();
+    }
+
+    /**
+     * Maps a snapshot written by {@link #write}. Empty when the file is missing, was written
+     * against another schema version or DTO layout, or is older than maxAge; entries older
+     * than maxAge are left out.
+     */
+    public static Optional<CacheSnapshot> open(Path file, String schemaVersion, Duration maxAge) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                log.warn("Ignoring cache snapshot {}: unknown format", file);
+                return Optional.empty();
+            }
+            String writtenSchema = readString(buffer);
+            if (!writtenSchema.equals(schemaVersion)) {
+                log.info("Ignoring cache snapshot {}: written for schema {}, current schema is {}",
+                        file, writtenSchema, schemaVersion);
+                return Optional.empty();
+            }
+            Instant writtenAt = Instant.ofEpochMilli(buffer.getLong());
+            if (isExpired(writtenAt.toEpochMilli(), maxAge)) {
+                log.info("Ignoring cache snapshot {}: written at {}, older than {}", file, writtenAt, maxAge);
+                return Optional.empty();
+            }
+
+            CompactBinaryCodec codec = new CompactBinaryCodec();
+            Optional<List<Class<?>>> classes = readClassTable(buffer, file);
+            if (classes.isEmpty()) {
+                return Optional.empty();
+            }
+            codec.registerClasses(classes.get());
+
+            int count = buffer.getInt();
+            Map<Object, Stored> values = new ConcurrentHashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                byte[] key = new byte[buffer.getInt()];
+                buffer.get(key);
+                long entryWrittenAt = buffer.getLong();
+                int valueLength = buffer.getInt();
+                if (!isExpired(entryWrittenAt, maxAge)) {
+                    values.put(codec.decode(key), new Stored(buffer.position(), valueLength, entryWrittenAt));
+                }
+                buffer.position(buffer.position() + valueLength);
+            }
+            return Optional.of(new CacheSnapshot(buffer, codec, values, writtenAt, maxAge));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable cache snapshot {}: {}", file, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isExpired(long writtenAtMillis, Duration maxAge) {
+        return maxAge != null && writtenAtMillis + maxAge.toMillis() <= System.currentTimeMillis();
+    }
+
+    private static ByteBuffer header(String schemaVersion, List<Class<?>> classes, int count) {
+        List<byte[]> names = classes.stream().map(type -> type.getName().getBytes(StandardCharsets.UTF_8)).toList();
+        byte[] schema = schemaVersion.getBytes(StandardCharsets.UTF_8);
+        int size = 4 + 4 + 4 + schema.length + 8 + 4 + 4;
+        for (byte[] name : names) {
+            size += 4 + name.length + 4;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(size)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putInt(schema.length).put(schema)
+                .putLong(System.currentTimeMillis())
+                .putInt(classes.size());
+        for (int i = 0; i < classes.size(); i++) {
+            header.putInt(names.get(i).length).put(names.get(i))
+                    .putInt(CompactBinaryCodec.layoutFingerprint(classes.get(i)));
+        }
+        return header.putInt(count).flip();
+    }
+
+    private static Optional<List<Class<?>>> readClassTable(ByteBuffer buffer, Path file) {
+        int count = buffer.getInt();
+        List<Class<?>> classes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = readString(buffer);
+            int fingerprint = buffer.getInt();
+            try {
+                Class<?> type = Class.forName(name, false, CacheSnapshot.class.getClassLoader());
+                if (CompactBinaryCodec.layoutFingerprint(type) != fingerprint) {
+                    log.info("Ignoring cache snapshot {}: layout of {} has changed", file, name);
+                    return Optional.empty();
+                }
+                classes.add(type);
+            } catch (ClassNotFoundException e) {
+                log.info("Ignoring cache snapshot {}: {} no longer exists", file, name);
+                return Optional.empty();
+            }
+        }
+        return Optional.of(classes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A value to snapshot and the time its cache entry was written
+     */
+    public record Entry(Object value, long writtenAtMillis) {
+    }
+
+    /**
+     * A restored value and how much of its time-to-live is left; null if it never expires
+     */
+    public record Restored(Object value, Duration remainingTimeToLive) {
+    }
+
+    private record Record(byte[] key, long writtenAtMillis, byte[] value) {
+    }
+
+    private record Stored(int offset, int length, long writtenAtMillis) {
+    }
+}
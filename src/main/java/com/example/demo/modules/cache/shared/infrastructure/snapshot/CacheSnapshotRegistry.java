@@ -0,0 +1,160 @@
+package com.example.demo.modules.cache.shared.infrastructure.snapshot;
+
+import com.example.demo.modules.cache.shared.infrastructure.config.CacheSpecProperties;
+import com.example.demo.modules.cache.shared.infrastructure.offheap.OffHeapCache;
+import com.github.benmanes.caffeine.cache.Policy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Writes a snapshot of every cache with snapshot=true every `interval` and once more at
+ * shutdown, and hands the previous run's snapshot to each such cache when it is created.
+ *
+ * Snapshots are tied to the Flyway schema version: after a migration the old files are
+ * ignored instead of restoring rows shaped for the previous schema.
+ *
+ * The writer reads the L1 store through Caffeine's policy without recording accesses or
+ * triggering refreshes, and stores each entry with the time it was written, so entries that
+ * have outlived the cache's TTL are not brought back.
+ */
+@Slf4j
+public class CacheSnapshotRegistry {
+
+    private final CacheSpecProperties.SnapshotSettings settings;
+    private final Supplier<String> schemaVersionSupplier;
+    private final Map<String, Registration> registrations = new ConcurrentHashMap<>();
+    private volatile String schemaVersion;
+    private ScheduledExecutorService scheduler;
+
+    public CacheSnapshotRegistry(CacheSpecProperties.SnapshotSettings settings, Supplier<String> schemaVersionSupplier) {
+        this.settings = settings;
+        this.schemaVersionSupplier = schemaVersionSupplier;
+    }
+
+    public void start() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        long intervalMillis = settings.getInterval().toMillis();
+        scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("cache-snapshot-"));
+        scheduler.scheduleWithFixedDelay(this::writeAll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeAll();
+    }
+
+    /**
+     * Wraps a cache so misses are first served from its snapshot.
+     *
+     * @param cache   the decorator chain the snapshot cache is placed on
+     * @param storage the L1 store whose entries are written to the snapshot
+     * @param maxAge  snapshots older than this (the cache's TTL) are not restored
+     */
+    public Cache attach(String cacheName, Cache cache, Cache storage, Duration maxAge) {
+        if (!settings.isEnabled()) {
+            return cache;
+        }
+        Optional<CacheSnapshot> snapshot = CacheSnapshot.open(fileFor(cacheName), schemaVersion(), maxAge);
+        snapshot.ifPresent(s -> log.info("Cache '{}' will restore {} entries from the snapshot written at {}",
+                cacheName, s.size(), s.getWrittenAt()));
+        SnapshotCache snapshotCache = new SnapshotCache(cache, snapshot.orElse(null));
+        registrations.put(cacheName, new Registration(storage, snapshotCache, maxAge));
+        return snapshotCache;
+    }
+
+    public synchronized void writeAll() {
+        registrations.forEach(this::write);
+    }
+
+    public Map<String, Object> getInfo() {
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("enabled", settings.isEnabled());
+        info.put("directory", settings.getDirectory().toAbsolutePath().toString());
+        info.put("interval", settings.getInterval().toString());
+        info.put("schemaVersion", schemaVersion);
+        Map<String, Object> caches = new LinkedHashMap<>();
+        registrations.forEach((cacheName, registration) -> caches.put(cacheName, Map.of(
+                "restored", registration.snapshotCache().getRestored(),
+                "pendingRestore", registration.snapshotCache().getPending())));
+        info.put("caches", caches);
+        return info;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void write(String cacheName, Registration registration) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<Object, Object>) registration.storage().getNativeCache();
+        // Stores expire through WriteExpiry, so an entry's age is its TTL minus what is left of it
+        Optional<Policy.VarExpiration<Object, Object>> expiration = nativeCache.policy().expireVariably();
+        long now = System.currentTimeMillis();
+        Map<Object, CacheSnapshot.Entry> entries = new LinkedHashMap<>();
+        for (Object key : nativeCache.asMap().keySet()) {
+            Object value = peek(registration.storage(), nativeCache, key);
+            if (value == null) {
+                continue;
+            }
+            long ageMillis = registration.timeToLive() == null ? 0L : expiration
+                    .flatMap(policy -> policy.getExpiresAfter(key))
+                    .map(remaining -> registration.timeToLive().minus(remaining).toMillis())
+                    .orElse(0L);
+            entries.put(key, new CacheSnapshot.Entry(value, now - ageMillis));
+        }
+        try {
+            int written = CacheSnapshot.write(fileFor(cacheName), schemaVersion(), entries);
+            log.debug("Wrote snapshot of cache '{}' with {} entries", cacheName, written);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write snapshot of cache '{}': {}", cacheName, e.toString());
+        }
+    }
+
+    // Quiet reads: a plain get() would count as an access and may start a refresh or a load
+    private Object peek(Cache storage, com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache, Object key) {
+        if (storage instanceof OffHeapCache offHeapCache) {
+            Cache.ValueWrapper value = offHeapCache.peek(key);
+            return value != null ? value.get() : null;
+        }
+        Object value = nativeCache.policy().getIfPresentQuietly(key);
+        return value instanceof NullValue ? null : value;
+    }
+
+    private Path fileFor(String cacheName) {
+        return settings.getDirectory().resolve(cacheName + ".snapshot");
+    }
+
+    // Resolved on first use and kept, so the shutdown snapshot does not need the database
+    private String schemaVersion() {
+        String version = schemaVersion;
+        if (version == null) {
+            version = schemaVersionSupplier.get();
+            schemaVersion = version;
+        }
+        return version;
+    }
+
+    private record Registration(Cache storage, SnapshotCache snapshotCache, Duration timeToLive) {
+    }
+}
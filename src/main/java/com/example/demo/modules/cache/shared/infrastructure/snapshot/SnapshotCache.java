@@ -0,0 +1,144 @@
+package com.example.demo.modules.cache.shared.infrastructure.snapshot;
+
+import com.example.demo.modules.cache.shared.infrastructure.support.DelegatingCache;
+import com.example.demo.modules.cache.shared.infrastructure.support.WriteExpiry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serves misses from the snapshot written by the previous run before running the real loader.
+ *
+ * A restored value is returned from inside the loader, so everything below (dependency
+ * tracking, L1 storage) treats it like a freshly loaded result, except that the store's
+ * {@link WriteExpiry} keeps it only for the rest of the TTL it had in the previous run. Evicting a key also drops it
+ * from the snapshot, and clear() drops the whole snapshot, so an invalidation is never undone
+ * by a stale restore.
+ */
+public class SnapshotCache extends DelegatingCache {
+
+    private volatile CacheSnapshot snapshot;
+    private final LongAdder restored = new LongAdder();
+
+    public SnapshotCache(Cache delegate, CacheSnapshot snapshot) {
+        super(delegate);
+        this.snapshot = snapshot;
+    }
+
+    public long getRestored() {
+        return restored.sum();
+    }
+
+    public int getPending() {
+        CacheSnapshot current = snapshot;
+        return current != null ? current.size() : 0;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = delegate.get(key);
+        if (value != null) {
+            return value;
+        }
+        Optional<CacheSnapshot.Restored> restored = restore(key);
+        if (restored.isEmpty()) {
+            return null;
+        }
+        capNextWrite(restored.get());
+        try {
+            delegate.put(key, restored.get().value());
+        } finally {
+            WriteExpiry.clearCap();
+        }
+        return new SimpleValueWrapper(restored.get().value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (snapshot == null) {
+            return delegate.get(key, valueLoader);
+        }
+        try {
+            return delegate.get(key, () -> {
+                Optional<CacheSnapshot.Restored> restored = restore(key);
+                if (restored.isEmpty()) {
+                    return valueLoader.call();
+                }
+                capNextWrite(restored.get());
+                return (T) restored.get().value();
+            });
+        } finally {
+            // Unused if the store below did not create an entry (e.g. an empty result went to the negative tier)
+            WriteExpiry.clearCap();
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        forget(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        forget(key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        snapshot = null;
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        snapshot = null;
+        return delegate.invalidate();
+    }
+
+    private static void capNextWrite(CacheSnapshot.Restored restored) {
+        if (restored.remainingTimeToLive() != null) {
+            WriteExpiry.capNextWrite(restored.remainingTimeToLive());
+        }
+    }
+
+    private Optional<CacheSnapshot.Restored> restore(Object key) {
+        CacheSnapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        Optional<CacheSnapshot.Restored> value = current.take(key);
+        if (value.isPresent()) {
+            restored.increment();
+        }
+        if (current.size() == 0) {
+            // Everything restored or evicted: release the mapping
+            snapshot = null;
+        }
+        return value;
+    }
+
+    private void forget(Object key) {
+        CacheSnapshot current = snapshot;
+        if (current != null) {
+            current.remove(key);
+        }
+    }
+}
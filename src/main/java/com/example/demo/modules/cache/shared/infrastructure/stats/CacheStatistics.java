@@ -0,0 +1,131 @@
+package com.example.demo.modules.cache.shared.infrastructure.stats;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Counters for one named cache.
+ * LongAdder stripes updates across cells, so concurrent hits on the same cache
+ * never contend on a single counter the way ConcurrentHashMap.merge() does.
+ */
+public class CacheStatistics {
+
+    private final String cacheName;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder totalLoadTimeNanos = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder keyCollisions = new LongAdder();
+    private volatile LongSupplier sizeSupplier = () -> 0L;
+    private volatile LongSupplier negativeSizeSupplier = () -> 0L;
+
+    public CacheStatistics(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public void recordHit() {
+        hits.increment();
+    }
+
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    public void recordLoad(long loadTimeNanos) {
+        loads.increment();
+        totalLoadTimeNanos.add(loadTimeNanos);
+    }
+
+    public void recordLoadFailure(long loadTimeNanos) {
+        loadFailures.increment();
+        totalLoadTimeNanos.add(loadTimeNanos);
+    }
+
+    public void recordEviction() {
+        evictions.increment();
+    }
+
+    public void recordCoalescedLoad() {
+        coalescedLoads.increment();
+    }
+
+    public void recordNegativeHit() {
+        negativeHits.increment();
+    }
+
+    public void recordKeyCollision() {
+        keyCollisions.increment();
+    }
+
+    void setSizeSupplier(LongSupplier sizeSupplier) {
+        this.sizeSupplier = sizeSupplier;
+    }
+
+    public void setNegativeSizeSupplier(LongSupplier negativeSizeSupplier) {
+        this.negativeSizeSupplier = negativeSizeSupplier;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    public long getLoadFailures() {
+        return loadFailures.sum();
+    }
+
+    public long getTotalLoadTimeNanos() {
+        return totalLoadTimeNanos.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public long getCoalescedLoads() {
+        return coalescedLoads.sum();
+    }
+
+    public long getNegativeHits() {
+        return negativeHits.sum();
+    }
+
+    public long getKeyCollisions() {
+        return keyCollisions.sum();
+    }
+
+    public long getSize() {
+        return sizeSupplier.getAsLong();
+    }
+
+    public long getNegativeSize() {
+        return negativeSizeSupplier.getAsLong();
+    }
+
+    // Callers that waited on another caller's load count as lookups that did not hit
+    public double getHitRatio() {
+        long hitCount = getHits();
+        long requestCount = hitCount + getMisses() + getCoalescedLoads();
+        return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+    }
+
+    public double getAverageLoadMillis() {
+        long loadCount = getLoads() + getLoadFailures();
+        return loadCount == 0 ? 0.0 : getTotalLoadTimeNanos() / 1_000_000.0 / loadCount;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demo.modules.cache.shared.infrastructure.stats;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Holds the {@link CacheStatistics} of every cache and publishes them to Micrometer.
+ * Statistics are created once per cache name when the cache is built;
+ * the hot path only touches the LongAdders inside CacheStatistics.
+ */
+public class CacheStatisticsRegistry {
+
+    private final Map<String, CacheStatistics> statistics = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public CacheStatisticsRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public CacheStatistics register(String cacheName, LongSupplier sizeSupplier) {
+        CacheStatistics cacheStatistics = statistics.computeIfAbsent(cacheName, this::createAndBind);
+        cacheStatistics.setSizeSupplier(sizeSupplier);
+        return cacheStatistics;
+    }
+
+    public CacheStatistics get(String cacheName) {
+        return statistics.get(cacheName);
+    }
+
+    public Collection<CacheStatistics> getAll() {
+        return Collections.unmodifiableCollection(statistics.values());
+    }
+
+    private CacheStatistics createAndBind(String cacheName) {
+        CacheStatistics cacheStatistics = new CacheStatistics(cacheName);
+        Tags tags = Tags.of("cache", cacheName);
+
+        FunctionCounter.builder("cache.gets", cacheStatistics, CacheStatistics::getHits)
+                .tags(tags).tag("result", "hit")
+                .description("Number of cache lookups that returned a cached value")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cacheStatistics, CacheStatistics::getMisses)
+                .tags(tags).tag("result", "miss")
+                .description("Number of cache lookups that had to load the value")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", cacheStatistics, CacheStatistics::getEvictions)
+                .tags(tags)
+                .description("Number of entries evicted by size or expiry")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.loads.coalesced", cacheStatistics, CacheStatistics::getCoalescedLoads)
+                .tags(tags)
+                .description("Number of misses that waited on another caller's in-flight load instead of loading")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets.negative", cacheStatistics, CacheStatistics::getNegativeHits)
+                .tags(tags)
+                .description("Number of hits answered from the negative (empty result) store")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.key.collisions", cacheStatistics, CacheStatistics::getKeyCollisions)
+                .tags(tags)
+                .description("Number of sampled hits whose key was stored for a different request")
+                .register(meterRegistry);
+        FunctionTimer.builder("cache.loads", cacheStatistics,
+                        CacheStatistics::getLoads, CacheStatistics::getTotalLoadTimeNanos, TimeUnit.NANOSECONDS)
+                .tags(tags)
+                .description("Time spent loading values on cache misses")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", cacheStatistics, CacheStatistics::getSize)
+                .tags(tags)
+                .description("Approximate number of entries in the cache")
+                .register(meterRegistry);
+        Gauge.builder("cache.size.negative", cacheStatistics, CacheStatistics::getNegativeSize)
+                .tags(tags)
+                .description("Approximate number of cached empty results")
+                .register(meterRegistry);
+
+        return cacheStatistics;
+    }
+}
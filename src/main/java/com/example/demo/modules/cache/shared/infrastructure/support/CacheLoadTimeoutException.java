@@ -0,0 +1,14 @@
+package com.example.demo.modules.cache.shared.infrastructure.support;
+
+import java.time.Duration;
+
+/**
+ * Thrown to callers that waited on another thread's in-flight load for longer than the cache's load timeout.
+ */
+public class CacheLoadTimeoutException extends RuntimeException {
+
+    public CacheLoadTimeoutException(String cacheName, Object key, Duration timeout) {
+        super("Timed out after " + timeout.toMillis() + " ms waiting for in-flight load of key '"
+                + key + "' in cache '" + cacheName + "'");
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.demo.modules.cache.shared.infrastructure.support;
+
+import com.example.demo.modules.cache.shared.infrastructure.stats.CacheStatistics;
+import com.example.demo.modules.cache.shared.infrastructure.warmup.HotKeyRecorder;
+import org.springframework.cache.Cache;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * Records hits, misses and load time for one cache into its {@link CacheStatistics},
+ * and counts each looked-up key for the {@link HotKeyRecorder}.
+ *
+ * Spring's @Cacheable has two paths:
+ * - sync = true: get(key, Callable) - the Callable only runs on a miss, so we time it directly.
+ *   A caller that waited for another caller's load ({@link SingleFlightCache}) is neither a hit nor
+ *   a miss; it is counted as a coalesced load only.
+ * - default: get(key) misses, the method runs, then put(key, value) - we time from miss to put
+ *   on the same thread. If the method throws there is no put: the pending miss is dropped by the
+ *   next lookup of the same key on that thread, and replaced by its next miss.
+ */
+public class InstrumentedCache extends DelegatingCache {
+
+    private static final ThreadLocal<PendingLoad> PENDING_LOAD = new ThreadLocal<>();
+
+    private final CacheStatistics statistics;
+    private final HotKeyRecorder.Counter hotKeys;
+
+    public InstrumentedCache(Cache delegate, CacheStatistics statistics, HotKeyRecorder.Counter hotKeys) {
+        super(delegate);
+        this.statistics = statistics;
+        this.hotKeys = hotKeys;
+    }
+
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        hotKeys.record(key);
+        ValueWrapper value = delegate.get(key);
+        if (value != null) {
+            statistics.recordHit();
+            clearPendingLoad(key);
+        } else {
+            statistics.recordMiss();
+            PENDING_LOAD.set(new PendingLoad(this, key, System.nanoTime()));
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        hotKeys.record(key);
+        boolean[] loaded = new boolean[1];
+        boolean found = false;
+        try {
+            T value = delegate.get(key, () -> {
+                loaded[0] = true;
+                long start = System.nanoTime();
+                try {
+                    T result = valueLoader.call();
+                    statistics.recordLoad(System.nanoTime() - start);
+                    return result;
+                } catch (Exception e) {
+                    statistics.recordLoadFailure(System.nanoTime() - start);
+                    throw e;
+                }
+            });
+            found = !loaded[0];
+            return value;
+        } finally {
+            boolean joined = SingleFlightCache.takeJoined();
+            if (loaded[0]) {
+                statistics.recordMiss();
+            } else if (found && !joined) {
+                statistics.recordHit();
+            }
+            clearPendingLoad(key);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        PendingLoad pending = PENDING_LOAD.get();
+        if (pending != null && pending.isFor(this, key)) {
+            statistics.recordLoad(System.nanoTime() - pending.startNanos);
+            PENDING_LOAD.remove();
+        }
+    }
+
+    // Only this cache's own key: a pending miss of an enclosing cached call must survive nested lookups
+    private void clearPendingLoad(Object key) {
+        PendingLoad pending = PENDING_LOAD.get();
+        if (pending != null && pending.isFor(this, key)) {
+            PENDING_LOAD.remove();
+        }
+    }
+
+    private record PendingLoad(InstrumentedCache owner, Object key, long startNanos) {
+
+        boolean isFor(InstrumentedCache cache, Object cacheKey) {
+            return owner == cache && Objects.equals(key, cacheKey);
+        }
+    }
+}
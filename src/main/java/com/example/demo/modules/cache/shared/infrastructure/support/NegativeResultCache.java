@@ -0,0 +1,212 @@
+package com.example.demo.modules.cache.shared.infrastructure.support;
+
+import com.example.demo.modules.cache.shared.infrastructure.stats.CacheStatistics;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.concurrent.Callable;
+
+/**
+ * Keeps empty results (null, empty collection or map, Optional.empty()) apart from real ones.
+ *
+ * Empty results go to a separate Caffeine store with its own short TTL and size budget and
+ * hold only an {@link EmptyResult} constant, so probes for keys that do not exist are
+ * answered from memory without pushing positive entries out of the main cache.
+ * The negative store is checked first, so a fresh empty result also hides an older
+ * positive value until it expires.
+ * Empty results are thrown past the positive tier as an
+ * {@link RefreshingCaffeineCache.UncachedResultException}, so a refreshing store neither keeps
+ * their loader nor lets a background refresh write an empty value back with the positive TTL.
+ */
+public class NegativeResultCache extends DelegatingCache {
+
+    private final com.github.benmanes.caffeine.cache.Cache<Object, EmptyResult> negatives;
+    private final CacheStatistics statistics;
+
+    public NegativeResultCache(Cache delegate, long maximumSize, Duration timeToLive, CacheStatistics statistics) {
+        this(delegate, maximumSize, timeToLive, statistics, Ticker.systemTicker());
+    }
+
+    NegativeResultCache(Cache delegate, long maximumSize, Duration timeToLive, CacheStatistics statistics,
+                        Ticker ticker) {
+        super(delegate);
+        this.negatives = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .ticker(ticker)
+                .build();
+        this.statistics = statistics;
+    }
+
+    public long negativeSize() {
+        return negatives.estimatedSize();
+    }
+
+    /**
+     * Whether the value would be kept in the negative tier rather than passed to the delegate
+     */
+    public static boolean isEmptyResult(Object value) {
+        return EmptyResult.of(value) != null;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        EmptyResult empty = negatives.getIfPresent(key);
+        if (empty != null) {
+            statistics.recordNegativeHit();
+            return new SimpleValueWrapper(empty.value());
+        }
+        return delegate.get(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        EmptyResult empty = negatives.getIfPresent(key);
+        if (empty != null) {
+            statistics.recordNegativeHit();
+            return (T) empty.value();
+        }
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        EmptyResult empty = negatives.getIfPresent(key);
+        if (empty != null) {
+            statistics.recordNegativeHit();
+            return (T) empty.value();
+        }
+
+        // An empty result is thrown past the positive tier so it is never stored there. A refreshing
+        // store replays this loader in the background and drops the entry on the same signal.
+        try {
+            return delegate.get(key, () -> {
+                T value = valueLoader.call();
+                EmptyResult kind = EmptyResult.of(value);
+                if (kind != null) {
+                    negatives.put(key, kind);
+                    throw new EmptyResultSignal(value);
+                }
+                return value;
+            });
+        } catch (EmptyResultSignal signal) {
+            return (T) signal.value;
+        } catch (ValueRetrievalException e) {
+            if (e.getCause() instanceof EmptyResultSignal signal) {
+                return (T) signal.value;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        EmptyResult kind = EmptyResult.of(value);
+        if (kind == null) {
+            negatives.invalidate(key);
+            delegate.put(key, value);
+            return;
+        }
+        negatives.put(key, kind);
+        delegate.evict(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = get(key);
+        if (existing == null) {
+            put(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        negatives.invalidate(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean negative = negatives.asMap().remove(key) != null;
+        return delegate.evictIfPresent(key) || negative;
+    }
+
+    @Override
+    public void clear() {
+        negatives.invalidateAll();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean negative = negatives.estimatedSize() > 0;
+        negatives.invalidateAll();
+        return delegate.invalidate() || negative;
+    }
+
+    /**
+     * Sentinel per shape of empty result; restored as the matching immutable empty value
+     */
+    enum EmptyResult {
+        NULL, LIST, SORTED_SET, SET, SORTED_MAP, MAP, OPTIONAL;
+
+        static EmptyResult of(Object value) {
+            if (value == null) {
+                return NULL;
+            }
+            if (value instanceof List<?> list) {
+                return list.isEmpty() ? LIST : null;
+            }
+            if (value instanceof SortedSet<?> set) {
+                return set.isEmpty() ? SORTED_SET : null;
+            }
+            if (value instanceof Set<?> set) {
+                return set.isEmpty() ? SET : null;
+            }
+            if (value instanceof SortedMap<?, ?> map) {
+                return map.isEmpty() ? SORTED_MAP : null;
+            }
+            if (value instanceof Map<?, ?> map) {
+                return map.isEmpty() ? MAP : null;
+            }
+            if (value instanceof Optional<?> optional) {
+                return optional.isEmpty() ? OPTIONAL : null;
+            }
+            return null;
+        }
+
+        Object value() {
+            return switch (this) {
+                case NULL -> null;
+                case LIST -> List.of();
+                case SORTED_SET -> Collections.emptySortedSet();
+                case SET -> Set.of();
+                case SORTED_MAP -> Collections.emptySortedMap();
+                case MAP -> Map.of();
+                case OPTIONAL -> Optional.empty();
+            };
+        }
+    }
+
+    private static final class EmptyResultSignal extends RefreshingCaffeineCache.UncachedResultException {
+
+        private final transient Object value;
+
+        EmptyResultSignal(Object value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.demo.modules.cache.shared.infrastructure.support;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.NullValue;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caffeine cache with refreshAfterWrite support for Spring's @Cacheable.
+ * Caffeine needs a loader to refresh an entry, but Spring only hands over the
+ * cached method as a one-off Callable on a synchronized lookup. We remember that
+ * Callable per key and replay it when Caffeine refreshes the entry in the background.
+ * Entries written through put() have no Callable; they simply drop out at refresh time.
+ *
+ * A Callable is only remembered once it has produced the entry, and is dropped together with
+ * the entry, so hits never touch the map and a failed load leaves nothing behind.
+ * A Callable that throws {@link UncachedResultException} leaves the key uncached: a load stores
+ * nothing, a refresh removes the entry, and in both cases the Callable is forgotten.
+ */
+public class RefreshingCaffeineCache extends CaffeineCache {
+
+    private final Map<Object, Callable<?>> valueLoaders;
+
+    private RefreshingCaffeineCache(String name, LoadingCache<Object, Object> cache,
+                                    Map<Object, Callable<?>> valueLoaders, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+        this.valueLoaders = valueLoaders;
+    }
+
+    public static RefreshingCaffeineCache create(String name, Caffeine<Object, Object> builder, boolean allowNullValues) {
+        return create(name, builder, allowNullValues, (key, value, cause) -> {
+        });
+    }
+
+    /**
+     * @param evictionListener also notified of evictions; Caffeine allows only one eviction listener per builder
+     */
+    public static RefreshingCaffeineCache create(String name, Caffeine<Object, Object> builder, boolean allowNullValues,
+                                                 RemovalListener<Object, Object> evictionListener) {
+        Map<Object, Callable<?>> valueLoaders = new ConcurrentHashMap<>();
+        LoadingCache<Object, Object> cache = builder
+                .evictionListener((key, value, cause) -> {
+                    valueLoaders.remove(key);
+                    evictionListener.onRemoval(key, value, cause);
+                })
+                .build(key -> reload(valueLoaders, key, allowNullValues));
+        return new RefreshingCaffeineCache(name, cache, valueLoaders, allowNullValues);
+    }
+
+    private static Object reload(Map<Object, Callable<?>> valueLoaders, Object key, boolean allowNullValues) {
+        Callable<?> valueLoader = valueLoaders.get(key);
+        if (valueLoader == null) {
+            return null;
+        }
+        try {
+            Object value = valueLoader.call();
+            return (value == null && allowNullValues) ? NullValue.INSTANCE : value;
+        } catch (UncachedResultException e) {
+            // Returning null makes Caffeine drop the entry; that removal is not an eviction,
+            // so the listener would not forget the Callable for us
+            valueLoaders.remove(key, valueLoader);
+            return null;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // Runs inside Caffeine's compute for the absent key only; a hit returns without calling it
+        return super.get(key, () -> {
+            T value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception | Error e) {
+                // No entry is created, so nothing would ever remove a stale Callable for this key
+                valueLoaders.remove(key);
+                throw e;
+            }
+            valueLoaders.put(key, valueLoader);
+            return value;
+        });
+    }
+
+    @Override
+    public void evict(Object key) {
+        valueLoaders.remove(key);
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        valueLoaders.remove(key);
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        valueLoaders.clear();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        valueLoaders.clear();
+        return super.invalidate();
+    }
+
+    /**
+     * Thrown by a value loader whose result must not be cached; stackless, as it is control flow
+     */
+    public static class UncachedResultException extends RuntimeException {
+
+        protected UncachedResultException() {
+            super(null, null, false, false);
+        }
+    }
+}
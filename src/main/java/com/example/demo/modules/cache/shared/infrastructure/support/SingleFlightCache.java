@@ -0,0 +1,96 @@
+package com.example.demo.modules.cache.shared.infrastructure.support;
+
+import com.example.demo.modules.cache.shared.infrastructure.stats.CacheStatistics;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Coalesces concurrent misses for the same key into one load (used by @Cacheable(sync = true)).
+ *
+ * The first caller for a missing key runs the loader; everyone else arriving while it is
+ * in flight waits on the same future and shares its value or its exception.
+ * Waiters give up after the cache's load timeout instead of piling up behind a slow query.
+ * A waiter is counted as a coalesced load, and {@link InstrumentedCache} counts it as neither a hit
+ * nor a miss.
+ */
+public class SingleFlightCache extends DelegatingCache {
+
+    // Set while a caller waits on another caller's load; taken by the InstrumentedCache around it
+    private static final ThreadLocal<Boolean> JOINED = new ThreadLocal<>();
+
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Duration loadTimeout;
+    private final CacheStatistics statistics;
+
+    public SingleFlightCache(Cache delegate, Duration loadTimeout, CacheStatistics statistics) {
+        super(delegate);
+        this.loadTimeout = loadTimeout;
+        this.statistics = statistics;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            statistics.recordCoalescedLoad();
+            JOINED.set(Boolean.TRUE);
+            return (T) await(key, existing);
+        }
+
+        try {
+            T value = delegate.get(key, valueLoader);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Whether the calling thread's last get(key, Callable) waited for another caller's load; clears the flag
+     */
+    static boolean takeJoined() {
+        boolean joined = JOINED.get() != null;
+        if (joined) {
+            JOINED.remove();
+        }
+        return joined;
+    }
+
+    private Object await(Object key, CompletableFuture<Object> flight) {
+        try {
+            return flight.get(loadTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new CacheLoadTimeoutException(getName(), key, loadTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CacheLoadTimeoutException(getName(), key, loadTimeout);
+        } catch (ExecutionException e) {
+            // Rethrow the leader's exception so every caller sees the same failure
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
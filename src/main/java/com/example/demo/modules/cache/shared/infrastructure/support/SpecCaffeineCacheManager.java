@@ -0,0 +1,168 @@
+package com.example.demo.modules.cache.shared.infrastructure.support;
+
+import com.example.demo.modules.cache.shared.infrastructure.collision.CollisionDetectingCache;
+import com.example.demo.modules.cache.shared.infrastructure.config.CacheSpecProperties;
+import com.example.demo.modules.cache.shared.infrastructure.invalidation.CacheDependencyIndex;
+import com.example.demo.modules.cache.shared.infrastructure.invalidation.DependencyTrackingCache;
+import com.example.demo.modules.cache.shared.infrastructure.nearcache.CacheInvalidationBus;
+import com.example.demo.modules.cache.shared.infrastructure.nearcache.NearCache;
+import com.example.demo.modules.cache.shared.infrastructure.nearcache.SharedCacheTier;
+import com.example.demo.modules.cache.shared.infrastructure.offheap.CompactBinaryCodec;
+import com.example.demo.modules.cache.shared.infrastructure.offheap.OffHeapCache;
+import com.example.demo.modules.cache.shared.infrastructure.snapshot.CacheSnapshotRegistry;
+import com.example.demo.modules.cache.shared.infrastructure.stats.CacheStatistics;
+import com.example.demo.modules.cache.shared.infrastructure.stats.CacheStatisticsRegistry;
+import com.example.demo.modules.cache.shared.infrastructure.warmup.HotKeyRecorder;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * Caffeine cache manager that builds each named cache from its own spec
+ * (maximum size, TTL, refresh) instead of one shared builder for all caches.
+ * Every cache is wrapped in a {@link SingleFlightCache} so concurrent misses share one load,
+ * and in an {@link InstrumentedCache} so hits, misses, load time and evictions land in the
+ * shared {@link CacheStatisticsRegistry}; the same wrapper counts typed keys for the {@link HotKeyRecorder}.
+ * Caches with an off-heap-capacity keep their values in an {@link OffHeapCache} instead,
+ * and caches with near-cache=true become L1 of a {@link NearCache} over the shared tier.
+ * Caches with a negative-ttl keep empty results in a separate {@link NegativeResultCache}.
+ * A {@link DependencyTrackingCache} records which entity data each stored value came from.
+ * Caches with snapshot=true restore misses from the previous run's snapshot ({@link CacheSnapshotRegistry}).
+ * Caches with a collision-fingerprint check sampled hits for key collisions ({@link CollisionDetectingCache}).
+ */
+@Slf4j
+public class SpecCaffeineCacheManager extends CaffeineCacheManager {
+
+    private final CacheSpecProperties cacheSpecProperties;
+    private final CacheStatisticsRegistry cacheStatisticsRegistry;
+    private final SharedCacheTier sharedCacheTier;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final CacheDependencyIndex cacheDependencyIndex;
+    private final HotKeyRecorder hotKeyRecorder;
+    private final CacheSnapshotRegistry cacheSnapshotRegistry;
+    private static final long DEFAULT_FINGERPRINT_CAPACITY = 10_000;
+
+    private final CompactBinaryCodec offHeapCodec = new CompactBinaryCodec();
+
+    public SpecCaffeineCacheManager(CacheSpecProperties cacheSpecProperties,
+                                    CacheStatisticsRegistry cacheStatisticsRegistry,
+                                    SharedCacheTier sharedCacheTier,
+                                    CacheInvalidationBus cacheInvalidationBus,
+                                    CacheDependencyIndex cacheDependencyIndex,
+                                    HotKeyRecorder hotKeyRecorder,
+                                    CacheSnapshotRegistry cacheSnapshotRegistry) {
+        this.cacheSpecProperties = cacheSpecProperties;
+        this.cacheStatisticsRegistry = cacheStatisticsRegistry;
+        this.sharedCacheTier = sharedCacheTier;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.cacheDependencyIndex = cacheDependencyIndex;
+        this.hotKeyRecorder = hotKeyRecorder;
+        this.cacheSnapshotRegistry = cacheSnapshotRegistry;
+    }
+
+    @Override
+    protected Cache createCaffeineCache(String name) {
+        CacheSpecProperties.Spec spec = cacheSpecProperties.resolve(name);
+        CacheStatistics statistics = cacheStatisticsRegistry.register(name, () -> 0L);
+
+        log.info("Creating cache '{}' - maximumSize={}, expireAfterWrite={}, refreshAfterWrite={}, loadTimeout={}, offHeapCapacity={}, nearCache={}, negativeTtl={}, snapshot={}, collisionFingerprint={}",
+                name, spec.getMaximumSize(), spec.getExpireAfterWrite(), spec.getRefreshAfterWrite(),
+                spec.getLoadTimeout(), spec.getOffHeapCapacity(), spec.getNearCache(), spec.getNegativeTtl(), spec.getSnapshot(),
+                spec.getCollisionFingerprint());
+
+        Cache storage = spec.getOffHeapCapacity() != null
+                ? createOffHeapCache(name, spec, statistics)
+                : createHeapCache(name, spec, statistics);
+        Cache cache = storage;
+        com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<?, ?>) storage.getNativeCache();
+        cacheStatisticsRegistry.register(name, nativeCache::estimatedSize);
+
+        if (spec.getNegativeTtl() != null) {
+            NegativeResultCache negativeCache = createNegativeResultCache(cache, spec, statistics);
+            statistics.setNegativeSizeSupplier(negativeCache::negativeSize);
+            cache = negativeCache;
+        }
+
+        // Below the near-cache so values filled from L2 are indexed on this instance as well
+        cache = new DependencyTrackingCache(cache, cacheDependencyIndex, spec.getExpireAfterWrite(), spec.getNegativeTtl());
+
+        // Above dependency tracking so restored values are indexed like loaded ones
+        if (Boolean.TRUE.equals(spec.getSnapshot())) {
+            cache = cacheSnapshotRegistry.attach(name, cache, storage, spec.getExpireAfterWrite());
+        }
+
+        if (Boolean.TRUE.equals(spec.getNearCache())) {
+            cache = new NearCache(cache, sharedCacheTier, cacheInvalidationBus);
+        }
+
+        Cache coalescing = spec.getLoadTimeout() != null
+                ? new SingleFlightCache(cache, spec.getLoadTimeout(), statistics)
+                : cache;
+        return new InstrumentedCache(detectCollisions(coalescing, spec, statistics), statistics, hotKeyRecorder.forCache(name));
+    }
+
+    // Outside single-flight so callers that joined another caller's load are checked as hits
+    private Cache detectCollisions(Cache cache, CacheSpecProperties.Spec spec, CacheStatistics statistics) {
+        CacheSpecProperties.CollisionDetectionSettings settings = cacheSpecProperties.getCollisionDetection();
+        if (!settings.isEnabled() || spec.getCollisionFingerprint() == null) {
+            return cache;
+        }
+        long maximumSize = spec.getMaximumSize() != null ? spec.getMaximumSize() : DEFAULT_FINGERPRINT_CAPACITY;
+        return new CollisionDetectingCache(cache, spec.getCollisionFingerprint(), settings.getSampleRate(),
+                maximumSize, spec.getExpireAfterWrite(), settings.getLogInterval(), statistics);
+    }
+
+    private Cache createHeapCache(String name, CacheSpecProperties.Spec spec, CacheStatistics statistics) {
+        // Stats go to the (asynchronous) removal listener; the eviction listener runs inside the eviction
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .removalListener((key, value, cause) -> {
+                    if (cause.wasEvicted()) {
+                        statistics.recordEviction();
+                    }
+                });
+
+        if (spec.getMaximumSize() != null) {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfter(new WriteExpiry(spec.getExpireAfterWrite()));
+        }
+
+        // Size evictions end the entry's dependency registration; expiry is mirrored by the index itself.
+        // Synchronous, so no new load of the key can register before the old registration is gone.
+        RemovalListener<Object, Object> evictionListener = (key, value, cause) -> {
+            if (cause == RemovalCause.SIZE) {
+                cacheDependencyIndex.remove(name, key);
+            }
+        };
+
+        if (spec.getRefreshAfterWrite() != null) {
+            builder.refreshAfterWrite(spec.getRefreshAfterWrite());
+            return RefreshingCaffeineCache.create(name, builder, isAllowNullValues(), evictionListener);
+        }
+        return adaptCaffeineCache(name, builder.evictionListener(evictionListener).build());
+    }
+
+    private NegativeResultCache createNegativeResultCache(Cache cache, CacheSpecProperties.Spec spec,
+                                                          CacheStatistics statistics) {
+        Long maximumSize = spec.getNegativeMaximumSize() != null ? spec.getNegativeMaximumSize() : spec.getMaximumSize();
+        if (maximumSize == null) {
+            throw new IllegalStateException("Cache '" + cache.getName()
+                    + "' has a negative-ttl but neither negative-maximum-size nor maximum-size");
+        }
+        return new NegativeResultCache(cache, maximumSize, spec.getNegativeTtl(), statistics);
+    }
+
+    private Cache createOffHeapCache(String name, CacheSpecProperties.Spec spec, CacheStatistics statistics) {
+        // The byte capacity replaces maximumSize; refresh needs the on-heap loading cache
+        if (spec.getRefreshAfterWrite() != null) {
+            log.warn("Cache '{}' is off-heap, refreshAfterWrite={} is not applied", name, spec.getRefreshAfterWrite());
+        }
+        return new OffHeapCache(name, spec.getOffHeapCapacity().toBytes(), spec.getExpireAfterWrite(),
+                offHeapCodec, statistics);
+    }
+}
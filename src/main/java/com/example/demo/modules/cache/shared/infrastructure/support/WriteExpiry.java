@@ -0,0 +1,54 @@
+package com.example.demo.modules.cache.shared.infrastructure.support;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+
+/**
+ * Expire-after-write as a Caffeine {@link Expiry}, so a single write can be given less than the full TTL.
+ *
+ * A snapshot restore hands an entry back that was loaded in the previous run; it caps the next
+ * write on its thread with the entry's remaining lifetime, and the store applies that cap when
+ * it creates the entry. Every other write, including refreshes, gets the full TTL.
+ */
+public final class WriteExpiry implements Expiry<Object, Object> {
+
+    private static final ThreadLocal<Duration> CAP = new ThreadLocal<>();
+
+    private final long timeToLiveNanos;
+
+    public WriteExpiry(Duration timeToLive) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+    }
+
+    /**
+     * Cap the lifetime of the next entry created on this thread; undone by {@link #clearCap()}
+     */
+    public static void capNextWrite(Duration remaining) {
+        CAP.set(remaining);
+    }
+
+    public static void clearCap() {
+        CAP.remove();
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        Duration cap = CAP.get();
+        if (cap == null) {
+            return timeToLiveNanos;
+        }
+        CAP.remove();
+        return Math.max(0, Math.min(cap.toNanos(), timeToLiveNanos));
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        return timeToLiveNanos;
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
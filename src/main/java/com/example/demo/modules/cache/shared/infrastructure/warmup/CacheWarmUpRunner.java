@@ -0,0 +1,41 @@
+package com.example.demo.modules.cache.shared.infrastructure.warmup;
+
+import com.example.demo.modules.cache.shared.infrastructure.config.CacheWarmUpProperties;
+import com.example.demo.modules.cache.shared.infrastructure.service.CacheWarmUpService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the warm-up as an ApplicationRunner: Spring Boot reports readiness (ACCEPTING_TRAFFIC)
+ * only after all runners have returned, so load balancers keep traffic away until the
+ * caches are filled. At shutdown the hottest keys are saved for the next start.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheWarmUpRunner implements ApplicationRunner {
+
+    private final CacheWarmUpService cacheWarmUpService;
+    private final CacheWarmUpProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            log.info("Cache warm-up is disabled");
+            return;
+        }
+        cacheWarmUpService.warmUp();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void onShutdown() {
+        if (properties.isEnabled()) {
+            cacheWarmUpService.saveHotKeys();
+        }
+    }
+}
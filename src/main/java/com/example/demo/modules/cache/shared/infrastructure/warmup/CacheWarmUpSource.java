@@ -0,0 +1,28 @@
+package com.example.demo.modules.cache.shared.infrastructure.warmup;
+
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKey;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Contributed by a module to fill its caches at startup.
+ * Loads must go through the module's @Cacheable service so the results land in the cache.
+ */
+public interface CacheWarmUpSource {
+
+    /**
+     * Loads derived from seed or reference data, e.g. one per category
+     */
+    List<Runnable> seedLoads();
+
+    /**
+     * Caches whose recorded hot keys this source can replay
+     */
+    Set<String> cacheNames();
+
+    /**
+     * Replays one hot key recorded by the previous run
+     */
+    void load(String cacheName, CacheKey key);
+}
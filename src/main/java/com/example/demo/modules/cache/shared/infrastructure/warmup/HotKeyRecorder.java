@@ -0,0 +1,165 @@
+package com.example.demo.modules.cache.shared.infrastructure.warmup;
+
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKey;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts lookups per typed {@link CacheKey} so the hottest keys of this run can be saved at
+ * shutdown and loaded again by the next run's warm-up.
+ *
+ * Only CacheKey keys are tracked: their components can be turned back into a request with
+ * CacheKeyGenerator.requestFor(). Each cache tracks at most max-tracked-keys keys in a
+ * size-bounded Caffeine cache, whose W-TinyLFU admission lets a key that turns hot later replace
+ * a tracked one that went cold. Counts are halved about every ten times max-tracked-keys lookups
+ * (the same aging the frequency sketch uses), so the saved ranking follows recent traffic.
+ */
+@Slf4j
+public class HotKeyRecorder {
+
+    private static final TypeReference<List<HotKey>> HOT_KEY_LIST = new TypeReference<>() {
+    };
+    private static final int AGING_PERIOD_PER_KEY = 10;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final int maxTrackedKeys;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    public HotKeyRecorder(int maxTrackedKeys) {
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    public Counter forCache(String cacheName) {
+        return counters.computeIfAbsent(cacheName, Counter::new);
+    }
+
+    /**
+     * Hottest keys across all caches, most accessed first
+     */
+    public List<HotKey> top(int limit) {
+        List<HotKey> hotKeys = new ArrayList<>();
+        for (Counter counter : counters.values()) {
+            counter.counts.cleanUp();
+            counter.counts.asMap().forEach((key, count) -> {
+                long hits = count.sum();
+                if (hits > 0 && isPersistable(key)) {
+                    hotKeys.add(new HotKey(counter.cacheName, components(key), hits));
+                }
+            });
+        }
+        hotKeys.sort(Comparator.comparingLong(HotKey::hits).reversed());
+        return hotKeys.size() > limit ? List.copyOf(hotKeys.subList(0, limit)) : hotKeys;
+    }
+
+    public void save(Path file, int limit) throws IOException {
+        List<HotKey> hotKeys = top(limit);
+        if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), hotKeys);
+        log.info("Saved {} hot cache keys to {}", hotKeys.size(), file);
+    }
+
+    public List<HotKey> load(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return List.of();
+        }
+        return objectMapper.readValue(file.toFile(), HOT_KEY_LIST);
+    }
+
+    private static List<Object> components(CacheKey key) {
+        List<Object> components = new ArrayList<>(key.size());
+        for (int i = 0; i < key.size(); i++) {
+            Object component = key.get(i);
+            components.add(component instanceof Enum<?> constant ? constant.name() : component);
+        }
+        return components;
+    }
+
+    // JSON round-trips only plain values; anything else could not be rebuilt into a request
+    private static boolean isPersistable(CacheKey key) {
+        for (int i = 0; i < key.size(); i++) {
+            if (!isPlainValue(key.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPlainValue(Object component) {
+        if (component == null || component instanceof String || component instanceof Number
+                || component instanceof Boolean || component instanceof Enum<?>) {
+            return true;
+        }
+        if (component instanceof Collection<?> collection) {
+            return collection.stream().allMatch(element -> element instanceof String || element instanceof Number);
+        }
+        return false;
+    }
+
+    /**
+     * Lookup counts of one cache; held by that cache's InstrumentedCache
+     */
+    public final class Counter {
+
+        private final String cacheName;
+        private final Cache<CacheKey, LongAdder> counts = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .build();
+        private final int agingPeriod = Math.max(1, maxTrackedKeys * AGING_PERIOD_PER_KEY);
+        private final AtomicBoolean aging = new AtomicBoolean();
+
+        private Counter(String cacheName) {
+            this.cacheName = cacheName;
+        }
+
+        public void record(Object key) {
+            if (!(key instanceof CacheKey cacheKey)) {
+                return;
+            }
+            counts.get(cacheKey, k -> new LongAdder()).increment();
+            // Sampled rather than counted, so lookups on different threads share no write
+            if (ThreadLocalRandom.current().nextInt(agingPeriod) == 0) {
+                age();
+            }
+        }
+
+        void age() {
+            if (!aging.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                for (LongAdder count : counts.asMap().values()) {
+                    count.add(-(count.sum() / 2));
+                }
+            } finally {
+                aging.set(false);
+            }
+        }
+    }
+
+    public record HotKey(String cache, List<Object> components, long hits) {
+
+        public CacheKey toCacheKey() {
+            return CacheKey.of(components.toArray());
+        }
+    }
+}
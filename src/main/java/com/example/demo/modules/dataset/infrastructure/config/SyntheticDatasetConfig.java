@@ -0,0 +1,9 @@
+package com.example.demo.modules.dataset.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(SyntheticDatasetProperties.class)
+public class SyntheticDatasetConfig {
+}
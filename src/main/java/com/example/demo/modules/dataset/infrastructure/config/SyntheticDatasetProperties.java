@@ -0,0 +1,33 @@
+package com.example.demo.modules.dataset.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Synthetic dataset generation, bound from app.dataset.* (enabled by the "dataset" profile)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.dataset")
+public class SyntheticDatasetProperties {
+
+    // Generate at startup, before the cache warm-up and before traffic is accepted
+    private boolean enabled = false;
+
+    // Multiplier of every generator's base row count; 1 is about 500k rows in total, 100 about 50 million
+    private double scale = 1.0;
+
+    // Same seed and scale, same rows
+    private long seed = 42;
+
+    // Zipf exponent of categories, customers, brands...: 0 is uniform, 1 a realistic hot head and long tail
+    private double skew = 1.0;
+
+    // Rows per JDBC batch
+    private int batchSize = 1000;
+
+    // Empty every generated table first, seed rows included; otherwise rows are added next to the Flyway seeds
+    private boolean replaceExisting = false;
+
+    // Stop the application once the rows are written, for filling a file or server database from the command line
+    private boolean exitWhenDone = false;
+}
@@ -0,0 +1,53 @@
+package com.example.demo.modules.dataset.infrastructure.generator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Buffers rows and sends them as JDBC batches of batchSize: one round trip per batch
+ * instead of one per row, and only one batch of rows on the heap at a time.
+ * Closing it flushes the last batch and reports the table's row count to the context.
+ */
+public final class BatchInserter implements AutoCloseable {
+
+    private final DatasetContext context;
+    private final String table;
+    private final String sql;
+    private final int batchSize;
+    private final List<Object[]> batch;
+    private long rows;
+
+    BatchInserter(DatasetContext context, String table, String[] columns, int batchSize) {
+        this.context = context;
+        this.table = table;
+        this.sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + "?, ".repeat(columns.length - 1) + "?)";
+        this.batchSize = batchSize;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    public void add(Object... row) {
+        batch.add(row);
+        if (batch.size() == batchSize) {
+            flush();
+        }
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public void flush() {
+        if (!batch.isEmpty()) {
+            context.jdbc().batchUpdate(sql, batch);
+            rows += batch.size();
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+        context.recordRows(table, rows);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.modules.dataset.infrastructure.generator;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * What a {@link SyntheticTableGenerator} gets for one run: scaled row counts, seeded random streams
+ * and batch inserters that report their row counts back.
+ */
+public final class DatasetContext {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long seed;
+    private final double scale;
+    private final double skew;
+    private final int batchSize;
+    private final Map<String, Long> rowsByTable = new LinkedHashMap<>();
+
+    public DatasetContext(JdbcTemplate jdbcTemplate, long seed, double scale, double skew, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.seed = seed;
+        this.scale = scale;
+        this.skew = skew;
+        this.batchSize = batchSize;
+    }
+
+    public JdbcTemplate jdbc() {
+        return jdbcTemplate;
+    }
+
+    public double scale() {
+        return scale;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Row count for a table holding baseRows at scale 1
+     */
+    public int rows(int baseRows) {
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, Math.round(baseRows * scale)));
+    }
+
+    /**
+     * Independent stream per name (e.g. "products"), so changing one generator never changes another's rows
+     */
+    public SyntheticRandom random(String stream) {
+        long streamSeed = seed * 0x9E3779B97F4A7C15L + stream.hashCode();
+        return new SyntheticRandom(streamSeed, skew);
+    }
+
+    public BatchInserter inserter(String table, String... columns) {
+        return new BatchInserter(this, table, columns, batchSize);
+    }
+
+    void recordRows(String table, long rows) {
+        rowsByTable.merge(table, rows, Long::sum);
+    }
+
+    public Map<String, Long> getRowsByTable() {
+        return rowsByTable;
+    }
+}
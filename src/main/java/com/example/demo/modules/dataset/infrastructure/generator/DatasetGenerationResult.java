@@ -0,0 +1,13 @@
+package com.example.demo.modules.dataset.infrastructure.generator;
+
+import java.util.Map;
+
+/**
+ * @param rowsByTable rows inserted per table, in generation order
+ */
+public record DatasetGenerationResult(long seed, double scale, long durationMillis, Map<String, Long> rowsByTable) {
+
+    public long totalRows() {
+        return rowsByTable.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.modules.dataset.infrastructure.generator;
+
+/**
+ * Name parts shared by the generators. Index i of a population always maps to the same name,
+ * so "customer 17" is the same person in every table that refers to customers.
+ */
+public final class SyntheticNames {
+
+    public static final String[] FIRST_NAMES = {
+        "John", "Alice", "Bob", "Sarah", "Michael", "Emma", "David", "Olivia", "James", "Sophia",
+        "Ahmet", "Ayse", "Mehmet", "Elif", "Carlos", "Maria", "Hans", "Anna", "Yuki", "Wei",
+        "Liam", "Noah", "Mia", "Lucas", "Chloe", "Mateo", "Zeynep", "Omar", "Fatima", "Ivan"
+    };
+
+    public static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Wilson", "Moore",
+        "Yilmaz", "Kaya", "Demir", "Muller", "Schmidt", "Rossi", "Silva", "Tanaka", "Chen", "Novak"
+    };
+
+    private SyntheticNames() {
+    }
+
+    public static String firstName(int index) {
+        return FIRST_NAMES[index % FIRST_NAMES.length];
+    }
+
+    /**
+     * "Sarah Demir", then "Sarah Demir 2" once the combinations run out
+     */
+    public static String fullName(int index) {
+        int combinations = FIRST_NAMES.length * LAST_NAMES.length;
+        String name = FIRST_NAMES[index % FIRST_NAMES.length] + " "
+                + LAST_NAMES[(index / FIRST_NAMES.length) % LAST_NAMES.length];
+        int round = index / combinations;
+        return round == 0 ? name : name + " " + (round + 1);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.demo.modules.dataset.infrastructure.generator;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * One deterministic random stream with the skewed picks the generators need.
+ * Not thread-safe; every generator asks its context for its own streams.
+ */
+public final class SyntheticRandom {
+
+    private final SplittableRandom random;
+    private final double skew;
+
+    SyntheticRandom(long seed, double skew) {
+        this.random = new SplittableRandom(seed);
+        this.skew = skew;
+    }
+
+    /**
+     * Zipf distribution over n ranks with the dataset's skew; create it once per generator, not per row
+     */
+    public ZipfDistribution zipf(int n) {
+        return new ZipfDistribution(n, skew);
+    }
+
+    public int rank(ZipfDistribution distribution) {
+        return distribution.rank(random.nextDouble());
+    }
+
+    /**
+     * Skewed pick: values[0] is the most frequent, distribution must have values.length ranks
+     */
+    public <T> T pick(T[] values, ZipfDistribution distribution) {
+        return values[rank(distribution)];
+    }
+
+    public <T> T uniform(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    public boolean chance(double probability) {
+        return random.nextDouble() < probability;
+    }
+
+    public int nextInt(int origin, int bound) {
+        return random.nextInt(origin, bound);
+    }
+
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    /**
+     * Heavy-tailed count (discrete Pareto): most draws are near min, a few are many times larger.
+     * alpha 1.2 gives a mean of about 6 x min with a tail reaching max.
+     */
+    public int heavyTailed(int min, double alpha, int max) {
+        double value = min / Math.pow(1 - random.nextDouble(), 1 / alpha);
+        return (int) Math.min(max, Math.floor(value));
+    }
+
+    /**
+     * Amount between min and max, log-uniform so cheap values are more common than expensive ones
+     */
+    public BigDecimal money(double min, double max) {
+        double value = min * Math.pow(max / min, random.nextDouble());
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    public LocalDateTime dateTimeWithin(LocalDateTime start, int days) {
+        return start.plusSeconds(random.nextLong(days * 86_400L));
+    }
+
+    /**
+     * The casing real clients send for one logical value: mostly as-is, sometimes lower or upper case,
+     * occasionally random ("sArAh")
+     */
+    public String mixedCase(String value) {
+        double u = random.nextDouble();
+        if (u < 0.6) {
+            return value;
+        }
+        if (u < 0.8) {
+            return value.toLowerCase(Locale.ROOT);
+        }
+        if (u < 0.95) {
+            return value.toUpperCase(Locale.ROOT);
+        }
+        StringBuilder mixed = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            mixed.append(random.nextBoolean() ? Character.toUpperCase(c) : Character.toLowerCase(c));
+        }
+        return mixed.toString();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.demo.modules.dataset.infrastructure.generator;
+
+import java.util.List;
+
+/**
+ * Contributed by a module to fill its tables with synthetic rows at a chosen scale.
+ *
+ * Every value must come from the context's random streams, never from the clock or a shared
+ * Random, so one seed and scale always produce the same rows.
+ */
+public interface SyntheticTableGenerator {
+
+    /**
+     * Tables this generator fills, children before parents - the order they are emptied in
+     */
+    List<String> tables();
+
+    void generate(DatasetContext context);
+}
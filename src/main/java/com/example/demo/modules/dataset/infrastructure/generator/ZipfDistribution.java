@@ -0,0 +1,43 @@
+package com.example.demo.modules.dataset.infrastructure.generator;
+
+import java.util.Arrays;
+
+/**
+ * Zipf distribution over ranks 0..n-1: rank k is picked with probability proportional to 1 / (k + 1)^exponent.
+ * With exponent 1 the top rank is twice as likely as the second and ten times as likely as the tenth -
+ * a few hot categories or customers and a long tail, as in real traffic. Exponent 0 is uniform.
+ *
+ * The cumulative distribution is computed once (8 bytes per rank); a sample is one binary search.
+ */
+public final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    public ZipfDistribution(int n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Zipf distribution needs at least one rank: " + n);
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulative[k] /= sum;
+        }
+    }
+
+    public int size() {
+        return cumulative.length;
+    }
+
+    /**
+     * @param u uniform in [0, 1)
+     */
+    public int rank(double u) {
+        int index = Arrays.binarySearch(cumulative, u);
+        int rank = index >= 0 ? index + 1 : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.modules.dataset.infrastructure.runner;
+
+import com.example.demo.modules.dataset.infrastructure.config.SyntheticDatasetProperties;
+import com.example.demo.modules.dataset.infrastructure.service.SyntheticDatasetService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the tables before any other runner: the cache warm-up then already sees the generated rows,
+ * and readiness is only reported once they are written. With exit-when-done the application stops
+ * afterwards instead, which turns it into a command-line generator for file or server databases.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "app.dataset", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class SyntheticDatasetRunner implements ApplicationRunner {
+
+    private final SyntheticDatasetService syntheticDatasetService;
+    private final SyntheticDatasetProperties properties;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        syntheticDatasetService.generate();
+        if (properties.isExitWhenDone()) {
+            log.info("Synthetic dataset written, exiting (app.dataset.exit-when-done=true)");
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
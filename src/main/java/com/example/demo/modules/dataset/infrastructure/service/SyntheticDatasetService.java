@@ -0,0 +1,11 @@
+package com.example.demo.modules.dataset.infrastructure.service;
+
+import com.example.demo.modules.dataset.infrastructure.generator.DatasetGenerationResult;
+
+public interface SyntheticDatasetService {
+
+    /**
+     * Runs every module's SyntheticTableGenerator with the configured seed, scale and skew
+     */
+    DatasetGenerationResult generate();
+}
@@ -0,0 +1,62 @@
+package com.example.demo.modules.dataset.infrastructure.service.impl;
+
+import com.example.demo.modules.dataset.infrastructure.config.SyntheticDatasetProperties;
+import com.example.demo.modules.dataset.infrastructure.generator.DatasetContext;
+import com.example.demo.modules.dataset.infrastructure.generator.DatasetGenerationResult;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticTableGenerator;
+import com.example.demo.modules.dataset.infrastructure.service.SyntheticDatasetService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyntheticDatasetServiceImpl implements SyntheticDatasetService {
+
+    private final List<SyntheticTableGenerator> generators;
+    private final JdbcTemplate jdbcTemplate;
+    private final SyntheticDatasetProperties properties;
+
+    @Override
+    public DatasetGenerationResult generate() {
+        if (properties.getScale() <= 0 || properties.getBatchSize() < 1) {
+            throw new IllegalArgumentException("Dataset scale must be positive and batch size at least 1: scale="
+                    + properties.getScale() + ", batchSize=" + properties.getBatchSize());
+        }
+        long start = System.nanoTime();
+        log.info("Synthetic dataset started - seed={}, scale={}, skew={}, batchSize={}, replaceExisting={}",
+                properties.getSeed(), properties.getScale(), properties.getSkew(), properties.getBatchSize(),
+                properties.isReplaceExisting());
+
+        if (properties.isReplaceExisting()) {
+            for (SyntheticTableGenerator generator : generators) {
+                generator.tables().forEach(table -> jdbcTemplate.update("DELETE FROM " + table));
+            }
+        }
+
+        DatasetContext context = new DatasetContext(jdbcTemplate, properties.getSeed(), properties.getScale(),
+                properties.getSkew(), properties.getBatchSize());
+        for (SyntheticTableGenerator generator : generators) {
+            long generatorStart = System.nanoTime();
+            generator.generate(context);
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - generatorStart);
+            Map<String, Long> rows = new LinkedHashMap<>();
+            generator.tables().forEach(table -> rows.put(table, context.getRowsByTable().getOrDefault(table, 0L)));
+            log.info("Synthetic dataset: {} in {}ms", rows, millis);
+        }
+
+        DatasetGenerationResult result = new DatasetGenerationResult(properties.getSeed(), properties.getScale(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), Collections.unmodifiableMap(new LinkedHashMap<>(context.getRowsByTable())));
+        log.info("Synthetic dataset completed in {}ms - {} rows ({} rows/s)", result.durationMillis(),
+                result.totalRows(), result.totalRows() * 1000 / Math.max(1, result.durationMillis()));
+        return result;
+    }
+}
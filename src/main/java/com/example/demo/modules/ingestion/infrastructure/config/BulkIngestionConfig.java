@@ -0,0 +1,9 @@
+package com.example.demo.modules.ingestion.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(BulkIngestionProperties.class)
+public class BulkIngestionConfig {
+}
@@ -0,0 +1,15 @@
+package com.example.demo.modules.ingestion.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Chunked bulk ingestion, bound from app.ingestion.*
+ */
+@Data
+@ConfigurationProperties(prefix = "app.ingestion")
+public class BulkIngestionProperties {
+
+    // Rows per transaction; a multiple of hibernate.jdbc.batch_size keeps every JDBC batch full
+    private int chunkSize = 5000;
+}
@@ -0,0 +1,12 @@
+package com.example.demo.modules.ingestion.infrastructure.service;
+
+/**
+ * @param chunks     committed transactions
+ * @param statements JDBC executions, sequence calls included; one per batch of inserts, not per row
+ */
+public record BulkIngestionResult(String target, long rows, int chunks, long statements, long durationMillis) {
+
+    public long rowsPerSecond() {
+        return rows * 1000 / Math.max(1, durationMillis);
+    }
+}
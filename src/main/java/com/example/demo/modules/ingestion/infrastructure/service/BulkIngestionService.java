@@ -0,0 +1,18 @@
+package com.example.demo.modules.ingestion.infrastructure.service;
+
+import java.io.InputStream;
+import java.util.function.Function;
+
+public interface BulkIngestionService {
+
+    /**
+     * Streams rows of the given type from a JSON array or newline-delimited JSON, maps each to an entity
+     * and persists them in chunks of app.ingestion.chunk-size, one transaction per chunk.
+     * The body is never held in memory as a whole; the persistence context is cleared after every chunk.
+     *
+     * A failing chunk is rolled back and the exception propagates; earlier chunks stay committed.
+     *
+     * @param target name of the table or endpoint, for logging
+     */
+    <T> BulkIngestionResult ingest(String target, InputStream body, Class<T> rowType, Function<T, ?> toEntity);
+}
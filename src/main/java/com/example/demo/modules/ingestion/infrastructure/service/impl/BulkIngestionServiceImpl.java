@@ -0,0 +1,86 @@
+package com.example.demo.modules.ingestion.infrastructure.service.impl;
+
+import com.example.demo.modules.ingestion.infrastructure.config.BulkIngestionProperties;
+import com.example.demo.modules.ingestion.infrastructure.service.BulkIngestionResult;
+import com.example.demo.modules.ingestion.infrastructure.service.BulkIngestionService;
+import com.example.demo.modules.sqlstatistics.infrastructure.jdbc.SqlExecutionStats;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkIngestionServiceImpl implements BulkIngestionService {
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final BulkIngestionProperties properties;
+
+    @Override
+    public <T> BulkIngestionResult ingest(String target, InputStream body, Class<T> rowType, Function<T, ?> toEntity) {
+        int chunkSize = properties.getChunkSize();
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Ingestion chunk size must be at least 1: " + chunkSize);
+        }
+        long start = System.nanoTime();
+        SqlExecutionStats.Mark sql = SqlExecutionStats.mark();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long rows = 0;
+        int chunks = 0;
+
+        // A root-level JSON array is iterated element by element, so both body formats stream the same way
+        try (MappingIterator<T> iterator = objectMapper.readerFor(rowType).readValues(body)) {
+            List<T> chunk = new ArrayList<>(chunkSize);
+            while (iterator.hasNextValue()) {
+                chunk.add(iterator.nextValue());
+                if (chunk.size() == chunkSize || !iterator.hasNextValue()) {
+                    persistChunk(target, transaction, chunk, toEntity, rows);
+                    rows += chunk.size();
+                    chunks++;
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable bulk ingestion body for " + target + " after " + rows + " rows", e);
+        }
+
+        BulkIngestionResult result = new BulkIngestionResult(target, rows, chunks, sql.statements(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        log.info("Bulk ingestion into {} completed in {}ms - {} rows in {} chunks, {} statements ({} rows/s)",
+                target, result.durationMillis(), rows, chunks, result.statements(), result.rowsPerSecond());
+        return result;
+    }
+
+    private <T> void persistChunk(String target, TransactionTemplate transaction, List<T> chunk,
+                                  Function<T, ?> toEntity, long committedRows) {
+        try {
+            transaction.executeWithoutResult(status -> {
+                for (T row : chunk) {
+                    entityManager.persist(toEntity.apply(row));
+                }
+                // Send the remaining batches, then let go of the chunk's entities before the next one
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (RuntimeException e) {
+            log.error("Bulk ingestion into {} failed - chunk of {} rows rolled back, {} rows committed before it",
+                    target, chunk.size(), committedRows);
+            throw e;
+        }
+    }
+}
@@ -1,12 +1,28 @@
 package com.example.demo.modules.nplusone.api;
 
+import com.example.demo.modules.ingestion.infrastructure.service.BulkIngestionResult;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneBatchFetchDTO;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneFetchPlanDTO;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneOrderSummaryPageDTO;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneParallelLoadDTO;
 import com.example.demo.modules.nplusone.api.dto.NPlusOneUserDTO;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneUserPageDTO;
+import com.example.demo.modules.nplusone.infrastructure.service.BatchFetchStrategy;
+import com.example.demo.modules.nplusone.infrastructure.service.NPlusOneExportService;
+import com.example.demo.modules.nplusone.infrastructure.service.NPlusOneOrderService;
 import com.example.demo.modules.nplusone.infrastructure.service.NPlusOneUserService;
+import com.example.demo.modules.nplusone.infrastructure.service.UserFetchPlan;
+import com.example.demo.modules.sqlstatistics.infrastructure.jdbc.SqlExecutionStats;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -14,22 +30,29 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NPlusOneController {
     
+    // A full export may run for minutes; only this endpoint gets the long timeout, the rest keep the container default
+    static final Duration EXPORT_TIMEOUT = Duration.ofMinutes(30);
+    
     private final NPlusOneUserService userService;
+    private final NPlusOneExportService exportService;
+    private final NPlusOneOrderService orderService;
     
     @GetMapping("/users/nplusone")
     public ResponseEntity<String> demonstrateNPlusOneProblem() {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
+        SqlExecutionStats.Mark sql = SqlExecutionStats.mark();
         
         List<NPlusOneUserDTO> users = userService.getUsersWithOrdersNPlusOne();
         
-        long endTime = System.currentTimeMillis();
-        long duration = endTime - startTime;
-        
         String result = String.format(
             "N+1 PROBLEM COMPLETED\n" +
             "Total time: %d ms\n" +
-            "Total queries: %d (1 + %d = N+1)",
-            duration, users.size() + 1, users.size()
+            "SQL time: %.1f ms\n" +
+            "Total queries: %d (1 + %d users = N+1)\n" +
+            "Rows read: %d\n" +
+            "Connection pool wait: %.1f ms",
+            millisSince(startTime), sql.millis(), sql.statements(), users.size(), sql.rows(),
+            sql.connectionWaitMillis()
         );
         
         return ResponseEntity.ok(result);
@@ -37,19 +60,177 @@ public class NPlusOneController {
     
     @GetMapping("/users/optimized")
     public ResponseEntity<String> demonstrateOptimizedSolution() {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
+        SqlExecutionStats.Mark sql = SqlExecutionStats.mark();
         
         List<NPlusOneUserDTO> users = userService.getUsersWithOrdersOptimized();
         
-        long endTime = System.currentTimeMillis();
-        long duration = endTime - startTime;
-        
         String result = String.format(
             "OPTIMIZED SOLUTION COMPLETED\n" +
             "Total time: %d ms\n" +
+            "SQL time: %.1f ms\n" +
+            "User count: %d\n" +
+            "Total queries: %d (with JOIN FETCH)\n" +
+            "Rows read: %d (one per order, user columns repeated)",
+            millisSince(startTime), sql.millis(), users.size(), sql.statements(), sql.rows()
+        );
+        
+        return ResponseEntity.ok(result);
+    }
+    
+    @GetMapping("/users/parallel")
+    public ResponseEntity<String> demonstrateParallelLoad() {
+        long startTime = System.nanoTime();
+        SqlExecutionStats.Mark sql = SqlExecutionStats.mark();
+        
+        NPlusOneParallelLoadDTO parallelLoad = userService.getUsersWithOrdersParallel();
+        
+        String result = String.format(
+            "PARALLEL LOAD COMPLETED\n" +
+            "Executor: %s (concurrency %d)\n" +
+            "Total time: %d ms\n" +
+            "SQL time: %.1f ms (summed over all threads)\n" +
+            "User count: %d\n" +
+            "Order count: %d\n" +
+            "Total queries: %d (still 1 + N, up to %d in flight)\n" +
+            "Executor wait: %.1f ms average, %.1f ms max\n" +
+            "Connection pool wait: %.1f ms",
+            parallelLoad.getExecutor(), parallelLoad.getConcurrency(), millisSince(startTime), sql.millis(),
+            parallelLoad.getUsers().size(), parallelLoad.getOrderCount(), parallelLoad.getQueryCount(),
+            parallelLoad.getConcurrency(), parallelLoad.getAverageExecutorWaitMillis(), parallelLoad.getMaxExecutorWaitMillis(),
+            parallelLoad.getConnectionWaitMillis()
+        );
+        
+        return ResponseEntity.ok(result);
+    }
+    
+    @GetMapping("/users/projection")
+    public ResponseEntity<String> demonstrateProjection() {
+        long startTime = System.nanoTime();
+        SqlExecutionStats.Mark sql = SqlExecutionStats.mark();
+        
+        List<NPlusOneUserDTO> users = userService.getUsersWithOrdersProjection();
+        
+        String result = String.format(
+            "DTO PROJECTION COMPLETED\n" +
+            "Total time: %d ms\n" +
+            "SQL time: %.1f ms\n" +
+            "User count: %d\n" +
+            "Order count: %d\n" +
+            "Total queries: %d (constructor expression, no entities in the persistence context)",
+            millisSince(startTime), sql.millis(), users.size(),
+            users.stream().mapToInt(user -> user.getOrders().size()).sum(), sql.statements()
+        );
+        
+        return ResponseEntity.ok(result);
+    }
+    
+    @GetMapping("/users/batch-fetch")
+    public ResponseEntity<String> demonstrateBatchFetch(
+            @RequestParam(defaultValue = "IN_QUERY") BatchFetchStrategy strategy) {
+        long startTime = System.nanoTime();
+        // Outside the service: its transaction takes the connection before the method body runs
+        SqlExecutionStats.Mark sql = SqlExecutionStats.mark();
+        
+        NPlusOneBatchFetchDTO batchFetch = userService.getUsersWithOrdersBatchFetch(strategy);
+        
+        long duration = millisSince(startTime);
+        
+        String result = String.format(
+            "BATCH FETCH COMPLETED\n" +
+            "Strategy: %s\n" +
+            "Batch size: %s\n" +
+            "Total time: %d ms\n" +
             "User count: %d\n" +
-            "Total queries: 1 (with JOIN FETCH)",
-            duration, users.size()
+            "Order count: %d\n" +
+            "Total queries: %d (1 for users + order batches, no duplicated user rows)\n" +
+            "Connection pool wait: %.1f ms",
+            batchFetch.getStrategy(), batchFetch.getBatchSize() != null ? batchFetch.getBatchSize() : "all (subselect)",
+            duration, batchFetch.getUsers().size(), batchFetch.getOrderCount(), batchFetch.getQueryCount(),
+            sql.connectionWaitMillis()
+        );
+        
+        return ResponseEntity.ok(result);
+    }
+    
+    /**
+     * One query method, two fetch plans: LAZY initializes every user's orders on first access,
+     * WITH_ORDERS loads them through the NPlusOneUser.withOrders entity graph. Without ?plan= the
+     * plan configured for users-fetch-plan in app.nplusone.fetch-plans is used.
+     */
+    @GetMapping("/users/fetch-plan")
+    public ResponseEntity<String> demonstrateFetchPlan(@RequestParam(required = false) UserFetchPlan plan) {
+        long startTime = System.nanoTime();
+        
+        NPlusOneFetchPlanDTO fetchPlan = userService.getUsersWithOrdersFetchPlan(plan);
+        
+        String result = String.format(
+            "FETCH PLAN COMPLETED\n" +
+            "Plan: %s\n" +
+            "Entity graph: %s\n" +
+            "Total time: %d ms\n" +
+            "User count: %d\n" +
+            "Total queries: %d\n" +
+            "Lazy loads: %d",
+            fetchPlan.getPlan(), fetchPlan.getEntityGraph() != null ? fetchPlan.getEntityGraph() : "none",
+            millisSince(startTime), fetchPlan.getUsers().size(), fetchPlan.getQueryCount(), fetchPlan.getLazyLoads()
+        );
+        
+        return ResponseEntity.ok(result);
+    }
+    
+    /**
+     * Keyset-paginated users with orders: follow nextCursor with ?after= until it is null
+     */
+    @GetMapping("/users/paged")
+    public ResponseEntity<NPlusOneUserPageDTO> getUsersWithOrdersPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(userService.getUsersWithOrdersPage(after, size));
+    }
+    
+    /**
+     * Every user with orders as NDJSON, written while it is read - nothing is collected into a List first
+     */
+    @GetMapping(value = "/users/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> exportUsersWithOrders(HttpServletResponse response) {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        // Written straight to the response on the MVC async executor; the null result leaves nothing else to render
+        return new WebAsyncTask<>(EXPORT_TIMEOUT.toMillis(), () -> {
+            exportService.exportUsersWithOrders(response.getOutputStream());
+            return null;
+        });
+    }
+    
+    /**
+     * Order count and totals per user, aggregated by the database; follow nextCursor with ?after= until it is null
+     */
+    @GetMapping("/orders/summary")
+    public ResponseEntity<NPlusOneOrderSummaryPageDTO> getOrderSummaries(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) Double minAmount,
+            @RequestParam(required = false) Double maxAmount,
+            @RequestParam(required = false) Long minOrders) {
+        return ResponseEntity.ok(orderService.getOrderSummariesPage(after, size, minAmount, maxAmount, minOrders));
+    }
+    
+    /**
+     * Bulk insert of orders, body is a JSON array or NDJSON of {userId, orderNumber, amount}
+     */
+    @PostMapping(value = "/orders/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<String> ingestOrders(InputStream body) {
+        BulkIngestionResult ingestion = orderService.ingestOrders(body);
+        
+        String result = String.format(
+            "BULK INGESTION COMPLETED\n" +
+            "Table: %s\n" +
+            "Rows inserted: %d in %d chunks (one transaction each)\n" +
+            "Total time: %d ms\n" +
+            "Throughput: %d rows/s\n" +
+            "Total queries: %d (sequence calls + JDBC batches, not one INSERT per row)",
+            ingestion.target(), ingestion.rows(), ingestion.chunks(), ingestion.durationMillis(),
+            ingestion.rowsPerSecond(), ingestion.statements()
         );
         
         return ResponseEntity.ok(result);
@@ -73,13 +254,20 @@ public class NPlusOneController {
             
             SOLUTIONS:
             1. Use JOIN FETCH
-            2. Use EntityGraph
-            3. Batch processing
-            4. Proper lazy loading usage
+            2. Use EntityGraph (/users/fetch-plan?plan=WITH_ORDERS)
+            3. Batch processing (/users/batch-fetch?strategy=IN_QUERY|BATCH_SIZE|SUBSELECT)
+               - when batching is not possible, at least overlap the N queries (/users/parallel)
+            4. DTO projection for read-only views (/users/projection)
+               - when only totals are needed, let the database aggregate (/orders/summary)
+            5. Proper lazy loading usage
             
             This demo shows both approaches!
             """;
         
         return ResponseEntity.ok(result);
     }
+    
+    private static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
 }
@@ -0,0 +1,19 @@
+package com.example.demo.modules.nplusone.api.dto;
+
+import com.example.demo.modules.nplusone.infrastructure.service.BatchFetchStrategy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NPlusOneBatchFetchDTO {
+    private BatchFetchStrategy strategy;
+    private Integer batchSize;
+    private Integer orderCount;
+    private Integer queryCount;
+    private List<NPlusOneUserDTO> users;
+}
@@ -0,0 +1,20 @@
+package com.example.demo.modules.nplusone.api.dto;
+
+import com.example.demo.modules.nplusone.infrastructure.service.UserFetchPlan;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NPlusOneFetchPlanDTO {
+    private UserFetchPlan plan;
+    private String entityGraph;
+    private Integer queryCount;
+    // Collections and proxies initialized on first access while mapping the users
+    private Integer lazyLoads;
+    private List<NPlusOneUserDTO> users;
+}
@@ -0,0 +1,17 @@
+package com.example.demo.modules.nplusone.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of POST /api/nplusone/orders/bulk; the user must exist
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NPlusOneOrderIngestDTO {
+    private Long userId;
+    private String orderNumber;
+    private Double amount;
+}
@@ -0,0 +1,20 @@
+package com.example.demo.modules.nplusone.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Order totals of one user, computed by the database
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NPlusOneOrderSummaryDTO {
+    private Long userId;
+    private String username;
+    private Long orderCount;
+    private Double totalAmount;
+    private Double minAmount;
+    private Double maxAmount;
+}
@@ -0,0 +1,20 @@
+package com.example.demo.modules.nplusone.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NPlusOneOrderSummaryPageDTO {
+    private List<NPlusOneOrderSummaryDTO> summaries;
+    private Integer size;
+    // Pass as ?after= to get the next page; null on the last page
+    private Long nextCursor;
+    private Integer queryCount;
+    // Rows sent over JDBC: one per user, however many orders were summed
+    private Long rowsRead;
+}
@@ -0,0 +1,24 @@
+package com.example.demo.modules.nplusone.api.dto;
+
+import com.example.demo.modules.nplusone.infrastructure.config.NPlusOneParallelLoadProperties.ExecutorType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NPlusOneParallelLoadDTO {
+    private ExecutorType executor;
+    private Integer concurrency;
+    private Integer orderCount;
+    private Integer queryCount;
+    // Time a per-user load spent queued for a worker thread or permit: on average and the longest single wait
+    private Double averageExecutorWaitMillis;
+    private Double maxExecutorWaitMillis;
+    // Time spent in the connection pool's getConnection(), summed over all loads
+    private Double connectionWaitMillis;
+    private List<NPlusOneUserDTO> users;
+}
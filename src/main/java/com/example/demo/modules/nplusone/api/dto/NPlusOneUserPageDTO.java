@@ -0,0 +1,18 @@
+package com.example.demo.modules.nplusone.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NPlusOneUserPageDTO {
+    private List<NPlusOneUserDTO> users;
+    private Integer size;
+    // Pass as ?after= to get the next page; null on the last page
+    private Long nextCursor;
+    private Integer queryCount;
+}
@@ -13,6 +13,11 @@ import java.util.stream.Collectors;
 public class NPlusOneUserMapper {
     
     public NPlusOneUserDTO toDTO(NPlusOneUser user) {
+        return toDTO(user, user != null ? user.getOrders() : null);
+    }
+    
+    // For users whose orders were loaded separately or through another collection mapping
+    public NPlusOneUserDTO toDTO(NPlusOneUser user, List<NPlusOneOrder> orders) {
         if (user == null) {
             return null;
         }
@@ -23,8 +28,8 @@ public class NPlusOneUserMapper {
         dto.setEmail(user.getEmail());
         
         // Map orders if they exist
-        if (user.getOrders() != null) {
-            List<NPlusOneOrderDTO> orderDTOs = user.getOrders().stream()
+        if (orders != null) {
+            List<NPlusOneOrderDTO> orderDTOs = orders.stream()
                     .map(this::orderToDTO)
                     .collect(Collectors.toList());
             dto.setOrders(orderDTOs);
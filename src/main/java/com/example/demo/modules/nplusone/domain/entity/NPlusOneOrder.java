@@ -3,7 +3,9 @@ package com.example.demo.modules.nplusone.domain.entity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
 @Table(name = "nplusone_orders")
@@ -12,14 +14,19 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class NPlusOneOrder {
     
+    // Sequence, not IDENTITY: ids are known before the INSERT, so bulk inserts go out as JDBC batches
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "nplusone_orders_seq")
+    @SequenceGenerator(name = "nplusone_orders_seq", sequenceName = "nplusone_orders_seq", allocationSize = 50)
     private Long id;
     
     private String orderNumber;
     private Double amount;
     
+    // Excluded for the same reason as NPlusOneUser.orders: toString/hashCode would initialize the user proxy
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "nplusone_user_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private NPlusOneUser user;
 }
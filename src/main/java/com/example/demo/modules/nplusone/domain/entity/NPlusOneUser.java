@@ -3,17 +3,27 @@ package com.example.demo.modules.nplusone.domain.entity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 import java.util.List;
 
 @Entity
 @Table(name = "nplusone_users")
+@NamedEntityGraph(name = NPlusOneUser.GRAPH_WITH_ORDERS, attributeNodes = @NamedAttributeNode("orders"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class NPlusOneUser {
     
+    public static final int ORDER_BATCH_SIZE = 50;
+    
+    public static final String GRAPH_WITH_ORDERS = "NPlusOneUser.withOrders";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -21,6 +31,23 @@ public class NPlusOneUser {
     private String username;
     private String email;
     
+    // Excluded from toString/equals/hashCode: logging a user or putting it in a HashSet must not load its orders
     @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<NPlusOneOrder> orders;
+    
+    // Read-only views of the same orders for the batch-fetch strategies; a mapping carries one fetch mode,
+    // so each Hibernate strategy gets its own inverse collection
+    @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
+    @BatchSize(size = ORDER_BATCH_SIZE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private List<NPlusOneOrder> batchedOrders;
+    
+    @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
+    @Fetch(FetchMode.SUBSELECT)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private List<NPlusOneOrder> subselectOrders;
 }
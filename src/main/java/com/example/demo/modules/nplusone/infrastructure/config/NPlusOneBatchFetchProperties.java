@@ -0,0 +1,20 @@
+package com.example.demo.modules.nplusone.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Batch-fetch settings for the N+1 module, bound from app.nplusone.batch-fetch.*
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.nplusone.batch-fetch")
+public class NPlusOneBatchFetchProperties {
+
+    // User ids per IN (...) query of the IN_QUERY strategy: 1 + ceil(users / batchSize) round trips
+    // Also the chunk size of the streamed export; zero would never advance, so it is rejected at startup
+    @Min(1)
+    private int batchSize = 100;
+}
@@ -0,0 +1,46 @@
+package com.example.demo.modules.nplusone.infrastructure.config;
+
+import com.example.demo.modules.nplusone.infrastructure.parallel.BoundedParallelLoader;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties({NPlusOneBatchFetchProperties.class, NPlusOneFetchPlanProperties.class,
+        NPlusOneParallelLoadProperties.class})
+public class NPlusOneConfig {
+
+    @Bean(destroyMethod = "close")
+    public BoundedParallelLoader orderLoader(NPlusOneParallelLoadProperties properties, DataSource dataSource) {
+        int poolSize = connectionPoolSize(dataSource);
+        // With an unknown pool the configured limit is used as is, or a small default
+        int concurrency = properties.getMaxConcurrency() > 0 ? properties.getMaxConcurrency() : 4;
+        if (poolSize > 0) {
+            int available = Math.max(1, poolSize - properties.getReservedConnections());
+            concurrency = properties.getMaxConcurrency() > 0 ? Math.min(concurrency, available) : available;
+        }
+        BoundedParallelLoader loader = new BoundedParallelLoader(properties.getExecutor(), concurrency,
+                properties.getTimeout(), "nplusone-order-load-");
+        log.info("Parallel order loading: executor={}, concurrency={}, connection pool size={}",
+                loader.getExecutorType(), concurrency, poolSize > 0 ? poolSize : "unknown");
+        return loader;
+    }
+
+    // Maximum size of the Hikari pool behind the (possibly wrapped) DataSource, or -1 for another pool
+    private static int connectionPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.debug("Cannot determine the connection pool size: {}", e.toString());
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.demo.modules.nplusone.infrastructure.config;
+
+import com.example.demo.modules.nplusone.infrastructure.service.UserFetchPlan;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fetch plan per endpoint of the N+1 module, bound from app.nplusone.fetch-plans.*
+ */
+@Data
+@ConfigurationProperties(prefix = "app.nplusone.fetch-plans")
+public class NPlusOneFetchPlanProperties {
+
+    // Endpoint name -> plan, e.g. app.nplusone.fetch-plans.endpoints.users-fetch-plan=with-orders
+    private Map<String, UserFetchPlan> endpoints = new HashMap<>();
+
+    // Plan for endpoints without an entry
+    private UserFetchPlan defaultPlan = UserFetchPlan.LAZY;
+
+    public UserFetchPlan planFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultPlan);
+    }
+}
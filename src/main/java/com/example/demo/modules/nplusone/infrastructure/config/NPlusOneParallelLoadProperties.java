@@ -0,0 +1,40 @@
+package com.example.demo.modules.nplusone.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Parallel per-user order loading of the N+1 module, bound from app.nplusone.parallel-load.*
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.nplusone.parallel-load")
+public class NPlusOneParallelLoadProperties {
+
+    // PLATFORM: fixed thread pool; VIRTUAL: a virtual thread per load (JDK 21+, falls back to PLATFORM)
+    @NotNull
+    private ExecutorType executor = ExecutorType.PLATFORM;
+
+    // Loads running at once; 0 derives it from the connection pool: maximum pool size - reservedConnections
+    @Min(0)
+    private int maxConcurrency = 0;
+
+    // Connections the fan-out leaves to everything else, including the request thread's own under open-in-view.
+    // A negative value would let the fan-out claim more connections than the pool has, so it fails at startup
+    @Min(0)
+    private int reservedConnections = 2;
+
+    // Upper bound for all loads of one call; unfinished loads are cancelled
+    @NotNull
+    private Duration timeout = Duration.ofSeconds(30);
+
+    public enum ExecutorType {
+        PLATFORM,
+        VIRTUAL
+    }
+}
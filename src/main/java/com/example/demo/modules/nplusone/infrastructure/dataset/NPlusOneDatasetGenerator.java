@@ -0,0 +1,61 @@
+package com.example.demo.modules.nplusone.infrastructure.dataset;
+
+import com.example.demo.modules.dataset.infrastructure.generator.BatchInserter;
+import com.example.demo.modules.dataset.infrastructure.generator.DatasetContext;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticNames;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticRandom;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticTableGenerator;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 10,000 users per scale unit with heavy-tailed order counts: one in ten has no orders, most have a few,
+ * a handful have hundreds - the users that make a fetch join or a page of orders expensive.
+ */
+@Component
+public class NPlusOneDatasetGenerator implements SyntheticTableGenerator {
+
+    private static final int BASE_USERS = 10_000;
+    private static final double NO_ORDERS = 0.1;
+    // Pareto tail of orders per user: mean about 6, capped at MAX_ORDERS
+    private static final double ORDER_COUNT_ALPHA = 1.2;
+    private static final int MAX_ORDERS = 1_000;
+    private static final int ID_CHUNK = 10_000;
+
+    @Override
+    public List<String> tables() {
+        return List.of("nplusone_orders", "nplusone_users");
+    }
+
+    @Override
+    public void generate(DatasetContext context) {
+        long lastExistingId = context.jdbc().queryForObject("SELECT COALESCE(MAX(id), 0) FROM nplusone_users", Long.class);
+        int users = context.rows(BASE_USERS);
+        try (BatchInserter inserter = context.inserter("nplusone_users", "username", "email")) {
+            for (int i = 0; i < users; i++) {
+                String name = SyntheticNames.fullName(i).toLowerCase(Locale.ROOT).replace(' ', '.');
+                inserter.add(name, name + "@example.com");
+            }
+        }
+
+        // Orders need the generated ids; read them back in keyset chunks instead of holding them all
+        SyntheticRandom random = context.random("nplusone_orders");
+        try (BatchInserter inserter = context.inserter("nplusone_orders", "order_number", "amount", "nplusone_user_id")) {
+            long after = lastExistingId;
+            List<Long> ids;
+            do {
+                ids = context.jdbc().queryForList(
+                        "SELECT id FROM nplusone_users WHERE id > ? ORDER BY id LIMIT " + ID_CHUNK, Long.class, after);
+                for (Long userId : ids) {
+                    int orders = random.chance(NO_ORDERS) ? 0 : random.heavyTailed(1, ORDER_COUNT_ALPHA, MAX_ORDERS);
+                    for (int n = 1; n <= orders; n++) {
+                        inserter.add("ORD-" + userId + "-" + n, random.money(5, 2_000), userId);
+                    }
+                    after = userId;
+                }
+            } while (ids.size() == ID_CHUNK);
+        }
+    }
+}
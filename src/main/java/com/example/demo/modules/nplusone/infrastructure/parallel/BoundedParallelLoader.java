@@ -0,0 +1,156 @@
+package com.example.demo.modules.nplusone.infrastructure.parallel;
+
+import com.example.demo.modules.nplusone.infrastructure.config.NPlusOneParallelLoadProperties.ExecutorType;
+import com.example.demo.modules.sqlstatistics.infrastructure.jdbc.SqlExecutionStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Runs one load per key on a bounded executor and returns the results in key order.
+ *
+ * Each load holds a pooled connection while it runs, so at most {@code concurrency} loads run at once
+ * and the limit is kept below the connection pool size - a fan-out never drains the pool for the rest
+ * of the application. PLATFORM runs them on a fixed pool of that many threads; VIRTUAL starts a virtual
+ * thread per load and bounds them with a semaphore instead.
+ *
+ * Statements are counted on the worker thread and added to the caller's {@link SqlExecutionStats}
+ * once the load is done, so the request's X-SQL-* headers still cover them.
+ */
+@Slf4j
+public class BoundedParallelLoader implements AutoCloseable {
+
+    private final ExecutorType executorType;
+    private final int concurrency;
+    private final Duration timeout;
+    private final ExecutorService executor;
+    // Only for VIRTUAL: a thread per task is unbounded by itself
+    private final Semaphore permits;
+
+    public BoundedParallelLoader(ExecutorType requestedType, int concurrency, Duration timeout, String threadNamePrefix) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Parallel load concurrency must be at least 1: " + concurrency);
+        }
+        ExecutorService virtualThreads = requestedType == ExecutorType.VIRTUAL ? virtualThreadExecutor() : null;
+        if (requestedType == ExecutorType.VIRTUAL && virtualThreads == null) {
+            log.warn("Virtual threads need JDK 21+, running on {} - using a platform thread pool",
+                    Runtime.version().feature());
+        }
+        this.concurrency = concurrency;
+        this.timeout = timeout;
+        if (virtualThreads != null) {
+            this.executorType = ExecutorType.VIRTUAL;
+            this.executor = virtualThreads;
+            this.permits = new Semaphore(concurrency);
+        } else {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), new CustomizableThreadFactory(threadNamePrefix));
+            pool.allowCoreThreadTimeOut(true);
+            this.executorType = ExecutorType.PLATFORM;
+            this.executor = pool;
+            this.permits = null;
+        }
+    }
+
+    public ExecutorType getExecutorType() {
+        return executorType;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * @return load(key) for every key, in the order of keys
+     * @throws IllegalStateException when the loads do not finish within the timeout; a failed load's
+     *                               RuntimeException is rethrown as is
+     */
+    public <K, V> Result<V> loadAll(List<K> keys, Function<K, V> load) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<Future<Loaded<V>>> futures = new ArrayList<>(keys.size());
+        try {
+            for (K key : keys) {
+                long queuedAt = System.nanoTime();
+                futures.add(executor.submit(() -> run(key, load, queuedAt)));
+            }
+            SqlExecutionStats caller = SqlExecutionStats.current();
+            List<V> values = new ArrayList<>(keys.size());
+            long totalWaitNanos = 0;
+            long maxWaitNanos = 0;
+            for (Future<Loaded<V>> future : futures) {
+                Loaded<V> loaded = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                values.add(loaded.value());
+                caller.add(loaded.sql());
+                totalWaitNanos += loaded.waitNanos();
+                maxWaitNanos = Math.max(maxWaitNanos, loaded.waitNanos());
+            }
+            return new Result<>(values, totalWaitNanos, maxWaitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for parallel loads", e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Parallel loads of " + keys.size() + " keys did not finish within " + timeout, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Parallel load failed", e.getCause());
+        } finally {
+            // No-op for finished loads; stops the rest after a failure or timeout
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private <K, V> Loaded<V> run(K key, Function<K, V> load, long queuedAt) throws InterruptedException {
+        if (permits != null) {
+            permits.acquire();
+        }
+        long waitNanos = System.nanoTime() - queuedAt;
+        SqlExecutionStats previous = SqlExecutionStats.begin();
+        try {
+            V value = load.apply(key);
+            return new Loaded<>(value, SqlExecutionStats.current(), waitNanos);
+        } finally {
+            SqlExecutionStats.restore(previous);
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() when the running JDK has it; the build targets 17
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param waitNanos time loads spent queued for a thread or permit, summed and the longest single wait
+     */
+    public record Result<V>(List<V> values, long totalWaitNanos, long maxWaitNanos) {
+    }
+
+    private record Loaded<V>(V value, SqlExecutionStats sql, long waitNanos) {
+    }
+}
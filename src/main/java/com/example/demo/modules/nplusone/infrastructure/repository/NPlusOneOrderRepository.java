@@ -1,13 +1,37 @@
 package com.example.demo.modules.nplusone.infrastructure.repository;
 
+import com.example.demo.modules.nplusone.api.dto.NPlusOneOrderSummaryDTO;
 import com.example.demo.modules.nplusone.domain.entity.NPlusOneOrder;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface NPlusOneOrderRepository extends JpaRepository<NPlusOneOrder, Long> {
     
     List<NPlusOneOrder> findByUserId(Long userId);
+    
+    List<NPlusOneOrder> findByUserIdIn(Collection<Long> userIds);
+    
+    // Per-user totals aggregated by the database: one row per user instead of one per order.
+    // Keyset on the user id like findIdsAfter; amount bounds filter the orders summed, minOrders the groups.
+    @Query("SELECT new com.example.demo.modules.nplusone.api.dto.NPlusOneOrderSummaryDTO(" +
+           "u.id, u.username, COUNT(o), SUM(o.amount), MIN(o.amount), MAX(o.amount)) " +
+           "FROM NPlusOneOrder o JOIN o.user u " +
+           "WHERE u.id > :afterId AND " +
+           "(:minAmount IS NULL OR o.amount >= :minAmount) AND " +
+           "(:maxAmount IS NULL OR o.amount <= :maxAmount) " +
+           "GROUP BY u.id, u.username " +
+           "HAVING COUNT(o) >= :minOrders " +
+           "ORDER BY u.id")
+    List<NPlusOneOrderSummaryDTO> summarizeByUserAfter(@Param("afterId") long afterId,
+                                                       @Param("minAmount") Double minAmount,
+                                                       @Param("maxAmount") Double maxAmount,
+                                                       @Param("minOrders") long minOrders,
+                                                       Limit limit);
 }
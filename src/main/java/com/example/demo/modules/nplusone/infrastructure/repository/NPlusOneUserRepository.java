@@ -1,16 +1,52 @@
 package com.example.demo.modules.nplusone.infrastructure.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.demo.modules.nplusone.domain.entity.NPlusOneUser;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface NPlusOneUserRepository extends JpaRepository<NPlusOneUser, Long> {
+public interface NPlusOneUserRepository extends JpaRepository<NPlusOneUser, Long>, NPlusOneUserRepositoryCustom {
+    
+    String EXPORT_FETCH_SIZE = "500";
     
     @Query("SELECT u FROM NPlusOneUser u LEFT JOIN FETCH u.orders")
     List<NPlusOneUser> findAllWithOrdersOptimized();
+    
+    // Keyset page: seeks on the primary key index, so page 10,000 costs the same as page 1 (no OFFSET scan)
+    @Query("SELECT u.id FROM NPlusOneUser u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Limit limit);
+    
+    // Fetch join bounded by an id list, so the database limits the rows instead of Hibernate paging in memory
+    @Query("SELECT u FROM NPlusOneUser u LEFT JOIN FETCH u.orders WHERE u.id IN :ids ORDER BY u.id")
+    List<NPlusOneUser> findAllWithOrdersByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // Users with their orders as flat rows straight from the result set: no entities, no persistence-context
+    // snapshots. Ordered so the rows of one user are adjacent; users without orders come back with a null orderId.
+    @Query("SELECT new com.example.demo.modules.nplusone.infrastructure.repository.NPlusOneUserRepository$UserOrderRow(" +
+           "u.id, u.username, u.email, o.id, o.orderNumber, o.amount) " +
+           "FROM NPlusOneUser u LEFT JOIN u.orders o ORDER BY u.id, o.id")
+    List<UserOrderRow> findAllUserOrderRows();
+    
+    // Cursor over all users: rows arrive EXPORT_FETCH_SIZE at a time and are loaded read-only (no dirty-checking
+    // snapshot). Must be consumed inside a transaction and closed.
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM NPlusOneUser u ORDER BY u.id")
+    Stream<NPlusOneUser> streamAllOrderedById();
+    
+    record UserOrderRow(Long userId, String username, String email, Long orderId, String orderNumber, Double amount) {
+    }
 }
@@ -0,0 +1,18 @@
+package com.example.demo.modules.nplusone.infrastructure.repository;
+
+import com.example.demo.modules.nplusone.domain.entity.NPlusOneUser;
+
+import java.util.List;
+
+/**
+ * Queries whose fetch plan is chosen at runtime - @EntityGraph on a query method fixes it at compile time
+ */
+public interface NPlusOneUserRepositoryCustom {
+    
+    /**
+     * All users ordered by id, loading the associations of the named entity graph with them
+     *
+     * @param entityGraph name of an entity graph declared on NPlusOneUser, or null to load users only
+     */
+    List<NPlusOneUser> findAllOrderedById(String entityGraph);
+}
@@ -0,0 +1,26 @@
+package com.example.demo.modules.nplusone.infrastructure.repository;
+
+import com.example.demo.modules.nplusone.domain.entity.NPlusOneUser;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.AvailableHints;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class NPlusOneUserRepositoryCustomImpl implements NPlusOneUserRepositoryCustom {
+    
+    private final EntityManager entityManager;
+    
+    @Override
+    public List<NPlusOneUser> findAllOrderedById(String entityGraph) {
+        TypedQuery<NPlusOneUser> query = entityManager.createQuery(
+                "SELECT u FROM NPlusOneUser u ORDER BY u.id", NPlusOneUser.class);
+        if (entityGraph != null) {
+            // Fetch graph: the graph's attributes are joined in, everything else keeps its mapped fetch type
+            query.setHint(AvailableHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph(entityGraph));
+        }
+        return query.getResultList();
+    }
+}
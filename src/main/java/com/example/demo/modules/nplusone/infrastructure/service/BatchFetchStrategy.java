@@ -0,0 +1,17 @@
+package com.example.demo.modules.nplusone.infrastructure.service;
+
+/**
+ * How the batch-fetch endpoint loads the orders of a user list - each one avoids both
+ * the per-user query loop and the JOIN FETCH row duplication
+ */
+public enum BatchFetchStrategy {
+
+    // Orders for a chunk of user ids per query: WHERE user_id IN (...), chunk size from configuration
+    IN_QUERY,
+
+    // Hibernate @BatchSize on the collection: touching one user's orders loads up to the batch size at once
+    BATCH_SIZE,
+
+    // Hibernate SUBSELECT fetch: touching one user's orders loads all of them with the user query as a subselect
+    SUBSELECT
+}
@@ -0,0 +1,15 @@
+package com.example.demo.modules.nplusone.infrastructure.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface NPlusOneExportService {
+    
+    /**
+     * Writes every user with its orders as one JSON object per line (NDJSON) while reading them,
+     * so heap use depends on the chunk size rather than on the number of users
+     *
+     * @return number of users written
+     */
+    long exportUsersWithOrders(OutputStream out) throws IOException;
+}
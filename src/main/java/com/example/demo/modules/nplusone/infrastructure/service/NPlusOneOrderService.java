@@ -1,10 +1,40 @@
 package com.example.demo.modules.nplusone.infrastructure.service;
 
+import com.example.demo.modules.ingestion.infrastructure.service.BulkIngestionResult;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneOrderSummaryPageDTO;
 import com.example.demo.modules.nplusone.domain.entity.NPlusOneOrder;
 
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface NPlusOneOrderService {
     
     List<NPlusOneOrder> getOrdersByUserId(Long userId);
+    
+    List<NPlusOneOrder> getOrdersByUserIds(Collection<Long> userIds);
+    
+    /**
+     * Orders of all given users in one IN (...) query, grouped by user id; users without orders are absent
+     */
+    Map<Long, List<NPlusOneOrder>> getOrdersGroupedByUserId(Collection<Long> userIds);
+    
+    /**
+     * Inserts NPlusOneOrderIngestDTO rows (JSON array or NDJSON) in batched, chunked transactions.
+     * Users are referenced by id without being loaded.
+     */
+    BulkIngestionResult ingestOrders(InputStream body);
+    
+    /**
+     * Keyset-paginated order count, total, min and max amount per user, grouped in the database.
+     * Users without (matching) orders are absent.
+     *
+     * @param afterId   cursor from the previous page, null for the first page
+     * @param size      users per page, clamped to 1..500
+     * @param minAmount only orders of at least this amount are summed, null for no bound
+     * @param maxAmount only orders of at most this amount are summed, null for no bound
+     * @param minOrders only users with at least this many (matching) orders, null for 1
+     */
+    NPlusOneOrderSummaryPageDTO getOrderSummariesPage(Long afterId, int size, Double minAmount, Double maxAmount, Long minOrders);
 }
@@ -1,6 +1,10 @@
 package com.example.demo.modules.nplusone.infrastructure.service;
 
+import com.example.demo.modules.nplusone.api.dto.NPlusOneBatchFetchDTO;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneFetchPlanDTO;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneParallelLoadDTO;
 import com.example.demo.modules.nplusone.api.dto.NPlusOneUserDTO;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneUserPageDTO;
 
 import java.util.List;
 
@@ -9,4 +13,35 @@ public interface NPlusOneUserService {
     List<NPlusOneUserDTO> getUsersWithOrdersNPlusOne();
     
     List<NPlusOneUserDTO> getUsersWithOrdersOptimized();
+    
+    /**
+     * Same result as the fetch join, but read as DTO projection rows - no entities are hydrated or tracked
+     */
+    List<NPlusOneUserDTO> getUsersWithOrdersProjection();
+    
+    /**
+     * Users with orders loaded through a fetch plan; orders not in the plan load lazily, one query per user
+     *
+     * @param plan the plan to use, or null for the plan configured for the users-fetch-plan endpoint
+     */
+    NPlusOneFetchPlanDTO getUsersWithOrdersFetchPlan(UserFetchPlan plan);
+    
+    /**
+     * Same one-query-per-user loads as the N+1 endpoint, fanned out on a bounded executor;
+     * users come back in id order
+     */
+    NPlusOneParallelLoadDTO getUsersWithOrdersParallel();
+    
+    /**
+     * Loads users, then their orders in batches - a handful of round trips and no duplicated user columns
+     */
+    NPlusOneBatchFetchDTO getUsersWithOrdersBatchFetch(BatchFetchStrategy strategy);
+    
+    /**
+     * One page of users with their orders: keyset page of user ids, then one fetch join for those ids
+     *
+     * @param afterId cursor from the previous page, null for the first page
+     * @param size    users per page, clamped to 1..500
+     */
+    NPlusOneUserPageDTO getUsersWithOrdersPage(Long afterId, int size);
 }
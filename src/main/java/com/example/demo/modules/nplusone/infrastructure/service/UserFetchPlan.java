@@ -0,0 +1,27 @@
+package com.example.demo.modules.nplusone.infrastructure.service;
+
+import com.example.demo.modules.nplusone.domain.entity.NPlusOneUser;
+
+/**
+ * Named fetch plans for loading users: which associations come with the user query.
+ * Chosen per endpoint in configuration (app.nplusone.fetch-plans.endpoints.*), so a lazy-loading
+ * storm reported by the SQL statistics can be fixed by switching the plan, without a code change.
+ */
+public enum UserFetchPlan {
+
+    // Users only; each user's orders load on first access - one query per user
+    LAZY(null),
+
+    // Users with their orders through the NPlusOneUser.withOrders entity graph - one query
+    WITH_ORDERS(NPlusOneUser.GRAPH_WITH_ORDERS);
+
+    private final String entityGraph;
+
+    UserFetchPlan(String entityGraph) {
+        this.entityGraph = entityGraph;
+    }
+
+    public String getEntityGraph() {
+        return entityGraph;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.modules.nplusone.infrastructure.service.impl;
+
+import com.example.demo.modules.nplusone.api.dto.NPlusOneUserDTO;
+import com.example.demo.modules.nplusone.api.mapper.NPlusOneUserMapper;
+import com.example.demo.modules.nplusone.domain.entity.NPlusOneOrder;
+import com.example.demo.modules.nplusone.domain.entity.NPlusOneUser;
+import com.example.demo.modules.nplusone.infrastructure.config.NPlusOneBatchFetchProperties;
+import com.example.demo.modules.nplusone.infrastructure.repository.NPlusOneUserRepository;
+import com.example.demo.modules.nplusone.infrastructure.service.NPlusOneExportService;
+import com.example.demo.modules.nplusone.infrastructure.service.NPlusOneOrderService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Streams users from a database cursor in chunks of batch-size: one IN (...) query loads a chunk's
+ * orders, the chunk is written and flushed, then the persistence context is cleared. At no point
+ * does the export hold more than one chunk of entities or DTOs.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NPlusOneExportServiceImpl implements NPlusOneExportService {
+    
+    private final NPlusOneUserRepository userRepository;
+    private final NPlusOneOrderService orderService;
+    private final NPlusOneUserMapper userMapper;
+    private final NPlusOneBatchFetchProperties batchFetchProperties;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long exportUsersWithOrders(OutputStream out) throws IOException {
+        long startTime = System.currentTimeMillis();
+        int chunkSize = batchFetchProperties.getBatchSize();
+        // Flushed once per chunk instead of after every line
+        ObjectWriter writer = objectMapper.writerFor(NPlusOneUserDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long exported = 0;
+        
+        try (Stream<NPlusOneUser> users = userRepository.streamAllOrderedById();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Lines are terminated explicitly; no separator before the next value
+            generator.setRootValueSeparator(null);
+            
+            List<NPlusOneUser> chunk = new ArrayList<>(chunkSize);
+            Iterator<NPlusOneUser> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize || !iterator.hasNext()) {
+                    exported += writeChunk(chunk, writer, generator);
+                    chunk.clear();
+                }
+            }
+        }
+        
+        log.info("NDJSON export wrote {} users in {} ms (chunk size {})",
+                exported, System.currentTimeMillis() - startTime, chunkSize);
+        return exported;
+    }
+    
+    private int writeChunk(List<NPlusOneUser> chunk, ObjectWriter writer, JsonGenerator generator) throws IOException {
+        List<Long> userIds = chunk.stream().map(NPlusOneUser::getId).toList();
+        Map<Long, List<NPlusOneOrder>> ordersByUser = orderService.getOrdersGroupedByUserId(userIds);
+        for (NPlusOneUser user : chunk) {
+            writer.writeValue(generator, userMapper.toDTO(user, ordersByUser.getOrDefault(user.getId(), List.of())));
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+        // Detach the chunk's users and orders; the cursor keeps going with an empty persistence context
+        entityManager.clear();
+        return chunk.size();
+    }
+}
@@ -1,21 +1,74 @@
 package com.example.demo.modules.nplusone.infrastructure.service.impl;
 
+import com.example.demo.modules.ingestion.infrastructure.service.BulkIngestionResult;
+import com.example.demo.modules.ingestion.infrastructure.service.BulkIngestionService;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneOrderIngestDTO;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneOrderSummaryDTO;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneOrderSummaryPageDTO;
 import com.example.demo.modules.nplusone.domain.entity.NPlusOneOrder;
+import com.example.demo.modules.nplusone.domain.entity.NPlusOneUser;
 import com.example.demo.modules.nplusone.infrastructure.repository.NPlusOneOrderRepository;
 import com.example.demo.modules.nplusone.infrastructure.service.NPlusOneOrderService;
+import com.example.demo.modules.sqlstatistics.infrastructure.jdbc.SqlExecutionStats;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class NPlusOneOrderServiceImpl implements NPlusOneOrderService {
     
     private final NPlusOneOrderRepository orderRepository;
+    private final EntityManager entityManager;
+    private final BulkIngestionService bulkIngestionService;
     
     @Override
     public List<NPlusOneOrder> getOrdersByUserId(Long userId) {
         return orderRepository.findByUserId(userId);
     }
+    
+    @Override
+    public List<NPlusOneOrder> getOrdersByUserIds(Collection<Long> userIds) {
+        return orderRepository.findByUserIdIn(userIds);
+    }
+    
+    @Override
+    public Map<Long, List<NPlusOneOrder>> getOrdersGroupedByUserId(Collection<Long> userIds) {
+        Map<Long, List<NPlusOneOrder>> ordersByUser = new HashMap<>(userIds.size() * 2);
+        for (NPlusOneOrder order : orderRepository.findByUserIdIn(userIds)) {
+            ordersByUser.computeIfAbsent(order.getUser().getId(), id -> new ArrayList<>()).add(order);
+        }
+        return ordersByUser;
+    }
+    
+    @Override
+    public BulkIngestionResult ingestOrders(InputStream body) {
+        return bulkIngestionService.ingest("nplusone_orders", body, NPlusOneOrderIngestDTO.class, row ->
+                // A proxy, not a SELECT per row; an unknown user id fails the chunk on the foreign key.
+                // EntityManager directly: the repository's getReferenceById adds a transaction interceptor per row
+                new NPlusOneOrder(null, row.getOrderNumber(), row.getAmount(), entityManager.getReference(NPlusOneUser.class, row.getUserId())));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public NPlusOneOrderSummaryPageDTO getOrderSummariesPage(Long afterId, int size, Double minAmount, Double maxAmount, Long minOrders) {
+        SqlExecutionStats.Mark sql = SqlExecutionStats.mark();
+        int pageSize = Math.min(Math.max(size, 1), NPlusOneUserServiceImpl.MAX_PAGE_SIZE);
+        // One summary more than the page tells whether a next page exists without a count query
+        List<NPlusOneOrderSummaryDTO> summaries = orderRepository.summarizeByUserAfter(afterId != null ? afterId : 0L,
+                minAmount, maxAmount, minOrders != null ? Math.max(minOrders, 1) : 1, Limit.of(pageSize + 1));
+        boolean hasNext = summaries.size() > pageSize;
+        List<NPlusOneOrderSummaryDTO> page = hasNext ? summaries.subList(0, pageSize) : summaries;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getUserId() : null;
+        return new NPlusOneOrderSummaryPageDTO(page, page.size(), nextCursor, (int) sql.statements(), sql.rows());
+    }
 }
@@ -1,25 +1,49 @@
 package com.example.demo.modules.nplusone.infrastructure.service.impl;
 
+import com.example.demo.modules.nplusone.api.dto.NPlusOneBatchFetchDTO;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneFetchPlanDTO;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneParallelLoadDTO;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneOrderDTO;
 import com.example.demo.modules.nplusone.api.dto.NPlusOneUserDTO;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneUserPageDTO;
 import com.example.demo.modules.nplusone.api.mapper.NPlusOneUserMapper;
 import com.example.demo.modules.nplusone.domain.entity.NPlusOneUser;
 import com.example.demo.modules.nplusone.domain.entity.NPlusOneOrder;
+import com.example.demo.modules.nplusone.infrastructure.config.NPlusOneBatchFetchProperties;
+import com.example.demo.modules.nplusone.infrastructure.config.NPlusOneFetchPlanProperties;
+import com.example.demo.modules.nplusone.infrastructure.parallel.BoundedParallelLoader;
 import com.example.demo.modules.nplusone.infrastructure.repository.NPlusOneUserRepository;
+import com.example.demo.modules.nplusone.infrastructure.repository.NPlusOneUserRepository.UserOrderRow;
+import com.example.demo.modules.nplusone.infrastructure.service.BatchFetchStrategy;
 import com.example.demo.modules.nplusone.infrastructure.service.NPlusOneUserService;
 import com.example.demo.modules.nplusone.infrastructure.service.NPlusOneOrderService;
+import com.example.demo.modules.nplusone.infrastructure.service.UserFetchPlan;
+import com.example.demo.modules.sqlstatistics.infrastructure.jdbc.SqlExecutionStats;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class NPlusOneUserServiceImpl implements NPlusOneUserService {
     
+    static final int MAX_PAGE_SIZE = 500;
+    
     private final NPlusOneUserRepository userRepository;
     private final NPlusOneOrderService orderService;
     private final NPlusOneUserMapper userMapper;
+    private final NPlusOneBatchFetchProperties batchFetchProperties;
+    private final NPlusOneFetchPlanProperties fetchPlanProperties;
+    private final BoundedParallelLoader orderLoader;
     
     @Override
     public List<NPlusOneUserDTO> getUsersWithOrdersNPlusOne() {
@@ -47,4 +71,125 @@ public class NPlusOneUserServiceImpl implements NPlusOneUserService {
                 .map(userMapper::toDTO)
                 .collect(Collectors.toList());
     }
+    
+    @Override
+    public List<NPlusOneUserDTO> getUsersWithOrdersProjection() {
+        List<NPlusOneUserDTO> users = new ArrayList<>();
+        NPlusOneUserDTO current = null;
+        // Rows arrive ordered by user, so one pass folds them without a lookup map
+        for (UserOrderRow row : userRepository.findAllUserOrderRows()) {
+            if (current == null || !current.getId().equals(row.userId())) {
+                current = new NPlusOneUserDTO(row.userId(), row.username(), row.email(), new ArrayList<>());
+                users.add(current);
+            }
+            if (row.orderId() != null) {
+                current.getOrders().add(new NPlusOneOrderDTO(row.orderId(), row.orderNumber(), row.amount()));
+            }
+        }
+        return users;
+    }
+    
+    @Override
+    public NPlusOneParallelLoadDTO getUsersWithOrdersParallel() {
+        // No transaction here: it would pin a connection to this thread while the workers need theirs
+        SqlExecutionStats.Mark sql = SqlExecutionStats.mark();
+        List<NPlusOneUser> users = userRepository.findAll(Sort.by("id"));
+        List<Long> userIds = users.stream().map(NPlusOneUser::getId).toList();
+        
+        // Still one round trip per user, but up to `concurrency` of them in flight at once
+        BoundedParallelLoader.Result<List<NPlusOneOrder>> orders = orderLoader.loadAll(userIds, orderService::getOrdersByUserId);
+        List<NPlusOneUserDTO> result = new ArrayList<>(users.size());
+        int orderCount = 0;
+        for (int i = 0; i < users.size(); i++) {
+            NPlusOneUser user = users.get(i);
+            user.setOrders(orders.values().get(i));
+            orderCount += user.getOrders().size();
+            result.add(userMapper.toDTO(user));
+        }
+        return new NPlusOneParallelLoadDTO(orderLoader.getExecutorType(), orderLoader.getConcurrency(), orderCount,
+                (int) sql.statements(), users.isEmpty() ? 0.0 : orders.totalWaitNanos() / 1_000_000.0 / users.size(),
+                orders.maxWaitNanos() / 1_000_000.0,
+                sql.connectionWaitMillis(), result);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public NPlusOneFetchPlanDTO getUsersWithOrdersFetchPlan(UserFetchPlan plan) {
+        UserFetchPlan fetchPlan = plan != null ? plan : fetchPlanProperties.planFor("users-fetch-plan");
+        SqlExecutionStats.Mark sql = SqlExecutionStats.mark();
+        // Same query and mapper for every plan; only the entity graph decides what is fetched up front
+        List<NPlusOneUserDTO> users = userRepository.findAllOrderedById(fetchPlan.getEntityGraph()).stream()
+                .map(userMapper::toDTO)
+                .collect(Collectors.toList());
+        return new NPlusOneFetchPlanDTO(fetchPlan, fetchPlan.getEntityGraph(), (int) sql.statements(),
+                (int) sql.lazyLoads(), users);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public NPlusOneBatchFetchDTO getUsersWithOrdersBatchFetch(BatchFetchStrategy strategy) {
+        SqlExecutionStats.Mark sql = SqlExecutionStats.mark();
+        // Users alone: one row per user, no order columns repeated against them
+        List<NPlusOneUser> users = userRepository.findAll(Sort.by("id"));
+        
+        NPlusOneBatchFetchDTO batchFetch = switch (strategy) {
+            case IN_QUERY -> fetchWithInQueries(users);
+            case BATCH_SIZE -> fetchWithCollection(strategy, users, NPlusOneUser::getBatchedOrders,
+                    NPlusOneUser.ORDER_BATCH_SIZE);
+            case SUBSELECT -> fetchWithCollection(strategy, users, NPlusOneUser::getSubselectOrders, null);
+        };
+        // Counted at the JDBC driver, not derived from the batch size
+        batchFetch.setQueryCount((int) sql.statements());
+        return batchFetch;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public NPlusOneUserPageDTO getUsersWithOrdersPage(Long afterId, int size) {
+        SqlExecutionStats.Mark sql = SqlExecutionStats.mark();
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // Phase 1: one id more than the page tells whether a next page exists without a count query
+        List<Long> ids = userRepository.findIdsAfter(afterId != null ? afterId : 0L, Limit.of(pageSize + 1));
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+        if (pageIds.isEmpty()) {
+            return new NPlusOneUserPageDTO(List.of(), 0, null, (int) sql.statements());
+        }
+        
+        // Phase 2: the fetch join only sees this page's users, so memory stays flat as the table grows
+        List<NPlusOneUserDTO> users = userRepository.findAllWithOrdersByIdIn(pageIds).stream()
+                .map(userMapper::toDTO)
+                .collect(Collectors.toList());
+        Long nextCursor = hasNext ? pageIds.get(pageIds.size() - 1) : null;
+        return new NPlusOneUserPageDTO(users, users.size(), nextCursor, (int) sql.statements());
+    }
+    
+    private NPlusOneBatchFetchDTO fetchWithInQueries(List<NPlusOneUser> users) {
+        int batchSize = batchFetchProperties.getBatchSize();
+        Map<Long, List<NPlusOneOrder>> ordersByUser = new HashMap<>(users.size() * 2);
+        
+        // One IN (...) query per chunk keeps each statement's parameter list bounded
+        List<Long> userIds = users.stream().map(NPlusOneUser::getId).toList();
+        for (int from = 0; from < userIds.size(); from += batchSize) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + batchSize, userIds.size()));
+            ordersByUser.putAll(orderService.getOrdersGroupedByUserId(chunk));
+        }
+        int orderCount = ordersByUser.values().stream().mapToInt(List::size).sum();
+        
+        List<NPlusOneUserDTO> userDTOs = users.stream()
+                .map(user -> userMapper.toDTO(user, ordersByUser.getOrDefault(user.getId(), List.of())))
+                .collect(Collectors.toList());
+        return new NPlusOneBatchFetchDTO(BatchFetchStrategy.IN_QUERY, batchSize, orderCount, null, userDTOs);
+    }
+    
+    // The first access to a user's collection initializes the others in the same round trip
+    private NPlusOneBatchFetchDTO fetchWithCollection(BatchFetchStrategy strategy, List<NPlusOneUser> users,
+                                                      Function<NPlusOneUser, List<NPlusOneOrder>> orders,
+                                                      Integer batchSize) {
+        List<NPlusOneUserDTO> userDTOs = users.stream()
+                .map(user -> userMapper.toDTO(user, orders.apply(user)))
+                .collect(Collectors.toList());
+        int orderCount = userDTOs.stream().mapToInt(user -> user.getOrders().size()).sum();
+        return new NPlusOneBatchFetchDTO(strategy, batchSize, orderCount, null, userDTOs);
+    }
 }
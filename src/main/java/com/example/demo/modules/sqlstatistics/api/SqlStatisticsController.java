@@ -0,0 +1,33 @@
+package com.example.demo.modules.sqlstatistics.api;
+
+import com.example.demo.modules.sqlstatistics.api.model.dto.response.SqlStatisticsDTO;
+import com.example.demo.modules.sqlstatistics.infrastructure.service.SqlStatisticsService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/sql/statistics")
+@RequiredArgsConstructor
+public class SqlStatisticsController {
+
+    private final SqlStatisticsService sqlStatisticsService;
+
+    /**
+     * Statements, execution time and rows per endpoint, measured at the JDBC driver.
+     * The same numbers are published to Micrometer as sql.requests / sql.statements / sql.rows;
+     * each response also carries its own X-SQL-Statements, X-SQL-Time-Ms, X-SQL-Max-Time-Ms and X-SQL-Rows headers.
+     */
+    @GetMapping
+    public ResponseEntity<List<SqlStatisticsDTO>> getAllStatistics() {
+        log.info("Getting SQL statistics for all endpoints");
+        return ResponseEntity.ok(sqlStatisticsService.getAllStatistics());
+    }
+}
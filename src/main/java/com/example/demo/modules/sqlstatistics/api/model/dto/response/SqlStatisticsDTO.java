@@ -0,0 +1,27 @@
+package com.example.demo.modules.sqlstatistics.api.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SqlStatisticsDTO {
+
+    private String endpoint;
+    private Long requests;
+    private Long statements;
+    private Double statementsPerRequest;
+    private Long maxStatementsPerRequest;
+    private Double totalTimeMillis;
+    private Double averageTimePerRequestMillis;
+    private Double maxStatementMillis;
+    private Long rows;
+    private Long lazyLoads;
+    // Requests that lazily initialized one association more often than app.sql-statistics.lazy-load-threshold
+    private Long lazyLoadStorms;
+    private Map<String, Long> lazyLoadStormsByPath;
+}
@@ -0,0 +1,72 @@
+package com.example.demo.modules.sqlstatistics.infrastructure.config;
+
+import com.example.demo.modules.sqlstatistics.infrastructure.hibernate.LazyLoadListener;
+import com.example.demo.modules.sqlstatistics.infrastructure.jdbc.SqlCountingDataSource;
+import com.example.demo.modules.sqlstatistics.infrastructure.stats.SqlStatisticsRegistry;
+import com.example.demo.modules.sqlstatistics.infrastructure.web.SqlStatisticsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(SqlStatisticsProperties.class)
+@ConditionalOnProperty(prefix = "app.sql-statistics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsConfig {
+
+    /**
+     * Wraps every DataSource bean, so Hibernate, Spring Data and JdbcTemplate all go through the counter
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static BeanPostProcessor sqlCountingDataSourcePostProcessor(ObjectProvider<SqlStatisticsProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlCountingDataSource)) {
+                    return new SqlCountingDataSource(dataSource, properties.getObject().getSlowStatementThreshold());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SqlStatisticsRegistry sqlStatisticsRegistry(MeterRegistry meterRegistry, SqlStatisticsProperties properties) {
+        return new SqlStatisticsRegistry(meterRegistry, properties.getLazyLoadThreshold());
+    }
+
+    /**
+     * Observes lazy initializations; appended to Hibernate's event listeners once the EntityManagerFactory exists
+     */
+    @Bean
+    public LazyLoadListener lazyLoadListener(EntityManagerFactory entityManagerFactory) {
+        LazyLoadListener listener = new LazyLoadListener();
+        EventListenerRegistry listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().requireService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.INIT_COLLECTION, listener);
+        listeners.appendListeners(EventType.LOAD, listener);
+        return listener;
+    }
+
+    // First in the chain, so statements run by any later filter (e.g. open-in-view) belong to the request
+    @Bean
+    public FilterRegistrationBean<SqlStatisticsFilter> sqlStatisticsFilter(SqlStatisticsRegistry registry) {
+        FilterRegistrationBean<SqlStatisticsFilter> registration = new FilterRegistrationBean<>(new SqlStatisticsFilter(registry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.modules.sqlstatistics.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Per-request SQL statement counting, bound from app.sql-statistics.*
+ */
+@Data
+@ConfigurationProperties(prefix = "app.sql-statistics")
+public class SqlStatisticsProperties {
+
+    // Wrap the DataSource and report X-SQL-* headers and per-endpoint totals
+    private boolean enabled = true;
+
+    // Statements running at least this long are logged at WARN with their SQL
+    private Duration slowStatementThreshold = Duration.ofMillis(500);
+
+    // A request lazily initializing one association more often than this is reported as a lazy-loading storm
+    private int lazyLoadThreshold = 5;
+}
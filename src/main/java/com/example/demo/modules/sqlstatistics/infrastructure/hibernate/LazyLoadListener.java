@@ -0,0 +1,35 @@
+package com.example.demo.modules.sqlstatistics.infrastructure.hibernate;
+
+import com.example.demo.modules.sqlstatistics.infrastructure.jdbc.SqlExecutionStats;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+
+/**
+ * Reports every lazy initialization to the current thread's {@link SqlExecutionStats}:
+ * a collection loaded on first access (path = owner entity + property, e.g. NPlusOneUser.orders)
+ * or an entity proxy loaded on first access (path = entity + "#proxy").
+ *
+ * Appended after Hibernate's own listeners, so it only observes. Collections initialized
+ * together by @BatchSize or SUBSELECT fetching count once, fetch joins and entity graphs not at all.
+ */
+public class LazyLoadListener implements InitializeCollectionEventListener, LoadEventListener {
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        // Role is the qualified owner entity plus property: com.example...NPlusOneUser.orders
+        String role = event.getCollection().getRole();
+        int property = role.lastIndexOf('.');
+        SqlExecutionStats.current().recordLazyLoad(role.substring(role.lastIndexOf('.', property - 1) + 1));
+    }
+
+    @Override
+    public void onLoad(LoadEvent event, LoadType loadType) {
+        // IMMEDIATE_LOAD is the load behind a proxy's first access; find() and queries use other types
+        if (loadType == LoadEventListener.IMMEDIATE_LOAD) {
+            String entity = event.getEntityClassName();
+            SqlExecutionStats.current().recordLazyLoad(entity.substring(entity.lastIndexOf('.') + 1) + "#proxy");
+        }
+    }
+}
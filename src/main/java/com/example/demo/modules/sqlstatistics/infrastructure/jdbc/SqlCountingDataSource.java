@@ -0,0 +1,119 @@
+package com.example.demo.modules.sqlstatistics.infrastructure.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Counts what actually reaches the database, whoever sends it (Hibernate, Spring Data, JdbcTemplate).
+ *
+ * Connections, statements and result sets are wrapped in JDK proxies: every execute* call is one
+ * statement (a JDBC batch is one round trip, so one statement) timed with System.nanoTime, and every
+ * ResultSet.next() that returns true is one row. Time spent in getConnection() is the wait for a
+ * pooled connection. Results go to the calling thread's {@link SqlExecutionStats}. Statements slower than the threshold are logged with their SQL.
+ */
+@Slf4j
+public class SqlCountingDataSource extends DelegatingDataSource {
+
+    private final long slowStatementNanos;
+
+    public SqlCountingDataSource(DataSource targetDataSource, Duration slowStatementThreshold) {
+        super(targetDataSource);
+        this.slowStatementNanos = slowStatementThreshold.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection();
+        SqlExecutionStats.current().recordConnectionWait(System.nanoTime() - start);
+        return wrapConnection(connection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        SqlExecutionStats.current().recordConnectionWait(System.nanoTime() - start);
+        return wrapConnection(connection);
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> wrapStatement(Statement.class, (Statement) result, null);
+                case "prepareStatement" -> wrapStatement(PreparedStatement.class, (Statement) result, (String) args[0]);
+                case "prepareCall" -> wrapStatement(CallableStatement.class, (Statement) result, (String) args[0]);
+                default -> result;
+            };
+        });
+    }
+
+    private <T extends Statement> T wrapStatement(Class<T> type, Statement statement, String preparedSql) {
+        return proxy(type, statement, (proxy, method, args) -> {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                Object result = invoke(statement, method, args);
+                return "getResultSet".equals(name) && result != null
+                        ? wrapResultSet((ResultSet) result, SqlExecutionStats.current()) : result;
+            }
+            String sql = preparedSql != null ? preparedSql
+                    : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            SqlExecutionStats stats = SqlExecutionStats.current();
+            long start = System.nanoTime();
+            try {
+                Object result = invoke(statement, method, args);
+                return result instanceof ResultSet resultSet ? wrapResultSet(resultSet, stats) : result;
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                stats.recordStatement(sql, elapsed);
+                if (elapsed >= slowStatementNanos) {
+                    log.warn("Slow SQL statement ({} ms): {}", elapsed / 1_000_000, sql);
+                }
+            }
+        });
+    }
+
+    private ResultSet wrapResultSet(ResultSet resultSet, SqlExecutionStats stats) {
+        return proxy(ResultSet.class, resultSet, (proxy, method, args) -> {
+            Object result = invoke(resultSet, method, args);
+            // Not ==: reflective calls may box a fresh Boolean instead of returning Boolean.TRUE
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                stats.recordRow();
+            }
+            return result;
+        });
+    }
+
+    // equals/hashCode stay identity-based: Hibernate tracks open statements and result sets in hash maps
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(SqlCountingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> handler.invoke(proxy, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
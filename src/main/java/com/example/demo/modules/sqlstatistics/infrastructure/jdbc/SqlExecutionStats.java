@@ -0,0 +1,162 @@
+package com.example.demo.modules.sqlstatistics.infrastructure.jdbc;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL statements executed on the current thread: count, execution time and rows read, time spent
+ * waiting for a pooled connection, plus the lazy initializations (collections and proxies loaded
+ * on first access) per association.
+ *
+ * A request gets its own instance for its duration (see SqlStatisticsFilter); other threads keep
+ * a default instance that simply accumulates. Instances are only touched by their own thread,
+ * so plain fields are enough.
+ */
+public final class SqlExecutionStats {
+
+    private static final ThreadLocal<SqlExecutionStats> CURRENT = ThreadLocal.withInitial(SqlExecutionStats::new);
+
+    private long statements;
+    private long rows;
+    private long totalNanos;
+    private long maxNanos;
+    private String slowestSql;
+    private long connectionWaitNanos;
+    private long lazyLoads;
+    private Map<String, Integer> lazyLoadsByPath;
+
+    public static SqlExecutionStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Installs a fresh instance for the current thread
+     *
+     * @return the instance it replaced, to be handed back to {@link #restore}
+     */
+    public static SqlExecutionStats begin() {
+        SqlExecutionStats previous = CURRENT.get();
+        CURRENT.set(new SqlExecutionStats());
+        return previous;
+    }
+
+    public static void restore(SqlExecutionStats previous) {
+        CURRENT.set(previous);
+    }
+
+    /**
+     * Starting point for counting the statements of one block of code, e.g. a single service call
+     */
+    public static Mark mark() {
+        SqlExecutionStats stats = current();
+        return new Mark(stats, stats.statements, stats.rows, stats.totalNanos, stats.connectionWaitNanos,
+                stats.lazyLoads);
+    }
+
+    /**
+     * Adds what another thread executed on this thread's behalf, e.g. a parallel load's worker.
+     * Call it on the owning thread once the other thread is done with {@code other}.
+     */
+    public void add(SqlExecutionStats other) {
+        statements += other.statements;
+        rows += other.rows;
+        totalNanos += other.totalNanos;
+        if (other.maxNanos > maxNanos) {
+            maxNanos = other.maxNanos;
+            slowestSql = other.slowestSql;
+        }
+        connectionWaitNanos += other.connectionWaitNanos;
+        lazyLoads += other.lazyLoads;
+        if (other.lazyLoadsByPath != null) {
+            if (lazyLoadsByPath == null) {
+                lazyLoadsByPath = new HashMap<>();
+            }
+            other.lazyLoadsByPath.forEach((path, count) -> lazyLoadsByPath.merge(path, count, Integer::sum));
+        }
+    }
+
+    void recordStatement(String sql, long nanos) {
+        statements++;
+        totalNanos += nanos;
+        if (nanos > maxNanos) {
+            maxNanos = nanos;
+            slowestSql = sql;
+        }
+    }
+
+    void recordRow() {
+        rows++;
+    }
+
+    void recordConnectionWait(long nanos) {
+        connectionWaitNanos += nanos;
+    }
+
+    /**
+     * @param path the association that was initialized, e.g. NPlusOneUser.orders
+     */
+    public void recordLazyLoad(String path) {
+        lazyLoads++;
+        if (lazyLoadsByPath == null) {
+            lazyLoadsByPath = new HashMap<>();
+        }
+        lazyLoadsByPath.merge(path, 1, Integer::sum);
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public String getSlowestSql() {
+        return slowestSql;
+    }
+
+    public long getConnectionWaitNanos() {
+        return connectionWaitNanos;
+    }
+
+    public long getLazyLoads() {
+        return lazyLoads;
+    }
+
+    public Map<String, Integer> getLazyLoadsByPath() {
+        return lazyLoadsByPath != null ? Collections.unmodifiableMap(lazyLoadsByPath) : Map.of();
+    }
+
+    public record Mark(SqlExecutionStats stats, long startStatements, long startRows, long startNanos,
+                       long startConnectionWaitNanos, long startLazyLoads) {
+
+        public long statements() {
+            return stats.statements - startStatements;
+        }
+
+        public long rows() {
+            return stats.rows - startRows;
+        }
+
+        public double millis() {
+            return (stats.totalNanos - startNanos) / 1_000_000.0;
+        }
+
+        public double connectionWaitMillis() {
+            return (stats.connectionWaitNanos - startConnectionWaitNanos) / 1_000_000.0;
+        }
+
+        public long lazyLoads() {
+            return stats.lazyLoads - startLazyLoads;
+        }
+    }
+}
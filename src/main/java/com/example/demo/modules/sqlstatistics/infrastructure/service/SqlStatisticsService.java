@@ -0,0 +1,13 @@
+package com.example.demo.modules.sqlstatistics.infrastructure.service;
+
+import com.example.demo.modules.sqlstatistics.api.model.dto.response.SqlStatisticsDTO;
+
+import java.util.List;
+
+public interface SqlStatisticsService {
+
+    /**
+     * SQL totals per endpoint since startup, the endpoints issuing the most statements per request first
+     */
+    List<SqlStatisticsDTO> getAllStatistics();
+}
@@ -0,0 +1,62 @@
+package com.example.demo.modules.sqlstatistics.infrastructure.service.impl;
+
+import com.example.demo.modules.sqlstatistics.api.model.dto.response.SqlStatisticsDTO;
+import com.example.demo.modules.sqlstatistics.infrastructure.service.SqlStatisticsService;
+import com.example.demo.modules.sqlstatistics.infrastructure.stats.EndpointSqlStatistics;
+import com.example.demo.modules.sqlstatistics.infrastructure.stats.SqlStatisticsRegistry;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+@RequiredArgsConstructor
+public class SqlStatisticsServiceImpl implements SqlStatisticsService {
+
+    // Absent when app.sql-statistics.enabled=false
+    private final ObjectProvider<SqlStatisticsRegistry> sqlStatisticsRegistry;
+
+    @Override
+    public List<SqlStatisticsDTO> getAllStatistics() {
+        SqlStatisticsRegistry registry = sqlStatisticsRegistry.getIfAvailable();
+        if (registry == null) {
+            return List.of();
+        }
+        return registry.getAll().stream()
+                .map(this::toDTO)
+                .sorted(Comparator.comparing(SqlStatisticsDTO::getStatementsPerRequest).reversed()
+                        .thenComparing(SqlStatisticsDTO::getEndpoint))
+                .toList();
+    }
+
+    private SqlStatisticsDTO toDTO(EndpointSqlStatistics statistics) {
+        long requests = statistics.getRequests();
+        double totalMillis = statistics.getTotalNanos() / 1_000_000.0;
+        return new SqlStatisticsDTO(
+                statistics.getEndpoint(),
+                requests,
+                statistics.getStatements(),
+                requests == 0 ? 0.0 : (double) statistics.getStatements() / requests,
+                statistics.getMaxStatementsPerRequest(),
+                totalMillis,
+                requests == 0 ? 0.0 : totalMillis / requests,
+                statistics.getMaxStatementNanos() / 1_000_000.0,
+                statistics.getRows(),
+                statistics.getLazyLoads(),
+                statistics.getLazyLoadStorms(),
+                toCounts(statistics.getLazyLoadStormsByPath())
+        );
+    }
+
+    private static Map<String, Long> toCounts(Map<String, LongAdder> counters) {
+        Map<String, Long> counts = new TreeMap<>();
+        counters.forEach((path, counter) -> counts.put(path, counter.sum()));
+        return counts;
+    }
+}
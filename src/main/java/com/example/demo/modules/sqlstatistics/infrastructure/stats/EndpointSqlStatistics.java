@@ -0,0 +1,85 @@
+package com.example.demo.modules.sqlstatistics.infrastructure.stats;
+
+import com.example.demo.modules.sqlstatistics.infrastructure.jdbc.SqlExecutionStats;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL totals of every request served by one endpoint (HTTP method + path pattern).
+ * Requests update LongAdders and max-accumulators, so concurrent requests never contend on a lock.
+ */
+public class EndpointSqlStatistics {
+
+    private final String endpoint;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxStatementsPerRequest = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxStatementNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder lazyLoads = new LongAdder();
+    private final Map<String, LongAdder> lazyLoadStormsByPath = new ConcurrentHashMap<>();
+
+    public EndpointSqlStatistics(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public void record(SqlExecutionStats request) {
+        requests.increment();
+        statements.add(request.getStatements());
+        rows.add(request.getRows());
+        totalNanos.add(request.getTotalNanos());
+        maxStatementsPerRequest.accumulate(request.getStatements());
+        maxStatementNanos.accumulate(request.getMaxNanos());
+        lazyLoads.add(request.getLazyLoads());
+    }
+
+    public void recordLazyLoadStorm(String path) {
+        lazyLoadStormsByPath.computeIfAbsent(path, p -> new LongAdder()).increment();
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxStatementsPerRequest() {
+        return maxStatementsPerRequest.get();
+    }
+
+    public long getMaxStatementNanos() {
+        return maxStatementNanos.get();
+    }
+
+    public long getLazyLoads() {
+        return lazyLoads.sum();
+    }
+
+    public long getLazyLoadStorms() {
+        return lazyLoadStormsByPath.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    // Association path -> requests in which it was lazily initialized more often than the threshold
+    public Map<String, LongAdder> getLazyLoadStormsByPath() {
+        return Collections.unmodifiableMap(lazyLoadStormsByPath);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo.modules.sqlstatistics.infrastructure.stats;
+
+import com.example.demo.modules.sqlstatistics.infrastructure.jdbc.SqlExecutionStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the {@link EndpointSqlStatistics} of every endpoint and publishes them to Micrometer
+ * as sql.requests, sql.statements (a timer: count and total execution time), sql.rows and
+ * sql.lazy.loads, tagged with the endpoint.
+ *
+ * A request that lazily initializes one association more than lazyLoadThreshold times is an
+ * N+1 in the making: it is logged and counted in sql.lazy.storms, tagged with endpoint and path.
+ */
+@Slf4j
+public class SqlStatisticsRegistry {
+
+    private final Map<String, EndpointSqlStatistics> statistics = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final int lazyLoadThreshold;
+
+    public SqlStatisticsRegistry(MeterRegistry meterRegistry, int lazyLoadThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.lazyLoadThreshold = lazyLoadThreshold;
+    }
+
+    public void record(String endpoint, SqlExecutionStats request) {
+        EndpointSqlStatistics endpointStatistics = statistics.computeIfAbsent(endpoint, this::createAndBind);
+        endpointStatistics.record(request);
+        if (request.getLazyLoads() > lazyLoadThreshold) {
+            request.getLazyLoadsByPath().forEach((path, count) -> {
+                if (count > lazyLoadThreshold) {
+                    endpointStatistics.recordLazyLoadStorm(path);
+                    Counter.builder("sql.lazy.storms")
+                            .tags("endpoint", endpoint, "path", path)
+                            .description("Requests that lazily initialized one association more often than the threshold")
+                            .register(meterRegistry)
+                            .increment();
+                    log.warn("Lazy-loading storm: {} initialized {} lazily {} times in one request ({} statements) - "
+                            + "fetch it with the query or an entity graph", endpoint, path, count, request.getStatements());
+                }
+            });
+        }
+    }
+
+    public Collection<EndpointSqlStatistics> getAll() {
+        return Collections.unmodifiableCollection(statistics.values());
+    }
+
+    private EndpointSqlStatistics createAndBind(String endpoint) {
+        EndpointSqlStatistics endpointStatistics = new EndpointSqlStatistics(endpoint);
+        Tags tags = Tags.of("endpoint", endpoint);
+
+        FunctionCounter.builder("sql.requests", endpointStatistics, EndpointSqlStatistics::getRequests)
+                .tags(tags)
+                .description("Number of requests served by the endpoint")
+                .register(meterRegistry);
+        FunctionTimer.builder("sql.statements", endpointStatistics,
+                        EndpointSqlStatistics::getStatements, EndpointSqlStatistics::getTotalNanos, TimeUnit.NANOSECONDS)
+                .tags(tags)
+                .description("SQL statements executed while serving the endpoint and their execution time")
+                .register(meterRegistry);
+        FunctionCounter.builder("sql.rows", endpointStatistics, EndpointSqlStatistics::getRows)
+                .tags(tags)
+                .description("Result set rows read while serving the endpoint")
+                .register(meterRegistry);
+        FunctionCounter.builder("sql.lazy.loads", endpointStatistics, EndpointSqlStatistics::getLazyLoads)
+                .tags(tags)
+                .description("Collections and proxies initialized on first access while serving the endpoint")
+                .register(meterRegistry);
+
+        return endpointStatistics;
+    }
+}
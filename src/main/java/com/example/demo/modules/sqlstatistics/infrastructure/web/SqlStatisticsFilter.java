@@ -0,0 +1,122 @@
+package com.example.demo.modules.sqlstatistics.infrastructure.web;
+
+import com.example.demo.modules.sqlstatistics.infrastructure.jdbc.SqlExecutionStats;
+import com.example.demo.modules.sqlstatistics.infrastructure.stats.SqlStatisticsRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+/**
+ * Gives each request its own {@link SqlExecutionStats}, reports them as X-SQL-* headers and adds them
+ * to the endpoint's totals once the request is done. Work handed to another thread (the export's
+ * WebAsyncTask, @Async) is counted on that thread, not here.
+ *
+ * The headers are set by a response wrapper just before anything can commit the response - the first
+ * body write, a flush, sendError or sendRedirect - or after the chain if nothing did. So every response
+ * gets them, whether a message converter, a view, a streamed body or an error page produces it.
+ */
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+    public static final String MAX_TIME_HEADER = "X-SQL-Max-Time-Ms";
+    public static final String ROWS_HEADER = "X-SQL-Rows";
+    public static final String LAZY_LOADS_HEADER = "X-SQL-Lazy-Loads";
+
+    private final SqlStatisticsRegistry registry;
+
+    public SqlStatisticsFilter(SqlStatisticsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlExecutionStats previous = SqlExecutionStats.begin();
+        SqlExecutionStats stats = SqlExecutionStats.current();
+        SqlHeaderResponse sqlHeaderResponse = new SqlHeaderResponse(response, stats);
+        try {
+            chain.doFilter(request, sqlHeaderResponse);
+        } finally {
+            SqlExecutionStats.restore(previous);
+            // No body (204, void handler) or an exception: nothing has committed the response yet
+            sqlHeaderResponse.setSqlHeaders();
+            // Pattern, not path: /users/{id} is one endpoint. Unmatched requests (404, static files) are not recorded.
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                registry.record(request.getMethod() + " " + pattern, stats);
+            }
+        }
+    }
+
+    // Holds the request's own stats, so a body written on another thread still reports the request's numbers
+    private static final class SqlHeaderResponse extends HttpServletResponseWrapper {
+
+        private final SqlExecutionStats stats;
+
+        SqlHeaderResponse(HttpServletResponse response, SqlExecutionStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            setSqlHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            setSqlHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            setSqlHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            setSqlHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            setSqlHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            setSqlHeaders();
+            super.sendRedirect(location);
+        }
+
+        void setSqlHeaders() {
+            if (isCommitted()) {
+                return;
+            }
+            setHeader(STATEMENTS_HEADER, Long.toString(stats.getStatements()));
+            setHeader(TIME_HEADER, millis(stats.getTotalNanos()));
+            setHeader(MAX_TIME_HEADER, millis(stats.getMaxNanos()));
+            setHeader(ROWS_HEADER, Long.toString(stats.getRows()));
+            setHeader(LAZY_LOADS_HEADER, Long.toString(stats.getLazyLoads()));
+        }
+
+        private static String millis(long nanos) {
+            return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+        }
+    }
+}
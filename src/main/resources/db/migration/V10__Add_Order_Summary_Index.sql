@@ -0,0 +1,4 @@
+-- Per-user order totals (GET /api/nplusone/orders/summary)
+-- The keyset condition seeks on the users' primary key; each user's orders are then found through
+-- (nplusone_user_id, amount), which also carries the amount being counted and summed.
+CREATE INDEX idx_nplusone_orders_user_amount ON nplusone_orders(nplusone_user_id, amount);
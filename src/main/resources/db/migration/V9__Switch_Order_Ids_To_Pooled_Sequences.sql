@@ -0,0 +1,15 @@
+-- Bulk order ingestion: order ids come from sequences instead of IDENTITY columns
+-- With IDENTITY, Hibernate must run every INSERT on its own to read the generated id back,
+-- so hibernate.jdbc.batch_size has no effect. A sequence hands out ids before the INSERT,
+-- and with INCREMENT BY 50 (= allocationSize of the entities) Hibernate's pooled optimizer
+-- reserves 50 ids per sequence call.
+-- START WITH lies above the seed rows of V1 and V3; plain SQL inserts without an id
+-- (seed scripts, the synthetic dataset) keep working through the column default.
+
+CREATE SEQUENCE nplusone_orders_seq START WITH 100 INCREMENT BY 50;
+ALTER TABLE nplusone_orders ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE nplusone_orders ALTER COLUMN id SET DEFAULT NEXT VALUE FOR nplusone_orders_seq;
+
+CREATE SEQUENCE timestamp_cache_orders_seq START WITH 100 INCREMENT BY 50;
+ALTER TABLE timestamp_cache_orders ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE timestamp_cache_orders ALTER COLUMN id SET DEFAULT NEXT VALUE FOR timestamp_cache_orders_seq;
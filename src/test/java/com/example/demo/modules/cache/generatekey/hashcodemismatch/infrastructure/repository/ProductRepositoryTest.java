@@ -0,0 +1,53 @@
+package com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.repository;
+
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.dto.response.ProductDTO;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.mapper.ProductMapper;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.domain.entity.ProductCategory;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional(readOnly = true)
+class ProductRepositoryTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void projectionMatchesTheMappedEntitiesWithoutManagingThem() {
+        List<ProductDTO> projected = productRepository.findDTOsByCategory(ProductCategory.LAPTOP);
+
+        assertThat(projected).isNotEmpty();
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+
+        List<ProductDTO> mapped = productMapper.toDTOList(productRepository.findByCategory(ProductCategory.LAPTOP));
+        assertThat(projected).containsExactlyInAnyOrderElementsOf(mapped);
+    }
+
+    @Test
+    void catalogQueryReturnsEveryProductGroupedByCategory() {
+        List<ProductDTO> all = productRepository.findAllDTOsOrderedByCategory();
+
+        assertThat(all).hasSize((int) productRepository.count());
+        assertThat(all).extracting(ProductDTO::getCategory)
+                // Stored by name, so the database orders categories alphabetically
+                .isSortedAccordingTo(Comparator.comparing(ProductCategory::name));
+    }
+}
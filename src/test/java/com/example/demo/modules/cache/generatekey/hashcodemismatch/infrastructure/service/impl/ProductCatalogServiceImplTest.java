@@ -0,0 +1,124 @@
+package com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.service.impl;
+
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.api.model.dto.response.ProductDTO;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.domain.entity.ProductCategory;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.config.ProductCatalogProperties;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductCatalogServiceImplTest {
+
+    private final AtomicReference<List<ProductDTO>> rows = new AtomicReference<>(List.of(
+            product(1L, ProductCategory.LAPTOP), product(2L, ProductCategory.LAPTOP), product(3L, ProductCategory.TABLET)));
+    private final AtomicInteger queries = new AtomicInteger();
+    private volatile CountDownLatch queryGate = new CountDownLatch(0);
+
+    private ProductCatalogServiceImpl catalog;
+
+    @BeforeEach
+    void setUp() {
+        ProductCatalogProperties properties = new ProductCatalogProperties();
+        properties.setEnabled(false);
+        catalog = new ProductCatalogServiceImpl(repository(), properties);
+        catalog.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.stop();
+    }
+
+    @Test
+    void firstReadLoadsEveryCategoryWithOneQuery() {
+        assertThat(catalog.getProducts(ProductCategory.LAPTOP)).extracting(ProductDTO::getId).containsExactly(1L, 2L);
+        assertThat(catalog.getProducts(ProductCategory.TABLET)).extracting(ProductDTO::getId).containsExactly(3L);
+        assertThat(catalog.getProducts(ProductCategory.DESKTOP)).isEmpty();
+
+        assertThat(queries).hasValue(1);
+        assertThat(catalog.getInfo().getProductCount()).isEqualTo(3);
+    }
+
+    @Test
+    void categoryListsAreImmutable() {
+        List<ProductDTO> laptops = catalog.getProducts(ProductCategory.LAPTOP);
+
+        assertThatThrownBy(() -> laptops.add(product(9L, ProductCategory.LAPTOP)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void scheduledRefreshPicksUpAWrite() throws Exception {
+        catalog.getProducts(ProductCategory.LAPTOP);
+        rows.set(List.of(product(4L, ProductCategory.DESKTOP)));
+
+        catalog.scheduleRefresh();
+
+        awaitRefreshes(2);
+        assertThat(catalog.getProducts(ProductCategory.DESKTOP)).extracting(ProductDTO::getId).containsExactly(4L);
+        assertThat(catalog.getProducts(ProductCategory.LAPTOP)).isEmpty();
+    }
+
+    @Test
+    void writesQueuedDuringAReloadShareOneFollowUp() throws Exception {
+        catalog.getProducts(ProductCategory.LAPTOP);
+        queryGate = new CountDownLatch(1);
+
+        catalog.scheduleRefresh();
+        awaitQueryStarts(2);
+        // Three writes commit while the reload is still querying
+        for (int i = 0; i < 3; i++) {
+            catalog.scheduleRefresh();
+        }
+        queryGate.countDown();
+
+        awaitRefreshes(3);
+        Thread.sleep(100);
+        assertThat(queries).hasValue(3);
+    }
+
+    private void awaitQueryStarts(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queries.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(queries.get()).isGreaterThanOrEqualTo(expected);
+    }
+
+    // Waits until the catalog of the expected query has been published, not just queried
+    private void awaitRefreshes(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (catalog.getInfo().getRefreshes() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(catalog.getInfo().getRefreshes()).isGreaterThanOrEqualTo(expected);
+    }
+
+    private ProductRepository repository() {
+        return (ProductRepository) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ProductRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("findAllDTOsOrderedByCategory")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    queries.incrementAndGet();
+                    queryGate.await(5, TimeUnit.SECONDS);
+                    return rows.get();
+                });
+    }
+
+    private static ProductDTO product(Long id, ProductCategory category) {
+        return new ProductDTO(id, "P-" + id, "Product " + id, category, BigDecimal.TEN, 1, true);
+    }
+}
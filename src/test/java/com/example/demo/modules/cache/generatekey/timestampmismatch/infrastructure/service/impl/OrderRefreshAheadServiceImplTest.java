@@ -0,0 +1,56 @@
+package com.example.demo.modules.cache.generatekey.timestampmismatch.infrastructure.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderRefreshAheadServiceImplTest {
+
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+    private static final Duration LEAD_TIME = Duration.ofMinutes(5);
+
+    @Test
+    void triggerIsLeadTimeBeforeTheComingMidnight() {
+        ZonedDateTime now = at("2026-06-10T12:00");
+
+        assertThat(OrderRefreshAheadServiceImpl.nextTrigger(now, LEAD_TIME)).isEqualTo(at("2026-06-10T23:55"));
+    }
+
+    @Test
+    void triggerAlreadyPassedMovesToTheNextDay() {
+        ZonedDateTime now = at("2026-06-10T23:58");
+
+        assertThat(OrderRefreshAheadServiceImpl.nextTrigger(now, LEAD_TIME)).isEqualTo(at("2026-06-11T23:55"));
+    }
+
+    @Test
+    void shortDayDoesNotDelayTheTriggerPastMidnight() {
+        // 29 March 2026: clocks go from 02:00 to 03:00, the day has 23 hours
+        ZonedDateTime now = at("2026-03-29T00:30");
+
+        ZonedDateTime trigger = OrderRefreshAheadServiceImpl.nextTrigger(now, LEAD_TIME);
+
+        assertThat(trigger).isEqualTo(at("2026-03-29T23:55"));
+        assertThat(Duration.between(now, trigger)).isEqualTo(Duration.ofHours(22).plusMinutes(25));
+    }
+
+    @Test
+    void longDayDoesNotFireTheTriggerAnHourEarly() {
+        // 25 October 2026: clocks go from 03:00 back to 02:00, the day has 25 hours
+        ZonedDateTime now = at("2026-10-25T00:30");
+
+        ZonedDateTime trigger = OrderRefreshAheadServiceImpl.nextTrigger(now, LEAD_TIME);
+
+        assertThat(trigger).isEqualTo(at("2026-10-25T23:55"));
+        assertThat(Duration.between(now, trigger)).isEqualTo(Duration.ofHours(24).plusMinutes(25));
+    }
+
+    private static ZonedDateTime at(String localDateTime) {
+        return LocalDateTime.parse(localDateTime).atZone(BERLIN);
+    }
+}
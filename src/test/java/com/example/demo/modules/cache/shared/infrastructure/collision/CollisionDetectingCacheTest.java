@@ -0,0 +1,102 @@
+package com.example.demo.modules.cache.shared.infrastructure.collision;
+
+import com.example.demo.modules.cache.shared.infrastructure.stats.CacheStatistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CollisionDetectingCacheTest {
+
+    private final CacheStatistics statistics = new CacheStatistics("stringConcat");
+
+    @Test
+    void hitServedToADifferentRequestIsACollision() {
+        Lookup lookup = lookup(detector(1.0));
+
+        assertThat(lookup.find("user123", "product45")).isEqualTo("user123/product45");
+        // "user12" + "3product45" concatenates to the same key and gets the other request's result
+        assertThat(lookup.find("user12", "3product45")).isEqualTo("user123/product45");
+
+        assertThat(statistics.getKeyCollisions()).isEqualTo(1);
+    }
+
+    @Test
+    void hitByTheSameRequestIsNotACollision() {
+        Lookup lookup = lookup(detector(1.0));
+
+        lookup.find("user123", "product45");
+        lookup.find("user123", "product45");
+
+        assertThat(statistics.getKeyCollisions()).isZero();
+    }
+
+    @Test
+    void evictionDropsTheStoredFingerprint() {
+        CollisionDetectingCache cache = detector(1.0);
+        Lookup lookup = lookup(cache);
+        lookup.find("user123", "product45");
+
+        cache.evict("user123product45");
+        lookup.find("user12", "3product45");
+        lookup.find("user12", "3product45");
+
+        assertThat(statistics.getKeyCollisions()).isZero();
+    }
+
+    @Test
+    void onlyTheSampledShareOfKeysIsChecked() {
+        Lookup lookup = lookup(detector(0.0625));
+        int keys = 10_000;
+
+        for (int i = 0; i < keys; i++) {
+            lookup.find("user" + i, "1");
+            // Same key ("user" + i + "1"), different request
+            lookup.find("user" + i + "1", "");
+        }
+
+        // Sampling is decided per key, so about 1 in 16 keys reports its collision
+        assertThat(statistics.getKeyCollisions()).isBetween(keys / 16L / 2, keys / 16L * 2);
+    }
+
+    @Test
+    void unsampledCallsPassStraightThrough() {
+        Cache cache = detector(1.0);
+
+        // No @Cacheable call in progress, so there are no arguments to fingerprint
+        cache.get("key", () -> "value");
+        assertThat(cache.get("key", () -> "other")).isEqualTo("value");
+
+        assertThat(statistics.getKeyCollisions()).isZero();
+    }
+
+    @Test
+    void sampleRateOutsideTheUnitIntervalIsRejected() {
+        assertThatThrownBy(() -> detector(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> detector(1.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CollisionDetectingCache detector(double sampleRate) {
+        return new CollisionDetectingCache(new ConcurrentMapCache("stringConcat"), RequestFingerprint.Mode.EXACT,
+                sampleRate, 100_000, null, Duration.ofMinutes(1), statistics);
+    }
+
+    // The cached method, behind the interceptor the way the application proxies it
+    private static Lookup lookup(Cache cache) {
+        ProxyFactory factory = new ProxyFactory((Lookup) (userId, productId) ->
+                cache.get(userId + productId, () -> userId + "/" + productId));
+        factory.addInterface(Lookup.class);
+        factory.addAdvice(new CacheArgumentsInterceptor());
+        return (Lookup) factory.getProxy();
+    }
+
+    public interface Lookup {
+
+        String find(String userId, String productId);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.modules.cache.shared.infrastructure.collision;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestFingerprintTest {
+
+    private static final RequestFingerprint.Mode EXACT = RequestFingerprint.Mode.EXACT;
+    private static final RequestFingerprint.Mode IGNORE_CASE = RequestFingerprint.Mode.IGNORE_CASE;
+
+    @Test
+    void requestsThatConcatenateToTheSameKeyDiffer() {
+        assertThat(fingerprint(EXACT, "user12", "3product45"))
+                .isNotEqualTo(fingerprint(EXACT, "user123", "product45"));
+    }
+
+    @Test
+    void stringsWithTheSameHashCodeDiffer() {
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+        assertThat(fingerprint(EXACT, "Aa")).isNotEqualTo(fingerprint(EXACT, "BB"));
+    }
+
+    @Test
+    void exactModeSeesCaseAndWhitespace() {
+        assertThat(fingerprint(EXACT, "John")).isNotEqualTo(fingerprint(EXACT, "john"));
+        assertThat(fingerprint(EXACT, "john ")).isNotEqualTo(fingerprint(EXACT, "john"));
+    }
+
+    @Test
+    void ignoreCaseModeFoldsCaseAndWhitespace() {
+        assertThat(fingerprint(IGNORE_CASE, " John")).isEqualTo(fingerprint(IGNORE_CASE, "john"));
+        assertThat(fingerprint(IGNORE_CASE, "john")).isNotEqualTo(fingerprint(IGNORE_CASE, "jane"));
+    }
+
+    @Test
+    void requestObjectsAreHashedFieldByField() {
+        assertThat(fingerprint(IGNORE_CASE, new Search("John", "BOOKS")))
+                .isEqualTo(fingerprint(IGNORE_CASE, new Search("john", "books")));
+        assertThat(fingerprint(EXACT, new Search("John", "BOOKS")))
+                .isNotEqualTo(fingerprint(EXACT, new Search("John", "TOYS")));
+    }
+
+    @Test
+    void equalValuesOfDifferentShapeMatchLikeEquals() {
+        Map<String, Integer> ab = new LinkedHashMap<>();
+        ab.put("a", 1);
+        ab.put("b", 2);
+        Map<String, Integer> ba = new LinkedHashMap<>();
+        ba.put("b", 2);
+        ba.put("a", 1);
+
+        assertThat(fingerprint(EXACT, ab)).isEqualTo(fingerprint(EXACT, ba));
+        assertThat(fingerprint(EXACT, new BigDecimal("10.00"))).isEqualTo(fingerprint(EXACT, new BigDecimal("10")));
+        assertThat(fingerprint(EXACT, List.of(1, 2))).isNotEqualTo(fingerprint(EXACT, List.of(2, 1)));
+        assertThat(fingerprint(EXACT, 1)).isNotEqualTo(fingerprint(EXACT, 1L));
+    }
+
+    private static long fingerprint(RequestFingerprint.Mode mode, Object... arguments) {
+        return RequestFingerprint.of(arguments, mode);
+    }
+
+    private record Search(String customer, String category) {
+    }
+}
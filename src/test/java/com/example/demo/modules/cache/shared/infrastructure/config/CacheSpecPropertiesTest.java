@@ -0,0 +1,61 @@
+package com.example.demo.modules.cache.shared.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.validation.ValidationBindHandler;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheSpecPropertiesTest {
+
+    @Test
+    void specFallsBackToTheDefaultsForUnsetValues() {
+        CacheSpecProperties properties = bind(Map.of(
+                "app.cache.defaults.maximum-size", "100",
+                "app.cache.defaults.expire-after-write", "10m",
+                "app.cache.specs.orders.maximum-size", "5"));
+
+        CacheSpecProperties.Spec orders = properties.resolve("orders");
+
+        assertThat(orders.getMaximumSize()).isEqualTo(5);
+        assertThat(orders.getExpireAfterWrite()).isEqualTo(Duration.ofMinutes(10));
+        assertThat(properties.resolve("unknown").getMaximumSize()).isEqualTo(100);
+    }
+
+    @Test
+    void offHeapCapacityWithinTheArenaLimitBinds() {
+        CacheSpecProperties properties = bind(Map.of("app.cache.specs.orders.off-heap-capacity", "1GB"));
+
+        assertThat(properties.resolve("orders").getOffHeapCapacity().toGigabytes()).isEqualTo(1);
+    }
+
+    @Test
+    void offHeapCapacityOfTwoGigabytesFailsBinding() {
+        assertThatThrownBy(() -> bind(Map.of("app.cache.specs.orders.off-heap-capacity", "2GB")))
+                .isInstanceOf(BindException.class)
+                .rootCause()
+                .hasMessageContaining("app.cache.specs.orders.off-heap-capacity");
+    }
+
+    @Test
+    void offHeapCapacitySmallerThanOneBlockFailsBinding() {
+        assertThatThrownBy(() -> bind(Map.of("app.cache.defaults.off-heap-capacity", "100B")))
+                .isInstanceOf(BindException.class)
+                .rootCause()
+                .hasMessageContaining("app.cache.defaults.off-heap-capacity");
+    }
+
+    private static CacheSpecProperties bind(Map<String, String> values) {
+        CacheSpecProperties properties = new CacheSpecProperties();
+        Binder binder = new Binder(new MapConfigurationPropertySource(values));
+        binder.bind("app.cache", Bindable.ofInstance(properties), new ValidationBindHandler(properties));
+        return properties;
+    }
+}
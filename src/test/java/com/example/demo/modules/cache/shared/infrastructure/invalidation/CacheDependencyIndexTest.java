@@ -0,0 +1,142 @@
+package com.example.demo.modules.cache.shared.infrastructure.invalidation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheDependencyIndexTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final DependencyShape BY_CUSTOMER_AND_STATUS =
+            new DependencyShape(Row.class, List.of("customerName", "status"), false);
+
+    private final CacheDependencyIndex index = new CacheDependencyIndex();
+
+    @Test
+    void writeWithTheQueriedValuesRemovesTheEntry() {
+        register("orders", "k1", new Query("John", "COMPLETED"), List.of());
+        register("orders", "k2", new Query("Jane", "COMPLETED"), List.of());
+
+        assertThat(index.removeAffected(new Row(99L, "John", "COMPLETED")))
+                .containsExactly(new CacheDependencyIndex.CachedEntry("orders", "k1"));
+        assertThat(index.removeAffected(new Row(99L, "John", "COMPLETED"))).isEmpty();
+    }
+
+    @Test
+    void writeToARowInTheResultRemovesTheEntryEvenIfItMovesAway() {
+        register("orders", "k1", new Query("John", "PENDING"), List.of(new Row(7L, "John", "PENDING")));
+
+        // Status changed, so only the id links the row to the cached result
+        assertThat(index.removeAffected(new Row(7L, "John", "COMPLETED")))
+                .containsExactly(new CacheDependencyIndex.CachedEntry("orders", "k1"));
+    }
+
+    @Test
+    void removingAnEntryDropsAllItsIndexKeys() {
+        register("orders", "k1", new Query("John", "PENDING"), List.of(new Row(7L, "John", "PENDING")));
+        assertThat(index.getIndexedKeyCount()).isEqualTo(2);
+
+        index.remove("orders", "k1");
+
+        assertThat(index.getIndexedKeyCount()).isZero();
+        assertThat(index.removeAffected(new Row(7L, "John", "PENDING"))).isEmpty();
+    }
+
+    @Test
+    void reloadReplacesTheRegistrationInsteadOfAddingOne() {
+        register("orders", "k1", new Query("John", "PENDING"), List.of(new Row(7L, "John", "PENDING")));
+        register("orders", "k1", new Query("John", "PENDING"), List.of(new Row(8L, "John", "PENDING")));
+
+        assertThat(index.getIndexedKeyCount()).isEqualTo(2);
+        assertThat(index.removeAffected(new Row(7L, "Jane", "COMPLETED"))).isEmpty();
+    }
+
+    @Test
+    void clearingACacheKeepsOtherCachesIndexed() {
+        register("orders", "k1", new Query("John", "PENDING"), List.of());
+        register("archive", "k1", new Query("John", "PENDING"), List.of());
+
+        index.removeAll("orders");
+
+        assertThat(index.removeAffected(new Row(1L, "John", "PENDING")))
+                .containsExactly(new CacheDependencyIndex.CachedEntry("archive", "k1"));
+    }
+
+    @Test
+    void loadOverlappingAWriteOfItsRowsIsNotRegistered() {
+        CacheDependencyIndex.LoadStart start = index.beginLoad(pending(new Query("John", "PENDING")));
+        // The write commits and evicts while the load is still reading
+        index.removeAffected(new Row(7L, "John", "PENDING"));
+
+        boolean registered = index.register("orders", "k1", pending(new Query("John", "PENDING")),
+                List.of(new Row(7L, "John", "PENDING")), TTL, start);
+
+        assertThat(registered).isFalse();
+        assertThat(index.getIndexedKeyCount()).isZero();
+    }
+
+    @Test
+    void writeOfUnrelatedRowsDoesNotMakeALoadStale() {
+        CacheDependencyIndex.LoadStart start = index.beginLoad(pending(new Query("John", "PENDING")));
+        index.removeAffected(new Row(8L, "Jane", "COMPLETED"));
+
+        assertThat(index.register("orders", "k1", pending(new Query("John", "PENDING")),
+                List.of(new Row(7L, "John", "PENDING")), TTL, start)).isTrue();
+    }
+
+    @Test
+    void loadStartedAfterTheWriteIsRegistered() {
+        index.removeAffected(new Row(7L, "John", "PENDING"));
+        CacheDependencyIndex.LoadStart start = index.beginLoad(pending(new Query("John", "PENDING")));
+
+        assertThat(index.register("orders", "k1", pending(new Query("John", "PENDING")),
+                List.of(new Row(7L, "John", "PENDING")), TTL, start)).isTrue();
+    }
+
+    private void register(String cacheName, Object key, Query query, List<Row> rows) {
+        index.register(cacheName, key, pending(query), rows, TTL, index.beginLoad(pending(query)));
+    }
+
+    private static CacheDependencyInterceptor.PendingDependency pending(Query query) {
+        return new CacheDependencyInterceptor.PendingDependency(BY_CUSTOMER_AND_STATUS, query);
+    }
+
+    public record Query(String customerName, String status) {
+
+        public String getCustomerName() {
+            return customerName;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+    }
+
+    public static class Row {
+
+        private final Long id;
+        private final String customerName;
+        private final String status;
+
+        Row(Long id, String customerName, String status) {
+            this.id = id;
+            this.customerName = customerName;
+            this.status = status;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getCustomerName() {
+            return customerName;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.demo.modules.cache.shared.infrastructure.invalidation;
+
+import com.example.demo.modules.cache.shared.infrastructure.invalidation.CacheDependencyIndexTest.Query;
+import com.example.demo.modules.cache.shared.infrastructure.invalidation.CacheDependencyIndexTest.Row;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DependencyTrackingCacheTest {
+
+    private final CacheDependencyIndex index = new CacheDependencyIndex();
+    private final CaffeineCache store = new CaffeineCache("orders", Caffeine.newBuilder().build());
+    private final DependencyTrackingCache cache = new DependencyTrackingCache(store, index, Duration.ofMinutes(10), null);
+    private final OrderLookup lookup = proxy();
+
+    @Test
+    void loadedValueIsCachedAndEvictedByAWriteOfItsRows() {
+        List<Row> rows = List.of(new Row(7L, "John", "PENDING"));
+
+        lookup.find(new Query("John", "PENDING"), () -> rows);
+
+        assertThat(store.get(new Query("John", "PENDING"))).isNotNull();
+        assertThat(index.removeAffected(new Row(7L, "John", "COMPLETED")))
+                .containsExactly(new CacheDependencyIndex.CachedEntry("orders", new Query("John", "PENDING")));
+    }
+
+    @Test
+    void loadOverlappingACommittedWriteReachesTheCallerButIsNotCached() {
+        List<Row> preWrite = List.of(new Row(7L, "John", "PENDING"));
+
+        List<Row> result = lookup.find(new Query("John", "PENDING"), () -> {
+            // The write commits between this load's read and its store
+            index.removeAffected(new Row(7L, "John", "COMPLETED"));
+            return preWrite;
+        });
+
+        assertThat(result).isSameAs(preWrite);
+        assertThat(store.get(new Query("John", "PENDING"))).isNull();
+        assertThat(index.getIndexedKeyCount()).isZero();
+    }
+
+    private OrderLookup proxy() {
+        ProxyFactory factory = new ProxyFactory(new OrderLookup() {
+            @Override
+            @CacheDependency(entity = Row.class, attributes = {"customerName", "status"})
+            public List<Row> find(Query query, Callable<List<Row>> database) {
+                return cache.get(query, database);
+            }
+        });
+        factory.addInterface(OrderLookup.class);
+        factory.addAdvice(new CacheDependencyInterceptor());
+        return (OrderLookup) factory.getProxy();
+    }
+
+    public interface OrderLookup {
+
+        List<Row> find(Query query, Callable<List<Row>> database);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.modules.cache.shared.infrastructure.invalidation;
+
+import com.example.demo.modules.cache.shared.infrastructure.invalidation.CacheDependencyIndexTest.Query;
+import com.example.demo.modules.cache.shared.infrastructure.invalidation.CacheDependencyIndexTest.Row;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityCacheInvalidationListenerTest {
+
+    private final CacheDependencyIndex index = new CacheDependencyIndex();
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("orders");
+    private final List<Object> notified = new ArrayList<>();
+
+    private EntityCacheInvalidationListener listener;
+    private Cache orders;
+
+    @BeforeEach
+    void setUp() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("rowSubscriber", new EntityWriteSubscriber() {
+            @Override
+            public Set<Class<?>> entityTypes() {
+                return Set.of(Row.class);
+            }
+
+            @Override
+            public void afterWrite(Object entity) {
+                notified.add(entity);
+            }
+        });
+        listener = new EntityCacheInvalidationListener(index, cacheManager,
+                beanFactory.getBeanProvider(EntityWriteSubscriber.class));
+
+        orders = cacheManager.getCache("orders");
+        orders.put("k1", List.of());
+        DependencyShape shape = new DependencyShape(Row.class, List.of("customerName", "status"), false);
+        CacheDependencyInterceptor.PendingDependency pending =
+                new CacheDependencyInterceptor.PendingDependency(shape, new Query("John", "PENDING"));
+        index.register("orders", "k1", pending, List.of(), Duration.ofMinutes(10), index.beginLoad(pending));
+    }
+
+    @Test
+    void writeOutsideATransactionEvictsRightAway() {
+        Row row = new Row(1L, "John", "PENDING");
+
+        listener.onEntityWrite(row);
+
+        assertThat(orders.get("k1")).isNull();
+        assertThat(notified).containsExactly(row);
+    }
+
+    @Test
+    void writeInsideATransactionWaitsForTheCommit() {
+        Row row = new Row(1L, "John", "PENDING");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            listener.onEntityWrite(row);
+
+            assertThat(orders.get("k1")).isNotNull();
+            assertThat(notified).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(orders.get("k1")).isNull();
+        assertThat(notified).containsExactly(row);
+    }
+
+    @Test
+    void subscribersOfOtherEntityTypesAreNotNotified() {
+        listener.onEntityWrite("not a row");
+
+        assertThat(notified).isEmpty();
+        assertThat(orders.get("k1")).isNotNull();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.modules.cache.shared.infrastructure.key;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheKeyGeneratorTest {
+
+    private final CacheKeyGenerator generator = new CacheKeyGenerator();
+
+    @Test
+    void componentsDoNotRunIntoEachOther() {
+        // "user12" + "3product45" and "user123" + "product45" concatenate to the same string
+        assertThat(CacheKey.of("user12", "3product45")).isNotEqualTo(CacheKey.of("user123", "product45"));
+    }
+
+    @Test
+    void equalComponentsMakeEqualKeys() {
+        CacheKey key = CacheKey.of("John", Status.COMPLETED, 42L);
+
+        assertThat(key).isEqualTo(CacheKey.of("John", Status.COMPLETED, 42L));
+        assertThat(key.hashCode()).isEqualTo(CacheKey.of("John", Status.COMPLETED, 42L).hashCode());
+        assertThat(key).isNotEqualTo(CacheKey.of("John", Status.PENDING, 42L));
+    }
+
+    @Test
+    void decimalScaleDoesNotChangeTheKey() {
+        assertThat(CacheKey.of(new BigDecimal("100.00"))).isEqualTo(CacheKey.of(new BigDecimal("100")));
+        assertThat(CacheKey.of(new BigDecimal("0.000"))).isEqualTo(CacheKey.of(BigDecimal.ZERO));
+    }
+
+    @Test
+    void laterChangesToACollectionDoNotMoveTheKey() {
+        List<String> tags = new ArrayList<>(List.of("a", "b"));
+        CacheKey key = CacheKey.of(tags);
+        int hash = key.hashCode();
+
+        tags.add("c");
+
+        assertThat(key.hashCode()).isEqualTo(hash);
+        assertThat(key).isEqualTo(CacheKey.of(List.of("a", "b")));
+    }
+
+    @Test
+    void keyPartsAreOrderedByFieldNameAndOtherFieldsIgnored() {
+        CacheKey key = generator.keyFor(new Search("John", Status.COMPLETED, "ignored"));
+
+        // customerName sorts before status
+        assertThat(key).isEqualTo(CacheKey.of("John", Status.COMPLETED));
+        assertThat(generator.keyFor(new Search("John", Status.COMPLETED, "other"))).isEqualTo(key);
+    }
+
+    @Test
+    void argumentsWithoutKeyPartsAreUsedAsIs() {
+        assertThat(generator.keyFor("plain", null, 7)).isEqualTo(CacheKey.of("plain", null, 7));
+    }
+
+    @Test
+    void requestIsRebuiltFromItsKey() {
+        CacheKey key = CacheKey.of("John", "COMPLETED");
+
+        Search request = generator.requestFor(Search.class, key);
+
+        assertThat(request.customerName).isEqualTo("John");
+        assertThat(request.status).isEqualTo(Status.COMPLETED);
+        assertThat(generator.keyFor(request)).isEqualTo(CacheKey.of("John", Status.COMPLETED));
+    }
+
+    @Test
+    void keyOfAnotherShapeIsRejected() {
+        assertThatThrownBy(() -> generator.requestFor(Search.class, CacheKey.of("John")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    enum Status {
+        PENDING,
+        COMPLETED
+    }
+
+    static class Search {
+
+        @CacheKeyPart
+        private Status status;
+
+        @CacheKeyPart
+        private String customerName;
+
+        private String traceId;
+
+        Search() {
+        }
+
+        Search(String customerName, Status status, String traceId) {
+            this.customerName = customerName;
+            this.status = status;
+            this.traceId = traceId;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.modules.cache.shared.infrastructure.key;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyNormalizerTest {
+
+    @Test
+    void canonicalInputIsReturnedAsTheSameInstance() {
+        String canonical = "electronics";
+
+        assertThat(KeyNormalizer.normalize(canonical)).isSameAs(canonical);
+        assertThat(KeyNormalizer.toLowerCase(canonical)).isSameAs(canonical);
+    }
+
+    @Test
+    void whitespaceIsTrimmedAndAsciiLowercased() {
+        assertThat(KeyNormalizer.normalize("  Electronics\t")).isEqualTo("electronics");
+        assertThat(KeyNormalizer.normalize(" books ")).isEqualTo("books");
+        assertThat(KeyNormalizer.toLowerCase(" MiXeD ")).isEqualTo(" mixed ");
+        assertThat(KeyNormalizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void lowercasingIgnoresTheDefaultLocale() {
+        Locale previous = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            assertThat(KeyNormalizer.normalize("TITLE")).isEqualTo("title");
+            assertThat(KeyNormalizer.normalize("ÇİFT TITLE")).isEqualTo("ÇİFT TITLE".toLowerCase(Locale.ROOT));
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    @Test
+    void internReturnsOnePooledInstancePerValue() {
+        String first = KeyNormalizer.normalizeAndIntern(new String("Region-North"));
+        String second = KeyNormalizer.normalizeAndIntern(" region-north ");
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void fullPoolPassesNewValuesThroughUnpooled() {
+        for (int i = 0; i < KeyNormalizer.MAX_INTERNED; i++) {
+            KeyNormalizer.intern("filler-" + i);
+        }
+
+        String value = new String("admitted-after-full");
+
+        assertThat(KeyNormalizer.intern(value)).isSameAs(value);
+        assertThat(KeyNormalizer.intern(new String("admitted-after-full"))).isNotSameAs(value);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.demo.modules.cache.shared.infrastructure.nearcache;
+
+import com.example.demo.modules.cache.shared.infrastructure.config.CacheSpecProperties;
+import com.example.demo.modules.cache.shared.infrastructure.support.RefreshingCaffeineCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearCacheTest {
+
+    private static final Duration REFRESH_AFTER_WRITE = Duration.ofMinutes(5);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    // Loopback tiers are shared per channel across the JVM, so each test gets its own
+    private final String channel = UUID.randomUUID().toString();
+    private final SharedCacheTier sharedTier = new LoopbackSharedCacheTier(channel, new CacheSpecProperties());
+
+    private CacheInvalidationBus busA;
+    private CacheInvalidationBus busB;
+
+    @BeforeEach
+    void setUp() {
+        busA = new CacheInvalidationBus("a", new LoopbackInvalidationTransport(channel));
+        busB = new CacheInvalidationBus("b", new LoopbackInvalidationTransport(channel));
+    }
+
+    @AfterEach
+    void tearDown() {
+        busA.close();
+        busB.close();
+    }
+
+    @Test
+    void coldMissIsAnsweredFromTheSharedTier() {
+        NearCache instanceA = new NearCache(new ConcurrentMapCache("products"), sharedTier, busA);
+        NearCache instanceB = new NearCache(new ConcurrentMapCache("products"), sharedTier, busB);
+
+        instanceA.get("key", () -> "v" + loads.incrementAndGet());
+
+        assertThat(instanceB.get("key", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evictOnOneInstanceDropsTheOtherInstancesLocalCopy() {
+        ConcurrentMapCache localB = new ConcurrentMapCache("products");
+        NearCache instanceA = new NearCache(new ConcurrentMapCache("products"), sharedTier, busA);
+        NearCache instanceB = new NearCache(localB, sharedTier, busB);
+        instanceB.get("key", () -> "v1");
+
+        instanceA.evict("key");
+
+        assertThat(localB.get("key")).isNull();
+        assertThat(sharedTier.get("products", "key")).isNull();
+    }
+
+    @Test
+    void refreshRunsTheLoaderAndWritesThroughToTheSharedTier() {
+        NearCache instanceA = new NearCache(refreshing(), sharedTier, busA);
+        ConcurrentMapCache localB = new ConcurrentMapCache("products");
+        NearCache instanceB = new NearCache(localB, sharedTier, busB);
+        instanceA.get("key", () -> "v" + loads.incrementAndGet());
+        instanceB.get("key", () -> "unused");
+
+        nanos.addAndGet(REFRESH_AFTER_WRITE.plusSeconds(1).toNanos());
+        // The same-thread executor completes the refresh before the read returns
+        instanceA.get("key");
+
+        assertThat(loads).hasValue(2);
+        assertThat(sharedTier.get("products", "key").get()).isEqualTo("v2");
+        assertThat(instanceA.get("key").get()).isEqualTo("v2");
+        assertThat(localB.get("key")).isNull();
+        assertThat(instanceB.get("key").get()).isEqualTo("v2");
+    }
+
+    private RefreshingCaffeineCache refreshing() {
+        return RefreshingCaffeineCache.create("products", Caffeine.newBuilder()
+                .refreshAfterWrite(REFRESH_AFTER_WRITE)
+                .executor(Runnable::run)
+                .ticker(nanos::get), false, (key, value, cause) -> { });
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.demo.modules.cache.shared.infrastructure.offheap;
+
+import com.example.demo.modules.cache.shared.infrastructure.stats.CacheStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OffHeapCacheTest {
+
+    // Four blocks; each value below encodes to a little under one block
+    private static final long CAPACITY = 4L * OffHeapStore.BLOCK_SIZE;
+
+    private CacheStatistics statistics;
+    private OffHeapCache cache;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new CacheStatistics("offHeap");
+        cache = new OffHeapCache("offHeap", CAPACITY, null, new CompactBinaryCodec(), statistics);
+    }
+
+    @Test
+    void valueRoundTripsThroughTheArena() {
+        cache.put("a", value('a'));
+
+        assertThat(cache.get("a").get()).isEqualTo(value('a'));
+        assertThat(cache.getUsedBytes()).isEqualTo(OffHeapStore.BLOCK_SIZE);
+    }
+
+    @Test
+    void fullArenaEvictsColdEntriesToAcceptNewKeys() {
+        for (char c = 'a'; c <= 'd'; c++) {
+            cache.put(String.valueOf(c), value(c));
+        }
+        assertThat(cache.getUsedBytes()).isEqualTo(CAPACITY);
+
+        for (char c = 'e'; c <= 'h'; c++) {
+            cache.put(String.valueOf(c), value(c));
+            assertThat(cache.get(String.valueOf(c)).get()).isEqualTo(value(c));
+        }
+
+        assertThat(cache.getUsedBytes()).isLessThanOrEqualTo(CAPACITY);
+        assertThat(cache.getNativeCache().estimatedSize()).isEqualTo(4);
+        assertThat(statistics.getEvictions()).isEqualTo(4);
+    }
+
+    @Test
+    void valueLargerThanTheArenaIsNotCached() {
+        cache.put("a", value('a'));
+
+        cache.put("huge", "x".repeat((int) CAPACITY + 1));
+
+        assertThat(cache.get("huge")).isNull();
+        assertThat(cache.get("a").get()).isEqualTo(value('a'));
+    }
+
+    @Test
+    void evictReleasesTheBlocks() {
+        cache.put("a", value('a'));
+
+        cache.evict("a");
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.getUsedBytes()).isZero();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> cache.get("a", () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                release.await();
+                return value('a');
+            }));
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> follower = executor.submit(() -> cache.get("a", () -> {
+                loads.incrementAndGet();
+                return "second load";
+            }));
+
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(value('a'));
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(value('a'));
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failedLoadIsNotRemembered() {
+        assertThatThrownBy(() -> cache.get("a", () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(Cache.ValueRetrievalException.class);
+
+        assertThat(cache.get("a", () -> value('a'))).isEqualTo(value('a'));
+    }
+
+    @Test
+    void evictDuringALoadDiscardsTheLoadedValue() {
+        String loaded = cache.get("a", () -> {
+            cache.evict("a");
+            return value('a');
+        });
+
+        assertThat(loaded).isEqualTo(value('a'));
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.getUsedBytes()).isZero();
+    }
+
+    @Test
+    void capacityOutsideTheAddressableRangeIsRejected() {
+        assertThat(OffHeapCache.capacityError(CAPACITY)).isNull();
+        assertThat(OffHeapCache.capacityError(OffHeapCache.MAX_CAPACITY_BYTES)).isNull();
+        assertThat(OffHeapCache.capacityError(2L * 1024 * 1024 * 1024)).contains("int offsets");
+        assertThat(OffHeapCache.capacityError(OffHeapStore.BLOCK_SIZE - 1)).isNotNull();
+        assertThatThrownBy(() -> new OffHeapStore(OffHeapCache.MAX_CAPACITY_BYTES + OffHeapStore.BLOCK_SIZE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void releasedSlotIsNotReadable() {
+        OffHeapStore store = new OffHeapStore(CAPACITY);
+        OffHeapStore.Slot slot = store.allocate(new byte[]{1, 2, 3});
+
+        store.release(slot);
+
+        assertThat(store.read(slot)).isNull();
+        assertThat(store.usedBytes()).isZero();
+    }
+
+    private static String value(char c) {
+        return String.valueOf(c).repeat(OffHeapStore.BLOCK_SIZE - 16);
+    }
+}
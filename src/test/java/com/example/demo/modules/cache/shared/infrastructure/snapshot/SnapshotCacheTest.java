@@ -0,0 +1,118 @@
+package com.example.demo.modules.cache.shared.infrastructure.snapshot;
+
+import com.example.demo.modules.cache.shared.infrastructure.config.CacheSpecProperties;
+import com.example.demo.modules.cache.shared.infrastructure.support.WriteExpiry;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final String SCHEMA = "10";
+
+    @TempDir
+    private Path directory;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    void restoredEntryKeepsOnlyTheRestOfItsTimeToLive() throws Exception {
+        Path file = directory.resolve("products.snapshot");
+        long eightMinutesAgo = System.currentTimeMillis() - Duration.ofMinutes(8).toMillis();
+        CacheSnapshot.write(file, SCHEMA, Map.of("key", new CacheSnapshot.Entry(List.of("a", "b"), eightMinutesAgo)));
+        CaffeineCache storage = storage();
+        SnapshotCache cache = new SnapshotCache(storage, CacheSnapshot.open(file, SCHEMA, TTL).orElseThrow());
+
+        Object value = cache.get("key", () -> List.of("loaded"));
+
+        assertThat(value).isEqualTo(List.of("a", "b"));
+        assertThat(cache.getRestored()).isEqualTo(1);
+        assertThat(expiresAfter(storage, "key")).isLessThanOrEqualTo(Duration.ofMinutes(2));
+        advance(Duration.ofMinutes(2).plusSeconds(1));
+        assertThat(storage.get("key")).isNull();
+    }
+
+    @Test
+    void loadedEntryGetsTheFullTimeToLive() {
+        CaffeineCache storage = storage();
+        SnapshotCache cache = new SnapshotCache(storage, null);
+
+        cache.get("key", () -> List.of("loaded"));
+
+        assertThat(expiresAfter(storage, "key")).isEqualTo(TTL);
+    }
+
+    @Test
+    void entryOlderThanTheTimeToLiveIsNotRestored() throws Exception {
+        Path file = directory.resolve("products.snapshot");
+        long elevenMinutesAgo = System.currentTimeMillis() - Duration.ofMinutes(11).toMillis();
+        long now = System.currentTimeMillis();
+        CacheSnapshot.write(file, SCHEMA, Map.of(
+                "old", new CacheSnapshot.Entry(List.of("old"), elevenMinutesAgo),
+                "fresh", new CacheSnapshot.Entry(List.of("fresh"), now)));
+
+        CacheSnapshot snapshot = CacheSnapshot.open(file, SCHEMA, TTL).orElseThrow();
+
+        assertThat(snapshot.take("old")).isEmpty();
+        assertThat(snapshot.take("fresh")).map(CacheSnapshot.Restored::value).contains(List.of("fresh"));
+    }
+
+    @Test
+    void evictedKeyIsNotRestored() throws Exception {
+        Path file = directory.resolve("products.snapshot");
+        CacheSnapshot.write(file, SCHEMA, Map.of("key", new CacheSnapshot.Entry(List.of("a"), System.currentTimeMillis())));
+        SnapshotCache cache = new SnapshotCache(storage(), CacheSnapshot.open(file, SCHEMA, TTL).orElseThrow());
+
+        cache.evict("key");
+
+        assertThat(cache.get("key", () -> List.of("loaded"))).isEqualTo(List.of("loaded"));
+    }
+
+    @Test
+    void registryWritesEachEntryWithItsAge() {
+        CacheSpecProperties.SnapshotSettings settings = new CacheSpecProperties.SnapshotSettings();
+        settings.setEnabled(true);
+        settings.setDirectory(directory);
+        CacheSnapshotRegistry registry = new CacheSnapshotRegistry(settings, () -> SCHEMA);
+        CaffeineCache storage = storage();
+        registry.attach("products", storage, storage, TTL);
+        storage.put("key", List.of("a"));
+        advance(Duration.ofMinutes(6));
+
+        registry.writeAll();
+
+        CacheSnapshot.Restored restored = CacheSnapshot.open(directory.resolve("products.snapshot"), SCHEMA, TTL)
+                .orElseThrow().take("key").orElseThrow();
+        assertThat(restored.remainingTimeToLive()).isBetween(Duration.ofMinutes(3), Duration.ofMinutes(4));
+    }
+
+    private CaffeineCache storage() {
+        return new CaffeineCache("products", Caffeine.newBuilder()
+                .expireAfter(new WriteExpiry(TTL))
+                .ticker(nanos::get)
+                .executor(Runnable::run)
+                .build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Duration expiresAfter(Cache storage, Object key) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<Object, Object>) storage.getNativeCache();
+        return nativeCache.policy().expireVariably().orElseThrow().getExpiresAfter(key).orElseThrow();
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.demo.modules.cache.shared.infrastructure.support;
+
+import com.example.demo.modules.cache.shared.infrastructure.stats.CacheStatistics;
+import com.example.demo.modules.cache.shared.infrastructure.warmup.HotKeyRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InstrumentedCacheTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private CacheStatistics statistics;
+    private InstrumentedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new CacheStatistics("orders");
+        cache = instrument(new ConcurrentMapCache("orders"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void syncLoadCountsOneMissThenHits() {
+        cache.get("key", () -> "value");
+        cache.get("key", () -> "other");
+        cache.get("key", () -> "other");
+
+        assertThat(statistics.getMisses()).isEqualTo(1);
+        assertThat(statistics.getLoads()).isEqualTo(1);
+        assertThat(statistics.getHits()).isEqualTo(2);
+    }
+
+    @Test
+    void failedSyncLoadCountsAMissAndAFailure() {
+        assertThatThrownBy(() -> cache.get("key", () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(Cache.ValueRetrievalException.class);
+
+        assertThat(statistics.getMisses()).isEqualTo(1);
+        assertThat(statistics.getLoadFailures()).isEqualTo(1);
+        assertThat(statistics.getHits()).isZero();
+    }
+
+    @Test
+    void missFollowedByPutRecordsOneLoad() {
+        assertThat(cache.get("key")).isNull();
+        cache.put("key", "value");
+
+        assertThat(statistics.getMisses()).isEqualTo(1);
+        assertThat(statistics.getLoads()).isEqualTo(1);
+    }
+
+    @Test
+    void missWhoseMethodFailedDoesNotTimeALaterPut() {
+        // The method behind this miss throws, so no put follows
+        assertThat(cache.get("key")).isNull();
+        cache.get("key", () -> "value");
+        cache.put("key", "again");
+
+        // Only the sync load is a load; the later put is not the end of the failed one
+        assertThat(statistics.getLoads()).isEqualTo(1);
+    }
+
+    @Test
+    void nestedLookupKeepsTheEnclosingPendingLoad() {
+        assertThat(cache.get("outer")).isNull();
+        cache.get("inner", () -> "value");
+        cache.put("outer", "value");
+
+        assertThat(statistics.getLoads()).isEqualTo(2);
+    }
+
+    @Test
+    void callerThatJoinedAnotherLoadIsNeitherHitNorMiss() throws Exception {
+        cache = instrument(new SingleFlightCache(new ConcurrentMapCache("orders"), Duration.ofSeconds(5), statistics));
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> cache.get("key", () -> {
+            loadStarted.countDown();
+            releaseLoad.await(5, TimeUnit.SECONDS);
+            return "value";
+        }));
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> follower = executor.submit(() -> cache.get("key", () -> "other"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (statistics.getCoalescedLoads() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        releaseLoad.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(statistics.getMisses()).isEqualTo(1);
+        assertThat(statistics.getCoalescedLoads()).isEqualTo(1);
+        assertThat(statistics.getHits()).isZero();
+        assertThat(statistics.getHitRatio()).isZero();
+    }
+
+    private InstrumentedCache instrument(Cache delegate) {
+        return new InstrumentedCache(delegate, statistics, new HotKeyRecorder(100).forCache("orders"));
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.demo.modules.cache.shared.infrastructure.support;
+
+import com.example.demo.modules.cache.shared.infrastructure.stats.CacheStatistics;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NegativeResultCacheTest {
+
+    private static final Duration NEGATIVE_TTL = Duration.ofMinutes(1);
+    private static final Duration REFRESH_AFTER_WRITE = Duration.ofMinutes(5);
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(15);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private CacheStatistics statistics;
+    private RefreshingCaffeineCache positives;
+    private NegativeResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new CacheStatistics("orders");
+        // Same-thread executor so background refreshes complete before the triggering read returns
+        positives = RefreshingCaffeineCache.create("orders", Caffeine.newBuilder()
+                .refreshAfterWrite(REFRESH_AFTER_WRITE)
+                .expireAfterWrite(EXPIRE_AFTER_WRITE)
+                .executor(Runnable::run)
+                .ticker(ticker), false);
+        cache = new NegativeResultCache(positives, 100, NEGATIVE_TTL, statistics, ticker);
+    }
+
+    @Test
+    void emptyResultIsKeptOutOfThePositiveTier() {
+        List<String> first = cache.get("unknown", () -> load(List.of()));
+        List<String> second = cache.get("unknown", () -> load(List.of()));
+
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        assertThat(loads).hasValue(1);
+        assertThat(statistics.getNegativeHits()).isEqualTo(1);
+        assertThat(cache.negativeSize()).isEqualTo(1);
+        assertThat(positiveSize()).isZero();
+    }
+
+    @Test
+    void expiredEmptyResultIsNotReplayedIntoThePositiveTier() {
+        cache.get("unknown", () -> load(List.of()));
+
+        advance(NEGATIVE_TTL.plusSeconds(1));
+
+        // Plain lookup after the negative entry expired must not run the remembered loader
+        assertThat(cache.get("unknown")).isNull();
+        assertThat(loads).hasValue(1);
+        assertThat(positiveSize()).isZero();
+
+        List<String> reloaded = cache.get("unknown", () -> load(List.of()));
+        assertThat(reloaded).isEmpty();
+        assertThat(loads).hasValue(2);
+        assertThat(positiveSize()).isZero();
+    }
+
+    @Test
+    void refreshReturningEmptyRemovesThePositiveEntry() {
+        AtomicInteger calls = new AtomicInteger();
+        cache.get("order", () -> load(calls.getAndIncrement() == 0 ? List.of("o-1") : List.of()));
+        assertThat(positiveSize()).isEqualTo(1);
+
+        advance(REFRESH_AFTER_WRITE.plusSeconds(1));
+        // Serves the stale value and refreshes; the refresh now finds nothing
+        assertThat(cache.get("order").get()).isEqualTo(List.of("o-1"));
+
+        assertThat(loads).hasValue(2);
+        assertThat(positiveSize()).isZero();
+        assertThat(cache.get("order").get()).isEqualTo(List.of());
+
+        // Once the negative entry expires the loader is gone too, so nothing is reloaded
+        advance(NEGATIVE_TTL.plusSeconds(1));
+        assertThat(cache.get("order")).isNull();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void nonEmptyResultIsCachedPositively() {
+        List<String> value = cache.get("order", () -> load(List.of("o-1")));
+        cache.get("order", () -> load(List.of("o-2")));
+
+        assertThat(value).containsExactly("o-1");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.negativeSize()).isZero();
+        assertThat(positiveSize()).isEqualTo(1);
+    }
+
+    private <T> T load(T value) {
+        loads.incrementAndGet();
+        return value;
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private long positiveSize() {
+        positives.getNativeCache().cleanUp();
+        return positives.getNativeCache().estimatedSize();
+    }
+}
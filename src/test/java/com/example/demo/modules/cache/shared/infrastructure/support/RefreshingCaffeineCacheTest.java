@@ -0,0 +1,133 @@
+package com.example.demo.modules.cache.shared.infrastructure.support;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RefreshingCaffeineCacheTest {
+
+    private static final Duration REFRESH_AFTER_WRITE = Duration.ofMinutes(5);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final List<RemovalCause> evictions = new ArrayList<>();
+
+    private RefreshingCaffeineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        // Same-thread executor, so a refresh runs inside the read that triggers it
+        cache = RefreshingCaffeineCache.create("orders", Caffeine.newBuilder()
+                .maximumSize(2)
+                .refreshAfterWrite(REFRESH_AFTER_WRITE)
+                .executor(Runnable::run)
+                .ticker(nanos::get), false, (key, value, cause) -> evictions.add(cause));
+    }
+
+    @Test
+    void refreshReplaysTheLoaderThatCreatedTheEntry() {
+        cache.get("key", () -> "v" + loads.incrementAndGet());
+
+        advance(REFRESH_AFTER_WRITE.plusSeconds(1));
+        // The same-thread executor completes the refresh before the read returns
+        assertThat(cache.get("key").get()).isEqualTo("v2");
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void hitDoesNotReplaceTheRememberedLoader() {
+        cache.get("key", () -> "v" + loads.incrementAndGet());
+        cache.get("key", () -> "other");
+
+        advance(REFRESH_AFTER_WRITE.plusSeconds(1));
+        cache.get("key");
+
+        assertThat(cache.get("key").get()).isEqualTo("v2");
+    }
+
+    @Test
+    void failedLoadLeavesNoLoaderBehind() {
+        assertThatThrownBy(() -> cache.get("key", () -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(Cache.ValueRetrievalException.class);
+
+        // A plain lookup on the LoadingCache would run a remembered loader
+        assertThat(cache.get("key")).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evictForgetsTheLoader() {
+        cache.get("key", () -> "v" + loads.incrementAndGet());
+
+        cache.evict("key");
+
+        assertThat(cache.get("key")).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void sizeEvictionForgetsTheLoaderAndNotifiesTheListener() {
+        cache.get("a", () -> "v" + loads.incrementAndGet());
+        cache.get("b", () -> "v" + loads.incrementAndGet());
+        cache.get("c", () -> "v" + loads.incrementAndGet());
+        cache.getNativeCache().cleanUp();
+
+        assertThat(evictions).containsExactly(RemovalCause.SIZE);
+        assertThat(cache.getNativeCache().estimatedSize()).isEqualTo(2);
+        int loaded = loads.get();
+        for (String key : List.of("a", "b", "c")) {
+            cache.get(key);
+        }
+        assertThat(loads).hasValue(loaded);
+    }
+
+    @Test
+    void uncachedResultStoresNothing() {
+        assertThatThrownBy(() -> cache.get("key", () -> {
+            loads.incrementAndGet();
+            throw new UncachedForTest();
+        })).hasCauseInstanceOf(UncachedForTest.class);
+
+        assertThat(cache.getNativeCache().estimatedSize()).isZero();
+        assertThat(cache.get("key")).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void refreshReturningUncachedResultRemovesTheEntryAndItsLoader() {
+        cache.get("key", () -> {
+            if (loads.incrementAndGet() > 1) {
+                throw new UncachedForTest();
+            }
+            return "v1";
+        });
+
+        advance(REFRESH_AFTER_WRITE.plusSeconds(1));
+        assertThat(cache.get("key").get()).isEqualTo("v1");
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.get("key")).isNull();
+        assertThat(loads).hasValue(2);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static final class UncachedForTest extends RefreshingCaffeineCache.UncachedResultException {
+    }
+}
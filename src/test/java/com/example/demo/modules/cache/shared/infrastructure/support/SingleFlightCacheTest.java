@@ -0,0 +1,110 @@
+package com.example.demo.modules.cache.shared.infrastructure.support;
+
+import com.example.demo.modules.cache.shared.infrastructure.stats.CacheStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightCacheTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch loadStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseLoad = new CountDownLatch(1);
+
+    private CacheStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new CacheStatistics("orders");
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseLoad.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache(new ConcurrentMapCache("orders"), Duration.ofSeconds(5), statistics);
+
+        Future<String> leader = executor.submit(() -> cache.get("key", this::slowLoad));
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> follower = executor.submit(() -> cache.get("key", this::slowLoad));
+        awaitCoalescedLoads(1);
+
+        releaseLoad.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get("key").get()).isEqualTo("value");
+    }
+
+    @Test
+    void followerGivesUpAfterTheLoadTimeout() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache(new ConcurrentMapCache("orders"), Duration.ofMillis(50), statistics);
+
+        Future<String> leader = executor.submit(() -> cache.get("key", this::slowLoad));
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> cache.get("key", this::slowLoad))
+                .isInstanceOf(CacheLoadTimeoutException.class)
+                .hasMessageContaining("'key'");
+
+        // The leader is not affected and still caches its value
+        releaseLoad.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void followersSeeTheLeadersFailure() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache(new ConcurrentMapCache("orders"), Duration.ofSeconds(5), statistics);
+
+        Future<String> leader = executor.submit(() -> cache.get("key", () -> {
+            slowLoad();
+            throw new IllegalStateException("database down");
+        }));
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> follower = executor.submit(() -> cache.get("key", this::slowLoad));
+        awaitCoalescedLoads(1);
+
+        releaseLoad.countDown();
+
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .hasRootCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("database down");
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThat(cache.get("key")).isNull();
+    }
+
+    private String slowLoad() throws InterruptedException {
+        loads.incrementAndGet();
+        loadStarted.countDown();
+        releaseLoad.await(5, TimeUnit.SECONDS);
+        return "value";
+    }
+
+    private void awaitCoalescedLoads(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (statistics.getCoalescedLoads() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(statistics.getCoalescedLoads()).isEqualTo(expected);
+    }
+}
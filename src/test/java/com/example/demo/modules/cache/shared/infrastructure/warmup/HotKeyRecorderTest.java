@@ -0,0 +1,80 @@
+package com.example.demo.modules.cache.shared.infrastructure.warmup;
+
+import com.example.demo.modules.cache.shared.infrastructure.key.CacheKey;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotKeyRecorderTest {
+
+    private static final int MAX_TRACKED_KEYS = 10;
+
+    private final HotKeyRecorder recorder = new HotKeyRecorder(MAX_TRACKED_KEYS);
+    private final HotKeyRecorder.Counter orders = recorder.forCache("orders");
+
+    @Test
+    void keysAreRankedByLookups() {
+        record(orders, CacheKey.of("John", "PENDING"), 3);
+        record(orders, CacheKey.of("Jane", "COMPLETED"), 5);
+        recorder.forCache("products").record(CacheKey.of(42L));
+
+        assertThat(recorder.top(2)).extracting(HotKeyRecorder.HotKey::components)
+                .containsExactly(List.of("Jane", "COMPLETED"), List.of("John", "PENDING"));
+    }
+
+    @Test
+    void keyThatTurnsHotLateReplacesAColdOne() {
+        for (int i = 0; i < MAX_TRACKED_KEYS; i++) {
+            orders.record(CacheKey.of("cold-" + i));
+        }
+
+        record(orders, CacheKey.of("late"), 50);
+
+        List<HotKeyRecorder.HotKey> top = recorder.top(MAX_TRACKED_KEYS + 1);
+        assertThat(top).hasSizeLessThanOrEqualTo(MAX_TRACKED_KEYS);
+        assertThat(top.get(0).components()).containsExactly("late");
+    }
+
+    @Test
+    void agingHalvesCountsSoRecentTrafficWins() {
+        record(orders, CacheKey.of("yesterday"), 8);
+        orders.age();
+        orders.age();
+        record(orders, CacheKey.of("today"), 3);
+
+        assertThat(recorder.top(2)).extracting(HotKeyRecorder.HotKey::components)
+                .containsExactly(List.of("today"), List.of("yesterday"));
+        assertThat(recorder.top(2).get(1).hits()).isEqualTo(2);
+    }
+
+    @Test
+    void untypedKeysAreNotTracked() {
+        orders.record("plain-string-key");
+
+        assertThat(recorder.top(10)).isEmpty();
+    }
+
+    @Test
+    void savedKeysLoadBackAsCacheKeys(@TempDir Path directory) throws Exception {
+        record(orders, CacheKey.of("John", 7L), 2);
+        Path file = directory.resolve("hot-keys.json");
+
+        recorder.save(file, 10);
+        List<HotKeyRecorder.HotKey> loaded = new HotKeyRecorder(MAX_TRACKED_KEYS).load(file);
+
+        assertThat(loaded).singleElement().satisfies(hotKey -> {
+            assertThat(hotKey.cache()).isEqualTo("orders");
+            assertThat(hotKey.toCacheKey()).isEqualTo(CacheKey.of("John", 7));
+        });
+    }
+
+    private static void record(HotKeyRecorder.Counter counter, CacheKey key, int times) {
+        for (int i = 0; i < times; i++) {
+            counter.record(key);
+        }
+    }
+}
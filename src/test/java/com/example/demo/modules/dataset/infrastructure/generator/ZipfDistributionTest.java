@@ -0,0 +1,67 @@
+package com.example.demo.modules.dataset.infrastructure.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ZipfDistributionTest {
+
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    void topRankIsPickedTwiceAsOftenAsTheSecondWithExponentOne() {
+        int[] counts = sample(new ZipfDistribution(10, 1.0));
+
+        assertThat((double) counts[0] / counts[1]).isCloseTo(2.0, within(0.1));
+        assertThat((double) counts[0] / counts[9]).isCloseTo(10.0, within(1.0));
+    }
+
+    @Test
+    void exponentZeroIsUniform() {
+        int[] counts = sample(new ZipfDistribution(4, 0));
+
+        for (int count : counts) {
+            assertThat((double) count / SAMPLES).isCloseTo(0.25, within(0.01));
+        }
+    }
+
+    @Test
+    void ranksStayWithinBounds() {
+        ZipfDistribution distribution = new ZipfDistribution(3, 1.0);
+
+        assertThat(distribution.rank(0.0)).isZero();
+        assertThat(distribution.rank(Math.nextDown(1.0))).isEqualTo(2);
+    }
+
+    @Test
+    void noRanksIsRejected() {
+        assertThatThrownBy(() -> new ZipfDistribution(0, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sameStreamNameGivesTheSameValues() {
+        DatasetContext context = new DatasetContext(null, 42, 1.0, 1.0, 100);
+        SyntheticRandom first = context.random("products");
+        SyntheticRandom second = context.random("products");
+        SyntheticRandom other = context.random("orders");
+
+        for (int i = 0; i < 100; i++) {
+            int value = first.nextInt(0, 1_000_000);
+            assertThat(second.nextInt(0, 1_000_000)).isEqualTo(value);
+        }
+        assertThat(other.nextDouble()).isNotEqualTo(context.random("products").nextDouble());
+    }
+
+    private static int[] sample(ZipfDistribution distribution) {
+        SplittableRandom random = new SplittableRandom(1);
+        int[] counts = new int[distribution.size()];
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[distribution.rank(random.nextDouble())]++;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.modules.dataset.infrastructure.service.impl;
+
+import com.example.demo.modules.cache.generatekey.casesensitivity.infrastructure.dataset.CaseSensitivityDatasetGenerator;
+import com.example.demo.modules.cache.generatekey.consistentordering.infrastructure.dataset.SearchParameterDatasetGenerator;
+import com.example.demo.modules.cache.generatekey.hashcodemismatch.infrastructure.dataset.ProductDatasetGenerator;
+import com.example.demo.modules.cache.generatekey.mutablekey.infrastructure.dataset.MutableKeyDatasetGenerator;
+import com.example.demo.modules.cache.generatekey.nullvalidation.infrastructure.dataset.NullValidationDatasetGenerator;
+import com.example.demo.modules.cache.generatekey.stringconcatenation.infrastructure.dataset.StringConcatDatasetGenerator;
+import com.example.demo.modules.cache.generatekey.timestampmismatch.infrastructure.dataset.TimestampOrderDatasetGenerator;
+import com.example.demo.modules.dataset.infrastructure.config.SyntheticDatasetProperties;
+import com.example.demo.modules.dataset.infrastructure.generator.DatasetGenerationResult;
+import com.example.demo.modules.dataset.infrastructure.generator.SyntheticTableGenerator;
+import com.example.demo.modules.nplusone.infrastructure.dataset.NPlusOneDatasetGenerator;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SyntheticDatasetServiceImplTest {
+
+    private static final double SCALE = 0.01;
+    // Insert-time audit stamps filled by column defaults, not by the generators
+    private static final List<String> AUDIT_COLUMNS = List.of("CREATED_AT", "UPDATED_AT");
+
+    private final List<SyntheticTableGenerator> generators = List.of(
+            new NPlusOneDatasetGenerator(),
+            new ProductDatasetGenerator(),
+            new TimestampOrderDatasetGenerator(),
+            new StringConcatDatasetGenerator(),
+            new MutableKeyDatasetGenerator(),
+            new SearchParameterDatasetGenerator(),
+            new NullValidationDatasetGenerator(),
+            new CaseSensitivityDatasetGenerator());
+
+    @Test
+    void sameSeedAndScaleWriteTheSameRows() {
+        JdbcTemplate first = migratedDatabase();
+        JdbcTemplate second = migratedDatabase();
+
+        DatasetGenerationResult firstResult = service(first, 42).generate();
+        DatasetGenerationResult secondResult = service(second, 42).generate();
+
+        assertThat(secondResult.rowsByTable()).isEqualTo(firstResult.rowsByTable());
+        assertThat(firstResult.rowsByTable()).hasSize(9).allSatisfy((table, rows) -> assertThat(rows).isPositive());
+        assertThat(contents(second)).isEqualTo(contents(first));
+    }
+
+    @Test
+    void anotherSeedWritesOtherRows() {
+        JdbcTemplate first = migratedDatabase();
+        JdbcTemplate second = migratedDatabase();
+
+        service(first, 42).generate();
+        service(second, 7).generate();
+
+        assertThat(rows(second, "nplusone_orders")).isNotEqualTo(rows(first, "nplusone_orders"));
+        assertThat(rows(second, "products")).isNotEqualTo(rows(first, "products"));
+    }
+
+    @Test
+    void replaceExistingRemovesTheSeedRows() {
+        JdbcTemplate jdbc = migratedDatabase();
+
+        DatasetGenerationResult result = service(jdbc, 42).generate();
+
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM nplusone_users", Long.class))
+                .isEqualTo(result.rowsByTable().get("nplusone_users"));
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM nplusone_orders", Long.class))
+                .isEqualTo(result.rowsByTable().get("nplusone_orders"));
+    }
+
+    @Test
+    void nonPositiveScaleIsRejected() {
+        SyntheticDatasetProperties properties = properties(42);
+        properties.setScale(0);
+
+        assertThatThrownBy(() -> new SyntheticDatasetServiceImpl(generators, migratedDatabase(), properties).generate())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private SyntheticDatasetServiceImpl service(JdbcTemplate jdbc, long seed) {
+        return new SyntheticDatasetServiceImpl(generators, jdbc, properties(seed));
+    }
+
+    private static SyntheticDatasetProperties properties(long seed) {
+        SyntheticDatasetProperties properties = new SyntheticDatasetProperties();
+        properties.setSeed(seed);
+        properties.setScale(SCALE);
+        properties.setBatchSize(100);
+        properties.setReplaceExisting(true);
+        return properties;
+    }
+
+    private Map<String, List<Map<String, Object>>> contents(JdbcTemplate jdbc) {
+        Map<String, List<Map<String, Object>>> contents = new LinkedHashMap<>();
+        generators.forEach(generator -> generator.tables().forEach(table -> contents.put(table, rows(jdbc, table))));
+        return contents;
+    }
+
+    private static List<Map<String, Object>> rows(JdbcTemplate jdbc, String table) {
+        List<Map<String, Object>> rows = jdbc.queryForList("SELECT * FROM " + table + " ORDER BY id");
+        rows.forEach(row -> row.keySet().removeAll(AUDIT_COLUMNS));
+        return rows;
+    }
+
+    // A fresh Flyway schema per database, so generated ids start at the same value in both
+    private static JdbcTemplate migratedDatabase() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:dataset-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        return new JdbcTemplate(dataSource);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.demo.modules.ingestion.infrastructure.service.impl;
+
+import com.example.demo.modules.ingestion.infrastructure.config.BulkIngestionProperties;
+import com.example.demo.modules.ingestion.infrastructure.service.BulkIngestionResult;
+import com.example.demo.modules.nplusone.infrastructure.service.NPlusOneOrderService;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BulkIngestionServiceImplTest {
+
+    private static final String PREFIX = "ING-TEST-";
+
+    @Autowired
+    private NPlusOneOrderService orderService;
+
+    @Autowired
+    private BulkIngestionProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int configuredChunkSize;
+    private long userId;
+
+    @BeforeEach
+    void setUp() {
+        configuredChunkSize = properties.getChunkSize();
+        userId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM nplusone_users", Long.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        properties.setChunkSize(configuredChunkSize);
+        jdbcTemplate.update("DELETE FROM nplusone_orders WHERE order_number LIKE ?", PREFIX + "%");
+    }
+
+    @Test
+    void rowsAreCommittedInChunksOfTheConfiguredSize() {
+        properties.setChunkSize(10);
+
+        BulkIngestionResult result = orderService.ingestOrders(ndjson(rows(23, userId)));
+
+        assertThat(result.target()).isEqualTo("nplusone_orders");
+        assertThat(result.rows()).isEqualTo(23);
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(ingestedOrderNumbers()).containsExactlyElementsOf(orderNumbers(23));
+    }
+
+    @Test
+    void insertsAreSentAsJdbcBatches() {
+        properties.setChunkSize(100);
+
+        BulkIngestionResult result = orderService.ingestOrders(ndjson(rows(200, userId)));
+
+        // Two chunks of two 50-row batches each, plus a sequence call per 50 ids
+        assertThat(result.chunks()).isEqualTo(2);
+        assertThat(result.statements()).isLessThan(result.rows() / 10);
+    }
+
+    @Test
+    void jsonArrayIsReadLikeNdjson() {
+        properties.setChunkSize(4);
+        String array = "[" + String.join(",", rows(6, userId)) + "]";
+
+        BulkIngestionResult result = orderService.ingestOrders(body(array));
+
+        assertThat(result.rows()).isEqualTo(6);
+        assertThat(result.chunks()).isEqualTo(2);
+        assertThat(ingestedOrderNumbers()).containsExactlyElementsOf(orderNumbers(6));
+    }
+
+    @Test
+    void failingChunkIsRolledBackAndEarlierChunksStayCommitted() {
+        properties.setChunkSize(5);
+        List<String> rows = rows(12, userId);
+        // Unknown user in the second chunk: the foreign key fails when the chunk is flushed
+        rows.set(7, row(8, Long.MAX_VALUE));
+
+        assertThatThrownBy(() -> orderService.ingestOrders(ndjson(rows)))
+                .isInstanceOf(ConstraintViolationException.class);
+
+        assertThat(ingestedOrderNumbers()).containsExactlyElementsOf(orderNumbers(5));
+    }
+
+    @Test
+    void chunkSizeBelowOneIsRejected() {
+        properties.setChunkSize(0);
+
+        assertThatThrownBy(() -> orderService.ingestOrders(ndjson(rows(1, userId))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(ingestedOrderNumbers()).isEmpty();
+    }
+
+    private List<String> ingestedOrderNumbers() {
+        return jdbcTemplate.queryForList("SELECT order_number FROM nplusone_orders WHERE order_number LIKE ? ORDER BY order_number",
+                String.class, PREFIX + "%");
+    }
+
+    // Zero-padded, so the string order of the order numbers is the row order
+    private static List<String> orderNumbers(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(n -> String.format("%s%04d", PREFIX, n)).toList();
+    }
+
+    private static List<String> rows(int count, long userId) {
+        return IntStream.rangeClosed(1, count).mapToObj(n -> row(n, userId)).collect(Collectors.toList());
+    }
+
+    private static String row(int n, long userId) {
+        return String.format("{\"userId\":%d,\"orderNumber\":\"%s%04d\",\"amount\":%d.50}", userId, PREFIX, n, n);
+    }
+
+    private static InputStream ndjson(List<String> rows) {
+        return body(String.join("\n", rows));
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
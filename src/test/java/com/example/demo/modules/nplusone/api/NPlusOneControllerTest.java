@@ -0,0 +1,122 @@
+package com.example.demo.modules.nplusone.api;
+
+import com.example.demo.modules.nplusone.api.dto.NPlusOneUserDTO;
+import com.example.demo.modules.nplusone.infrastructure.config.NPlusOneBatchFetchProperties;
+import com.example.demo.modules.nplusone.infrastructure.service.NPlusOneUserService;
+import com.example.demo.modules.sqlstatistics.infrastructure.web.SqlStatisticsFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NPlusOneControllerTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private NPlusOneUserService userService;
+
+    @Autowired
+    private NPlusOneBatchFetchProperties batchFetchProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+    private int configuredBatchSize;
+
+    @BeforeEach
+    void setUp() {
+        FilterRegistrationBean<?> sqlStatistics = context.getBean("sqlStatisticsFilter", FilterRegistrationBean.class);
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).addFilters(sqlStatistics.getFilter()).build();
+        configuredBatchSize = batchFetchProperties.getBatchSize();
+    }
+
+    @AfterEach
+    void restoreBatchSize() {
+        batchFetchProperties.setBatchSize(configuredBatchSize);
+    }
+
+    @Test
+    void exportWritesOneLinePerUserAcrossChunks() throws Exception {
+        // Several chunks, the last one partial
+        batchFetchProperties.setBatchSize(3);
+        List<NPlusOneUserDTO> expected = sorted(userService.getUsersWithOrdersOptimized());
+
+        MvcResult started = mockMvc.perform(get("/api/nplusone/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        List<NPlusOneUserDTO> exported = new ArrayList<>();
+        for (String line : result.getResponse().getContentAsString().split("\n")) {
+            exported.add(objectMapper.readValue(line, NPlusOneUserDTO.class));
+        }
+        assertThat(exported).extracting(NPlusOneUserDTO::getId).isSorted();
+        assertThat(sorted(exported)).isEqualTo(expected);
+    }
+
+    @Test
+    void onlyTheExportGetsTheLongAsyncTimeout() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/nplusone/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started));
+
+        assertThat(started.getRequest().getAsyncContext().getTimeout())
+                .isEqualTo(NPlusOneController.EXPORT_TIMEOUT.toMillis());
+        assertThat(context.getEnvironment().getProperty("spring.mvc.async.request-timeout")).isNull();
+    }
+
+    @Test
+    void textResponseReportsTheNPlusOneStatements() throws Exception {
+        int users = userService.getUsersWithOrdersOptimized().size();
+
+        mockMvc.perform(get("/api/nplusone/users/nplusone"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlStatisticsFilter.STATEMENTS_HEADER, Integer.toString(users + 1)))
+                .andExpect(header().exists(SqlStatisticsFilter.ROWS_HEADER));
+    }
+
+    @Test
+    void streamedExportCarriesTheHeadersToo() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/nplusone/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(header().exists(SqlStatisticsFilter.STATEMENTS_HEADER));
+    }
+
+    private static List<NPlusOneUserDTO> sorted(List<NPlusOneUserDTO> users) {
+        users.forEach(user -> user.getOrders().sort(Comparator.comparing(order -> order.getId())));
+        return users.stream().sorted(Comparator.comparing(NPlusOneUserDTO::getId)).toList();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.demo.modules.nplusone.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NPlusOneBatchFetchPropertiesTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(PropertiesConfig.class);
+
+    @Test
+    void defaultBatchSizeBinds() {
+        runner.run(context -> assertThat(context.getBean(NPlusOneBatchFetchProperties.class).getBatchSize())
+                .isEqualTo(100));
+    }
+
+    @Test
+    void zeroBatchSizeFailsAtStartup() {
+        // Would otherwise loop forever in the IN_QUERY chunking on the first request
+        runner.withPropertyValues("app.nplusone.batch-fetch.batch-size=0")
+                .run(context -> assertThat(context).hasFailed()
+                        .getFailure().rootCause().hasMessageContaining("batchSize"));
+    }
+
+    @Test
+    void negativeBatchSizeFailsAtStartup() {
+        runner.withPropertyValues("app.nplusone.batch-fetch.batch-size=-5")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(NPlusOneBatchFetchProperties.class)
+    static class PropertiesConfig {
+    }
+}
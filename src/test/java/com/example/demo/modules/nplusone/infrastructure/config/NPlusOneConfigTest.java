@@ -0,0 +1,59 @@
+package com.example.demo.modules.nplusone.infrastructure.config;
+
+import com.example.demo.modules.nplusone.infrastructure.parallel.BoundedParallelLoader;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NPlusOneConfigTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(PoolConfig.class, NPlusOneConfig.class);
+
+    @Test
+    void concurrencyLeavesTheReservedConnectionsOfThePool() {
+        runner.run(context -> assertThat(context.getBean(BoundedParallelLoader.class).getConcurrency()).isEqualTo(8));
+    }
+
+    @Test
+    void configuredConcurrencyIsCappedByThePool() {
+        runner.withPropertyValues("app.nplusone.parallel-load.max-concurrency=20")
+                .run(context -> assertThat(context.getBean(BoundedParallelLoader.class).getConcurrency()).isEqualTo(8));
+    }
+
+    @Test
+    void reserveOfTheWholePoolStillAllowsOneLoad() {
+        runner.withPropertyValues("app.nplusone.parallel-load.reserved-connections=10")
+                .run(context -> assertThat(context.getBean(BoundedParallelLoader.class).getConcurrency()).isEqualTo(1));
+    }
+
+    @Test
+    void negativeReserveFailsAtStartup() {
+        // Would otherwise raise the fan-out above the pool size
+        runner.withPropertyValues("app.nplusone.parallel-load.reserved-connections=-1")
+                .run(context -> assertThat(context).hasFailed()
+                        .getFailure().rootCause().hasMessageContaining("reservedConnections"));
+    }
+
+    @Test
+    void negativeConcurrencyFailsAtStartup() {
+        runner.withPropertyValues("app.nplusone.parallel-load.max-concurrency=-4")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Configuration
+    static class PoolConfig {
+
+        // Never connects: only the configured maximum pool size is read
+        @Bean(destroyMethod = "close")
+        HikariDataSource dataSource() {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setMaximumPoolSize(10);
+            return dataSource;
+        }
+    }
+}
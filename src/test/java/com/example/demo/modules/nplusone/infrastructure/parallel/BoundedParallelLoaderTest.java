@@ -0,0 +1,138 @@
+package com.example.demo.modules.nplusone.infrastructure.parallel;
+
+import com.example.demo.modules.nplusone.infrastructure.config.NPlusOneParallelLoadProperties.ExecutorType;
+import com.example.demo.modules.sqlstatistics.infrastructure.jdbc.SqlExecutionStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedParallelLoaderTest {
+
+    private BoundedParallelLoader loader;
+
+    @AfterEach
+    void tearDown() {
+        if (loader != null) {
+            loader.close();
+        }
+    }
+
+    @Test
+    void resultsComeBackInKeyOrderWhateverOrderTheLoadsFinishIn() {
+        loader = new BoundedParallelLoader(ExecutorType.PLATFORM, 4, Duration.ofSeconds(5), "test-load-");
+        List<Integer> keys = IntStream.rangeClosed(1, 8).boxed().toList();
+
+        // Earlier keys sleep longer, so they finish last
+        BoundedParallelLoader.Result<String> result = loader.loadAll(keys, key -> {
+            sleep(10L * (keys.size() - key));
+            return "v" + key;
+        });
+
+        assertThat(result.values()).containsExactly("v1", "v2", "v3", "v4", "v5", "v6", "v7", "v8");
+    }
+
+    @Test
+    void noMoreThanTheConcurrencyLimitRunAtOnce() {
+        loader = new BoundedParallelLoader(ExecutorType.PLATFORM, 3, Duration.ofSeconds(5), "test-load-");
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        BoundedParallelLoader.Result<Integer> result = loader.loadAll(IntStream.range(0, 12).boxed().toList(), key -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(20);
+            running.decrementAndGet();
+            return key;
+        });
+
+        assertThat(maxRunning.get()).isEqualTo(3);
+        // Nine of the twelve loads queued behind the first three
+        assertThat(result.maxWaitNanos()).isPositive();
+    }
+
+    @Test
+    void loadsThatOutliveTheTimeoutFailTheCallAndAreCancelled() throws Exception {
+        loader = new BoundedParallelLoader(ExecutorType.PLATFORM, 2, Duration.ofMillis(100), "test-load-");
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        assertThatThrownBy(() -> loader.loadAll(List.of(1, 2), key -> {
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return key;
+        })).isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(TimeoutException.class)
+                .hasMessageContaining("did not finish within PT0.1S");
+
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void failedLoadRethrowsItsExceptionAndStopsTheRest() {
+        loader = new BoundedParallelLoader(ExecutorType.PLATFORM, 1, Duration.ofSeconds(5), "test-load-");
+        AtomicBoolean lastLoadRan = new AtomicBoolean();
+
+        assertThatThrownBy(() -> loader.loadAll(List.of(1, 2, 3), key -> {
+            if (key == 1) {
+                throw new IllegalArgumentException("no orders for 1");
+            }
+            sleep(50);
+            lastLoadRan.set(key == 3);
+            return key;
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("no orders for 1");
+
+        sleep(200);
+        assertThat(lastLoadRan).isFalse();
+    }
+
+    @Test
+    void workerStatisticsAreAddedToTheCaller() {
+        loader = new BoundedParallelLoader(ExecutorType.PLATFORM, 2, Duration.ofSeconds(5), "test-load-");
+        SqlExecutionStats previous = SqlExecutionStats.begin();
+        try {
+            loader.loadAll(List.of(1, 2, 3), key -> {
+                SqlExecutionStats.current().recordLazyLoad("NPlusOneUser.orders");
+                return key;
+            });
+
+            assertThat(SqlExecutionStats.current().getLazyLoads()).isEqualTo(3);
+        } finally {
+            SqlExecutionStats.restore(previous);
+        }
+    }
+
+    @Test
+    void virtualThreadsFallBackToAPlatformPoolBeforeJdk21() {
+        loader = new BoundedParallelLoader(ExecutorType.VIRTUAL, 2, Duration.ofSeconds(5), "test-load-");
+
+        ExecutorType expected = Runtime.version().feature() >= 21 ? ExecutorType.VIRTUAL : ExecutorType.PLATFORM;
+        assertThat(loader.getExecutorType()).isEqualTo(expected);
+        assertThat(loader.loadAll(List.of(1, 2, 3), key -> key * 2).values()).containsExactly(2, 4, 6);
+    }
+
+    @Test
+    void concurrencyBelowOneIsRejected() {
+        assertThatThrownBy(() -> new BoundedParallelLoader(ExecutorType.PLATFORM, 0, Duration.ofSeconds(5), "test-load-"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
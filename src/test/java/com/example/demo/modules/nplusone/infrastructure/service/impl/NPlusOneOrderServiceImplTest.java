@@ -0,0 +1,117 @@
+package com.example.demo.modules.nplusone.infrastructure.service.impl;
+
+import com.example.demo.modules.nplusone.api.dto.NPlusOneOrderDTO;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneOrderSummaryDTO;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneOrderSummaryPageDTO;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneUserDTO;
+import com.example.demo.modules.nplusone.infrastructure.service.NPlusOneOrderService;
+import com.example.demo.modules.nplusone.infrastructure.service.NPlusOneUserService;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.function.DoublePredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NPlusOneOrderServiceImplTest {
+
+    // SUM over DECIMAL columns and a Java sum of doubles differ in the last bits
+    private static final Comparator<Double> AMOUNT = (a, b) -> Math.abs(a - b) < 1e-6 ? 0 : Double.compare(a, b);
+
+    @Autowired
+    private NPlusOneOrderService orderService;
+
+    @Autowired
+    private NPlusOneUserService userService;
+
+    @Test
+    void summariesMatchTheOrdersLoadedByTheJoinFetch() {
+        List<NPlusOneOrderSummaryDTO> expected = summarizeInJava(amount -> true, 1);
+
+        NPlusOneOrderSummaryPageDTO page = orderService.getOrderSummariesPage(null, 500, null, null, null);
+
+        assertSummaries(page.getSummaries(), expected);
+        assertThat(page.getNextCursor()).isNull();
+        // One GROUP BY query, one row per user however many orders were summed
+        assertThat(page.getQueryCount()).isEqualTo(1);
+        assertThat(page.getRowsRead()).isEqualTo(expected.size());
+    }
+
+    @Test
+    void keysetPagesWalkEverySummaryOnceInUserIdOrder() {
+        List<NPlusOneOrderSummaryDTO> walked = new ArrayList<>();
+        Long cursor = null;
+        int pages = 0;
+        do {
+            NPlusOneOrderSummaryPageDTO page = orderService.getOrderSummariesPage(cursor, 3, null, null, null);
+            assertThat(page.getSize()).isLessThanOrEqualTo(3);
+            assertThat(page.getQueryCount()).isEqualTo(1);
+            walked.addAll(page.getSummaries());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        List<NPlusOneOrderSummaryDTO> expected = summarizeInJava(amount -> true, 1);
+        assertSummaries(walked, expected);
+        assertThat(pages).isEqualTo((expected.size() + 2) / 3);
+    }
+
+    @Test
+    void amountBoundsLimitTheOrdersThatAreSummed() {
+        List<NPlusOneOrderSummaryDTO> expected = summarizeInJava(amount -> amount >= 100 && amount <= 500, 1);
+
+        NPlusOneOrderSummaryPageDTO page = orderService.getOrderSummariesPage(null, 500, 100.0, 500.0, null);
+
+        assertThat(expected).isNotEmpty();
+        assertSummaries(page.getSummaries(), expected);
+        assertThat(page.getSummaries()).allSatisfy(summary -> {
+            assertThat(summary.getMinAmount()).isGreaterThanOrEqualTo(100.0);
+            assertThat(summary.getMaxAmount()).isLessThanOrEqualTo(500.0);
+        });
+    }
+
+    @Test
+    void minOrdersDropsUsersWithFewerOrders() {
+        List<NPlusOneOrderSummaryDTO> all = summarizeInJava(amount -> true, 1);
+        long minOrders = all.stream().mapToLong(NPlusOneOrderSummaryDTO::getOrderCount).max().orElseThrow();
+
+        NPlusOneOrderSummaryPageDTO page = orderService.getOrderSummariesPage(null, 500, null, null, minOrders);
+
+        assertSummaries(page.getSummaries(), summarizeInJava(amount -> true, minOrders));
+        assertThat(page.getSummaries()).isNotEmpty().hasSizeLessThan(all.size());
+    }
+
+    // What callers did before: load every order through the JOIN FETCH and aggregate in Java
+    private List<NPlusOneOrderSummaryDTO> summarizeInJava(DoublePredicate amountFilter, long minOrders) {
+        List<NPlusOneOrderSummaryDTO> summaries = new ArrayList<>();
+        for (NPlusOneUserDTO user : userService.getUsersWithOrdersOptimized()) {
+            DoubleSummaryStatistics stats = user.getOrders().stream()
+                    .mapToDouble(NPlusOneOrderDTO::getAmount)
+                    .filter(amountFilter)
+                    .summaryStatistics();
+            if (stats.getCount() >= minOrders && stats.getCount() > 0) {
+                summaries.add(new NPlusOneOrderSummaryDTO(user.getId(), user.getUsername(), stats.getCount(),
+                        stats.getSum(), stats.getMin(), stats.getMax()));
+            }
+        }
+        summaries.sort(Comparator.comparing(NPlusOneOrderSummaryDTO::getUserId));
+        return summaries;
+    }
+
+    private static void assertSummaries(List<NPlusOneOrderSummaryDTO> actual, List<NPlusOneOrderSummaryDTO> expected) {
+        assertThat(actual)
+                .usingRecursiveFieldByFieldElementComparator(RecursiveComparisonConfiguration.builder()
+                        .withComparatorForType(AMOUNT, Double.class)
+                        .build())
+                .containsExactlyElementsOf(expected);
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.demo.modules.nplusone.infrastructure.service.impl;
+
+import com.example.demo.modules.nplusone.api.dto.NPlusOneBatchFetchDTO;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneFetchPlanDTO;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneUserDTO;
+import com.example.demo.modules.nplusone.api.dto.NPlusOneUserPageDTO;
+import com.example.demo.modules.nplusone.infrastructure.config.NPlusOneBatchFetchProperties;
+import com.example.demo.modules.nplusone.infrastructure.service.BatchFetchStrategy;
+import com.example.demo.modules.nplusone.infrastructure.service.NPlusOneUserService;
+import com.example.demo.modules.nplusone.infrastructure.service.UserFetchPlan;
+import com.example.demo.modules.sqlstatistics.infrastructure.jdbc.SqlExecutionStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NPlusOneUserServiceImplTest {
+
+    @Autowired
+    private NPlusOneUserService userService;
+
+    @Autowired
+    private NPlusOneBatchFetchProperties batchFetchProperties;
+
+    private int configuredBatchSize;
+
+    @BeforeEach
+    void rememberBatchSize() {
+        configuredBatchSize = batchFetchProperties.getBatchSize();
+    }
+
+    @AfterEach
+    void restoreBatchSize() {
+        batchFetchProperties.setBatchSize(configuredBatchSize);
+    }
+
+    @ParameterizedTest
+    @EnumSource(BatchFetchStrategy.class)
+    void batchFetchLoadsTheSameOrdersAsTheJoinFetch(BatchFetchStrategy strategy) {
+        List<NPlusOneUserDTO> expected = sorted(userService.getUsersWithOrdersOptimized());
+
+        NPlusOneBatchFetchDTO batchFetch = userService.getUsersWithOrdersBatchFetch(strategy);
+
+        assertThat(sorted(batchFetch.getUsers())).isEqualTo(expected);
+        assertThat(batchFetch.getOrderCount())
+                .isEqualTo(expected.stream().mapToInt(user -> user.getOrders().size()).sum());
+    }
+
+    @Test
+    void inQueryStrategyRunsOneQueryPerChunk() {
+        batchFetchProperties.setBatchSize(4);
+
+        NPlusOneBatchFetchDTO batchFetch = userService.getUsersWithOrdersBatchFetch(BatchFetchStrategy.IN_QUERY);
+
+        int users = batchFetch.getUsers().size();
+        assertThat(users).isGreaterThan(4);
+        // The user query plus ceil(users / 4) order queries
+        assertThat(batchFetch.getQueryCount()).isEqualTo(1 + (users + 3) / 4);
+        assertThat(batchFetch.getBatchSize()).isEqualTo(4);
+    }
+
+    @Test
+    void collectionStrategiesLoadAllOrdersInOneExtraQuery() {
+        // Fewer users than @BatchSize, so both initialize every collection on the first access
+        assertThat(userService.getUsersWithOrdersBatchFetch(BatchFetchStrategy.BATCH_SIZE).getQueryCount())
+                .isEqualTo(2);
+        assertThat(userService.getUsersWithOrdersBatchFetch(BatchFetchStrategy.SUBSELECT).getQueryCount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void lazyPlanInitializesEveryUsersOrdersOnItsOwn() {
+        NPlusOneFetchPlanDTO fetchPlan = userService.getUsersWithOrdersFetchPlan(UserFetchPlan.LAZY);
+
+        int users = fetchPlan.getUsers().size();
+        assertThat(fetchPlan.getEntityGraph()).isNull();
+        assertThat(fetchPlan.getLazyLoads()).isEqualTo(users);
+        assertThat(fetchPlan.getQueryCount()).isEqualTo(users + 1);
+    }
+
+    @Test
+    void entityGraphPlanLoadsTheSameUsersWithoutLazyLoads() {
+        List<NPlusOneUserDTO> lazy = sorted(userService.getUsersWithOrdersFetchPlan(UserFetchPlan.LAZY).getUsers());
+
+        NPlusOneFetchPlanDTO fetchPlan = userService.getUsersWithOrdersFetchPlan(UserFetchPlan.WITH_ORDERS);
+
+        assertThat(fetchPlan.getEntityGraph()).isEqualTo(UserFetchPlan.WITH_ORDERS.getEntityGraph());
+        assertThat(fetchPlan.getLazyLoads()).isZero();
+        assertThat(fetchPlan.getQueryCount()).isEqualTo(1);
+        assertThat(sorted(fetchPlan.getUsers())).isEqualTo(lazy);
+    }
+
+    @Test
+    void withoutAPlanTheConfiguredOneIsUsed() {
+        // app.nplusone.fetch-plans.endpoints.users-fetch-plan=lazy
+        assertThat(userService.getUsersWithOrdersFetchPlan(null).getPlan()).isEqualTo(UserFetchPlan.LAZY);
+    }
+
+    @Test
+    void projectionFoldsRowsIntoTheSameUsersInOneQuery() {
+        List<NPlusOneUserDTO> expected = sorted(userService.getUsersWithOrdersOptimized());
+        SqlExecutionStats.Mark sql = SqlExecutionStats.mark();
+
+        List<NPlusOneUserDTO> projected = userService.getUsersWithOrdersProjection();
+
+        assertThat(sql.statements()).isEqualTo(1);
+        assertThat(sorted(projected)).isEqualTo(expected);
+    }
+
+    @Test
+    void keysetPagesWalkEveryUserOnceInIdOrder() {
+        List<NPlusOneUserDTO> expected = sorted(userService.getUsersWithOrdersOptimized());
+        List<NPlusOneUserDTO> walked = new ArrayList<>();
+
+        Long cursor = null;
+        int pages = 0;
+        do {
+            NPlusOneUserPageDTO page = userService.getUsersWithOrdersPage(cursor, 3);
+            assertThat(page.getSize()).isLessThanOrEqualTo(3).isEqualTo(page.getUsers().size());
+            // The id page and the fetch join of its users, whatever the table size
+            assertThat(page.getQueryCount()).isEqualTo(2);
+            walked.addAll(page.getUsers());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo((expected.size() + 2) / 3);
+        assertThat(sorted(walked)).isEqualTo(expected);
+        assertThat(walked).extracting(NPlusOneUserDTO::getId).isSorted();
+    }
+
+    @Test
+    void pageAfterTheLastUserIsEmptyWithoutAFetchJoin() {
+        List<NPlusOneUserDTO> users = sorted(userService.getUsersWithOrdersOptimized());
+        Long lastId = users.get(users.size() - 1).getId();
+
+        NPlusOneUserPageDTO page = userService.getUsersWithOrdersPage(lastId, 10);
+
+        assertThat(page.getUsers()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.getQueryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void pageSizeIsClampedToAtLeastOne() {
+        NPlusOneUserPageDTO page = userService.getUsersWithOrdersPage(null, 0);
+
+        assertThat(page.getUsers()).hasSize(1);
+        assertThat(page.getNextCursor()).isEqualTo(page.getUsers().get(0).getId());
+    }
+
+    private static List<NPlusOneUserDTO> sorted(List<NPlusOneUserDTO> users) {
+        users.forEach(user -> user.getOrders().sort(Comparator.comparing(order -> order.getId())));
+        return users.stream().sorted(Comparator.comparing(NPlusOneUserDTO::getId)).toList();
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.demo.modules.sqlstatistics.infrastructure.jdbc;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlCountingDataSourceTest {
+
+    private SqlCountingDataSource dataSource;
+    private Connection connection;
+    private SqlExecutionStats previous;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource = new SqlCountingDataSource(h2, Duration.ofSeconds(1));
+        connection = dataSource.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE item (id INT PRIMARY KEY, name VARCHAR(20))");
+        }
+        previous = SqlExecutionStats.begin();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        SqlExecutionStats.restore(previous);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        connection.close();
+    }
+
+    @Test
+    void jdbcBatchCountsAsOneStatement() throws Exception {
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO item VALUES (?, ?)")) {
+            for (int i = 1; i <= 3; i++) {
+                insert.setInt(1, i);
+                insert.setString(2, "item" + i);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+
+        SqlExecutionStats stats = SqlExecutionStats.current();
+        assertThat(stats.getStatements()).isEqualTo(1);
+        assertThat(stats.getSlowestSql()).isEqualTo("INSERT INTO item VALUES (?, ?)");
+    }
+
+    @Test
+    void everyRowReturnedByNextIsCounted() throws Exception {
+        insertItems(3);
+        SqlExecutionStats.Mark mark = SqlExecutionStats.mark();
+
+        try (PreparedStatement query = connection.prepareStatement("SELECT id FROM item ORDER BY id");
+             ResultSet rows = query.executeQuery()) {
+            while (rows.next()) {
+                assertThat(rows.getInt(1)).isPositive();
+            }
+            // Reading past the end does not count as a row
+            assertThat(rows.next()).isFalse();
+        }
+
+        assertThat(mark.statements()).isEqualTo(1);
+        assertThat(mark.rows()).isEqualTo(3);
+    }
+
+    @Test
+    void resultSetOfAPlainExecuteIsCountedToo() throws Exception {
+        insertItems(2);
+        SqlExecutionStats.Mark mark = SqlExecutionStats.mark();
+
+        try (Statement statement = connection.createStatement()) {
+            assertThat(statement.execute("SELECT name FROM item")).isTrue();
+            try (ResultSet rows = statement.getResultSet()) {
+                while (rows.next()) {
+                    rows.getString(1);
+                }
+            }
+        }
+
+        assertThat(mark.statements()).isEqualTo(1);
+        assertThat(mark.rows()).isEqualTo(2);
+    }
+
+    @Test
+    void statementsAreCountedOnTheCallingThreadOnly() throws Exception {
+        Thread other = new Thread(() -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT 1");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        other.start();
+        other.join();
+
+        assertThat(SqlExecutionStats.current().getStatements()).isZero();
+    }
+
+    @Test
+    void proxiesKeepIdentityEquality() throws Exception {
+        try (Statement first = connection.createStatement(); Statement second = connection.createStatement()) {
+            Set<Statement> open = new HashSet<>(Set.of(first, second));
+
+            assertThat(open).hasSize(2).contains(first);
+            assertThat(first).isEqualTo(first).isNotEqualTo(second);
+        }
+    }
+
+    private void insertItems(int count) throws Exception {
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO item VALUES (?, ?)")) {
+            for (int i = 1; i <= count; i++) {
+                insert.setInt(1, i);
+                insert.setString(2, "item" + i);
+                insert.executeUpdate();
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.demo.modules.sqlstatistics.infrastructure.stats;
+
+import com.example.demo.modules.sqlstatistics.infrastructure.jdbc.SqlExecutionStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatisticsRegistryTest {
+
+    private static final String ENDPOINT = "GET /api/nplusone/users/fetch-plan";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatisticsRegistry registry = new SqlStatisticsRegistry(meterRegistry, 5);
+
+    @Test
+    void associationLoadedLazilyMoreThanTheThresholdIsAStorm() {
+        registry.record(ENDPOINT, lazyLoads("NPlusOneUser.orders", 6));
+
+        EndpointSqlStatistics endpoint = registry.getAll().iterator().next();
+        assertThat(endpoint.getLazyLoads()).isEqualTo(6);
+        assertThat(endpoint.getLazyLoadStorms()).isEqualTo(1);
+        assertThat(endpoint.getLazyLoadStormsByPath()).containsOnlyKeys("NPlusOneUser.orders");
+        assertThat(storms("NPlusOneUser.orders")).isEqualTo(1.0);
+    }
+
+    @Test
+    void loadsAtTheThresholdAreNotAStorm() {
+        registry.record(ENDPOINT, lazyLoads("NPlusOneUser.orders", 5));
+
+        assertThat(registry.getAll().iterator().next().getLazyLoadStorms()).isZero();
+        assertThat(meterRegistry.find("sql.lazy.storms").counter()).isNull();
+    }
+
+    @Test
+    void thresholdAppliesPerAssociationNotPerRequest() {
+        SqlExecutionStats request = lazyLoads("NPlusOneUser.orders", 4);
+        for (int i = 0; i < 4; i++) {
+            request.recordLazyLoad("NPlusOneOrder#proxy");
+        }
+
+        registry.record(ENDPOINT, request);
+
+        // Eight lazy loads in the request, but no single association above five
+        assertThat(registry.getAll().iterator().next().getLazyLoads()).isEqualTo(8);
+        assertThat(registry.getAll().iterator().next().getLazyLoadStorms()).isZero();
+    }
+
+    @Test
+    void everyStormingRequestIsCounted() {
+        registry.record(ENDPOINT, lazyLoads("NPlusOneUser.orders", 10));
+        registry.record(ENDPOINT, lazyLoads("NPlusOneUser.orders", 2));
+        registry.record(ENDPOINT, lazyLoads("NPlusOneUser.orders", 10));
+
+        EndpointSqlStatistics endpoint = registry.getAll().iterator().next();
+        assertThat(endpoint.getRequests()).isEqualTo(3);
+        assertThat(endpoint.getLazyLoadStorms()).isEqualTo(2);
+        assertThat(storms("NPlusOneUser.orders")).isEqualTo(2.0);
+    }
+
+    private double storms(String path) {
+        Counter counter = meterRegistry.get("sql.lazy.storms").tags("endpoint", ENDPOINT, "path", path).counter();
+        return counter.count();
+    }
+
+    private static SqlExecutionStats lazyLoads(String path, int count) {
+        SqlExecutionStats request = new SqlExecutionStats();
+        for (int i = 0; i < count; i++) {
+            request.recordLazyLoad(path);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.demo.modules.sqlstatistics.infrastructure.web;
+
+import com.example.demo.modules.sqlstatistics.infrastructure.jdbc.SqlCountingDataSource;
+import com.example.demo.modules.sqlstatistics.infrastructure.stats.EndpointSqlStatistics;
+import com.example.demo.modules.sqlstatistics.infrastructure.stats.SqlStatisticsRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqlStatisticsFilterTest {
+
+    private final SqlStatisticsRegistry registry = new SqlStatisticsRegistry(new SimpleMeterRegistry(), 5);
+    private final SqlStatisticsFilter filter = new SqlStatisticsFilter(registry);
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/items");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private SqlCountingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:" + UUID.randomUUID());
+        dataSource = new SqlCountingDataSource(h2, Duration.ofSeconds(1));
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/items");
+    }
+
+    @Test
+    void streamedBodyGetsTheStatementsRunBeforeItsFirstWrite() throws Exception {
+        run((req, res) -> {
+            query(2);
+            res.getOutputStream().write("{}".getBytes());
+            res.flushBuffer();
+        });
+
+        assertThat(response.isCommitted()).isTrue();
+        assertThat(response.getHeader(SqlStatisticsFilter.STATEMENTS_HEADER)).isEqualTo("2");
+        assertThat(response.getHeader(SqlStatisticsFilter.ROWS_HEADER)).isEqualTo("2");
+        assertThat(response.getHeader(SqlStatisticsFilter.LAZY_LOADS_HEADER)).isEqualTo("0");
+    }
+
+    @Test
+    void errorResponseGetsTheHeaders() throws Exception {
+        run((req, res) -> {
+            query(1);
+            res.sendError(HttpServletResponse.SC_NOT_FOUND);
+        });
+
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(response.getHeader(SqlStatisticsFilter.STATEMENTS_HEADER)).isEqualTo("1");
+    }
+
+    @Test
+    void responseWithoutABodyGetsTheHeadersAfterTheChain() throws Exception {
+        run((req, res) -> {
+            query(3);
+            res.setStatus(HttpServletResponse.SC_NO_CONTENT);
+        });
+
+        assertThat(response.getHeader(SqlStatisticsFilter.STATEMENTS_HEADER)).isEqualTo("3");
+        assertThat(response.getHeader(SqlStatisticsFilter.TIME_HEADER)).matches("\\d+\\.\\d{3}");
+    }
+
+    @Test
+    void failedRequestIsStillRecordedForItsEndpoint() {
+        assertThatThrownBy(() -> run((req, res) -> {
+            query(1);
+            throw new IllegalStateException("handler failed");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("handler failed");
+
+        assertThat(response.getHeader(SqlStatisticsFilter.STATEMENTS_HEADER)).isEqualTo("1");
+        assertThat(registry.getAll()).singleElement()
+                .satisfies(endpoint -> {
+                    assertThat(endpoint.getEndpoint()).isEqualTo("GET /api/items");
+                    assertThat(endpoint.getStatements()).isEqualTo(1);
+                })
+                .extracting(EndpointSqlStatistics::getRequests).isEqualTo(1L);
+    }
+
+    private void run(Handler handler) throws Exception {
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                handler.handle(req, res);
+            }
+        }));
+    }
+
+    // Runs `statements` single-row queries through the counting DataSource
+    private void query(int statements) {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (int i = 0; i < statements; i++) {
+                try (var rows = statement.executeQuery("SELECT 1")) {
+                    while (rows.next()) {
+                        rows.getInt(1);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private interface Handler {
+        void handle(HttpServletRequest request, HttpServletResponse response) throws IOException;
+    }
+}